@@ -0,0 +1,73 @@
+package myAdapter.Test;
+import myAdapter.BiMapAdapter;
+import myAdapter.MapAdapter;
+
+/***
+ * This class compares a BiMapAdapter with two MapAdapters kept in sync by hand, one from the ids to the names and one from the names to the ids.
+ * Both are filled with the given number of entries, then every name is looked up by id and every id by name. The program prints the time of the two phases
+ * and the heap used, measured after a garbage collection; every measure is repeated, the first rounds warm up the JIT.<br>
+ * Usage: java myAdapter.Test.BiMapBenchmark [entries]<br>
+ * @see BiMapAdapter BiMapAdapter. <br>
+ */
+public class BiMapBenchmark {
+    public static void main(String[] args) {
+        int entries = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+
+        Integer[] ids = new Integer[entries];
+        String[] names = new String[entries];
+        for(int i = 0; i < entries; i++) {
+            ids[i] = Integer.valueOf(i);
+            names[i] = "name" + i;
+        }
+        System.out.println("entries = " + entries);
+        for(int round = 0; round < 3; round++) {
+            runPair(ids, names);
+            runBiMap(ids, names);
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime r = Runtime.getRuntime();
+        for(int i = 0; i < 3; i++)
+            System.gc();
+        return r.totalMemory() - r.freeMemory();
+    }
+
+    private static void runPair(Integer[] ids, String[] names) {
+        long before = usedHeap();
+        long start = System.nanoTime();
+        MapAdapter forward = new MapAdapter();
+        MapAdapter backward = new MapAdapter();
+        for(int i = 0; i < ids.length; i++) {
+            forward.put(ids[i], names[i]);
+            backward.put(names[i], ids[i]);
+        }
+        long put = System.nanoTime() - start;
+        start = System.nanoTime();
+        long check = 0;
+        for(int i = 0; i < ids.length; i++)
+            check += ((String) forward.get(ids[i])).length() + ((Integer) backward.get(names[i])).intValue();
+        long get = System.nanoTime() - start;
+        print("two MapAdapters", put, get, usedHeap() - before, ids.length, check + forward.size() + backward.size());
+    }
+
+    private static void runBiMap(Integer[] ids, String[] names) {
+        long before = usedHeap();
+        long start = System.nanoTime();
+        BiMapAdapter bi = new BiMapAdapter();
+        for(int i = 0; i < ids.length; i++)
+            bi.put(ids[i], names[i]);
+        long put = System.nanoTime() - start;
+        start = System.nanoTime();
+        long check = 0;
+        for(int i = 0; i < ids.length; i++)
+            check += ((String) bi.get(ids[i])).length() + ((Integer) bi.inverse().get(names[i])).intValue();
+        long get = System.nanoTime() - start;
+        print("BiMapAdapter", put, get, usedHeap() - before, ids.length, check + bi.size() + bi.inverse().size());
+    }
+
+    private static void print(String name, long put, long get, long bytes, int entries, long check) {
+        System.out.println(name + ": put " + (put / 1000000) + " ms, get " + (get / 1000000) + " ms, "
+                + (bytes / entries) + " bytes per entry (" + check + ")");
+    }
+}
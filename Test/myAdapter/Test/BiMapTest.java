@@ -0,0 +1,275 @@
+package myAdapter.Test;
+import myAdapter.BiMapAdapter;
+import myAdapter.HBiMap;
+import myAdapter.HIterator;
+import myAdapter.HMap.HEntry;
+import myAdapter.HMapCursor;
+import myAdapter.MapAdapter;
+import org.junit.Test;
+import org.junit.Before;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.function.BiFunction;
+import static org.junit.Assert.*;
+
+/***
+ * Testing BiMapAdapter and its inverse view.<br>
+ * Tests of this class are performed by the BiMapTestRunner class.<br>
+ * @see BiMapTestRunner BiMapTestRunner. <br>
+ */
+public class BiMapTest {
+
+    /***
+     * instance variable of BiMapAdapter - ids, that maps numbers to names
+     */
+    private BiMapAdapter ids;
+
+    /***
+     * <b>-Before : </b> Setup test, this is done before every test.<br>
+     * <b>-Description:</b> This method maps the numbers from 0 to 99 to the names "n0" ... "n99".<br>
+     * <b>-Pre-condition:</b> the instance variable has been created without being instantiated.<br>
+     * <b>-Post-condition:</b> the instance variable has been instantiated.<br>
+     * <b>-Expected result:</b> the instance variable has been instantiated.<br>
+     */
+    @Before
+    public void setup(){
+        ids = new BiMapAdapter();
+        for(int i = 0; i < 100; i++)
+            ids.put(Integer.valueOf(i), "n" + i);
+    }
+
+    /***
+     * <b>-Tests</b> inverse().<br>
+     * <b>-Description:</b> the names are looked up in the inverse view, and entries are put and removed through both directions.<br>
+     * <b>-Pre-condition:</b> ids contains the numbers from 0 to 99.<br>
+     * <b>-Post-condition:</b> ids contains 100 entries, one of them changed through the inverse.<br>
+     * <b>-Expected result:</b> every change is seen by both directions.<br>
+     */
+    @Test
+    public void inverse(){
+        HBiMap names = ids.inverse();
+        assertSame(names, ids.inverse());
+        assertSame(ids, names.inverse());
+        assertEquals(100, names.size());
+        assertEquals(Integer.valueOf(42), names.get("n42"));
+        assertTrue(ids.containsValue("n7"));
+        assertTrue(names.containsValue(Integer.valueOf(7)));
+
+        assertEquals(Integer.valueOf(7), names.put("n7", Integer.valueOf(700)));
+        assertNull(ids.get(Integer.valueOf(7)));
+        assertEquals("n7", ids.get(Integer.valueOf(700)));
+        assertEquals(Integer.valueOf(700), names.remove("n7"));
+        assertFalse(ids.containsKey(Integer.valueOf(700)));
+        assertEquals(99, ids.size());
+        assertNull(ids.put(Integer.valueOf(7), "n7"));
+        assertEquals(Integer.valueOf(7), names.get("n7"));
+        assertEquals(ids.hashCode(), names.hashCode());
+    }
+
+    /***
+     * <b>-Tests</b> the uniqueness of the values.<br>
+     * <b>-Description:</b> a value mapped by another key is put, replaced and merged.<br>
+     * <b>-Pre-condition:</b> ids contains the numbers from 0 to 99.<br>
+     * <b>-Post-condition:</b> ids is unchanged.<br>
+     * <b>-Expected result:</b> IllegalArgumentException is thrown every time, and neither direction is changed.<br>
+     */
+    @Test
+    public void uniqueValues(){
+        int hash = ids.hashCode();
+        try {
+            ids.put(Integer.valueOf(1), "n2");
+            fail();
+        }
+        catch(IllegalArgumentException e) {
+        }
+        try {
+            ids.replace(Integer.valueOf(1), "n2");
+            fail();
+        }
+        catch(IllegalArgumentException e) {
+        }
+        try {
+            ids.inverse().put("n1", Integer.valueOf(2));
+            fail();
+        }
+        catch(IllegalArgumentException e) {
+        }
+        HEntry entry = (HEntry) ids.entrySet().iterator().next();
+        Object value = entry.getValue();
+        try {
+            entry.setValue(value.equals("n2") ? "n3" : "n2");
+            fail();
+        }
+        catch(IllegalArgumentException e) {
+        }
+        assertEquals(value, entry.getValue());
+        assertEquals("n1", ids.get(Integer.valueOf(1)));
+        assertEquals(Integer.valueOf(2), ids.inverse().get("n2"));
+        assertEquals(100, ids.size());
+        assertEquals(hash, ids.hashCode());
+        assertEquals("n1", ids.put(Integer.valueOf(1), "n1"));
+    }
+
+    /***
+     * <b>-Tests</b> forcePut().<br>
+     * <b>-Description:</b> values mapped by other keys are forced on present keys and on an absent one, in both directions.<br>
+     * <b>-Pre-condition:</b> ids contains the numbers from 0 to 99.<br>
+     * <b>-Post-condition:</b> the keys that mapped the values have been removed.<br>
+     * <b>-Expected result:</b> the value is mapped by the new key in both directions.<br>
+     */
+    @Test
+    public void forcePut(){
+        assertEquals("n1", ids.forcePut(Integer.valueOf(1), "n2"));
+        assertEquals(99, ids.size());
+        assertFalse(ids.containsKey(Integer.valueOf(2)));
+        assertEquals(Integer.valueOf(1), ids.inverse().get("n2"));
+        assertFalse(ids.containsValue("n1"));
+        assertEquals(Integer.valueOf(3), ids.inverse().forcePut("n3", Integer.valueOf(1000)));
+        assertEquals(99, ids.size());
+        assertFalse(ids.containsKey(Integer.valueOf(3)));
+        assertEquals("n3", ids.get(Integer.valueOf(1000)));
+        assertNull(ids.inverse().forcePut("new", Integer.valueOf(4)));
+        assertEquals(99, ids.size());
+        assertEquals("new", ids.get(Integer.valueOf(4)));
+        assertFalse(ids.containsValue("n4"));
+    }
+
+    /***
+     * <b>-Tests</b> the views and the cursor of a bimap.<br>
+     * <b>-Description:</b> the values are renamed through the cursor while it walks the bimap, then some are removed through values().<br>
+     * <b>-Pre-condition:</b> ids contains the numbers from 0 to 99.<br>
+     * <b>-Post-condition:</b> ids maps the numbers from 10 to 99 to "m10" ... "m99".<br>
+     * <b>-Expected result:</b> the inverse follows every change.<br>
+     */
+    @Test
+    public void views(){
+        HMapCursor c = ids.cursor();
+        int count = 0;
+        while(c.advance()) {
+            c.setValue("m" + c.key());
+            count++;
+        }
+        assertEquals(100, count);
+        assertEquals(Integer.valueOf(5), ids.inverse().get("m5"));
+        assertNull(ids.inverse().get("n5"));
+        for(int i = 0; i < 10; i++)
+            assertTrue(ids.values().remove("m" + i));
+        assertEquals(90, ids.inverse().size());
+        assertFalse(ids.inverse().containsKey("m9"));
+        HIterator it = ids.inverse().keySet().iterator();
+        while(it.hasNext())
+            assertTrue(ids.containsValue(it.next()));
+        MapAdapter copy = new MapAdapter();
+        copy.putAll(ids);
+        assertTrue(copy.equals(ids));
+        assertTrue(ids.equals(copy));
+    }
+
+    /***
+     * <b>-Tests</b> the bimap and its inverse against two java.util.HashMap kept in sync.<br>
+     * <b>-Description:</b> 20000 random put(), forcePut(), remove() and compute() calls on both directions, on a range of keys
+     * large enough to make the tables grow.<br>
+     * <b>-Pre-condition:</b> ids contains the numbers from 0 to 99.<br>
+     * <b>-Post-condition:</b> the bimap has the entries of the HashMap.<br>
+     * <b>-Expected result:</b> every call returns the same result, and the inverse maps every value to its key.<br>
+     */
+    @Test
+    public void randomOperations(){
+        HashMap forward = new HashMap();
+        HashMap backward = new HashMap();
+        BiMapAdapter bi = new BiMapAdapter(0);
+        BiFunction NEXT = new BiFunction() {
+            public Object apply(Object key, Object value) {
+                return value == null ? Integer.valueOf(-((Integer) key).intValue()) : null;
+            }
+        };
+        Random r = new Random(11);
+        for(int n = 0; n < 20000; n++) {
+            Integer key = Integer.valueOf(r.nextInt(2000));
+            Integer value = Integer.valueOf(r.nextInt(2000) + 5000);
+            switch(r.nextInt(5)) {
+                case 0:
+                    if(backward.containsKey(value) && !backward.get(value).equals(key)) {
+                        try {
+                            bi.put(key, value);
+                            fail();
+                        }
+                        catch(IllegalArgumentException e) {
+                        }
+                        break;
+                    }
+                    Object replaced = forward.put(key, value);
+                    if(replaced != null)
+                        backward.remove(replaced);
+                    backward.put(value, key);
+                    assertEquals(replaced, bi.put(key, value));
+                    assertEquals(key, bi.inverse().get(value));
+                    break;
+                case 1:
+                    Object owner = backward.remove(value);
+                    if(owner != null)
+                        forward.remove(owner);
+                    Object old = forward.put(key, value);
+                    if(old != null)
+                        backward.remove(old);
+                    backward.put(value, key);
+                    assertEquals(old, bi.forcePut(key, value));
+                    break;
+                case 2:
+                    Object removed = forward.remove(key);
+                    if(removed != null)
+                        backward.remove(removed);
+                    assertEquals(removed, bi.remove(key));
+                    break;
+                case 3:
+                    Object k = backward.remove(value);
+                    if(k != null)
+                        forward.remove(k);
+                    assertEquals(k, bi.inverse().remove(value));
+                    break;
+                default:
+                    Object previous = forward.get(key);
+                    Object computed = forward.compute(key, NEXT);
+                    if(previous != null)
+                        backward.remove(previous);
+                    if(computed != null)
+                        backward.put(computed, key);
+                    assertEquals(computed, bi.compute(key, NEXT));
+            }
+            assertEquals(forward.size(), bi.size());
+            assertEquals(backward.size(), bi.inverse().size());
+        }
+        for(Object key : forward.keySet())
+            assertEquals(forward.get(key), bi.get(key));
+        for(Object value : backward.keySet())
+            assertEquals(backward.get(value), bi.inverse().get(value));
+    }
+
+    /***
+     * <b>-Tests</b> the fail-fast behavior of the iterators of a bimap.<br>
+     * <b>-Description:</b> an entry is added through the inverse while the keys are iterated.<br>
+     * <b>-Pre-condition:</b> ids contains the numbers from 0 to 99.<br>
+     * <b>-Post-condition:</b> the exception is passed to the calling method, if this is not handled then the program ends.<br>
+     * <b>-Expected result:</b> ConcurrentModificationException thrown.<br>
+     */
+    @Test (expected = ConcurrentModificationException.class)
+    public void modifiedDuringIteration(){
+        HIterator it = ids.keySet().iterator();
+        it.next();
+        ids.inverse().put("new", Integer.valueOf(-1));
+        it.next();
+    }
+
+    /***
+     * <b>-Tests</b> the wrong functioning of put().<br>
+     * <b>-Description:</b> a null value is put.<br>
+     * <b>-Pre-condition:</b> ids contains the numbers from 0 to 99.<br>
+     * <b>-Post-condition:</b> the exception is passed to the calling method, if this is not handled then the program ends.<br>
+     * <b>-Expected result:</b> NullPointerException thrown.<br>
+     */
+    @Test (expected = NullPointerException.class)
+    public void putNull(){
+        ids.inverse().put("a", null);
+    }
+}
@@ -0,0 +1,202 @@
+package myAdapter.Test;
+import myAdapter.CopyOnWriteListAdapter;
+import myAdapter.HIterator;
+import myAdapter.HList;
+import myAdapter.HListIterator;
+import myAdapter.ListAdapter;
+import myAdapter.UnsupportedOperationException;
+import org.junit.Test;
+import org.junit.Before;
+import java.util.ConcurrentModificationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import static org.junit.Assert.*;
+
+/***
+ * Testing CopyOnWriteListAdapter.<br>
+ * The list is compared with a ListAdapter modified in the same way; the iterators and the sublists are tested while the list
+ * changes, and the list is read by many threads while another thread changes it.<br>
+ * Tests of this class are performed by the CopyOnWriteListTestRunner class.<br>
+ * @see CopyOnWriteListTestRunner CopyOnWriteListTestRunner. <br>
+ */
+public class CopyOnWriteListTest {
+
+    /***
+     * instance variable of CopyOnWriteListAdapter - cow
+     */
+    private CopyOnWriteListAdapter cow;
+    /***
+     * instance variable of ListAdapter - expected
+     */
+    private ListAdapter expected;
+
+    /***
+     * <b>-Before : </b> Setup test, this is done before every test.<br>
+     * <b>-Description:</b> This method create the two lists with the elements 0..9.<br>
+     * <b>-Pre-condition:</b> the instance variables have been created without being instantiated.<br>
+     * <b>-Post-condition:</b> the instance variables have been instantiated.<br>
+     * <b>-Expected result:</b> the two lists are equal.<br>
+     */
+    @Before
+    public void setup(){
+        expected = new ListAdapter();
+        for(int i = 0; i < 10; i++)
+            expected.add(Integer.valueOf(i));
+        cow = new CopyOnWriteListAdapter(expected);
+        assertEquals(expected, cow);
+        assertEquals(cow, expected);
+    }
+
+    /***
+     * <b>-Tests</b> the HList methods against a ListAdapter.<br>
+     * <b>-Description:</b> the same changes are made on the two lists.<br>
+     * <b>-Pre-condition:</b> the lists contain 0..9.<br>
+     * <b>-Post-condition:</b> the lists contain the same elements.<br>
+     * <b>-Expected result:</b> the returned values and the lists are equal.<br>
+     */
+    @Test
+    public void sameAsListAdapter(){
+        cow.add(3, Integer.valueOf(30));
+        expected.add(3, Integer.valueOf(30));
+        assertEquals(expected.remove(5), cow.remove(5));
+        assertEquals(expected.remove(Integer.valueOf(7)), cow.remove(Integer.valueOf(7)));
+        assertEquals(expected.set(0, Integer.valueOf(-1)), cow.set(0, Integer.valueOf(-1)));
+        cow.addAll(2, expected);
+        expected.addAll(2, expected.subList(0, expected.size()));
+        assertEquals(expected, cow);
+        assertEquals(expected.hashCode(), cow.hashCode());
+        assertEquals(expected.lastIndexOf(Integer.valueOf(30)), cow.lastIndexOf(Integer.valueOf(30)));
+        HList some = new ListAdapter();
+        some.add(Integer.valueOf(30));
+        some.add(Integer.valueOf(2));
+        assertTrue(cow.containsAll(some));
+        assertEquals(expected.removeAll(some), cow.removeAll(some));
+        assertEquals(expected, cow);
+        some.add(Integer.valueOf(1));
+        some.add(Integer.valueOf(9));
+        assertEquals(expected.retainAll(some), cow.retainAll(some));
+        assertEquals(expected, cow);
+        assertArrayEquals(expected.toArray(), cow.toArray());
+        try {
+            cow.add(null);
+            fail();
+        }
+        catch (NullPointerException e) {}
+    }
+
+    /***
+     * <b>-Tests</b> that an iterator sees the list as it was when the iterator was created.<br>
+     * <b>-Description:</b> the list is cleared during an iteration, then the iterator is used to change the list.<br>
+     * <b>-Pre-condition:</b> the list contains 0..9.<br>
+     * <b>-Post-condition:</b> the list is empty.<br>
+     * <b>-Expected result:</b> the iterator returns 0..9 and does not support remove, set and add.<br>
+     */
+    @Test
+    public void snapshotIterator(){
+        HListIterator it = cow.listIterator();
+        assertEquals(Integer.valueOf(0), it.next());
+        cow.clear();
+        int n = 1;
+        while(it.hasNext())
+            assertEquals(Integer.valueOf(n++), it.next());
+        assertEquals(10, n);
+        assertEquals(Integer.valueOf(9), it.previous());
+        try {
+            it.remove();
+            fail();
+        }
+        catch (UnsupportedOperationException e) {}
+        try {
+            it.add(Integer.valueOf(1));
+            fail();
+        }
+        catch (UnsupportedOperationException e) {}
+        assertTrue(cow.isEmpty());
+    }
+
+    /***
+     * <b>-Tests</b> the sublists of the list.<br>
+     * <b>-Description:</b> a sublist is changed and read, then the list is changed and the sublist is used again.<br>
+     * <b>-Pre-condition:</b> the list contains 0..9.<br>
+     * <b>-Post-condition:</b> the changes of the sublist are in the list, the later change of the list is not overwritten.<br>
+     * <b>-Expected result:</b> the sublist writes through; once the list has been changed except through it, the sublist is still read
+     * from its snapshot and its changes throw ConcurrentModificationException.<br>
+     */
+    @Test
+    public void subList(){
+        HList sub = cow.subList(2, 6);
+        sub.remove(Integer.valueOf(3));
+        sub.add(Integer.valueOf(99));
+        assertEquals(4, sub.size());
+        assertEquals(Integer.valueOf(99), cow.get(5));
+        assertEquals(10, cow.size());
+        HIterator it = sub.iterator();
+        int count = 0;
+        while(it.hasNext()) {
+            it.next();
+            count++;
+        }
+        assertEquals(4, count);
+        cow.add(0, Integer.valueOf(-1));
+        assertEquals(Integer.valueOf(2), sub.get(0));
+        assertEquals(4, sub.size());
+        assertTrue(sub.contains(Integer.valueOf(99)));
+        it = sub.iterator();
+        assertEquals(Integer.valueOf(2), it.next());
+        try {
+            sub.clear();
+            fail();
+        }
+        catch (ConcurrentModificationException e) {}
+        assertEquals(11, cow.size());
+        assertEquals(Integer.valueOf(-1), cow.get(0));
+        assertEquals(Integer.valueOf(2), cow.get(3));
+        HList inner = cow.subList(1, 5).subList(1, 3);
+        inner.clear();
+        assertEquals(9, cow.size());
+        assertEquals(Integer.valueOf(0), cow.get(1));
+        assertEquals(Integer.valueOf(5), cow.get(3));
+    }
+
+    /***
+     * <b>-Tests</b> the list read by many threads while another thread changes it.<br>
+     * <b>-Description:</b> 8 readers iterate and sum the list while a writer appends and removes elements.<br>
+     * <b>-Pre-condition:</b> the list contains 0..9.<br>
+     * <b>-Post-condition:</b> the list contains 0..9.<br>
+     * <b>-Expected result:</b> no reader sees an exception or a null element.<br>
+     */
+    @Test
+    public void concurrentReaders() throws InterruptedException {
+        final AtomicBoolean failed = new AtomicBoolean();
+        final AtomicBoolean stop = new AtomicBoolean();
+        Thread[] readers = new Thread[8];
+        for(int t = 0; t < readers.length; t++) {
+            readers[t] = new Thread() {
+                public void run() {
+                    try {
+                        while(!stop.get()) {
+                            HIterator it = cow.iterator();
+                            while(it.hasNext())
+                                ((Integer) it.next()).intValue();
+                            int size = cow.size();
+                            if(size > 0)
+                                cow.get(0);
+                        }
+                    }
+                    catch (RuntimeException e) {
+                        failed.set(true);
+                    }
+                }
+            };
+            readers[t].start();
+        }
+        for(int i = 0; i < 2000; i++) {
+            cow.add(Integer.valueOf(i));
+            cow.remove(cow.size() - 1);
+        }
+        stop.set(true);
+        for(int t = 0; t < readers.length; t++)
+            readers[t].join();
+        assertFalse(failed.get());
+        assertEquals(expected, cow);
+    }
+}
@@ -0,0 +1,40 @@
+package myAdapter.Test;
+import myAdapter.DequeListAdapter;
+import myAdapter.ListAdapter;
+import myAdapter.VectorAdaptee;
+
+/***
+ * This class compares the throughput of a ListAdapter and of a DequeListAdapter used as a work queue. <br>
+ * The queue is filled with the given number of elements, then for every operation an element is added with add(Object)
+ * and one is taken with remove(0). The program prints the number of operations per second; every measure is repeated,
+ * the first rounds warm up the JIT.<br>
+ * Usage: java myAdapter.Test.DequeListBenchmark [queued] [operations]<br>
+ * @see DequeListAdapter DequeListAdapter. <br>
+ */
+public class DequeListBenchmark {
+    public static void main(String[] args) {
+        int queued = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+        int operations = args.length > 1 ? Integer.parseInt(args[1]) : 100000;
+
+        System.out.println("queued = " + queued + ", operations = " + operations);
+        for(int round = 0; round < 3; round++) {
+            run("ListAdapter(VectorAdaptee)", new ListAdapter(new VectorAdaptee()), queued, operations);
+            run("ListAdapter", new ListAdapter(), queued, operations);
+            run("DequeListAdapter", new DequeListAdapter(), queued, operations);
+        }
+    }
+
+    private static void run(String name, ListAdapter queue, int queued, int operations) {
+        Integer element = Integer.valueOf(1);
+        for(int i = 0; i < queued; i++)
+            queue.add(element);
+        long start = System.nanoTime();
+        long check = 0;
+        for(int i = 0; i < operations; i++) {
+            queue.add(element);
+            check += ((Integer) queue.remove(0)).intValue();
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.println(name + ": " + (operations * 1000000000L / elapsed) + " operations per second (" + check + ")");
+    }
+}
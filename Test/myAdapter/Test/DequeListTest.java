@@ -0,0 +1,148 @@
+package myAdapter.Test;
+import myAdapter.DequeListAdapter;
+import myAdapter.HIterator;
+import myAdapter.HList;
+import myAdapter.ListAdapter;
+import org.junit.Test;
+import org.junit.Before;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/***
+ * Testing DequeListAdapter.<br>
+ * The deque is used as a queue, so that its elements wrap around the end of the circular buffer, and it is compared
+ * with a ListAdapter modified in the same way.<br>
+ * Tests of this class are performed by the DequeListTestRunner class.<br>
+ * @see DequeListTestRunner DequeListTestRunner. <br>
+ */
+public class DequeListTest {
+
+    /***
+     * instance variable of DequeListAdapter - deque
+     */
+    private DequeListAdapter deque;
+
+    /***
+     * <b>-Before : </b> Setup test, this is done before every test.<br>
+     * <b>-Description:</b> This method create an empty deque with a small capacity.<br>
+     * <b>-Pre-condition:</b> the instance variable has been created without being instantiated.<br>
+     * <b>-Post-condition:</b> the instance variable has been instantiated.<br>
+     * <b>-Expected result:</b> the instance variable has been instantiated.<br>
+     */
+    @Before
+    public void setup(){
+        deque = new DequeListAdapter(4);
+    }
+
+    /***
+     * <b>-Tests</b> the deque used as a queue.<br>
+     * <b>-Description:</b> elements are added at the tail and removed from the head, many times around the buffer.<br>
+     * <b>-Pre-condition:</b> deque is empty.<br>
+     * <b>-Post-condition:</b> deque contains the last elements added.<br>
+     * <b>-Expected result:</b> the elements are removed in the order they were added.<br>
+     */
+    @Test
+    public void queue(){
+        for(int i = 0; i < 1000; i++) {
+            deque.add(Integer.valueOf(i));
+            deque.addLast(Integer.valueOf(-i));
+            assertEquals(i / 2, Math.abs(((Integer) deque.remove(0)).intValue()));
+        }
+        assertEquals(1000, deque.size());
+        assertEquals(Integer.valueOf(-999), deque.getLast());
+        assertEquals(Integer.valueOf(500), deque.getFirst());
+    }
+
+    /***
+     * <b>-Tests</b> the operations at both ends and in the middle against a ListAdapter.<br>
+     * <b>-Description:</b> 20000 random operations are made on the deque and on a ListAdapter.<br>
+     * <b>-Pre-condition:</b> deque is empty.<br>
+     * <b>-Post-condition:</b> the lists contain the same elements.<br>
+     * <b>-Expected result:</b> the returned elements and the lists are equal.<br>
+     */
+    @Test
+    public void randomOperations(){
+        ListAdapter expected = new ListAdapter();
+        Random r = new Random(11);
+        for(int i = 0; i < 20000; i++) {
+            Integer e = Integer.valueOf(i);
+            switch(expected.isEmpty() ? r.nextInt(3) : r.nextInt(7)) {
+                case 0: deque.addFirst(e); expected.add(0, e); break;
+                case 1: deque.addLast(e); expected.add(e); break;
+                case 2: {
+                    int index = r.nextInt(expected.size() + 1);
+                    deque.add(index, e);
+                    expected.add(index, e);
+                    break;
+                }
+                case 3: assertEquals(expected.remove(0), deque.removeFirst()); break;
+                case 4: assertEquals(expected.remove(expected.size() - 1), deque.removeLast()); break;
+                case 5: {
+                    int index = r.nextInt(expected.size());
+                    assertEquals(expected.remove(index), deque.remove(index));
+                    break;
+                }
+                default: {
+                    int from = r.nextInt(expected.size());
+                    int to = from + r.nextInt(Math.min(5, expected.size() - from) + 1);
+                    deque.subList(from, to).clear();
+                    expected.subList(from, to).clear();
+                }
+            }
+        }
+        assertEquals(expected, deque);
+        assertArrayEquals(expected.toArray(), deque.toArray());
+        deque.addAll(3, expected);
+        expected.addAll(3, expected.subList(0, expected.size()));
+        assertEquals(expected, deque);
+    }
+
+    /***
+     * <b>-Tests</b> the sublists and the iterators of the deque.<br>
+     * <b>-Description:</b> a sublist is read and modified after the buffer has wrapped, then the deque is modified during an iteration.<br>
+     * <b>-Pre-condition:</b> deque contains 10..19, wrapped around the buffer.<br>
+     * <b>-Post-condition:</b> the sublist changes are visible in the deque.<br>
+     * <b>-Expected result:</b> the expected elements, then ConcurrentModificationException.<br>
+     */
+    @Test
+    public void subListAndIterator(){
+        for(int i = 0; i < 20; i++)
+            deque.add(Integer.valueOf(i));
+        for(int i = 0; i < 10; i++)
+            deque.removeFirst();
+        HList sub = deque.subList(2, 6);
+        assertEquals(Integer.valueOf(12), sub.get(0));
+        sub.set(0, Integer.valueOf(-12));
+        sub.remove(1);
+        assertEquals(Integer.valueOf(-12), deque.get(2));
+        assertEquals(Integer.valueOf(14), deque.get(3));
+        assertEquals(9, deque.size());
+        HIterator it = deque.iterator();
+        it.next();
+        deque.addFirst(Integer.valueOf(0));
+        try {
+            it.next();
+            fail();
+        }
+        catch (ConcurrentModificationException e) {}
+    }
+
+    /***
+     * <b>-Tests</b> the deque methods on an empty deque.<br>
+     * <b>-Description:</b> every method that reads or removes an end is called on an empty deque, then a null is added.<br>
+     * <b>-Pre-condition:</b> deque is empty.<br>
+     * <b>-Post-condition:</b> deque is empty.<br>
+     * <b>-Expected result:</b> NoSuchElementException and NullPointerException.<br>
+     */
+    @Test
+    public void emptyDeque(){
+        try { deque.getFirst(); fail(); } catch (NoSuchElementException e) {}
+        try { deque.getLast(); fail(); } catch (NoSuchElementException e) {}
+        try { deque.removeFirst(); fail(); } catch (NoSuchElementException e) {}
+        try { deque.removeLast(); fail(); } catch (NoSuchElementException e) {}
+        try { deque.addFirst(null); fail(); } catch (NullPointerException e) {}
+        assertTrue(deque.isEmpty());
+    }
+}
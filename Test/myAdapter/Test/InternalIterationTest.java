@@ -0,0 +1,201 @@
+package myAdapter.Test;
+import myAdapter.HIterator;
+import myAdapter.HList;
+import myAdapter.ListAdapter;
+import myAdapter.VectorAdaptee;
+import org.junit.Test;
+import org.junit.Before;
+import java.util.ConcurrentModificationException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import static org.junit.Assert.*;
+
+/***
+ * Testing forEach(), removeIf() and replaceAll() of ListAdapter and of its sublists.<br>
+ * Tests of this class are performed by the InternalIterationTestRunner class.<br>
+ * @see InternalIterationTestRunner InternalIterationTestRunner. <br>
+ */
+public class InternalIterationTest {
+
+    /***
+     * instance variable of ListAdapter - list
+     */
+    private ListAdapter list;
+
+    /***
+     * <b>-Before : </b> Setup test, this is done before every test.<br>
+     * <b>-Description:</b> This method fills a ListAdapter with the numbers from 0 to 199.<br>
+     * <b>-Pre-condition:</b> the instance variable has been created without being instantiated.<br>
+     * <b>-Post-condition:</b> the instance variable has been instantiated.<br>
+     * <b>-Expected result:</b> the instance variable has been instantiated.<br>
+     */
+    @Before
+    public void setup(){
+        list = new ListAdapter();
+        for(int i = 0; i < 200; i++)
+            list.add(Integer.valueOf(i));
+    }
+
+    private static final Predicate EVEN = new Predicate() {
+        public boolean test(Object o) {
+            return ((Integer) o).intValue() % 2 == 0;
+        }
+    };
+
+    private static final UnaryOperator NEGATE = new UnaryOperator() {
+        public Object apply(Object o) {
+            return Integer.valueOf(-((Integer) o).intValue());
+        }
+    };
+
+    /***
+     * <b>-Tests</b> forEach() on a list and on a sublist.<br>
+     * <b>-Description:</b> the elements are summed by the action.<br>
+     * <b>-Pre-condition:</b> list contains the numbers from 0 to 199.<br>
+     * <b>-Post-condition:</b> list is unchanged.<br>
+     * <b>-Expected result:</b> the action has seen every element of the range.<br>
+     */
+    @Test
+    public void forEach(){
+        final int[] sum = new int[1];
+        Consumer add = new Consumer() {
+            public void accept(Object o) {
+                sum[0] += ((Integer) o).intValue();
+            }
+        };
+        list.forEach(add);
+        assertEquals(19900, sum[0]);
+        sum[0] = 0;
+        ((ListAdapter) list.subList(10, 20)).forEach(add);
+        assertEquals(145, sum[0]);
+    }
+
+    /***
+     * <b>-Tests</b> removeIf() on a list.<br>
+     * <b>-Description:</b> the even numbers are removed.<br>
+     * <b>-Pre-condition:</b> list contains the numbers from 0 to 199.<br>
+     * <b>-Post-condition:</b> list contains the odd numbers.<br>
+     * <b>-Expected result:</b> removeIf returns true the first time and false the second time.<br>
+     */
+    @Test
+    public void removeIf(){
+        assertTrue(list.removeIf(EVEN));
+        assertEquals(100, list.size());
+        for(int i = 0; i < 100; i++)
+            assertEquals(Integer.valueOf(2 * i + 1), list.get(i));
+        assertFalse(list.removeIf(EVEN));
+    }
+
+    /***
+     * <b>-Tests</b> removeIf() on a sublist and on a list stored in a VectorAdaptee.<br>
+     * <b>-Description:</b> the even numbers of a range are removed.<br>
+     * <b>-Pre-condition:</b> list contains the numbers from 0 to 199.<br>
+     * <b>-Post-condition:</b> only the range has lost its even numbers.<br>
+     * <b>-Expected result:</b> the sizes of the sublist and of the list are updated.<br>
+     */
+    @Test
+    public void removeIfSublist(){
+        HList sub = list.subList(10, 30);
+        assertTrue(((ListAdapter) sub).removeIf(EVEN));
+        assertEquals(10, sub.size());
+        assertEquals(190, list.size());
+        assertEquals(Integer.valueOf(9), list.get(9));
+        assertEquals(Integer.valueOf(11), list.get(10));
+        assertEquals(Integer.valueOf(30), list.get(20));
+
+        ListAdapter vector = new ListAdapter(new VectorAdaptee());
+        for(int i = 0; i < 10; i++)
+            vector.add(Integer.valueOf(i));
+        vector.removeIf(EVEN);
+        assertEquals(5, vector.size());
+        assertEquals(Integer.valueOf(9), vector.get(4));
+    }
+
+    /***
+     * <b>-Tests</b> that removeIf() leaves the list unchanged when the predicate throws an exception.<br>
+     * <b>-Description:</b> the predicate fails on the number 150, after it has accepted many numbers.<br>
+     * <b>-Pre-condition:</b> list contains the numbers from 0 to 199.<br>
+     * <b>-Post-condition:</b> list is unchanged.<br>
+     * <b>-Expected result:</b> the exception of the predicate is thrown and all the elements are still in place.<br>
+     */
+    @Test
+    public void removeIfFailure(){
+        try {
+            list.removeIf(new Predicate() {
+                public boolean test(Object o) {
+                    if(((Integer) o).intValue() == 150)
+                        throw new IllegalStateException();
+                    return EVEN.test(o);
+                }
+            });
+            fail();
+        }
+        catch(IllegalStateException e) {
+        }
+        assertEquals(200, list.size());
+        for(int i = 0; i < 200; i++)
+            assertEquals(Integer.valueOf(i), list.get(i));
+    }
+
+    /***
+     * <b>-Tests</b> that removeIf() increments the modCount once.<br>
+     * <b>-Description:</b> an iterator is taken, removeIf is called through a sublist, then the iterator is used.<br>
+     * <b>-Pre-condition:</b> list contains the numbers from 0 to 199.<br>
+     * <b>-Post-condition:</b> the exception is passed to the calling method, if this is not handled then the program ends.<br>
+     * <b>-Expected result:</b> ConcurrentModificationException thrown.<br>
+     */
+    @Test (expected = ConcurrentModificationException.class)
+    public void removeIfModifies(){
+        HIterator it = list.iterator();
+        ((ListAdapter) list.subList(0, 10)).removeIf(EVEN);
+        it.next();
+    }
+
+    /***
+     * <b>-Tests</b> replaceAll() on a list and on a sublist.<br>
+     * <b>-Description:</b> the numbers of the list are negated, then the ones of a range are negated again.<br>
+     * <b>-Pre-condition:</b> list contains the numbers from 0 to 199.<br>
+     * <b>-Post-condition:</b> list contains negative numbers except in the range.<br>
+     * <b>-Expected result:</b> every element has been replaced by the result of the operator.<br>
+     */
+    @Test
+    public void replaceAll(){
+        list.replaceAll(NEGATE);
+        ((ListAdapter) list.subList(50, 60)).replaceAll(NEGATE);
+        for(int i = 0; i < 200; i++)
+            assertEquals(Integer.valueOf(i >= 50 && i < 60 ? i : -i), list.get(i));
+    }
+
+    /***
+     * <b>-Tests</b> the wrong functioning of replaceAll().<br>
+     * <b>-Description:</b> the operator returns null.<br>
+     * <b>-Pre-condition:</b> list contains the numbers from 0 to 199.<br>
+     * <b>-Post-condition:</b> the exception is passed to the calling method, if this is not handled then the program ends.<br>
+     * <b>-Expected result:</b> NullPointerException thrown.<br>
+     */
+    @Test (expected = NullPointerException.class)
+    public void replaceAllNull(){
+        list.replaceAll(new UnaryOperator() {
+            public Object apply(Object o) {
+                return null;
+            }
+        });
+    }
+
+    /***
+     * <b>-Tests</b> the fail-fast behavior of forEach().<br>
+     * <b>-Description:</b> the action adds an element to the list.<br>
+     * <b>-Pre-condition:</b> list contains the numbers from 0 to 199.<br>
+     * <b>-Post-condition:</b> the exception is passed to the calling method, if this is not handled then the program ends.<br>
+     * <b>-Expected result:</b> ConcurrentModificationException thrown.<br>
+     */
+    @Test (expected = ConcurrentModificationException.class)
+    public void forEachModified(){
+        list.forEach(new Consumer() {
+            public void accept(Object o) {
+                list.add(o);
+            }
+        });
+    }
+}
@@ -94,6 +94,42 @@ public class ListAdapterTest {
         list2 = new ListAdapter(-2);
     }
 
+    /***
+     * <b>-Tests</b> the synchronized mode of ListAdapter.<br>
+     * <b>-Description:</b> a ListAdapter is built on a VectorAdaptee and filled, then it is compared with list1 that uses the default storage.<br>
+     * <b>-Pre-condition:</b> Two ListAdapter properly initialized, list1 and list2, they are empty.<br>
+     * <b>-Post-condition:</b> the two lists contain the same elements in the same order.<br>
+     * <b>-Expected result:</b> the two lists are equal and have the same hashCode.<br>
+     */
+    @Test
+    public void synchronizedStorage() {
+        ListAdapter list3 = new ListAdapter(new VectorAdaptee());
+        for(int i = 0; i < 20; i++) {
+            list1.add(i);
+            list3.add(i);
+        }
+        list3.add(5,"x");
+        list1.add(5,"x");
+        assertEquals(21,list3.size());
+        assertEquals("x",list3.get(5));
+        assertTrue(list1.equals(list3));
+        assertTrue(list1.hashCode() == list3.hashCode());
+    }
+
+    /***
+     * <b>-Tests</b> the wrong initialization of ListAdapter with a storage.<br>
+     * <b>-Description:</b> a vector that already contains an element is passed to the ListAdapter constructor.<br>
+     * <b>-Pre-condition:</b> Two ListAdapter properly initialized, list1 and list2.<br>
+     * <b>-Post-condition:</b> the exception is passed to the calling method , if this is not handled then the program ends.<br>
+     * <b>-Expected result:</b> IllegalArgumentException thrown.<br>
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void notEmptyStorage() {
+        VectorAdaptee v = new VectorAdaptee();
+        v.addElement("a");
+        list1 = new ListAdapter(v);
+    }
+
     /***
      * <b>-Tests</b> the proper functioning of add() method.<br>
      * <b>-Description:</b> an element has been added to ls1 and an element to ls2 and it is verified that the dimension is increased of both the Listadapter.<br>
@@ -202,6 +238,36 @@ public class ListAdapterTest {
         assertEquals("d",list1.get(6));
     }
 
+    /***
+     * <b>-Tests</b> the proper functioning of addAll() method with index, when a list is added in the middle of itself.<br>
+     * <b>-Description:</b> list1 is inserted inside list1 and a sublist of list1 receives the content of list2.<br>
+     * <b>-Pre-condition:</b> Two ListAdapter properly initialized, list1 and list2, they are empty.<br>
+     * <b>-Post-condition:</b> the elements have been inserted once, in the order of the source.<br>
+     * <b>-Expected result:</b> list1 contains the expected sequence.<br>
+     */
+    @Test
+    public void addAllToItself() {
+        list1.add("a");
+        list1.add("b");
+        list1.add("c");
+        assertTrue(list1.addAll(1,list1));
+        assertEquals(6,list1.size());
+        assertEquals("a",list1.get(0));
+        assertEquals("a",list1.get(1));
+        assertEquals("b",list1.get(2));
+        assertEquals("c",list1.get(3));
+        assertEquals("b",list1.get(4));
+
+        list2.add("x");
+        list2.add("y");
+        HList sub = list1.subList(1,4);
+        assertTrue(sub.addAll(list2));
+        assertEquals(5,sub.size());
+        assertEquals("y",sub.get(4));
+        assertEquals("y",list1.get(5));
+        assertEquals("b",list1.get(6));
+    }
+
 
     /***
      * <b>-Tests</b> the wrong functioning of addAll() method.<br>
@@ -237,29 +303,49 @@ public class ListAdapterTest {
     }
 
     /***
-     * <b>-Tests</b> the wrong functioning of addAll() method.<br>
-     * <b>-Description:</b> a HCollection has been inserted with an implementation different from Listadapter.<br>
+     * <b>-Tests</b> the proper functioning of addAll() method with a HCollection that is not a ListAdapter.<br>
+     * <b>-Description:</b> the values and the keys of a MapAdapter have been added to list1.<br>
      * <b>-Pre-condition:</b> Two ListAdapter properly initialized, list1 and list2.<br>
      * An HIterator object h1 properly initialized on list1.<br> and two
      * Two HListIterator hl1 and hl2 object, listIter1 initialized on list1, and listIter2 initialized on list2.<br>
-     * <b>-Post-condition:</b> the exception is passed to the calling method , if this is not handled then the program ends.<br>
-     * <b>-Expected result:</b> ClassCastException thrown.<br>
+     * <b>-Post-condition:</b> list1 contains the elements of the HCollection.<br>
+     * <b>-Expected result:</b> the size of list1 grows of the size of the HCollection.<br>
      */
-    @Test (expected = ClassCastException.class)
-    public void addAllClassCastException(){
-        list1.addAll(new MapAdapter().values());
+    @Test
+    public void addAllFromMapValues(){
+        MapAdapter m = new MapAdapter();
+        assertFalse(list1.addAll(m.values()));
+        for(int i = 0; i < 5; i++)
+            m.put("k" + i, i);
+        assertTrue(list1.addAll(m.values()));
+        assertEquals(5,list1.size());
+        for(int i = 0; i < 5; i++)
+            assertTrue(list1.contains(i));
+        assertTrue(list1.containsAll(m.values()));
     }
 
     /***
-     * <b>-Tests</b> the wrong functioning of addAll() method.<br>
-     * <b>-Description:</b> a HCollection has been inserted with an implementation different from Listadapter.<br>
+     * <b>-Tests</b> the proper functioning of addAll() method with index and a HCollection that is not a ListAdapter.<br>
+     * <b>-Description:</b> the keys of a MapAdapter have been inserted in the middle of list1.<br>
      * <b>-Pre-condition:</b> Two ListAdapter properly initialized, list1 and list2.<br>
-     * <b>-Post-condition:</b> the exception is passed to the calling method , if this is not handled then the program ends.<br>
-     * <b>-Expected result:</b> ClassCastException thrown.<br>
+     * <b>-Post-condition:</b> list1 contains the keys between its old elements.<br>
+     * <b>-Expected result:</b> the old elements have been shifted to the right.<br>
      */
-    @Test (expected = ClassCastException.class)
-    public void addAllWithIndexClassCastException(){
-        list1.addAll(0, new MapAdapter().values());
+    @Test
+    public void addAllWithIndexFromMapKeys(){
+        MapAdapter m = new MapAdapter();
+        m.put("x",1);
+        m.put("y",2);
+        list1.add("a");
+        list1.add("b");
+        assertTrue(list1.addAll(1, m.keySet()));
+        assertEquals(4,list1.size());
+        assertEquals("a",list1.get(0));
+        assertEquals("b",list1.get(3));
+        assertTrue(list1.contains("x"));
+        assertTrue(list1.contains("y"));
+        assertTrue(list1.removeAll(m.keySet()));
+        assertEquals(2,list1.size());
     }
 
     /***
@@ -301,6 +387,41 @@ public class ListAdapterTest {
         assertTrue(list1.isEmpty());
     }
 
+    /***
+     * <b>-Tests</b> the proper functioning of removeRange() method.<br>
+     * <b>-Description:</b> a range in the middle of list1 is removed, then an empty range, then the rest of the list.<br>
+     * <b>-Pre-condition:</b> Two ListAdapter properly initialized, list1 and list2, they are empty.<br>
+     * <b>-Post-condition:</b> the elements of the range have been removed and the following ones have been shifted.<br>
+     * <b>-Expected result:</b> list1 contains the elements outside the range in the same order.<br>
+     */
+    @Test
+    public void removeRange() {
+        for(int i = 0; i < 10; i++)
+            list1.add(i);
+        list1.removeRange(2,5);
+        assertEquals(7,list1.size());
+        assertEquals(1,list1.get(1));
+        assertEquals(5,list1.get(2));
+        assertEquals(9,list1.get(6));
+        list1.removeRange(3,3);
+        assertEquals(7,list1.size());
+        list1.removeRange(0,7);
+        assertTrue(list1.isEmpty());
+    }
+
+    /***
+     * <b>-Tests</b> the wrong functioning of removeRange() method.<br>
+     * <b>-Description:</b> a range that ends after the last element of list1 is removed.<br>
+     * <b>-Pre-condition:</b> Two ListAdapter properly initialized, list1 and list2.<br>
+     * <b>-Post-condition:</b> the exception is passed to the calling method , if this is not handled then the program ends.<br>
+     * <b>-Expected result:</b> IndexOutOfBoundsException thrown.<br>
+     */
+    @Test (expected = IndexOutOfBoundsException.class)
+    public void removeRangeOutOfBounds() {
+        list1.add("a");
+        list1.removeRange(0,2);
+    }
+
     /***
      * <b>-Tests</b> the proper functioning of contains() method.<br>
      * <b>-Description:</b> This method checks if the ListAdapter recognize an object present after the add method.<br>
@@ -707,6 +828,39 @@ public class ListAdapterTest {
         list1.retainAll(null);
     }
 
+    /***
+     * <b>-Tests</b> the proper functioning of containsAll(), removeAll() and retainAll() methods on big lists.<br>
+     * <b>-Description:</b> list1 contains the numbers from 0 to 999, twice; list2 contains the even numbers from 0 to 399.
+     * The sizes are big enough to use the hash index instead of the element by element comparison.<br>
+     * <b>-Pre-condition:</b> Two ListAdapter properly initialized, list1 and list2, they are empty.<br>
+     * <b>-Post-condition:</b> list1 has been filtered, keeping the order of the remaining elements.<br>
+     * <b>-Expected result:</b> every occurrence of the elements is removed or retained.<br>
+     */
+    @Test
+    public void bulkOperationsOnBigLists() {
+        for(int i = 0; i < 2000; i++)
+            list1.add(i % 1000);
+        for(int i = 0; i < 400; i += 2)
+            list2.add(i);
+        assertTrue(list1.containsAll(list2));
+        assertFalse(list2.containsAll(list1));
+
+        ListAdapter list3 = new ListAdapter();
+        list3.addAll(list1);
+        assertTrue(list3.retainAll(list2));
+        assertEquals(400,list3.size());
+        assertEquals(0,list3.get(0));
+        assertEquals(398,list3.get(199));
+        assertEquals(0,list3.get(200));
+
+        assertTrue(list1.removeAll(list2));
+        assertEquals(1600,list1.size());
+        assertEquals(1,list1.get(0));
+        assertEquals(3,list1.get(1));
+        assertFalse(list1.contains(200));
+        assertFalse(list1.removeAll(list2));
+    }
+
     /**
      * <b>-Tests</b> the proper functioning of set() method.<br>
      * <b>-Description:</b> add 3 elements to the list, change the element to index 1 and verify that the correct index has been changed.<br>
@@ -909,6 +1063,7 @@ public class ListAdapterTest {
         list1.add(1);
         list1.add(2);
         list1.add(3);
+        h1 = list1.iterator();
         int i = 1;
         while (h1.hasNext()) {
             assertEquals(i++,h1.next());
@@ -967,5 +1122,91 @@ public class ListAdapterTest {
         hl2 = list2.listIterator(0);
     }
 
+    /***
+     * <b>-Tests</b> toArray(), equals() and hashCode() on different storages and on sublists.<br>
+     * <b>-Description:</b> the same elements are put in a list on an ArrayAdaptee, in a list on a VectorAdaptee, in a DequeListAdapter
+     * and in the middle of a longer list, whose sublist is compared with the other lists.<br>
+     * <b>-Pre-condition:</b> Two ListAdapter properly initialized, list1 and list2.<br>
+     * <b>-Post-condition:</b> the lists are unchanged.<br>
+     * <b>-Expected result:</b> the lists are equal, have the same hash code and the same array.<br>
+     */
+    @Test
+    public void sameElementsOnDifferentStorages() {
+        ListAdapter vector = new ListAdapter(new VectorAdaptee());
+        DequeListAdapter deque = new DequeListAdapter(4);
+        list2.add("x");
+        for(int i = 0; i < 20; i++) {
+            list1.add("e" + i);
+            vector.add("e" + i);
+            deque.addLast("e" + i);
+            list2.add("e" + i);
+        }
+        list2.add("y");
+        HList sub = list2.subList(1, 21);
+        assertEquals(list1, vector);
+        assertEquals(vector, deque);
+        assertEquals(list1, sub);
+        assertEquals(sub, deque);
+        assertEquals(list1.hashCode(), vector.hashCode());
+        assertEquals(list1.hashCode(), deque.hashCode());
+        assertEquals(list1.hashCode(), sub.hashCode());
+        Object[] a = list1.toArray();
+        assertArrayEquals(a, vector.toArray());
+        assertArrayEquals(a, deque.toArray());
+        assertArrayEquals(a, sub.toArray());
+        Object[] b = new Object[22];
+        b[20] = "z";
+        assertSame(b, sub.toArray(b));
+        assertEquals("e19", b[19]);
+        assertNull(b[20]);
+        sub.set(5, "other");
+        assertFalse(list1.equals(sub));
+        assertFalse(sub.equals(list1));
+        assertFalse(list1.equals(list2));
+    }
+
+    /***
+     * <b>-Tests</b> that the cached hash code follows the changes of the list.<br>
+     * <b>-Description:</b> the hash code is taken, then the list is changed with set(), through a sublist, with sort() and with add(),
+     * and the hash code is compared with the one of a new list with the same elements.<br>
+     * <b>-Pre-condition:</b> Two ListAdapter properly initialized, list1 and list2.<br>
+     * <b>-Post-condition:</b> list1 has been changed.<br>
+     * <b>-Expected result:</b> the hash code is always the one of the current elements.<br>
+     */
+    @Test
+    public void cachedHashCode() {
+        for(int i = 0; i < 10; i++)
+            list1.add(Integer.valueOf(i));
+        int h = list1.hashCode();
+        assertEquals(h, list1.hashCode());
+        list1.set(3, Integer.valueOf(30));
+        assertEquals(copy(list1).hashCode(), list1.hashCode());
+        list1.subList(2, 5).set(0, Integer.valueOf(20));
+        assertEquals(copy(list1).hashCode(), list1.hashCode());
+        list1.sort(null);
+        assertEquals(copy(list1).hashCode(), list1.hashCode());
+        list1.add(Integer.valueOf(100));
+        assertEquals(copy(list1).hashCode(), list1.hashCode());
+        ListAdapter other = copy(list1);
+        other.hashCode();
+        assertEquals(list1, other);
+        other.set(0, Integer.valueOf(-1));
+        other.hashCode();
+        assertFalse(list1.equals(other));
+
+        IntListAdapter ints = new IntListAdapter();
+        ints.addInt(1);
+        ints.addInt(2);
+        h = ints.hashCode();
+        ints.setInt(0, 5);
+        assertFalse(h == ints.hashCode());
+        assertEquals(Integer.valueOf(5), ints.get(0));
+    }
+
+    private static ListAdapter copy(ListAdapter l) {
+        ListAdapter c = new ListAdapter();
+        c.addAll(l);
+        return c;
+    }
 
-}
\ No newline at end of file
+}
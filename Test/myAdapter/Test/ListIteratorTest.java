@@ -3,6 +3,7 @@ import myAdapter.HListIterator;
 import myAdapter.ListAdapter;
 import org.junit.Test;
 import org.junit.Before;
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
 import static org.junit.Assert.*;
 
@@ -113,6 +114,7 @@ public class ListIteratorTest {
         assertFalse(iter.hasPrevious());
         assertFalse(iter.hasNext());
         list.add(0);
+        iter = list.listIterator();
         assertTrue(iter.hasNext());
         iter.next();
         assertTrue(iter.hasPrevious());
@@ -131,6 +133,7 @@ public class ListIteratorTest {
     public void next(){
         list.add(1);
         list.add(2);
+        iter = list.listIterator();
         assertTrue(iter.hasNext());
         Object obj1 = iter.next();
         Object obj2 = iter.next();
@@ -151,6 +154,7 @@ public class ListIteratorTest {
         list.add(0);
         list.add(1);
         list.add(2);
+        iter = list.listIterator();
         while(iter.hasNext())
             iter.next();
         iter.next();
@@ -169,6 +173,7 @@ public class ListIteratorTest {
         assertEquals(0,iter.nextIndex());
         list.add(10);
         list.add(12);
+        iter = list.listIterator();
         assertTrue(iter.hasNext());
         iter.next();
         assertEquals(1,iter.nextIndex());
@@ -188,6 +193,7 @@ public class ListIteratorTest {
         list.add(1);
         list.add(2);
         list.add(3);
+        iter = list.listIterator();
         assertTrue(iter.hasNext());
         assertEquals(0,iter.next());
         assertEquals(1,iter.next());
@@ -229,6 +235,7 @@ public class ListIteratorTest {
         list.add(1);
         list.add(2);
         list.add(3);
+        iter = list.listIterator();
         assertTrue(iter.hasNext());
         assertEquals(0,iter.next());
         assertEquals(1,iter.next());
@@ -239,6 +246,25 @@ public class ListIteratorTest {
         assertEquals(3,iter.previousIndex());
     }
 
+    /**
+     * <b>-Tests</b> the fail-fast behavior of the iterator.<br>
+     * <b>-Description:</b> the list is modified directly after the creation of the iterator, then next() is called.<br>
+     * <b>-Pre-condition:</b> ListAdapter properly initialized list1 .<br>
+     * HListIterator object iter initialized on list<br>
+     * <b>-Post-condition:</b> the exception is passed to the calling method , if this is not handled then the program ends.<br>
+     * <b>-Expected result:</b> ConcurrentModificationException thrown.<br>
+     */
+    @Test (expected = ConcurrentModificationException.class)
+    public void concurrentModification(){
+        list.add("a");
+        list.add("b");
+        iter = list.listIterator();
+        assertEquals("a",iter.next());
+        list.remove("b");
+        assertTrue(iter.hasNext());
+        iter.next();
+    }
+
     /**
      * <b>-Tests</b> the proper functioning of remove() method.<br>
      * <b>-Description:</b> iterate the iterator on a non-empty list, delete the last item returned by next and verify list items.<br>
@@ -253,14 +279,16 @@ public class ListIteratorTest {
         list.add("b");
         list.add("c");
         assertTrue(list.size() == 3);
+        iter = list.listIterator();
         assertTrue(iter.hasNext());
         assertEquals("a",iter.next());
         assertEquals("b",iter.next());
         iter.remove();
         assertTrue(list.size() == 2);
         assertTrue(iter.hasNext());
-        assertEquals("a",iter.next());
+        assertEquals(1,iter.nextIndex());
         assertEquals("c",iter.next());
+        assertFalse(iter.hasNext());
     }
 
     /**
@@ -277,6 +305,7 @@ public class ListIteratorTest {
         list.add("b");
         list.add("c");
         assertTrue(list.size() == 3);
+        iter = list.listIterator();
         assertTrue(iter.hasNext());
         assertEquals("a",iter.next());
         assertEquals("b",iter.next());
@@ -286,13 +315,13 @@ public class ListIteratorTest {
         iter.remove();
         assertTrue(list.size() == 2);
         /*
-        iterator is reseted from the beginning because the list changed its size.
+        the iterator keeps its position: the removed element was after the cursor.
          */
-        assertFalse(iter.hasPrevious());
-        assertTrue(iter.hasNext());
-        assertEquals("a",iter.next());
-        assertEquals("b",iter.next());
         assertFalse(iter.hasNext());
+        assertTrue(iter.hasPrevious());
+        assertEquals("b",iter.previous());
+        assertEquals("a",iter.previous());
+        assertFalse(iter.hasPrevious());
     }
 
     /**
@@ -322,6 +351,7 @@ public class ListIteratorTest {
         list.add("b");
         list.add("c");
         assertTrue(list.size() == 3);
+        iter = list.listIterator();
         assertTrue(iter.hasNext());
         assertEquals("a",iter.next());
         assertEquals("b",iter.next());
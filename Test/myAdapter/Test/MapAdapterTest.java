@@ -1,5 +1,6 @@
 package myAdapter.Test;
 import myAdapter.HCollection;
+import myAdapter.HIterator;
 import myAdapter.HSet;
 import myAdapter.MapAdapter;
 import org.junit.Test;
@@ -657,4 +658,71 @@ public class MapAdapterTest {
         assertTrue(hs.size() == 5);
         assertFalse(hs == null);
     }
+
+    /***
+     * <b>-Tests</b> the hash code kept up to date by the map.<br>
+     * <b>-Description:</b> entries are put, replaced and removed through the map, its views and their iterators,
+     * and after each change the hash code is compared with the sum computed on the entries.<br>
+     * <b>-Pre-condition:</b> a new empty MapAdapter.<br>
+     * <b>-Post-condition:</b> the map is empty.<br>
+     * <b>-Expected result:</b> the hash code is always the sum of key.hashCode() + value.hashCode() over the entries.<br>
+     */
+    @Test
+    public void hashCodeMaintained() {
+        MapAdapter map = new MapAdapter();
+        assertEquals(0, map.hashCode());
+        int expected = 0;
+        for(int i = 0; i < 50; i++) {
+            map.put("k" + i, "v" + i);
+            expected += ("k" + i).hashCode() + ("v" + i).hashCode();
+        }
+        assertEquals(expected, map.hashCode());
+        map.put("k0", "other");
+        expected += "other".hashCode() - "v0".hashCode();
+        assertEquals(expected, map.hashCode());
+        map.remove("k1");
+        expected -= "k1".hashCode() + "v1".hashCode();
+        assertEquals(expected, map.hashCode());
+        map.remove("missing");
+        assertEquals(expected, map.hashCode());
+        map.keySet().remove("k2");
+        expected -= "k2".hashCode() + "v2".hashCode();
+        assertEquals(expected, map.hashCode());
+        HIterator it = map.values().iterator();
+        Object value = it.next();
+        it.remove();
+        assertEquals(map.hashCode(), sumOfEntries(map));
+        assertFalse(map.values().contains(value));
+        map.clear();
+        assertEquals(0, map.hashCode());
+    }
+
+    private static int sumOfEntries(MapAdapter map) {
+        int sum = 0;
+        HIterator it = map.entrySet().iterator();
+        while(it.hasNext())
+            sum += it.next().hashCode();
+        return sum;
+    }
+
+    /***
+     * <b>-Tests</b> equals() of two maps with the same size and different hash codes.<br>
+     * <b>-Description:</b> two maps with the same keys and one different value are compared.<br>
+     * <b>-Pre-condition:</b> two new MapAdapters.<br>
+     * <b>-Post-condition:</b> the maps are unchanged.<br>
+     * <b>-Expected result:</b> the maps are different, then equal when the value is the same.<br>
+     */
+    @Test
+    public void equalsByHashCode() {
+        MapAdapter a = new MapAdapter();
+        MapAdapter b = new MapAdapter();
+        for(int i = 0; i < 10; i++) {
+            a.put(Integer.valueOf(i), Integer.valueOf(i));
+            b.put(Integer.valueOf(i), Integer.valueOf(i == 5 ? -5 : i));
+        }
+        assertFalse(a.equals(b));
+        b.put(Integer.valueOf(5), Integer.valueOf(5));
+        assertEquals(a.hashCode(), b.hashCode());
+        assertTrue(a.equals(b));
+    }
 }
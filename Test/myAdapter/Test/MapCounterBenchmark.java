@@ -0,0 +1,51 @@
+package myAdapter.Test;
+import myAdapter.HashtableAdaptee;
+import myAdapter.MapAdapter;
+import myAdapter.OpenHashAdaptee;
+import java.util.function.BiFunction;
+
+/***
+ * This class compares two ways of counting keys in a MapAdapter: get() followed by put(), that looks every key up twice,
+ * and merge(), that looks it up once. Both are measured on a HashtableAdaptee and on an OpenHashAdaptee;
+ * every measure is repeated, the first rounds warm up the JIT.<br>
+ * Usage: java myAdapter.Test.MapCounterBenchmark [updates] [keys]<br>
+ * @see MapAdapter MapAdapter. <br>
+ */
+public class MapCounterBenchmark {
+
+    private static final BiFunction SUM = new BiFunction() {
+        public Object apply(Object a, Object b) {
+            return Integer.valueOf(((Integer) a).intValue() + ((Integer) b).intValue());
+        }
+    };
+
+    public static void main(String[] args) {
+        int updates = args.length > 0 ? Integer.parseInt(args[0]) : 5000000;
+        int distinct = args.length > 1 ? Integer.parseInt(args[1]) : 100000;
+
+        Integer[] keys = new Integer[updates];
+        for(int i = 0; i < updates; i++)
+            keys[i] = Integer.valueOf((int) ((i * 2654435761L) % distinct));
+        System.out.println("updates = " + updates + ", keys = " + distinct);
+        for(int round = 0; round < 3; round++) {
+            run("HashtableAdaptee", new MapAdapter(new HashtableAdaptee()), new MapAdapter(new HashtableAdaptee()), keys);
+            run("OpenHashAdaptee", new MapAdapter(new OpenHashAdaptee()), new MapAdapter(new OpenHashAdaptee()), keys);
+        }
+    }
+
+    private static void run(String name, MapAdapter a, MapAdapter b, Integer[] keys) {
+        Integer one = Integer.valueOf(1);
+        long start = System.nanoTime();
+        for(int i = 0; i < keys.length; i++) {
+            Integer count = (Integer) a.get(keys[i]);
+            a.put(keys[i], count == null ? one : Integer.valueOf(count.intValue() + 1));
+        }
+        long getPut = System.nanoTime() - start;
+        start = System.nanoTime();
+        for(int i = 0; i < keys.length; i++)
+            b.merge(keys[i], one, SUM);
+        long merge = System.nanoTime() - start;
+        System.out.println(name + ": get+put " + (getPut / 1000000) + " ms, merge " + (merge / 1000000) + " ms ("
+                + a.equals(b) + ")");
+    }
+}
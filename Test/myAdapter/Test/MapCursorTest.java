@@ -0,0 +1,195 @@
+package myAdapter.Test;
+import myAdapter.HIterator;
+import myAdapter.HMap.HEntry;
+import myAdapter.HMapCursor;
+import myAdapter.HashtableAdaptee;
+import myAdapter.MapAdapter;
+import myAdapter.OpenHashAdaptee;
+import org.junit.Test;
+import org.junit.Before;
+import java.util.ConcurrentModificationException;
+import static org.junit.Assert.*;
+
+/***
+ * Testing MapAdapter.cursor() and the entries returned by the iterator of entrySet(), on a MapAdapter stored in a HashtableAdaptee
+ * and on one stored in an OpenHashAdaptee.<br>
+ * Tests of this class are performed by the MapCursorTestRunner class.<br>
+ * @see MapCursorTestRunner MapCursorTestRunner. <br>
+ */
+public class MapCursorTest {
+
+    /***
+     * instance variables of MapAdapter - the same entries stored in the two hashtables
+     */
+    private MapAdapter[] maps;
+
+    /***
+     * <b>-Before : </b> Setup test, this is done before every test.<br>
+     * <b>-Description:</b> This method fills a MapAdapter of each hashtable with the keys from 0 to 99, mapped to their square.<br>
+     * <b>-Pre-condition:</b> the instance variable has been created without being instantiated.<br>
+     * <b>-Post-condition:</b> the instance variable has been instantiated.<br>
+     * <b>-Expected result:</b> the instance variable has been instantiated.<br>
+     */
+    @Before
+    public void setup(){
+        maps = new MapAdapter[] { new MapAdapter(new HashtableAdaptee()), new MapAdapter(new OpenHashAdaptee()) };
+        for(int m = 0; m < maps.length; m++)
+            for(int i = 0; i < 100; i++)
+                maps[m].put(Integer.valueOf(i), Integer.valueOf(i * i));
+    }
+
+    /***
+     * <b>-Tests</b> a traversal of the map with cursor().<br>
+     * <b>-Description:</b> every key and value read by the cursor is checked against get().<br>
+     * <b>-Pre-condition:</b> the maps contain the keys from 0 to 99.<br>
+     * <b>-Post-condition:</b> the maps are unchanged.<br>
+     * <b>-Expected result:</b> the cursor visits every entry once, then advance() returns false.<br>
+     */
+    @Test
+    public void traversal(){
+        for(int m = 0; m < maps.length; m++) {
+            HMapCursor c = maps[m].cursor();
+            int count = 0, sum = 0;
+            while(c.advance()) {
+                assertEquals(maps[m].get(c.key()), c.value());
+                sum += ((Integer) c.key()).intValue();
+                count++;
+            }
+            assertEquals(100, count);
+            assertEquals(4950, sum);
+            assertFalse(c.advance());
+        }
+    }
+
+    /***
+     * <b>-Tests</b> setValue() and remove() of the cursor.<br>
+     * <b>-Description:</b> the values of the even keys are negated and the odd keys are removed through the cursor.<br>
+     * <b>-Pre-condition:</b> the maps contain the keys from 0 to 99.<br>
+     * <b>-Post-condition:</b> the maps contain the even keys, mapped to the opposite of their square.<br>
+     * <b>-Expected result:</b> the changes are seen by get(), size() and hashCode().<br>
+     */
+    @Test
+    public void writeThrough(){
+        for(int m = 0; m < maps.length; m++) {
+            HMapCursor c = maps[m].cursor();
+            while(c.advance()) {
+                int key = ((Integer) c.key()).intValue();
+                if(key % 2 == 0)
+                    assertEquals(Integer.valueOf(key * key), c.setValue(Integer.valueOf(-key * key)));
+                else
+                    c.remove();
+            }
+            assertEquals(50, maps[m].size());
+            assertEquals(Integer.valueOf(-16), maps[m].get(Integer.valueOf(4)));
+            assertNull(maps[m].get(Integer.valueOf(5)));
+            MapAdapter expected = new MapAdapter();
+            for(int i = 0; i < 100; i += 2)
+                expected.put(Integer.valueOf(i), Integer.valueOf(-i * i));
+            assertEquals(expected.hashCode(), maps[m].hashCode());
+            assertTrue(expected.equals(maps[m]));
+        }
+    }
+
+    /***
+     * <b>-Tests</b> that setValue() of an Entry returned by the iterator of entrySet() writes through to the map.<br>
+     * <b>-Description:</b> every value is incremented through its Entry.<br>
+     * <b>-Pre-condition:</b> the maps contain the keys from 0 to 99.<br>
+     * <b>-Post-condition:</b> every key is mapped to its square plus one.<br>
+     * <b>-Expected result:</b> the new values are seen by get() and by values().<br>
+     */
+    @Test
+    public void entrySetValue(){
+        for(int m = 0; m < maps.length; m++) {
+            HIterator it = maps[m].entrySet().iterator();
+            while(it.hasNext()) {
+                HEntry e = (HEntry) it.next();
+                e.setValue(Integer.valueOf(((Integer) e.getValue()).intValue() + 1));
+            }
+            for(int i = 0; i < 100; i++)
+                assertEquals(Integer.valueOf(i * i + 1), maps[m].get(Integer.valueOf(i)));
+            assertTrue(maps[m].values().contains(Integer.valueOf(9802)));
+            assertFalse(maps[m].values().contains(Integer.valueOf(0)));
+        }
+    }
+
+    /***
+     * <b>-Tests</b> that setValue() of an Entry does not add back a key removed from the map.<br>
+     * <b>-Description:</b> the key of an Entry is removed, then its value is set.<br>
+     * <b>-Pre-condition:</b> the maps contain the keys from 0 to 99.<br>
+     * <b>-Post-condition:</b> the maps contain 99 keys.<br>
+     * <b>-Expected result:</b> the Entry has the new value, the map does not contain its key.<br>
+     */
+    @Test
+    public void entrySetValueRemoved(){
+        for(int m = 0; m < maps.length; m++) {
+            HEntry e = (HEntry) maps[m].entrySet().iterator().next();
+            maps[m].remove(e.getKey());
+            e.setValue("x");
+            assertEquals("x", e.getValue());
+            assertEquals(99, maps[m].size());
+            assertFalse(maps[m].containsKey(e.getKey()));
+        }
+    }
+
+    /***
+     * <b>-Tests</b> removeAll() of the views with a view of the same map.<br>
+     * <b>-Description:</b> keySet().removeAll(keySet()), values().removeAll(values()) and entrySet().removeAll(entrySet()) are called.<br>
+     * <b>-Pre-condition:</b> the maps contain the keys from 0 to 99.<br>
+     * <b>-Post-condition:</b> the maps are empty.<br>
+     * <b>-Expected result:</b> removeAll returns true on the full map and false on the empty one.<br>
+     */
+    @Test
+    public void removeAllSameMap(){
+        for(int m = 0; m < maps.length; m++) {
+            assertTrue(maps[m].keySet().removeAll(maps[m].keySet()));
+            assertTrue(maps[m].isEmpty());
+            assertFalse(maps[m].values().removeAll(maps[m].values()));
+            maps[m].put("a", "b");
+            assertTrue(maps[m].entrySet().removeAll(maps[m].entrySet()));
+            assertTrue(maps[m].isEmpty());
+            assertEquals(0, maps[m].hashCode());
+        }
+    }
+
+    /***
+     * <b>-Tests</b> the wrong functioning of the cursor.<br>
+     * <b>-Description:</b> key() is called before advance().<br>
+     * <b>-Pre-condition:</b> the maps contain the keys from 0 to 99.<br>
+     * <b>-Post-condition:</b> the exception is passed to the calling method, if this is not handled then the program ends.<br>
+     * <b>-Expected result:</b> IllegalStateException thrown.<br>
+     */
+    @Test (expected = IllegalStateException.class)
+    public void keyBeforeAdvance(){
+        maps[1].cursor().key();
+    }
+
+    /***
+     * <b>-Tests</b> the wrong functioning of the cursor.<br>
+     * <b>-Description:</b> remove() is called twice on the same entry.<br>
+     * <b>-Pre-condition:</b> the maps contain the keys from 0 to 99.<br>
+     * <b>-Post-condition:</b> the exception is passed to the calling method, if this is not handled then the program ends.<br>
+     * <b>-Expected result:</b> IllegalStateException thrown.<br>
+     */
+    @Test (expected = IllegalStateException.class)
+    public void removeTwice(){
+        HMapCursor c = maps[0].cursor();
+        c.advance();
+        c.remove();
+        c.remove();
+    }
+
+    /***
+     * <b>-Tests</b> the fail-fast behavior of a cursor over a HashtableAdaptee.<br>
+     * <b>-Description:</b> a key is added to the map while the cursor is used.<br>
+     * <b>-Pre-condition:</b> the maps contain the keys from 0 to 99.<br>
+     * <b>-Post-condition:</b> the exception is passed to the calling method, if this is not handled then the program ends.<br>
+     * <b>-Expected result:</b> ConcurrentModificationException thrown.<br>
+     */
+    @Test (expected = ConcurrentModificationException.class)
+    public void modifiedDuringTraversal(){
+        HMapCursor c = maps[0].cursor();
+        c.advance();
+        maps[0].put("new", "key");
+        c.advance();
+    }
+}
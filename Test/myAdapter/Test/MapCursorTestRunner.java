@@ -0,0 +1,19 @@
+package myAdapter.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.notification.Failure;
+
+/***
+ * This class performs MapCursorTest class tests. <br>
+ * @see MapCursorTest MapCursorTest. <br>
+ */
+public class MapCursorTestRunner {
+    public static void main(String[] args) {
+        Result result = JUnitCore.runClasses(MapCursorTest.class);
+
+        for(Failure fail : result.getFailures())
+            System.out.println(fail.toString());
+
+        System.out.println(result.wasSuccessful());
+    }
+}
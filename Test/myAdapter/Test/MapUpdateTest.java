@@ -0,0 +1,190 @@
+package myAdapter.Test;
+import myAdapter.HashtableAdaptee;
+import myAdapter.MapAdapter;
+import myAdapter.OpenHashAdaptee;
+import org.junit.Test;
+import org.junit.Before;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import static org.junit.Assert.*;
+
+/***
+ * Testing put(), getOrDefault(), putIfAbsent(), replace(), computeIfAbsent(), compute() and merge() of MapAdapter,
+ * on a MapAdapter stored in a HashtableAdaptee and on one stored in an OpenHashAdaptee.<br>
+ * Tests of this class are performed by the MapUpdateTestRunner class.<br>
+ * @see MapUpdateTestRunner MapUpdateTestRunner. <br>
+ */
+public class MapUpdateTest {
+
+    /***
+     * instance variables of MapAdapter - an empty map of each hashtable
+     */
+    private MapAdapter[] maps;
+
+    /***
+     * <b>-Before : </b> Setup test, this is done before every test.<br>
+     * <b>-Description:</b> This method creates an empty MapAdapter of each hashtable.<br>
+     * <b>-Pre-condition:</b> the instance variable has been created without being instantiated.<br>
+     * <b>-Post-condition:</b> the instance variable has been instantiated.<br>
+     * <b>-Expected result:</b> the instance variable has been instantiated.<br>
+     */
+    @Before
+    public void setup(){
+        maps = new MapAdapter[] { new MapAdapter(new HashtableAdaptee()), new MapAdapter(new OpenHashAdaptee()) };
+    }
+
+    private static final BiFunction SUM = new BiFunction() {
+        public Object apply(Object a, Object b) {
+            return Integer.valueOf(((Integer) a).intValue() + ((Integer) b).intValue());
+        }
+    };
+
+    private static final BiFunction COUNT = new BiFunction() {
+        public Object apply(Object key, Object value) {
+            return Integer.valueOf(value == null ? 1 : ((Integer) value).intValue() + 1);
+        }
+    };
+
+    /***
+     * <b>-Tests</b> getOrDefault(), putIfAbsent() and replace().<br>
+     * <b>-Description:</b> the methods are called on an absent key and on a present one.<br>
+     * <b>-Pre-condition:</b> the maps are empty.<br>
+     * <b>-Post-condition:</b> the maps contain a=2.<br>
+     * <b>-Expected result:</b> the methods return the values of the Map interface of Java.<br>
+     */
+    @Test
+    public void simpleUpdates(){
+        for(int m = 0; m < maps.length; m++) {
+            MapAdapter map = maps[m];
+            assertEquals("d", map.getOrDefault("a", "d"));
+            assertNull(map.replace("a", Integer.valueOf(0)));
+            assertTrue(map.isEmpty());
+            assertNull(map.putIfAbsent("a", Integer.valueOf(1)));
+            assertEquals(Integer.valueOf(1), map.putIfAbsent("a", Integer.valueOf(5)));
+            assertEquals(Integer.valueOf(1), map.getOrDefault("a", "d"));
+            assertEquals(Integer.valueOf(1), map.replace("a", Integer.valueOf(2)));
+            assertEquals(Integer.valueOf(2), map.get("a"));
+            assertEquals(1, map.size());
+            assertEquals("a".hashCode() + 2, map.hashCode());
+        }
+    }
+
+    /***
+     * <b>-Tests</b> computeIfAbsent().<br>
+     * <b>-Description:</b> the function is called on absent keys, and returns null for one of them.<br>
+     * <b>-Pre-condition:</b> the maps are empty.<br>
+     * <b>-Post-condition:</b> the maps contain the keys for which the function has returned a value.<br>
+     * <b>-Expected result:</b> the function is not called for a present key.<br>
+     */
+    @Test
+    public void computeIfAbsent(){
+        for(int m = 0; m < maps.length; m++) {
+            MapAdapter map = maps[m];
+            final int[] calls = new int[1];
+            Function length = new Function() {
+                public Object apply(Object key) {
+                    calls[0]++;
+                    return key.equals("none") ? null : Integer.valueOf(((String) key).length());
+                }
+            };
+            assertEquals(Integer.valueOf(3), map.computeIfAbsent("abc", length));
+            assertEquals(Integer.valueOf(3), map.computeIfAbsent("abc", length));
+            assertNull(map.computeIfAbsent("none", length));
+            assertEquals(2, calls[0]);
+            assertEquals(1, map.size());
+            assertFalse(map.containsKey("none"));
+            assertEquals("abc".hashCode() + 3, map.hashCode());
+        }
+    }
+
+    /***
+     * <b>-Tests</b> compute() and merge() against a java.util.HashMap.<br>
+     * <b>-Description:</b> words are counted by compute() and by merge(), and the results are summed by merge(); some keys are removed
+     * by a function that returns null.<br>
+     * <b>-Pre-condition:</b> the maps are empty.<br>
+     * <b>-Post-condition:</b> the maps contain the same entries of the HashMap.<br>
+     * <b>-Expected result:</b> every call returns the same result of the HashMap, and the hash code of the map is kept up to date.<br>
+     */
+    @Test
+    public void computeAndMerge(){
+        final BiFunction DROP = new BiFunction() {
+            public Object apply(Object key, Object value) {
+                return null;
+            }
+        };
+        for(int m = 0; m < maps.length; m++) {
+            MapAdapter map = maps[m];
+            HashMap expected = new HashMap();
+            Random r = new Random(3);
+            for(int n = 0; n < 20000; n++) {
+                Integer key = Integer.valueOf(r.nextInt(300));
+                switch(r.nextInt(4)) {
+                    case 0:
+                        assertEquals(expected.compute(key, COUNT), map.compute(key, COUNT));
+                        break;
+                    case 1:
+                        Integer value = Integer.valueOf(r.nextInt(10));
+                        assertEquals(expected.merge(key, value, SUM), map.merge(key, value, SUM));
+                        break;
+                    case 2:
+                        assertEquals(expected.compute(key, DROP), map.compute(key, DROP));
+                        break;
+                    default:
+                        assertEquals(expected.getOrDefault(key, "none"), map.getOrDefault(key, "none"));
+                }
+                assertEquals(expected.size(), map.size());
+            }
+            int hash = 0;
+            for(Object key : expected.keySet()) {
+                assertEquals(expected.get(key), map.get(key));
+                hash += key.hashCode() + expected.get(key).hashCode();
+            }
+            assertEquals(hash, map.hashCode());
+        }
+    }
+
+    /***
+     * <b>-Tests</b> the wrong functioning of put().<br>
+     * <b>-Description:</b> a null key is put.<br>
+     * <b>-Pre-condition:</b> the maps are empty.<br>
+     * <b>-Post-condition:</b> the exception is passed to the calling method, if this is not handled then the program ends.<br>
+     * <b>-Expected result:</b> NullPointerException thrown.<br>
+     */
+    @Test (expected = NullPointerException.class)
+    public void putNullKey(){
+        maps[0].put(null, "a");
+    }
+
+    /***
+     * <b>-Tests</b> the wrong functioning of merge().<br>
+     * <b>-Description:</b> a null value is merged.<br>
+     * <b>-Pre-condition:</b> the maps are empty.<br>
+     * <b>-Post-condition:</b> the exception is passed to the calling method, if this is not handled then the program ends.<br>
+     * <b>-Expected result:</b> NullPointerException thrown.<br>
+     */
+    @Test (expected = NullPointerException.class)
+    public void mergeNull(){
+        maps[1].merge("a", null, SUM);
+    }
+
+    /***
+     * <b>-Tests</b> the wrong functioning of compute() on an OpenHashAdaptee.<br>
+     * <b>-Description:</b> the function puts another key in the map.<br>
+     * <b>-Pre-condition:</b> the maps are empty.<br>
+     * <b>-Post-condition:</b> the exception is passed to the calling method, if this is not handled then the program ends.<br>
+     * <b>-Expected result:</b> ConcurrentModificationException thrown.<br>
+     */
+    @Test (expected = ConcurrentModificationException.class)
+    public void computeModifies(){
+        final MapAdapter map = maps[1];
+        map.compute("a", new BiFunction() {
+            public Object apply(Object key, Object value) {
+                map.put("a", "b");
+                return "c";
+            }
+        });
+    }
+}
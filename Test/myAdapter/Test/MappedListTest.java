@@ -0,0 +1,197 @@
+package myAdapter.Test;
+import myAdapter.ForcePolicy;
+import myAdapter.ListAdapter;
+import myAdapter.MappedListAdapter;
+import myAdapter.PrimitiveRecordCodec;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.Before;
+import org.junit.rules.TemporaryFolder;
+import java.io.File;
+import java.io.IOException;
+import static org.junit.Assert.*;
+
+/***
+ * Testing MappedListAdapter.<br>
+ * The lists are written in temporary files, closed and reopened: the reopened list must contain the same elements.
+ * Small segments are used, so that the records are spread over many segments of the file.<br>
+ * Tests of this class are performed by the MappedListTestRunner class.<br>
+ * @see MappedListTestRunner MappedListTestRunner. <br>
+ */
+public class MappedListTest {
+
+    /***
+     * The folder of the files of the tests, deleted after every test.
+     */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /***
+     * instance variable of File - file
+     */
+    private File file;
+    /***
+     * instance variable of MappedListAdapter - longs
+     */
+    private MappedListAdapter longs;
+
+    /***
+     * <b>-Before : </b> Setup test, this is done before every test.<br>
+     * <b>-Description:</b> This method opens a list of long values on a new file, with segments of 16 records.<br>
+     * <b>-Pre-condition:</b> the instance variables have been created without being instantiated.<br>
+     * <b>-Post-condition:</b> the instance variables have been instantiated.<br>
+     * <b>-Expected result:</b> the list is empty.<br>
+     */
+    @Before
+    public void setup() throws IOException {
+        file = new File(folder.getRoot(), "longs.dat");
+        longs = new MappedListAdapter(file, PrimitiveRecordCodec.LONG, 16, ForcePolicy.ON_CLOSE);
+        assertTrue(longs.isEmpty());
+    }
+
+    /***
+     * <b>-After : </b> this is done after every test.<br>
+     * <b>-Description:</b> This method closes the list.<br>
+     * <b>-Pre-condition:</b> the instance variable has been instantiated.<br>
+     * <b>-Post-condition:</b> the list is closed.<br>
+     * <b>-Expected result:</b> the list is closed.<br>
+     */
+    @After
+    public void close(){
+        longs.close();
+        assertTrue(longs.isClosed());
+    }
+
+    /***
+     * <b>-Tests</b> that a reopened list contains the elements written before close().<br>
+     * <b>-Description:</b> 1000 values are appended, the list is closed and the file is opened again.<br>
+     * <b>-Pre-condition:</b> longs is empty.<br>
+     * <b>-Post-condition:</b> longs is the reopened list.<br>
+     * <b>-Expected result:</b> the reopened list has the same size and values, and new values can be appended.<br>
+     */
+    @Test
+    public void reopen() throws IOException {
+        for(long i = 0; i < 1000; i++)
+            longs.addLong(i * i);
+        longs.close();
+        longs = new MappedListAdapter(file, PrimitiveRecordCodec.LONG);
+        assertEquals(1000,longs.size());
+        assertEquals(998001,longs.getLong(999));
+        MappedListAdapter.PrimitiveCursor c = longs.cursor(10);
+        assertEquals(100,c.nextLong());
+        longs.addLong(-1);
+        assertEquals(1001,longs.size());
+        assertEquals(Long.valueOf(-1),longs.get(1000));
+    }
+
+    /***
+     * <b>-Tests</b> the HList methods of MappedListAdapter across the segments of the file.<br>
+     * <b>-Description:</b> longs and a ListAdapter are modified in the same way, then longs is reopened.<br>
+     * <b>-Pre-condition:</b> longs is empty.<br>
+     * <b>-Post-condition:</b> the two lists contain the same elements.<br>
+     * <b>-Expected result:</b> the two lists are equal before and after the reopening.<br>
+     */
+    @Test
+    public void asHList() throws IOException {
+        ListAdapter l = new ListAdapter();
+        for(long i = 0; i < 100; i++) {
+            longs.add(Long.valueOf(i));
+            l.add(Long.valueOf(i));
+        }
+        longs.add(3,Long.valueOf(-3));
+        l.add(3,Long.valueOf(-3));
+        longs.subList(10,50).clear();
+        l.subList(10,50).clear();
+        longs.remove(Long.valueOf(70));
+        l.remove(Long.valueOf(70));
+        longs.set(0,Long.valueOf(42));
+        l.set(0,Long.valueOf(42));
+        assertEquals(l,longs);
+        longs.close();
+        longs = new MappedListAdapter(file, PrimitiveRecordCodec.LONG);
+        assertEquals(l,longs);
+        assertEquals(longs,l);
+    }
+
+    /***
+     * <b>-Tests</b> that a file can not be reopened with a codec of a different width.<br>
+     * <b>-Description:</b> the file of longs is reopened with the int codec.<br>
+     * <b>-Pre-condition:</b> longs contains one value and is closed.<br>
+     * <b>-Post-condition:</b> the file is not changed.<br>
+     * <b>-Expected result:</b> IllegalArgumentException.<br>
+     */
+    @Test
+    public void wrongWidth() throws IOException {
+        longs.addLong(1);
+        longs.close();
+        try {
+            new MappedListAdapter(file, PrimitiveRecordCodec.INT);
+            fail();
+        }
+        catch (IllegalArgumentException e) {}
+        longs = new MappedListAdapter(file, PrimitiveRecordCodec.DOUBLE);
+        assertEquals(1,longs.size());
+    }
+
+    /***
+     * <b>-Tests</b> the force policies and trimToSize.<br>
+     * <b>-Description:</b> a list is written with the every(10) policy, forced, cleared and trimmed.<br>
+     * <b>-Pre-condition:</b> the file does not exist.<br>
+     * <b>-Post-condition:</b> the file has only the header.<br>
+     * <b>-Expected result:</b> the file grows by segments and is shortened by trimToSize.<br>
+     */
+    @Test
+    public void forceAndTrim() throws IOException {
+        File f = new File(folder.getRoot(), "ints.dat");
+        MappedListAdapter ints = new MappedListAdapter(f, PrimitiveRecordCodec.INT, 8, ForcePolicy.every(10));
+        assertEquals("every(10)",ints.policy().toString());
+        for(int i = 0; i < 20; i++)
+            ints.addInt(i);
+        ints.force();
+        assertEquals(16 + 3 * 8 * 4,f.length());
+        ints.clear();
+        ints.trimToSize();
+        assertEquals(16,f.length());
+        ints.close();
+        try {
+            ints.force();
+            fail();
+        }
+        catch (IllegalStateException e) {}
+        try {
+            ForcePolicy.every(0);
+            fail();
+        }
+        catch (IllegalArgumentException e) {}
+    }
+
+    /***
+     * <b>-Tests</b> the insertions and removals in the middle of a list spread over many segments.<br>
+     * <b>-Description:</b> values are inserted and removed at positions that move the records across the ends of the segments,
+     * the list is compared with a ListAdapter changed in the same way, then reopened.<br>
+     * <b>-Pre-condition:</b> longs is empty, its segments have 16 records.<br>
+     * <b>-Post-condition:</b> longs contains the values left in the ListAdapter.<br>
+     * <b>-Expected result:</b> the two lists are equal, before and after reopening the file.<br>
+     */
+    @Test
+    public void moveAcrossSegments() throws IOException {
+        ListAdapter expected = new ListAdapter();
+        for(int i = 0; i < 100; i++) {
+            int index = (i * 7) % (expected.size() + 1);
+            longs.add(index, Long.valueOf(i));
+            expected.add(index, Long.valueOf(i));
+        }
+        assertEquals(expected, longs);
+        for(int i = 0; i < 30; i++) {
+            int index = (i * 13) % expected.size();
+            assertEquals(expected.remove(index), longs.remove(index));
+        }
+        longs.subList(10, 50).clear();
+        expected.subList(10, 50).clear();
+        assertEquals(expected, longs);
+        longs.close();
+        longs = new MappedListAdapter(file, PrimitiveRecordCodec.LONG, 16, ForcePolicy.ON_CLOSE);
+        assertEquals(expected, longs);
+    }
+}
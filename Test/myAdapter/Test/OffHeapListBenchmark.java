@@ -0,0 +1,81 @@
+package myAdapter.Test;
+import myAdapter.ListAdapter;
+import myAdapter.OffHeapListAdapter;
+import myAdapter.PrimitiveRecordCodec;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+/***
+ * This class compares the work of the garbage collector with a ListAdapter of Long objects and with an OffHeapListAdapter
+ * that holds the same values. <br>
+ * Every list holds a large time series while the program keeps allocating short-lived objects: the collections triggered by
+ * the short-lived objects must also scan the Long objects of the ListAdapter, but not the records of the OffHeapListAdapter.
+ * The program prints the number and the time of the collections and the heap used by each list.<br>
+ * Usage: java myAdapter.Test.OffHeapListBenchmark [values] [rounds]<br>
+ * @see OffHeapListAdapter OffHeapListAdapter. <br>
+ */
+public class OffHeapListBenchmark {
+    public static void main(String[] args) {
+        int values = args.length > 0 ? Integer.parseInt(args[0]) : 5000000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+
+        System.out.println("values = " + values + ", rounds = " + rounds);
+        run("ListAdapter", new ListAdapter(), values, rounds);
+        run("OffHeapListAdapter", new OffHeapListAdapter(PrimitiveRecordCodec.LONG), values, rounds);
+    }
+
+    private static void run(String name, ListAdapter list, int values, int rounds) {
+        System.gc();
+        long heapBefore = usedHeap();
+        for(long i = 0; i < values; i++) {
+            if(list instanceof OffHeapListAdapter)
+                ((OffHeapListAdapter) list).addLong(i * 31);
+            else
+                list.add(Long.valueOf(i * 31));
+        }
+        System.gc();
+        long heap = usedHeap() - heapBefore;
+
+        long count = collections();
+        long time = collectionTime();
+        long start = System.nanoTime();
+        long check = 0;
+        for(int r = 0; r < rounds; r++) {
+            Object[] garbage = new Object[10000];
+            for(int i = 0; i < garbage.length; i++)
+                garbage[i] = new long[16];
+            check += garbage.length;
+            int index = (int) ((r * 7919L) % values);
+            if(list instanceof OffHeapListAdapter)
+                check += ((OffHeapListAdapter) list).getLong(index);
+            else
+                check += ((Long) list.get(index)).longValue();
+        }
+        long elapsed = (System.nanoTime() - start) / 1000000;
+
+        System.out.println(name + ": heap " + heap / (1024 * 1024) + " MB, "
+                + (collections() - count) + " collections, "
+                + (collectionTime() - time) + " ms of GC in " + elapsed + " ms (" + check + ")");
+        if(list instanceof OffHeapListAdapter)
+            ((OffHeapListAdapter) list).close();
+    }
+
+    private static long usedHeap() {
+        Runtime rt = Runtime.getRuntime();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+    private static long collections() {
+        long n = 0;
+        for(GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+            n += Math.max(0, gc.getCollectionCount());
+        return n;
+    }
+
+    private static long collectionTime() {
+        long t = 0;
+        for(GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+            t += Math.max(0, gc.getCollectionTime());
+        return t;
+    }
+}
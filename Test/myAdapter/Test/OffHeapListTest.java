@@ -0,0 +1,238 @@
+package myAdapter.Test;
+import myAdapter.HIterator;
+import myAdapter.HRecordCodec;
+import myAdapter.ListAdapter;
+import myAdapter.OffHeapListAdapter;
+import myAdapter.PrimitiveRecordCodec;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.Before;
+import java.nio.ByteBuffer;
+import java.util.ConcurrentModificationException;
+import static org.junit.Assert.*;
+
+/***
+ * Testing OffHeapListAdapter.<br>
+ * The off-heap list is tested with the primitive codecs, through its primitive methods and through the HList methods,
+ * and with a codec written by the test, that stores pairs of ints.<br>
+ * Tests of this class are performed by the OffHeapListTestRunner class.<br>
+ * @see OffHeapListTestRunner OffHeapListTestRunner. <br>
+ */
+public class OffHeapListTest {
+
+    /***
+     * instance variable of OffHeapListAdapter - longs
+     */
+    private OffHeapListAdapter longs;
+
+    /***
+     * A codec of two ints, written as an int[] of length 2 in records of 8 bytes.
+     */
+    private static final HRecordCodec PAIR = new HRecordCodec() {
+        public int width() {
+            return 8;
+        }
+
+        public void write(ByteBuffer buffer, int offset, Object element) {
+            int[] pair = (int[]) element;
+            buffer.putInt(offset, pair[0]);
+            buffer.putInt(offset + 4, pair[1]);
+        }
+
+        public Object read(ByteBuffer buffer, int offset) {
+            return new int[] { buffer.getInt(offset), buffer.getInt(offset + 4) };
+        }
+    };
+
+    /***
+     * <b>-Before : </b> Setup test, this is done before every test.<br>
+     * <b>-Description:</b> This method create an empty off-heap list of long values.<br>
+     * <b>-Pre-condition:</b> the instance variable has been created without being instantiated.<br>
+     * <b>-Post-condition:</b> the instance variable has been instantiated.<br>
+     * <b>-Expected result:</b> the instance variable has been instantiated.<br>
+     */
+    @Before
+    public void setup(){
+        longs = new OffHeapListAdapter(PrimitiveRecordCodec.LONG, 2);
+    }
+
+    /***
+     * <b>-After : </b> this is done after every test.<br>
+     * <b>-Description:</b> This method frees the memory of the list.<br>
+     * <b>-Pre-condition:</b> the instance variable has been instantiated.<br>
+     * <b>-Post-condition:</b> the list is closed.<br>
+     * <b>-Expected result:</b> the list is closed.<br>
+     */
+    @After
+    public void close(){
+        longs.close();
+        assertTrue(longs.isClosed());
+    }
+
+    /***
+     * <b>-Tests</b> the primitive methods of OffHeapListAdapter.<br>
+     * <b>-Description:</b> values are added, read and replaced with the long methods, the list grows many times.<br>
+     * <b>-Pre-condition:</b> longs is empty.<br>
+     * <b>-Post-condition:</b> longs contains 1000 values.<br>
+     * <b>-Expected result:</b> every method returns the expected value.<br>
+     */
+    @Test
+    public void longMethods(){
+        for(long i = 0; i < 1000; i++)
+            assertTrue(longs.addLong(i * 1000000000L));
+        assertEquals(1000,longs.size());
+        assertEquals(999000000000L,longs.getLong(999));
+        assertEquals(5000000000L,longs.setLong(5,-1));
+        assertEquals(-1,longs.getLong(5));
+        assertEquals(Long.valueOf(-1),longs.get(5));
+    }
+
+    /***
+     * <b>-Tests</b> the HList methods of OffHeapListAdapter.<br>
+     * <b>-Description:</b> longs and a ListAdapter are filled with the same Long objects and modified in the same way.<br>
+     * <b>-Pre-condition:</b> longs is empty.<br>
+     * <b>-Post-condition:</b> the two lists contain the same elements.<br>
+     * <b>-Expected result:</b> the two lists are equal and have the same hashCode.<br>
+     */
+    @Test
+    public void longsAsHList(){
+        ListAdapter l = new ListAdapter();
+        for(long i = 0; i < 50; i++) {
+            longs.add(Long.valueOf(i));
+            l.add(Long.valueOf(i));
+        }
+        longs.add(0,Long.valueOf(-5));
+        l.add(0,Long.valueOf(-5));
+        longs.remove(10);
+        l.remove(10);
+        longs.remove(Long.valueOf(20));
+        l.remove(Long.valueOf(20));
+        longs.subList(5,15).clear();
+        l.subList(5,15).clear();
+        assertEquals(l,longs);
+        assertEquals(longs,l);
+        assertEquals(l.hashCode(),longs.hashCode());
+        assertEquals(l.indexOf(Long.valueOf(30)),longs.indexOf(Long.valueOf(30)));
+        assertArrayEquals(l.toArray(),longs.toArray());
+    }
+
+    /***
+     * <b>-Tests</b> that only the elements of the codec can be inserted.<br>
+     * <b>-Description:</b> an Integer and a null are added to a list of longs and an int is read.<br>
+     * <b>-Pre-condition:</b> longs is empty.<br>
+     * <b>-Post-condition:</b> longs is still empty.<br>
+     * <b>-Expected result:</b> ClassCastException and NullPointerException.<br>
+     */
+    @Test
+    public void wrongElements(){
+        try {
+            longs.add(Integer.valueOf(1));
+            fail();
+        }
+        catch (ClassCastException e) {}
+        try {
+            longs.addInt(1);
+            fail();
+        }
+        catch (ClassCastException e) {}
+        try {
+            longs.add(null);
+            fail();
+        }
+        catch (NullPointerException e) {}
+        assertTrue(longs.isEmpty());
+    }
+
+    /***
+     * <b>-Tests</b> the cursor of OffHeapListAdapter.<br>
+     * <b>-Description:</b> the values are summed with the cursor, then the list is modified during the iteration.<br>
+     * <b>-Pre-condition:</b> longs contains 0..99.<br>
+     * <b>-Post-condition:</b> longs contains 101 values.<br>
+     * <b>-Expected result:</b> the sum is 4950, then ConcurrentModificationException.<br>
+     */
+    @Test
+    public void cursor(){
+        for(long i = 0; i < 100; i++)
+            longs.addLong(i);
+        OffHeapListAdapter.PrimitiveCursor c = longs.cursor();
+        long sum = 0;
+        while(c.hasNext())
+            sum += c.nextLong();
+        assertEquals(4950,sum);
+        c = longs.cursor(50);
+        assertEquals(50,c.nextLong());
+        longs.addLong(100);
+        assertTrue(c.hasNext());
+        try {
+            c.nextLong();
+            fail();
+        }
+        catch (ConcurrentModificationException e) {}
+    }
+
+    /***
+     * <b>-Tests</b> the other primitive codecs and a custom codec.<br>
+     * <b>-Description:</b> an int list, a double list and a list of pairs are filled and read.<br>
+     * <b>-Pre-condition:</b> the lists are empty.<br>
+     * <b>-Post-condition:</b> the lists are closed.<br>
+     * <b>-Expected result:</b> the values read are the values written.<br>
+     */
+    @Test
+    public void otherCodecs(){
+        OffHeapListAdapter ints = new OffHeapListAdapter(PrimitiveRecordCodec.INT);
+        OffHeapListAdapter doubles = new OffHeapListAdapter(PrimitiveRecordCodec.DOUBLE);
+        OffHeapListAdapter pairs = new OffHeapListAdapter(PAIR);
+        for(int i = 0; i < 20; i++) {
+            ints.addInt(-i);
+            doubles.addDouble(i / 4.0);
+            pairs.add(new int[] { i, i * i });
+        }
+        ints.add(3,Integer.valueOf(7));
+        assertEquals(7,ints.getInt(3));
+        assertEquals(-3,ints.getInt(4));
+        assertEquals(2.5,doubles.getDouble(10),0);
+        assertEquals(1.0,doubles.cursor(4).nextDouble(),0);
+        pairs.remove(0);
+        assertArrayEquals(new int[] { 19, 361 },(int[]) pairs.get(18));
+        HIterator it = pairs.iterator();
+        assertArrayEquals(new int[] { 1, 1 },(int[]) it.next());
+        ints.close();
+        doubles.close();
+        pairs.close();
+    }
+
+    /***
+     * <b>-Tests</b> close() of OffHeapListAdapter.<br>
+     * <b>-Description:</b> the list is closed, then read and changed.<br>
+     * <b>-Pre-condition:</b> longs contains one value.<br>
+     * <b>-Post-condition:</b> longs is closed.<br>
+     * <b>-Expected result:</b> IllegalStateException, a second close() has no effect.<br>
+     */
+    @Test
+    public void closedList(){
+        longs.addLong(1);
+        longs.close();
+        assertTrue(longs.isClosed());
+        try {
+            longs.get(0);
+            fail();
+        }
+        catch (IllegalStateException e) {}
+        try {
+            longs.addLong(2);
+            fail();
+        }
+        catch (IllegalStateException e) {}
+        try {
+            longs.add(Long.valueOf(3));
+            fail();
+        }
+        catch (IllegalStateException e) {}
+        try {
+            longs.size();
+            fail();
+        }
+        catch (IllegalStateException e) {}
+        longs.close();
+    }
+}
@@ -0,0 +1,49 @@
+package myAdapter.Test;
+import myAdapter.HashtableAdaptee;
+import myAdapter.MapAdapter;
+import myAdapter.OpenHashAdaptee;
+
+/***
+ * This class compares a MapAdapter stored in a HashtableAdaptee with one stored in an OpenHashAdaptee. <br>
+ * The map is filled with the given number of Integer keys, then every key is looked up once. The program prints the time of the two phases
+ * and the heap used by the map, measured after a garbage collection; every measure is repeated, the first rounds warm up the JIT.<br>
+ * Usage: java myAdapter.Test.OpenHashMapBenchmark [entries]<br>
+ * @see OpenHashAdaptee OpenHashAdaptee. <br>
+ */
+public class OpenHashMapBenchmark {
+    public static void main(String[] args) {
+        int entries = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+
+        Integer[] keys = new Integer[entries];
+        for(int i = 0; i < entries; i++)
+            keys[i] = Integer.valueOf(i * 7919);
+        System.out.println("entries = " + entries);
+        for(int round = 0; round < 3; round++) {
+            run("MapAdapter(HashtableAdaptee)", new MapAdapter(new HashtableAdaptee()), keys);
+            run("MapAdapter(OpenHashAdaptee)", new MapAdapter(new OpenHashAdaptee()), keys);
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime r = Runtime.getRuntime();
+        for(int i = 0; i < 3; i++)
+            System.gc();
+        return r.totalMemory() - r.freeMemory();
+    }
+
+    private static void run(String name, MapAdapter map, Integer[] keys) {
+        long before = usedHeap();
+        long start = System.nanoTime();
+        for(int i = 0; i < keys.length; i++)
+            map.put(keys[i], keys[i]);
+        long put = System.nanoTime() - start;
+        start = System.nanoTime();
+        long check = 0;
+        for(int i = 0; i < keys.length; i++)
+            check += ((Integer) map.get(keys[i])).intValue();
+        long get = System.nanoTime() - start;
+        long bytes = usedHeap() - before;
+        System.out.println(name + ": put " + (put / 1000000) + " ms, get " + (get / 1000000) + " ms, "
+                + (bytes / keys.length) + " bytes per entry (" + check + ", " + map.size() + ")");
+    }
+}
@@ -0,0 +1,190 @@
+package myAdapter.Test;
+import myAdapter.HIterator;
+import myAdapter.HMap.HEntry;
+import myAdapter.HSet;
+import myAdapter.HashtableAdaptee;
+import myAdapter.MapAdapter;
+import myAdapter.OpenHashAdaptee;
+import org.junit.Test;
+import org.junit.Before;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/***
+ * Testing OpenHashAdaptee and a MapAdapter stored in it.<br>
+ * The hashtable is compared with a java.util.HashMap modified in the same way, and the map with a MapAdapter stored in a HashtableAdaptee.<br>
+ * Tests of this class are performed by the OpenHashMapTestRunner class.<br>
+ * @see OpenHashMapTestRunner OpenHashMapTestRunner. <br>
+ */
+public class OpenHashMapTest {
+
+    /***
+     * instance variable of MapAdapter - map, stored in an OpenHashAdaptee
+     */
+    private MapAdapter map;
+
+    /***
+     * <b>-Before : </b> Setup test, this is done before every test.<br>
+     * <b>-Description:</b> This method create an empty MapAdapter stored in an OpenHashAdaptee.<br>
+     * <b>-Pre-condition:</b> the instance variable has been created without being instantiated.<br>
+     * <b>-Post-condition:</b> the instance variable has been instantiated.<br>
+     * <b>-Expected result:</b> the instance variable has been instantiated.<br>
+     */
+    @Before
+    public void setup(){
+        map = new MapAdapter(new OpenHashAdaptee());
+    }
+
+    /***
+     * <b>-Tests</b> put(), get() and remove() of OpenHashAdaptee against a java.util.HashMap.<br>
+     * <b>-Description:</b> 50000 random operations on a small range of keys, so that the table is full of tombstones.<br>
+     * <b>-Pre-condition:</b> the hashtable is empty.<br>
+     * <b>-Post-condition:</b> the hashtable has the same entries of the HashMap.<br>
+     * <b>-Expected result:</b> every operation returns the same result of the HashMap.<br>
+     */
+    @Test
+    public void randomOperations(){
+        OpenHashAdaptee table = new OpenHashAdaptee(0);
+        HashMap expected = new HashMap();
+        Random r = new Random(7);
+        for(int n = 0; n < 50000; n++) {
+            Integer key = Integer.valueOf(r.nextInt(500) * 1024);
+            switch(r.nextInt(3)) {
+                case 0:
+                    Integer value = Integer.valueOf(n);
+                    assertEquals(expected.put(key, value), table.put(key, value));
+                    break;
+                case 1:
+                    assertEquals(expected.remove(key), table.remove(key));
+                    break;
+                default:
+                    assertEquals(expected.get(key), table.get(key));
+                    assertEquals(expected.containsKey(key), table.containsKey(key));
+            }
+            assertEquals(expected.size(), table.size());
+        }
+        int count = 0;
+        Enumeration e = table.keys();
+        while(e.hasMoreElements()) {
+            Object key = e.nextElement();
+            assertTrue(expected.containsKey(key));
+            count++;
+        }
+        assertEquals(expected.size(), count);
+    }
+
+    /***
+     * <b>-Tests</b> that a MapAdapter on an OpenHashAdaptee behaves like one on a HashtableAdaptee.<br>
+     * <b>-Description:</b> the same entries are put in both maps, and their views are compared.<br>
+     * <b>-Pre-condition:</b> map is empty.<br>
+     * <b>-Post-condition:</b> the maps have the same entries.<br>
+     * <b>-Expected result:</b> the maps and their views are equal and have the same hash codes.<br>
+     */
+    @Test
+    public void sameAsHashtable(){
+        MapAdapter other = new MapAdapter(new HashtableAdaptee());
+        for(int i = 0; i < 1000; i++) {
+            map.put("k" + i, Integer.valueOf(i));
+            other.put("k" + i, Integer.valueOf(i));
+        }
+        assertEquals(other.hashCode(), map.hashCode());
+        assertTrue(map.equals(other));
+        assertTrue(other.equals(map));
+        assertEquals(other.keySet(), map.keySet());
+        assertEquals(1000, map.values().size());
+        assertTrue(map.values().contains(Integer.valueOf(999)));
+        assertTrue(map.containsValue(Integer.valueOf(0)));
+        assertFalse(map.containsValue(Integer.valueOf(1000)));
+        HSet entries = map.entrySet();
+        HIterator it = entries.iterator();
+        int count = 0;
+        while(it.hasNext()) {
+            HEntry e = (HEntry) it.next();
+            assertEquals(other.get(e.getKey()), e.getValue());
+            count++;
+        }
+        assertEquals(1000, count);
+    }
+
+    /***
+     * <b>-Tests</b> the removal of entries while the views are iterated.<br>
+     * <b>-Description:</b> the keys with an even value are removed through the iterator of the key set, then the values through the one of values().<br>
+     * <b>-Pre-condition:</b> map is empty.<br>
+     * <b>-Post-condition:</b> map is empty.<br>
+     * <b>-Expected result:</b> every entry is visited once and the size follows the removals.<br>
+     */
+    @Test
+    public void removeWhileIterating(){
+        for(int i = 0; i < 2000; i++)
+            map.put(Integer.valueOf(i), Integer.valueOf(i));
+        HIterator it = map.keySet().iterator();
+        int visited = 0;
+        while(it.hasNext()) {
+            Integer key = (Integer) it.next();
+            visited++;
+            if(key.intValue() % 2 == 0)
+                it.remove();
+        }
+        assertEquals(2000, visited);
+        assertEquals(1000, map.size());
+        assertNull(map.get(Integer.valueOf(10)));
+        assertEquals(Integer.valueOf(11), map.get(Integer.valueOf(11)));
+        it = map.values().iterator();
+        while(it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+        assertTrue(map.isEmpty());
+        assertEquals(0, map.hashCode());
+        map.put("a", "b");
+        assertEquals("b", map.get("a"));
+    }
+
+    /***
+     * <b>-Tests</b> clear() and the reuse of the map after it.<br>
+     * <b>-Description:</b> the map is filled, cleared and filled again.<br>
+     * <b>-Pre-condition:</b> map is empty.<br>
+     * <b>-Post-condition:</b> map contains the second entries.<br>
+     * <b>-Expected result:</b> no entry of the first filling is left.<br>
+     */
+    @Test
+    public void clear(){
+        for(int i = 0; i < 100; i++)
+            map.put(Integer.valueOf(i), "first");
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(Integer.valueOf(5)));
+        for(int i = 0; i < 10; i++)
+            map.put(Integer.valueOf(i), "second");
+        assertEquals(10, map.size());
+        assertEquals("second", map.get(Integer.valueOf(5)));
+    }
+
+    /***
+     * <b>-Tests</b> the wrong functioning of put().<br>
+     * <b>-Description:</b> a null value is put.<br>
+     * <b>-Pre-condition:</b> map is empty.<br>
+     * <b>-Post-condition:</b> the exception is passed to the calling method, if this is not handled then the program ends.<br>
+     * <b>-Expected result:</b> NullPointerException thrown.<br>
+     */
+    @Test (expected = NullPointerException.class)
+    public void putNull(){
+        map.put("a", null);
+    }
+
+    /***
+     * <b>-Tests</b> the wrong functioning of the MapAdapter(HHashtable) constructor.<br>
+     * <b>-Description:</b> a hashtable that is not empty is passed.<br>
+     * <b>-Pre-condition:</b> a hashtable with one entry.<br>
+     * <b>-Post-condition:</b> the exception is passed to the calling method, if this is not handled then the program ends.<br>
+     * <b>-Expected result:</b> IllegalArgumentException thrown.<br>
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void notEmptyStorage(){
+        OpenHashAdaptee table = new OpenHashAdaptee();
+        table.put("a", "b");
+        new MapAdapter(table);
+    }
+}
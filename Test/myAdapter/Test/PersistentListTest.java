@@ -0,0 +1,154 @@
+package myAdapter.Test;
+import myAdapter.HList;
+import myAdapter.HListIterator;
+import myAdapter.ListAdapter;
+import myAdapter.PersistentListAdapter;
+import myAdapter.UnsupportedOperationException;
+import org.junit.Test;
+import org.junit.Before;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/***
+ * Testing PersistentListAdapter.<br>
+ * Every version of the list is compared with a ListAdapter that contains the same elements; the lists are large enough
+ * to have a tree of four levels, so the changes cross the boundaries of the leaves and of the levels.<br>
+ * Tests of this class are performed by the PersistentListTestRunner class.<br>
+ * @see PersistentListTestRunner PersistentListTestRunner. <br>
+ */
+public class PersistentListTest {
+
+    /***
+     * instance variable of ListAdapter - expected
+     */
+    private ListAdapter expected;
+
+    /***
+     * <b>-Before : </b> Setup test, this is done before every test.<br>
+     * <b>-Description:</b> This method create a ListAdapter with the elements 0..39999.<br>
+     * <b>-Pre-condition:</b> the instance variable has been created without being instantiated.<br>
+     * <b>-Post-condition:</b> the instance variable has been instantiated.<br>
+     * <b>-Expected result:</b> the list contains 40000 elements.<br>
+     */
+    @Before
+    public void setup(){
+        expected = new ListAdapter();
+        for(int i = 0; i < 40000; i++)
+            expected.add(Integer.valueOf(i));
+    }
+
+    /***
+     * <b>-Tests</b> plus, with and minus.<br>
+     * <b>-Description:</b> a list is built one version at a time, every version is kept and checked at the end.<br>
+     * <b>-Pre-condition:</b> expected contains 0..39999.<br>
+     * <b>-Post-condition:</b> the last version is empty.<br>
+     * <b>-Expected result:</b> the old versions are not changed by the new ones.<br>
+     */
+    @Test
+    public void versions(){
+        PersistentListAdapter p = PersistentListAdapter.EMPTY;
+        for(int i = 0; i < 40000; i++)
+            p = p.plus(Integer.valueOf(i));
+        assertEquals(expected, p);
+        assertEquals(p, expected);
+        assertEquals(expected.hashCode(), p.hashCode());
+        PersistentListAdapter full = p;
+        Random r = new Random(3);
+        for(int k = 0; k < 1000; k++) {
+            int index = r.nextInt(p.size());
+            p = p.with(index, Integer.valueOf(-index));
+            expected.set(index, Integer.valueOf(-index));
+        }
+        assertEquals(expected, p);
+        assertEquals(Integer.valueOf(39999), full.get(39999));
+        assertEquals(40000, full.indexOf(Integer.valueOf(39999)) + 1);
+        PersistentListAdapter shorter = p;
+        while(!shorter.isEmpty()) {
+            shorter = shorter.minus();
+            expected.remove(expected.size() - 1);
+            if(shorter.size() % 997 == 0)
+                assertEquals(expected, shorter);
+        }
+        assertSame(PersistentListAdapter.EMPTY, shorter);
+        assertEquals(40000, p.size());
+        assertEquals(40000, full.size());
+        try {
+            shorter.minus();
+            fail();
+        }
+        catch (NoSuchElementException e) {}
+    }
+
+    /***
+     * <b>-Tests</b> the builder.<br>
+     * <b>-Description:</b> a list is built with a builder, then a second builder changes a copy of it.<br>
+     * <b>-Pre-condition:</b> expected contains 0..39999.<br>
+     * <b>-Post-condition:</b> the two builders are ended.<br>
+     * <b>-Expected result:</b> the first list is not changed by the second builder, an ended builder throws IllegalStateException.<br>
+     */
+    @Test
+    public void builder(){
+        PersistentListAdapter.Builder b = new PersistentListAdapter.Builder();
+        for(int i = 0; i < 40000; i++)
+            b.add(Integer.valueOf(i));
+        assertEquals(40000, b.size());
+        PersistentListAdapter p = b.build();
+        assertEquals(expected, p);
+        try {
+            b.add(Integer.valueOf(1));
+            fail();
+        }
+        catch (IllegalStateException e) {}
+        PersistentListAdapter.Builder b2 = p.toBuilder();
+        b2.set(5, Integer.valueOf(-5)).set(39990, Integer.valueOf(-1)).add(Integer.valueOf(40000));
+        PersistentListAdapter q = b2.build();
+        assertEquals(expected, p);
+        assertEquals(Integer.valueOf(-5), q.get(5));
+        assertEquals(Integer.valueOf(-1), q.get(39990));
+        assertEquals(40001, q.size());
+        assertEquals(p, PersistentListAdapter.of(expected));
+        assertSame(p, PersistentListAdapter.of(p));
+    }
+
+    /***
+     * <b>-Tests</b> the read methods, the iterators and the sublists.<br>
+     * <b>-Description:</b> the list is read with every HList read method and compared with expected.<br>
+     * <b>-Pre-condition:</b> expected contains 0..39999.<br>
+     * <b>-Post-condition:</b> the lists are not changed.<br>
+     * <b>-Expected result:</b> the same results of expected, and the changes throw UnsupportedOperationException.<br>
+     */
+    @Test
+    public void readMethods(){
+        PersistentListAdapter p = PersistentListAdapter.of(expected);
+        assertArrayEquals(expected.toArray(), p.toArray());
+        HList sub = p.subList(1000, 3000);
+        HList expectedSub = expected.subList(1000, 3000);
+        assertEquals(expectedSub, sub);
+        assertEquals(expectedSub.hashCode(), sub.hashCode());
+        assertEquals(500, sub.indexOf(Integer.valueOf(1500)));
+        assertEquals(-1, sub.indexOf(Integer.valueOf(3000)));
+        assertTrue(p.containsAll(expectedSub));
+        assertArrayEquals(expectedSub.toArray(), sub.toArray());
+        assertEquals(expected.subList(1100, 1200), sub.subList(100, 200));
+        HListIterator it = p.listIterator(40000);
+        int n = 40000;
+        while(it.hasPrevious())
+            assertEquals(Integer.valueOf(--n), it.previous());
+        try {
+            p.add(Integer.valueOf(1));
+            fail();
+        }
+        catch (UnsupportedOperationException e) {}
+        try {
+            sub.clear();
+            fail();
+        }
+        catch (UnsupportedOperationException e) {}
+        try {
+            p.plus(null);
+            fail();
+        }
+        catch (NullPointerException e) {}
+    }
+}
@@ -0,0 +1,236 @@
+package myAdapter.Test;
+import myAdapter.DoubleListAdapter;
+import myAdapter.HListIterator;
+import myAdapter.IntListAdapter;
+import myAdapter.ListAdapter;
+import myAdapter.LongArrayAdaptee;
+import myAdapter.LongListAdapter;
+import org.junit.Test;
+import org.junit.Before;
+import java.util.ConcurrentModificationException;
+import static org.junit.Assert.*;
+
+/***
+ * Testing IntListAdapter, LongListAdapter and DoubleListAdapter.<br>
+ * The primitive lists are tested both with their own methods, that work without boxing, and with the HList methods,
+ * that must give the same results of a ListAdapter that contains the same elements.<br>
+ * Tests of this class are performed by the PrimitiveListTestRunner class.<br>
+ * @see PrimitiveListTestRunner PrimitiveListTestRunner. <br>
+ */
+public class PrimitiveListTest {
+
+    /***
+     * instance variable of IntListAdapter - ints
+     */
+    private IntListAdapter ints;
+    /***
+     * instance variable of LongListAdapter - longs
+     */
+    private LongListAdapter longs;
+    /***
+     * instance variable of DoubleListAdapter - doubles
+     */
+    private DoubleListAdapter doubles;
+
+    /***
+     * <b>-Before : </b> Setup test, this is done before every test.<br>
+     * <b>-Description:</b> This method create an empty instance of every primitive list.<br>
+     * <b>-Pre-condition:</b> the instance variable have been created without being instantiated.<br>
+     * <b>-Post-condition:</b> the instance variable have been instantiated.<br>
+     * <b>-Expected result:</b> the instance variable have been instantiated.<br>
+     */
+    @Before
+    public void setup(){
+        ints = new IntListAdapter();
+        longs = new LongListAdapter(4);
+        doubles = new DoubleListAdapter();
+    }
+
+    /***
+     * <b>-Tests</b> the proper functioning of the primitive methods of IntListAdapter.<br>
+     * <b>-Description:</b> values are added, read, replaced, searched and removed with the int methods.<br>
+     * <b>-Pre-condition:</b> ints is empty.<br>
+     * <b>-Post-condition:</b> ints contains the expected values.<br>
+     * <b>-Expected result:</b> every method returns the expected value.<br>
+     */
+    @Test
+    public void intMethods(){
+        for(int i = 0; i < 100; i++)
+            assertTrue(ints.addInt(i * 3));
+        assertEquals(100,ints.size());
+        assertEquals(297,ints.getInt(99));
+        assertEquals(10,ints.indexOfInt(30));
+        assertEquals(-1,ints.indexOfInt(31));
+        assertTrue(ints.containsInt(0));
+        ints.addInt(0,30);
+        assertEquals(0,ints.indexOfInt(30));
+        assertEquals(11,ints.lastIndexOfInt(30));
+        assertEquals(30,ints.setInt(0,-1));
+        assertEquals(-1,ints.removeIntAt(0));
+        assertEquals(100,ints.toIntArray().length);
+    }
+
+    /***
+     * <b>-Tests</b> the HList methods of IntListAdapter.<br>
+     * <b>-Description:</b> ints and a ListAdapter are filled with the same Integer objects and compared.<br>
+     * <b>-Pre-condition:</b> ints is empty.<br>
+     * <b>-Post-condition:</b> the two lists contain the same elements.<br>
+     * <b>-Expected result:</b> the two lists are equal, have the same hashCode and the sublists work on ints.<br>
+     */
+    @Test
+    public void intAsHList(){
+        ListAdapter list = new ListAdapter();
+        for(int i = 0; i < 10; i++) {
+            ints.add(i);
+            list.add(i);
+        }
+        assertTrue(ints.equals(list));
+        assertTrue(list.equals(ints));
+        assertEquals(list.hashCode(),ints.hashCode());
+        assertEquals(5,ints.get(5));
+        assertEquals(5,ints.indexOf(5));
+        assertFalse(ints.contains("5"));
+        ints.subList(2,5).clear();
+        assertEquals(7,ints.size());
+        assertEquals(5,ints.getInt(2));
+        assertTrue(ints.addAll(0,list));
+        assertEquals(17,ints.size());
+        assertEquals(9,ints.getInt(9));
+    }
+
+    /***
+     * <b>-Tests</b> the wrong functioning of add() method of IntListAdapter.<br>
+     * <b>-Description:</b> a String is added to ints.<br>
+     * <b>-Pre-condition:</b> ints is empty.<br>
+     * <b>-Post-condition:</b> the exception is passed to the calling method , if this is not handled then the program ends.<br>
+     * <b>-Expected result:</b> ClassCastException thrown.<br>
+     */
+    @Test (expected = ClassCastException.class)
+    public void intAddWrongType(){
+        ints.add("a");
+    }
+
+    /***
+     * <b>-Tests</b> the wrong functioning of getInt() method.<br>
+     * <b>-Description:</b> the first value of an empty list is read.<br>
+     * <b>-Pre-condition:</b> ints is empty.<br>
+     * <b>-Post-condition:</b> the exception is passed to the calling method , if this is not handled then the program ends.<br>
+     * <b>-Expected result:</b> IndexOutOfBoundsException thrown.<br>
+     */
+    @Test (expected = IndexOutOfBoundsException.class)
+    public void intGetFromWrongIndex(){
+        ints.getInt(0);
+    }
+
+    /***
+     * <b>-Tests</b> the proper functioning of IntCursor.<br>
+     * <b>-Description:</b> the values are read forward and backward, and doubled with setInt().<br>
+     * <b>-Pre-condition:</b> ints contains 0, 1, 2, 3, 4.<br>
+     * <b>-Post-condition:</b> ints contains 0, 2, 4, 6, 8.<br>
+     * <b>-Expected result:</b> the cursor returns the values in the right order.<br>
+     */
+    @Test
+    public void intCursor(){
+        for(int i = 0; i < 5; i++)
+            ints.addInt(i);
+        IntListAdapter.IntCursor c = ints.intCursor();
+        int expected = 0;
+        while(c.hasNext()) {
+            int value = c.nextInt();
+            assertEquals(expected++,value);
+            c.setInt(value * 2);
+        }
+        assertEquals(5,c.nextIndex());
+        assertEquals(8,c.previousInt());
+        assertEquals(3,c.previousIndex());
+        assertEquals(2,ints.intCursor(1).nextInt());
+    }
+
+    /***
+     * <b>-Tests</b> the fail-fast behavior of IntCursor.<br>
+     * <b>-Description:</b> a value is added to ints after the creation of the cursor.<br>
+     * <b>-Pre-condition:</b> ints contains one value.<br>
+     * <b>-Post-condition:</b> the exception is passed to the calling method , if this is not handled then the program ends.<br>
+     * <b>-Expected result:</b> ConcurrentModificationException thrown.<br>
+     */
+    @Test (expected = ConcurrentModificationException.class)
+    public void intCursorConcurrentModification(){
+        ints.addInt(1);
+        IntListAdapter.IntCursor c = ints.intCursor();
+        ints.addInt(2);
+        c.nextInt();
+    }
+
+    /***
+     * <b>-Tests</b> the proper functioning of LongListAdapter.<br>
+     * <b>-Description:</b> big long values are added and read with the long methods and with a HListIterator.<br>
+     * <b>-Pre-condition:</b> longs is empty.<br>
+     * <b>-Post-condition:</b> longs contains the values.<br>
+     * <b>-Expected result:</b> the values are not truncated.<br>
+     */
+    @Test
+    public void longMethods(){
+        long big = 1L << 40;
+        for(int i = 0; i < 10; i++)
+            longs.addLong(big + i);
+        assertEquals(big + 9,longs.getLong(9));
+        assertEquals(3,longs.indexOfLong(big + 3));
+        assertEquals(big + 3,longs.removeLongAt(3));
+        assertEquals(-1,longs.indexOfLong(big + 3));
+        HListIterator it = longs.listIterator();
+        assertEquals(Long.valueOf(big),it.next());
+        it.set(Long.valueOf(7L));
+        assertEquals(7L,longs.getLong(0));
+        LongListAdapter.LongCursor c = longs.longCursor(8);
+        assertEquals(big + 9,c.nextLong());
+        assertFalse(c.hasNext());
+    }
+
+    /***
+     * <b>-Tests</b> the proper functioning of DoubleListAdapter.<br>
+     * <b>-Description:</b> double values, including NaN, are added, searched and removed.<br>
+     * <b>-Pre-condition:</b> doubles is empty.<br>
+     * <b>-Post-condition:</b> doubles contains the remaining values.<br>
+     * <b>-Expected result:</b> the values are compared like Double.equals().<br>
+     */
+    @Test
+    public void doubleMethods(){
+        doubles.addDouble(0.5);
+        doubles.addDouble(Double.NaN);
+        doubles.addDouble(-0.0);
+        assertEquals(1,doubles.indexOfDouble(Double.NaN));
+        assertEquals(-1,doubles.indexOfDouble(0.0));
+        assertEquals(2,doubles.lastIndexOfDouble(-0.0));
+        assertTrue(doubles.contains(Double.valueOf(0.5)));
+        assertTrue(doubles.remove(Double.valueOf(0.5)));
+        assertEquals(2,doubles.size());
+        assertTrue(Double.isNaN(doubles.getDouble(0)));
+        assertEquals(2,doubles.toDoubleArray().length);
+    }
+
+    /***
+     * <b>-Tests</b> the methods shared by the primitive vectors.<br>
+     * <b>-Description:</b> values are inserted in bulk, removed by range and the size is set again; then a bulk insertion with a wrong element is tried.<br>
+     * <b>-Pre-condition:</b> the vector is empty.<br>
+     * <b>-Post-condition:</b> the vector contains the values left by the operations.<br>
+     * <b>-Expected result:</b> the components beyond the old size are set to 0, the wrong insertion leaves the vector unchanged.<br>
+     */
+    @Test
+    public void sharedVectorMethods(){
+        LongArrayAdaptee v = new LongArrayAdaptee(2);
+        v.insertElementsAt(new Object[] { Long.valueOf(1), Long.valueOf(2), Long.valueOf(3), Long.valueOf(4) }, 0);
+        v.removeRange(1, 3);
+        assertEquals("[1, 4]",v.toString());
+        v.setSize(4);
+        assertEquals("[1, 4, 0, 0]",v.toString());
+        try {
+            v.insertElementsAt(new Object[] { Long.valueOf(5), Integer.valueOf(6) }, 1);
+            fail();
+        }
+        catch (ClassCastException e) {}
+        assertEquals(4,v.size());
+        v.trimToSize();
+        assertEquals(4,v.capacity());
+        assertEquals(Long.valueOf(4),v.elementAt(1));
+    }
+}
@@ -0,0 +1,187 @@
+package myAdapter.Test;
+import myAdapter.DequeListAdapter;
+import myAdapter.ListAdapter;
+import myAdapter.VectorAdaptee;
+import org.junit.Test;
+import org.junit.Before;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/***
+ * Testing sort(), parallelSort() and binarySearch() of ListAdapter and of its sublists.<br>
+ * The lists are filled with random numbers and compared with an array sorted by java.util.Arrays.<br>
+ * Tests of this class are performed by the SortListTestRunner class.<br>
+ * @see SortListTestRunner SortListTestRunner. <br>
+ */
+public class SortListTest {
+
+    /***
+     * instance variable of ListAdapter - list
+     */
+    private ListAdapter list;
+
+    /***
+     * <b>-Before : </b> Setup test, this is done before every test.<br>
+     * <b>-Description:</b> This method create an empty ListAdapter.<br>
+     * <b>-Pre-condition:</b> the instance variable has been created without being instantiated.<br>
+     * <b>-Post-condition:</b> the instance variable has been instantiated.<br>
+     * <b>-Expected result:</b> the instance variable has been instantiated.<br>
+     */
+    @Before
+    public void setup(){
+        list = new ListAdapter();
+    }
+
+    private static Integer[] fill(ListAdapter l, int n, long seed) {
+        Random r = new Random(seed);
+        Integer[] a = new Integer[n];
+        for(int i = 0; i < n; i++) {
+            a[i] = Integer.valueOf(r.nextInt(n));
+            l.add(a[i]);
+        }
+        return a;
+    }
+
+    private static void assertSame(Object[] expected, ListAdapter l) {
+        assertEquals(expected.length, l.size());
+        for(int i = 0; i < expected.length; i++)
+            assertEquals(expected[i], l.get(i));
+    }
+
+    /***
+     * <b>-Tests</b> sort() with the natural ordering.<br>
+     * <b>-Description:</b> 1000 random numbers are sorted with a null comparator.<br>
+     * <b>-Pre-condition:</b> list is empty.<br>
+     * <b>-Post-condition:</b> list is sorted.<br>
+     * <b>-Expected result:</b> list has the elements of the sorted array.<br>
+     */
+    @Test
+    public void sortNatural(){
+        Integer[] a = fill(list, 1000, 1);
+        Arrays.sort(a);
+        list.sort(null);
+        assertSame(a, list);
+    }
+
+    /***
+     * <b>-Tests</b> that sort() is stable.<br>
+     * <b>-Description:</b> strings are sorted by their length only.<br>
+     * <b>-Pre-condition:</b> list is empty.<br>
+     * <b>-Post-condition:</b> list is sorted by length.<br>
+     * <b>-Expected result:</b> the strings of the same length keep their order.<br>
+     */
+    @Test
+    public void sortStable(){
+        String[] a = new String[200];
+        for(int i = 0; i < a.length; i++) {
+            a[i] = "x" + i;
+            list.add(a[i]);
+        }
+        Collections.reverse(Arrays.asList(a));
+        list.sort(Collections.reverseOrder());
+        Comparator byLength = new Comparator() {
+            public int compare(Object o1, Object o2) {
+                return ((String) o1).length() - ((String) o2).length();
+            }
+        };
+        Arrays.sort(a, byLength);
+        list.sort(byLength);
+        assertSame(a, list);
+    }
+
+    /***
+     * <b>-Tests</b> parallelSort() on a list longer than the parallel threshold.<br>
+     * <b>-Description:</b> 100000 random numbers are sorted in reverse order by the fork/join merge sort.<br>
+     * <b>-Pre-condition:</b> list is empty.<br>
+     * <b>-Post-condition:</b> list is sorted.<br>
+     * <b>-Expected result:</b> list has the elements of the sorted array.<br>
+     */
+    @Test
+    public void parallelSort(){
+        Integer[] a = fill(list, 100000, 2);
+        Arrays.sort(a, Collections.reverseOrder());
+        list.parallelSort(Collections.reverseOrder());
+        assertSame(a, list);
+    }
+
+    /***
+     * <b>-Tests</b> sort() and parallelSort() on storages that are not an ArrayAdaptee.<br>
+     * <b>-Description:</b> a list on a VectorAdaptee and a DequeListAdapter are sorted.<br>
+     * <b>-Pre-condition:</b> the lists are empty.<br>
+     * <b>-Post-condition:</b> the lists are sorted.<br>
+     * <b>-Expected result:</b> the lists have the elements of the sorted arrays.<br>
+     */
+    @Test
+    public void sortOtherStorage(){
+        ListAdapter vector = new ListAdapter(new VectorAdaptee());
+        Integer[] a = fill(vector, 20000, 3);
+        Arrays.sort(a);
+        vector.parallelSort(null);
+        assertSame(a, vector);
+
+        DequeListAdapter deque = new DequeListAdapter(16);
+        for(int i = 0; i < 10; i++)
+            deque.addFirst(Integer.valueOf(i));
+        deque.sort(null);
+        for(int i = 0; i < 10; i++)
+            assertEquals(Integer.valueOf(i), deque.get(i));
+    }
+
+    /***
+     * <b>-Tests</b> sort() on a sublist.<br>
+     * <b>-Description:</b> a range in the middle of the list is sorted through a sublist and through a sublist of a sublist.<br>
+     * <b>-Pre-condition:</b> list is empty.<br>
+     * <b>-Post-condition:</b> only the range is sorted.<br>
+     * <b>-Expected result:</b> the elements outside the range have not moved.<br>
+     */
+    @Test
+    public void sortSublist(){
+        Integer[] a = fill(list, 500, 4);
+        Arrays.sort(a, 100, 400);
+        ((ListAdapter) list.subList(100, 400)).sort(null);
+        assertSame(a, list);
+
+        Arrays.sort(a, 150, 160, Collections.reverseOrder());
+        ListAdapter outer = (ListAdapter) list.subList(50, 450);
+        ((ListAdapter) outer.subList(100, 110)).parallelSort(Collections.reverseOrder());
+        assertSame(a, list);
+        assertEquals(400, outer.size());
+    }
+
+    /***
+     * <b>-Tests</b> binarySearch() on a sorted list and on a sorted sublist.<br>
+     * <b>-Description:</b> every even number up to 200 is in the list, all the numbers are searched.<br>
+     * <b>-Pre-condition:</b> list is empty.<br>
+     * <b>-Post-condition:</b> list is unchanged.<br>
+     * <b>-Expected result:</b> the results are the same of java.util.Arrays.binarySearch.<br>
+     */
+    @Test
+    public void binarySearch(){
+        Integer[] a = new Integer[100];
+        for(int i = 0; i < a.length; i++) {
+            a[i] = Integer.valueOf(2 * i);
+            list.add(a[i]);
+        }
+        for(int i = -1; i <= 201; i++) {
+            Integer key = Integer.valueOf(i);
+            assertEquals(Arrays.binarySearch(a, key), list.binarySearch(key, null));
+            int r = Arrays.binarySearch(a, 10, 30, key);
+            assertEquals(r >= 0 ? r - 10 : r + 10, ((ListAdapter) list.subList(10, 30)).binarySearch(key, null));
+        }
+    }
+
+    /***
+     * <b>-Tests</b> the wrong functioning of binarySearch().<br>
+     * <b>-Description:</b> a null element is searched.<br>
+     * <b>-Pre-condition:</b> list is empty.<br>
+     * <b>-Post-condition:</b> the exception is passed to the calling method, if this is not handled then the program ends.<br>
+     * <b>-Expected result:</b> NullPointerException thrown.<br>
+     */
+    @Test (expected = NullPointerException.class)
+    public void binarySearchNull(){
+        list.binarySearch(null, null);
+    }
+}
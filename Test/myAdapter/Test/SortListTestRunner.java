@@ -0,0 +1,19 @@
+package myAdapter.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.notification.Failure;
+
+/***
+ * This class performs SortListTest class tests. <br>
+ * @see SortListTest SortListTest. <br>
+ */
+public class SortListTestRunner {
+    public static void main(String[] args) {
+        Result result = JUnitCore.runClasses(SortListTest.class);
+
+        for(Failure fail : result.getFailures())
+            System.out.println(fail.toString());
+
+        System.out.println(result.wasSuccessful());
+    }
+}
@@ -0,0 +1,74 @@
+package myAdapter.Test;
+import myAdapter.HList;
+import myAdapter.ListAdapter;
+import myAdapter.StampedListAdapter;
+import myAdapter.VectorAdaptee;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/***
+ * This class compares a StampedListAdapter with a ListAdapter backed by a VectorAdaptee, used by many threads at the same time. <br>
+ * For every ratio of readers to writers, every thread repeats for a fixed time either a read, get(int) or indexOf(Object),
+ * or a write, an add(Object) followed by a remove(int) at the end of the list. The program prints the total number of
+ * operations per second; every measure is repeated, the first round warms up the JIT.<br>
+ * The ListAdapter on a VectorAdaptee is not atomic across a size() and a get(int), and its contains(Object) uses an iterator
+ * that is not thread-safe, so the readers use indexOf(Object) and only indexes that are always valid.<br>
+ * Usage: java myAdapter.Test.StampedListBenchmark [threads] [milliseconds]<br>
+ * @see StampedListAdapter StampedListAdapter. <br>
+ */
+public class StampedListBenchmark {
+    private static final int SIZE = 1000;
+    private static final int[] WRITE_PERCENT = { 0, 1, 10, 50 };
+
+    public static void main(String[] args) throws InterruptedException {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        int millis = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+
+        System.out.println("threads = " + threads + ", milliseconds = " + millis);
+        for(int round = 0; round < 2; round++) {
+            for(int w = 0; w < WRITE_PERCENT.length; w++) {
+                run("ListAdapter(VectorAdaptee)", new ListAdapter(new VectorAdaptee()), threads, millis, WRITE_PERCENT[w]);
+                run("StampedListAdapter", new StampedListAdapter(), threads, millis, WRITE_PERCENT[w]);
+            }
+        }
+    }
+
+    private static void run(String name, final HList list, int threads, final int millis, final int writePercent)
+            throws InterruptedException {
+        for(int i = 0; i < SIZE; i++)
+            list.add(Integer.valueOf(i));
+        final AtomicBoolean stop = new AtomicBoolean();
+        final AtomicLong operations = new AtomicLong();
+        Thread[] workers = new Thread[threads];
+        for(int t = 0; t < threads; t++) {
+            final int seed = t;
+            workers[t] = new Thread() {
+                public void run() {
+                    Random r = new Random(seed);
+                    Integer extra = Integer.valueOf(-1);
+                    long n = 0;
+                    while(!stop.get()) {
+                        if(r.nextInt(100) < writePercent) {
+                            list.add(extra);
+                            list.remove(SIZE);
+                        }
+                        else if((n & 15) == 0)
+                            list.indexOf(Integer.valueOf(r.nextInt(SIZE)));
+                        else
+                            list.get(r.nextInt(SIZE));
+                        n++;
+                    }
+                    operations.addAndGet(n);
+                }
+            };
+        }
+        for(int t = 0; t < threads; t++)
+            workers[t].start();
+        Thread.sleep(millis);
+        stop.set(true);
+        for(int t = 0; t < threads; t++)
+            workers[t].join();
+        System.out.println(name + ", " + writePercent + "% writes: " + (operations.get() * 1000 / millis) + " operations per second");
+    }
+}
@@ -0,0 +1,273 @@
+package myAdapter.Test;
+import myAdapter.HIterator;
+import myAdapter.HList;
+import myAdapter.HListBatch;
+import myAdapter.HListIterator;
+import myAdapter.ListAdapter;
+import myAdapter.StampedListAdapter;
+import myAdapter.UnsupportedOperationException;
+import org.junit.Test;
+import org.junit.Before;
+import java.util.concurrent.atomic.AtomicBoolean;
+import static org.junit.Assert.*;
+
+/***
+ * Testing StampedListAdapter.<br>
+ * The list is compared with a ListAdapter modified in the same way, the batches and the iterators are tested,
+ * and the list is read and written by many threads at the same time.<br>
+ * Tests of this class are performed by the StampedListTestRunner class.<br>
+ * @see StampedListTestRunner StampedListTestRunner. <br>
+ */
+public class StampedListTest {
+
+    /***
+     * instance variable of StampedListAdapter - list
+     */
+    private StampedListAdapter list;
+    /***
+     * instance variable of ListAdapter - expected
+     */
+    private ListAdapter expected;
+
+    /***
+     * <b>-Before : </b> Setup test, this is done before every test.<br>
+     * <b>-Description:</b> This method create the two lists with the elements 0..19.<br>
+     * <b>-Pre-condition:</b> the instance variables have been created without being instantiated.<br>
+     * <b>-Post-condition:</b> the instance variables have been instantiated.<br>
+     * <b>-Expected result:</b> the two lists are equal.<br>
+     */
+    @Before
+    public void setup(){
+        list = new StampedListAdapter();
+        expected = new ListAdapter();
+        for(int i = 0; i < 20; i++) {
+            list.add(Integer.valueOf(i));
+            expected.add(Integer.valueOf(i));
+        }
+        assertEquals(expected, list);
+        assertEquals(list, expected);
+    }
+
+    /***
+     * <b>-Tests</b> the HList methods against a ListAdapter.<br>
+     * <b>-Description:</b> the same changes are made on the two lists.<br>
+     * <b>-Pre-condition:</b> the lists contain 0..19.<br>
+     * <b>-Post-condition:</b> the lists contain the same elements.<br>
+     * <b>-Expected result:</b> the returned values and the lists are equal.<br>
+     */
+    @Test
+    public void sameAsListAdapter(){
+        assertEquals(5, list.indexOf(Integer.valueOf(5)));
+        assertTrue(list.contains(Integer.valueOf(19)));
+        assertEquals(-1, list.lastIndexOf(Integer.valueOf(20)));
+        list.add(4, Integer.valueOf(40));
+        expected.add(4, Integer.valueOf(40));
+        assertEquals(expected.remove(10), list.remove(10));
+        assertEquals(expected.set(0, Integer.valueOf(-1)), list.set(0, Integer.valueOf(-1)));
+        list.addAll(list);
+        expected.addAll(expected.subList(0, expected.size()));
+        assertEquals(expected, list);
+        assertEquals(expected.hashCode(), list.hashCode());
+        HList sub = list.subList(2, 8);
+        HList expectedSub = expected.subList(2, 8);
+        assertEquals(expectedSub, sub);
+        ListAdapter some = new ListAdapter();
+        some.addAll(expected.subList(0, 5));
+        assertEquals(expectedSub.removeAll(some), sub.removeAll(some));
+        assertEquals(expected, list);
+        some.clear();
+        some.addAll(expected.subList(10, 30));
+        assertEquals(expected.retainAll(some), list.retainAll(some));
+        assertEquals(expected, list);
+        assertArrayEquals(expected.toArray(), list.toArray());
+        try {
+            list.get(list.size());
+            fail();
+        }
+        catch (IndexOutOfBoundsException e) {}
+        try {
+            list.addAll(-1, expected);
+            fail();
+        }
+        catch (IndexOutOfBoundsException e) {}
+    }
+
+    /***
+     * <b>-Tests</b> readBatch and writeBatch.<br>
+     * <b>-Description:</b> a batch replaces every element with its double, another batch sums the elements.<br>
+     * <b>-Pre-condition:</b> the list contains 0..19.<br>
+     * <b>-Post-condition:</b> the list contains the doubles of 0..19.<br>
+     * <b>-Expected result:</b> the sum is 380.<br>
+     */
+    @Test
+    public void batches(){
+        list.writeBatch(new HListBatch() {
+            public void run(HList l) {
+                for(int i = 0; i < l.size(); i++)
+                    l.set(i, Integer.valueOf(2 * ((Integer) l.get(i)).intValue()));
+            }
+        });
+        final int[] sum = new int[1];
+        list.readBatch(new HListBatch() {
+            public void run(HList l) {
+                HIterator it = l.iterator();
+                while(it.hasNext())
+                    sum[0] += ((Integer) it.next()).intValue();
+            }
+        });
+        assertEquals(380, sum[0]);
+    }
+
+    /***
+     * <b>-Tests</b> that the list of readBatch is read-only.<br>
+     * <b>-Description:</b> a read batch reads the list and its sublist, then tries to change them.<br>
+     * <b>-Pre-condition:</b> the list contains 0..19.<br>
+     * <b>-Post-condition:</b> the list is unchanged.<br>
+     * <b>-Expected result:</b> the reads work, every change throws UnsupportedOperationException.<br>
+     */
+    @Test
+    public void readOnlyBatch(){
+        final int expectedHash = list.hashCode();
+        list.readBatch(new HListBatch() {
+            public void run(HList l) {
+                assertEquals(expectedHash, l.hashCode());
+                HList sub = l.subList(5, 10);
+                assertEquals(Integer.valueOf(5), sub.get(0));
+                assertEquals(expected.subList(5, 10).hashCode(), sub.hashCode());
+                try {
+                    l.add(Integer.valueOf(1));
+                    fail();
+                }
+                catch (UnsupportedOperationException e) {}
+                try {
+                    sub.clear();
+                    fail();
+                }
+                catch (UnsupportedOperationException e) {}
+                HIterator it = l.iterator();
+                it.next();
+                try {
+                    it.remove();
+                    fail();
+                }
+                catch (UnsupportedOperationException e) {}
+            }
+        });
+        assertEquals(expected, list);
+    }
+
+    /***
+     * <b>-Tests</b> the iterator of the list.<br>
+     * <b>-Description:</b> elements are removed, replaced and added through the iterator, and the list is changed during the iteration.<br>
+     * <b>-Pre-condition:</b> the list contains 0..19.<br>
+     * <b>-Post-condition:</b> the list contains the odd elements and the additions.<br>
+     * <b>-Expected result:</b> the iterator sees the changes and does not throw ConcurrentModificationException.<br>
+     */
+    @Test
+    public void weakIterator(){
+        HListIterator it = list.listIterator();
+        while(it.hasNext()) {
+            int n = ((Integer) it.next()).intValue();
+            if(n % 2 == 0)
+                it.remove();
+        }
+        assertEquals(10, list.size());
+        it = list.listIterator(1);
+        it.next();
+        it.set(Integer.valueOf(-3));
+        it.add(Integer.valueOf(4));
+        list.add(Integer.valueOf(100));
+        int count = 0;
+        while(it.hasNext()) {
+            it.next();
+            count++;
+        }
+        assertEquals(9, count);
+        assertEquals(Integer.valueOf(-3), list.get(1));
+        assertEquals(Integer.valueOf(4), list.get(2));
+    }
+
+    /***
+     * <b>-Tests</b> the bulk operations of a sublist whose argument is the list itself or one of its sublists.<br>
+     * <b>-Description:</b> the list is added to a sublist, then containsAll, equals, removeAll and retainAll are called with the list and a sublist.<br>
+     * <b>-Pre-condition:</b> the list contains 0..19.<br>
+     * <b>-Post-condition:</b> the list is equal to a ListAdapter changed in the same way.<br>
+     * <b>-Expected result:</b> no operation waits for the lock that the sublist already holds.<br>
+     */
+    @Test (timeout = 5000)
+    public void sublistOfItself(){
+        HList sub = list.subList(0, 2);
+        HList expectedSub = expected.subList(0, 2);
+        assertTrue(sub.addAll(list));
+        assertTrue(expectedSub.addAll(expected.subList(0, expected.size())));
+        assertEquals(expected, list);
+        assertEquals(22, sub.size());
+        assertTrue(sub.containsAll(list.subList(5, 10)));
+        assertTrue(list.containsAll(sub));
+        assertTrue(sub.equals(list.subList(0, 22)));
+        assertTrue(list.subList(0, 22).equals(sub));
+        assertFalse(list.equals(sub));
+        assertTrue(sub.addAll(1, sub));
+        assertTrue(expectedSub.addAll(1, expected.subList(0, 22)));
+        assertEquals(expected, list);
+        assertTrue(sub.removeAll(list.subList(0, 3)));
+        assertTrue(expectedSub.removeAll(expected.subList(0, 3)));
+        assertEquals(expected, list);
+        assertTrue(list.subList(0, 10).retainAll(list.subList(30, 40)));
+        assertTrue(expected.subList(0, 10).retainAll(expected.subList(30, 40)));
+        assertEquals(expected, list);
+    }
+
+    /***
+     * <b>-Tests</b> the list read and written by many threads.<br>
+     * <b>-Description:</b> 6 readers use get, size and contains while 2 writers add and remove elements at the end.<br>
+     * <b>-Pre-condition:</b> the list contains 0..19.<br>
+     * <b>-Post-condition:</b> the list contains 0..19.<br>
+     * <b>-Expected result:</b> no thread sees an exception or a null element.<br>
+     */
+    @Test
+    public void concurrentAccess() throws InterruptedException {
+        final AtomicBoolean failed = new AtomicBoolean();
+        final AtomicBoolean stop = new AtomicBoolean();
+        Thread[] readers = new Thread[6];
+        for(int t = 0; t < readers.length; t++) {
+            readers[t] = new Thread() {
+                public void run() {
+                    try {
+                        while(!stop.get()) {
+                            for(int i = 0; i < 20; i++)
+                                if(((Integer) list.get(i)).intValue() != i)
+                                    failed.set(true);
+                            if(!list.contains(Integer.valueOf(19)) || list.size() < 20)
+                                failed.set(true);
+                        }
+                    }
+                    catch (RuntimeException e) {
+                        failed.set(true);
+                    }
+                }
+            };
+            readers[t].start();
+        }
+        Thread[] writers = new Thread[2];
+        for(int t = 0; t < writers.length; t++) {
+            writers[t] = new Thread() {
+                public void run() {
+                    for(int i = 0; i < 5000; i++) {
+                        final Integer e = Integer.valueOf(-1 - i);
+                        list.add(e);
+                        list.remove(e);
+                    }
+                }
+            };
+            writers[t].start();
+        }
+        for(int t = 0; t < writers.length; t++)
+            writers[t].join();
+        stop.set(true);
+        for(int t = 0; t < readers.length; t++)
+            readers[t].join();
+        assertFalse(failed.get());
+        assertEquals(expected, list);
+    }
+}
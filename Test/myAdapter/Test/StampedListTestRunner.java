@@ -0,0 +1,19 @@
+package myAdapter.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.notification.Failure;
+
+/***
+ * This class performs StampedListTest class tests. <br>
+ * @see StampedListTest StampedListTest. <br>
+ */
+public class StampedListTestRunner {
+    public static void main(String[] args) {
+        Result result = JUnitCore.runClasses(StampedListTest.class);
+
+        for(Failure fail : result.getFailures())
+            System.out.println(fail.toString());
+
+        System.out.println(result.wasSuccessful());
+    }
+}
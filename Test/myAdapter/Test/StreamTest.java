@@ -0,0 +1,199 @@
+package myAdapter.Test;
+import myAdapter.BiMapAdapter;
+import myAdapter.HList;
+import myAdapter.HMap.HEntry;
+import myAdapter.ListAdapter;
+import myAdapter.MapAdapter;
+import myAdapter.OpenHashAdaptee;
+import myAdapter.VectorAdaptee;
+import org.junit.Test;
+import org.junit.Before;
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import static org.junit.Assert.*;
+
+/***
+ * Testing spliterator(), stream() and parallelStream() of ListAdapter, of its sublists and of the views of MapAdapter.<br>
+ * Tests of this class are performed by the StreamTestRunner class.<br>
+ * @see StreamTestRunner StreamTestRunner. <br>
+ */
+public class StreamTest {
+
+    /***
+     * instance variable of ListAdapter - list
+     */
+    private ListAdapter list;
+
+    /***
+     * instance variable of MapAdapter - map
+     */
+    private MapAdapter map;
+
+    /***
+     * <b>-Before : </b> Setup test, this is done before every test.<br>
+     * <b>-Description:</b> This method fills a ListAdapter with the numbers from 0 to 9999 and a MapAdapter with 100 entries.<br>
+     * <b>-Pre-condition:</b> the instance variables have been created without being instantiated.<br>
+     * <b>-Post-condition:</b> the instance variables have been instantiated.<br>
+     * <b>-Expected result:</b> the instance variables have been instantiated.<br>
+     */
+    @Before
+    public void setup(){
+        list = new ListAdapter();
+        for(int i = 0; i < 10000; i++)
+            list.add(Integer.valueOf(i));
+        map = new MapAdapter();
+        for(int i = 0; i < 100; i++)
+            map.put(Integer.valueOf(i), Integer.valueOf(i * 2));
+    }
+
+    private static long sum(Stream s) {
+        return ((Long) s.collect(Collectors.summingLong(o -> ((Integer) o).longValue()))).longValue();
+    }
+
+    /***
+     * <b>-Tests</b> stream() and parallelStream() of a list.<br>
+     * <b>-Description:</b> the elements of the list are summed by a sequential and by a parallel stream.<br>
+     * <b>-Pre-condition:</b> list contains the numbers from 0 to 9999.<br>
+     * <b>-Post-condition:</b> list is unchanged.<br>
+     * <b>-Expected result:</b> both sums are 49995000.<br>
+     */
+    @Test
+    public void listStream(){
+        assertEquals(49995000L, sum(list.stream()));
+        assertEquals(49995000L, sum(list.parallelStream()));
+        assertEquals(10000L, list.parallelStream().count());
+    }
+
+    /***
+     * <b>-Tests</b> the characteristics and the splitting of the spliterator of a list.<br>
+     * <b>-Description:</b> the spliterator is split and the sizes of the two halves are checked.<br>
+     * <b>-Pre-condition:</b> list contains the numbers from 0 to 9999.<br>
+     * <b>-Post-condition:</b> list is unchanged.<br>
+     * <b>-Expected result:</b> the spliterator is SIZED, SUBSIZED and ORDERED, and each half has 5000 elements.<br>
+     */
+    @Test
+    public void listSpliterator(){
+        Spliterator s = list.spliterator();
+        assertTrue(s.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(s.hasCharacteristics(Spliterator.SUBSIZED));
+        assertTrue(s.hasCharacteristics(Spliterator.ORDERED));
+        Spliterator first = s.trySplit();
+        assertEquals(5000L, first.estimateSize());
+        assertEquals(5000L, s.estimateSize());
+        final Object[] head = new Object[1];
+        assertTrue(first.tryAdvance(new Consumer() {
+            public void accept(Object o) {
+                head[0] = o;
+            }
+        }));
+        assertEquals(Integer.valueOf(0), head[0]);
+        assertTrue(s.tryAdvance(new Consumer() {
+            public void accept(Object o) {
+                head[0] = o;
+            }
+        }));
+        assertEquals(Integer.valueOf(5000), head[0]);
+    }
+
+    /***
+     * <b>-Tests</b> the streams of a sublist and of a list that is not stored in an ArrayAdaptee.<br>
+     * <b>-Description:</b> a range of the list is summed; the same is done on a list stored in a VectorAdaptee.<br>
+     * <b>-Pre-condition:</b> list contains the numbers from 0 to 9999.<br>
+     * <b>-Post-condition:</b> list is unchanged.<br>
+     * <b>-Expected result:</b> only the elements of the range are summed.<br>
+     */
+    @Test
+    public void sublistStream(){
+        HList sub = list.subList(10, 20);
+        assertEquals(145L, sum(sub.stream()));
+        assertEquals(145L, sum(sub.parallelStream()));
+        ListAdapter vector = new ListAdapter(new VectorAdaptee());
+        for(int i = 0; i < 100; i++)
+            vector.add(Integer.valueOf(i));
+        assertEquals(4950L, sum(vector.parallelStream()));
+        assertEquals(45L, sum(vector.subList(0, 10).stream()));
+    }
+
+    /***
+     * <b>-Tests</b> the fail-fast behavior of the spliterator.<br>
+     * <b>-Description:</b> the list is modified by the action of forEachRemaining().<br>
+     * <b>-Pre-condition:</b> list contains the numbers from 0 to 9999.<br>
+     * <b>-Post-condition:</b> the exception is passed to the calling method, if this is not handled then the program ends.<br>
+     * <b>-Expected result:</b> ConcurrentModificationException thrown.<br>
+     */
+    @Test (expected = ConcurrentModificationException.class)
+    public void modifiedDuringTraversal(){
+        list.spliterator().forEachRemaining(new Consumer() {
+            public void accept(Object o) {
+                if(((Integer) o).intValue() == 5)
+                    list.add(Integer.valueOf(-1));
+            }
+        });
+    }
+
+    /***
+     * <b>-Tests</b> the streams of the views of a map.<br>
+     * <b>-Description:</b> the keys, the values and the entries of the map are summed by sequential and parallel streams.<br>
+     * <b>-Pre-condition:</b> map contains the entries (i, 2i) for i from 0 to 99.<br>
+     * <b>-Post-condition:</b> map is unchanged.<br>
+     * <b>-Expected result:</b> the sums of the keys are 4950, the sums of the values are 9900.<br>
+     */
+    @Test
+    public void mapStreams(){
+        assertEquals(4950L, sum(map.keySet().stream()));
+        assertEquals(4950L, sum(map.keySet().parallelStream()));
+        assertEquals(9900L, sum(map.values().parallelStream()));
+        assertEquals(9900L, sum(map.entrySet().parallelStream().map(o -> ((HEntry) o).getValue())));
+        Spliterator s = map.keySet().spliterator();
+        assertTrue(s.hasCharacteristics(Spliterator.DISTINCT));
+        assertEquals(100L, s.estimateSize());
+    }
+
+    /***
+     * <b>-Tests</b> the spliterators of the views of the maps stored in an OpenHashAdaptee and in a BiHashEngine.<br>
+     * <b>-Description:</b> the views are split by ranges of slots of the table, and summed by parallel streams.<br>
+     * <b>-Pre-condition:</b> open and bi contain the entries (i, 2i) for i from 0 to 99.<br>
+     * <b>-Post-condition:</b> open and bi are unchanged.<br>
+     * <b>-Expected result:</b> the spliterators split and report the size before splitting; the sums of the keys are 4950,
+     * the sums of the values are 9900; a put during the traversal of the BiMapAdapter throws ConcurrentModificationException.<br>
+     */
+    @Test
+    public void hashSpliterators(){
+        MapAdapter open = new MapAdapter(new OpenHashAdaptee());
+        BiMapAdapter bi = new BiMapAdapter();
+        for(int i = 0; i < 100; i++) {
+            open.put(Integer.valueOf(i), Integer.valueOf(i * 2));
+            bi.put(Integer.valueOf(i), Integer.valueOf(i * 2));
+        }
+        MapAdapter[] maps = {open, bi};
+        for(MapAdapter m : maps) {
+            Spliterator s = m.keySet().spliterator();
+            assertTrue(s.hasCharacteristics(Spliterator.SIZED));
+            assertEquals(100L, s.estimateSize());
+            Spliterator prefix = s.trySplit();
+            assertNotNull(prefix);
+            assertFalse(s.hasCharacteristics(Spliterator.SIZED));
+            long[] count = new long[1];
+            Consumer counter = o -> count[0]++;
+            prefix.forEachRemaining(counter);
+            s.forEachRemaining(counter);
+            assertEquals(100L, count[0]);
+            assertEquals(4950L, sum(m.keySet().parallelStream()));
+            assertEquals(9900L, sum(m.values().parallelStream()));
+            assertEquals(9900L, sum(m.entrySet().parallelStream().map(o -> ((HEntry) o).getValue())));
+        }
+        assertEquals(9900L, sum(bi.inverse().keySet().parallelStream()));
+        Spliterator s = bi.keySet().spliterator();
+        assertTrue(s.tryAdvance(o -> { }));
+        bi.put(Integer.valueOf(100), Integer.valueOf(200));
+        try {
+            s.forEachRemaining(o -> { });
+            fail("ConcurrentModificationException expected");
+        }
+        catch(ConcurrentModificationException e) {
+        }
+    }
+}
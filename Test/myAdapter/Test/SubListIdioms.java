@@ -1,9 +1,11 @@
 package myAdapter.Test;
 import myAdapter.HIterator;
+import myAdapter.HList;
 import myAdapter.ListAdapter;
 import myAdapter.MapAdapter;
 import org.junit.Test;
 import org.junit.Before;
+import java.util.ConcurrentModificationException;
 import static org.junit.Assert.*;
 
 /***
@@ -138,18 +140,23 @@ public class SubListIdioms {
     }
 
     /**
-     * <b>- Tests</b> the proper functioning of () method.<br>
-     * <b>- Description:</b> sublist(). addAll() is used and Hcollection that is another supertype.<br>
+     * <b>- Tests</b> the proper functioning of addAll() method with a HCollection that is not a ListAdapter.<br>
+     * <b>- Description:</b> sublist(). addAll() is used with the values of a MapAdapter.<br>
      * <b>- Pre-condition:</b> a ListAdapter object list properly initialized,sublist it is executed on a non empty list.<br>
-     * <b>Post-condition : </b> the exception is passed to the calling method, if this is not handled then the program ends. <br>
-     * <b>- Expected result:</b> ClassCastException thrown.<br>
+     * <b>- Post-condition:</b> the values have been inserted at the end of the sublist.<br>
+     * <b>- Expected result:</b> the list contains the values before the elements that follow the sublist.<br>
      */
-    @Test (expected = ClassCastException.class)
-    public void addAllClassCastException() {
+    @Test
+    public void addAllFromMapValues() {
         list1.add("a");
         list1.add("b");
         list1.add("c");
-        list1.subList(1,3).addAll(new MapAdapter().values());
+        MapAdapter m = new MapAdapter();
+        m.put(1,"z");
+        assertTrue(list1.subList(1,2).addAll(m.values()));
+        assertEquals(4,list1.size());
+        assertEquals("z",list1.get(2));
+        assertEquals("c",list1.get(3));
     }
 
     /**
@@ -182,7 +189,9 @@ public class SubListIdioms {
         list1.add("a");
         list1.add("b");
         list1.add("c");
-        list1.subList(1,4).clear();
+        HList sub = list1.subList(1,4);
+        sub.clear();
+        assertTrue(sub.isEmpty());
 
         assertTrue(list1.size() == 3);
         assertTrue(list2.size() == 0);
@@ -259,19 +268,25 @@ public class SubListIdioms {
     }
 
     /**
-     * <b>- Tests</b> the wrong functioning of contains() method.<br>
-     * <b>- Description:</b> sublist(). containsAll() is used and Hcollection that is another supertype.<br>
+     * <b>- Tests</b> the proper functioning of containsAll() method with a HCollection that is not a ListAdapter.<br>
+     * <b>- Description:</b> sublist(). containsAll() is used with the values of a MapAdapter.<br>
      * <b>- Pre-condition:</b> a ListAdapter object list properly initialized,sublist it is executed on a non empty list.<br>
-     * <b>Post-condition : </b> the exception is passed to the calling method, if this is not handled then the program ends. <br>
-     * <b>Expected result : </b> ClassCastException thrown. <br>
+     * <b>- Post-condition:</b> the list has not been modified.<br>
+     * <b>- Expected result:</b> only the values inside the sublist are recognized.<br>
      */
-    @Test (expected = ClassCastException.class)
-    public void containsAllSubClassCastException(){
+    @Test
+    public void containsAllFromMapValues(){
         list1.add("a");
         list1.add("b");
         list1.add("c");
         list1.add("d");
-        list1.subList(1,4).containsAll(new MapAdapter().values());
+        MapAdapter m = new MapAdapter();
+        assertTrue(list1.subList(1,4).containsAll(m.values()));
+        m.put(1,"b");
+        m.put(2,"d");
+        assertTrue(list1.subList(1,4).containsAll(m.values()));
+        m.put(3,"a");
+        assertFalse(list1.subList(1,4).containsAll(m.values()));
     }
 
     /**
@@ -532,7 +547,9 @@ public class SubListIdioms {
         list1.add("b");
         list1.add("a");
         list1.add("b");
-        assertEquals( 0, list1.subList(1,4).lastIndexOf("b"));
+        assertEquals( 2, list1.subList(1,4).lastIndexOf("b"));
+        assertEquals( -1, list1.subList(0,2).lastIndexOf("c"));
+        assertEquals( -1, list1.subList(1,3).indexOf("c"));
     }
 
     /***
@@ -741,4 +758,102 @@ public class SubListIdioms {
         list1.subList(1,4).toArray(null);
     }
 
+    /**
+     * <b>- Tests</b> the fail-fast behavior of the sublist.<br>
+     * <b>- Description:</b> a sublist is created, then the list is modified directly and the sublist is used.<br>
+     * <b>- Pre-condition:</b> a ListAdapter object list properly initialized,sublist it is executed on a non empty list.<br>
+     * <b>Post-condition : </b> the exception is passed to the calling method, if this is not handled then the program ends. <br>
+     * <b>- Expected result:</b> ConcurrentModificationException thrown.<br>
+     */
+    @Test (expected = ConcurrentModificationException.class)
+    public void modifiedParent() {
+        list1.add("a");
+        list1.add("b");
+        list1.add("c");
+        HList sub = list1.subList(0,2);
+        sub.add("x");
+        assertEquals(4,list1.size());
+        assertEquals("x",list1.get(2));
+        list1.add("d");
+        sub.size();
+    }
+
+    /**
+     * <b>- Tests</b> the indexes returned by the sublist at the bounds of its range.<br>
+     * <b>- Description:</b> indexOf(), lastIndexOf() and contains() are called for elements that are at the ends of the sublist and just outside it.<br>
+     * <b>- Pre-condition:</b> a ListAdapter object list properly initialized,sublist it is executed on a non empty list.<br>
+     * <b>- Post-condition:</b> the list is unchanged.<br>
+     * <b>- Expected result:</b> only the elements inside the range are found.<br>
+     */
+    @Test
+    public void indexOfBounds() {
+        list1.add("a");
+        list1.add("b");
+        list1.add("c");
+        list1.add("d");
+        HList sub = list1.subList(1,3);
+        assertEquals(1, sub.indexOf("c"));
+        assertEquals(1, sub.lastIndexOf("c"));
+        assertEquals(0, sub.lastIndexOf("b"));
+        assertEquals(-1, sub.indexOf("a"));
+        assertEquals(-1, sub.lastIndexOf("d"));
+        assertFalse(sub.contains("d"));
+        assertTrue(sub.contains("c"));
+    }
+
+    /**
+     * <b>- Tests</b> a sublist of a sublist.<br>
+     * <b>- Description:</b> a sublist is taken from a sublist, it is read and modified, then the enclosing sublist and the list are checked.<br>
+     * <b>- Pre-condition:</b> a ListAdapter object list properly initialized,sublist it is executed on a non empty list.<br>
+     * <b>- Post-condition:</b> the changes made through the inner sublist are seen by the outer sublist and by the list.<br>
+     * <b>- Expected result:</b> the sizes and the elements of the three views agree.<br>
+     */
+    @Test
+    public void nestedSublist() {
+        for(int i = 0; i < 10; i++)
+            list1.add(Integer.valueOf(i));
+        HList outer = list1.subList(2, 8);
+        HList inner = outer.subList(1, 4);
+        assertEquals(3, inner.size());
+        assertEquals(Integer.valueOf(3), inner.get(0));
+        assertEquals(2, inner.indexOf(Integer.valueOf(5)));
+        assertEquals(-1, inner.indexOf(Integer.valueOf(6)));
+        inner.add(Integer.valueOf(42));
+        assertEquals(4, inner.size());
+        assertEquals(7, outer.size());
+        assertEquals(11, list1.size());
+        assertEquals(Integer.valueOf(42), outer.get(4));
+        assertEquals(Integer.valueOf(6), outer.get(5));
+        inner.clear();
+        assertEquals(0, inner.size());
+        assertEquals(3, outer.size());
+        assertEquals(7, list1.size());
+        ListAdapter expected = new ListAdapter();
+        expected.add(Integer.valueOf(2));
+        expected.add(Integer.valueOf(6));
+        expected.add(Integer.valueOf(7));
+        assertEquals(expected, outer);
+        assertEquals(expected.hashCode(), outer.hashCode());
+    }
+
+    /**
+     * <b>- Tests</b> the fail-fast behavior of a sublist of a sublist.<br>
+     * <b>- Description:</b> two sublists are taken from the same sublist, one of them is modified and the other one is used.<br>
+     * <b>- Pre-condition:</b> a ListAdapter object list properly initialized,sublist it is executed on a non empty list.<br>
+     * <b>Post-condition : </b> the exception is passed to the calling method, if this is not handled then the program ends. <br>
+     * <b>- Expected result:</b> ConcurrentModificationException thrown.<br>
+     */
+    @Test (expected = ConcurrentModificationException.class)
+    public void modifiedSibling() {
+        list1.add("a");
+        list1.add("b");
+        list1.add("c");
+        HList outer = list1.subList(0,3);
+        HList first = outer.subList(0,1);
+        HList second = outer.subList(1,3);
+        first.add("x");
+        assertEquals(4, outer.size());
+        second.size();
+    }
+
 }
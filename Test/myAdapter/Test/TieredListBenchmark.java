@@ -0,0 +1,53 @@
+package myAdapter.Test;
+import myAdapter.ArrayAdaptee;
+import myAdapter.HVector;
+import myAdapter.ListAdapter;
+import myAdapter.TieredAdaptee;
+import myAdapter.VectorAdaptee;
+import java.util.Random;
+
+/***
+ * This class compares a ListAdapter backed by a TieredAdaptee with the ListAdapters backed by a VectorAdaptee and by an ArrayAdaptee. <br>
+ * For every storage the program inserts and removes elements at random positions of a list of the given size,
+ * then reads the list with get(int), and prints the time of every phase. Every phase is repeated, the first rounds warm up the JIT.<br>
+ * Usage: java myAdapter.Test.TieredListBenchmark [size] [operations]<br>
+ * @see TieredAdaptee TieredAdaptee. <br>
+ */
+public class TieredListBenchmark {
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 200000;
+        int operations = args.length > 1 ? Integer.parseInt(args[1]) : 20000;
+
+        System.out.println("size = " + size + ", operations = " + operations);
+        for(int round = 0; round < 3; round++) {
+            run("VectorAdaptee", new VectorAdaptee(), size, operations);
+            run("ArrayAdaptee", new ArrayAdaptee(), size, operations);
+            run("TieredAdaptee", new TieredAdaptee(), size, operations);
+        }
+    }
+
+    private static void run(String name, HVector storage, int size, int operations) {
+        ListAdapter list = new ListAdapter(storage);
+        Integer element = Integer.valueOf(1);
+        for(int i = 0; i < size; i++)
+            list.add(element);
+
+        Random r = new Random(7);
+        long start = System.nanoTime();
+        for(int i = 0; i < operations; i++) {
+            list.add(r.nextInt(list.size() + 1), element);
+            list.remove(r.nextInt(list.size()));
+        }
+        long update = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        long check = 0;
+        for(int k = 0; k < 10; k++)
+            for(int i = 0; i < list.size(); i++)
+                check += ((Integer) list.get(i)).intValue();
+        long read = System.nanoTime() - start;
+
+        System.out.println(name + ": " + (update / operations) + " ns per insert+remove, "
+                + (read / (10L * list.size())) + " ns per get (" + check + ")");
+    }
+}
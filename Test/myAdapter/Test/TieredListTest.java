@@ -0,0 +1,135 @@
+package myAdapter.Test;
+import myAdapter.HListIterator;
+import myAdapter.ListAdapter;
+import myAdapter.TieredAdaptee;
+import org.junit.Test;
+import org.junit.Before;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/***
+ * Testing ListAdapter with the TieredAdaptee storage.<br>
+ * Every test makes the same operations on a ListAdapter backed by a TieredAdaptee and on a ListAdapter with the default storage:
+ * the two lists must always be equal. The lists grow to many chunks, so that the chunk size is doubled during the tests.<br>
+ * Tests of this class are performed by the TieredListTestRunner class.<br>
+ * @see TieredListTestRunner TieredListTestRunner. <br>
+ */
+public class TieredListTest {
+
+    /***
+     * instance variable of ListAdapter - tiered
+     */
+    private ListAdapter tiered;
+    /***
+     * instance variable of ListAdapter - expected
+     */
+    private ListAdapter expected;
+
+    /***
+     * <b>-Before : </b> Setup test, this is done before every test.<br>
+     * <b>-Description:</b> This method create an empty tiered list and an empty list with the default storage.<br>
+     * <b>-Pre-condition:</b> the instance variables have been created without being instantiated.<br>
+     * <b>-Post-condition:</b> the instance variables have been instantiated.<br>
+     * <b>-Expected result:</b> the instance variables have been instantiated.<br>
+     */
+    @Before
+    public void setup(){
+        tiered = new ListAdapter(new TieredAdaptee());
+        expected = new ListAdapter();
+    }
+
+    /***
+     * <b>-Tests</b> insertions and removals at random positions.<br>
+     * <b>-Description:</b> 20000 random add(int, Object), remove(int) and set(int, Object) are made on the two lists.<br>
+     * <b>-Pre-condition:</b> the lists are empty.<br>
+     * <b>-Post-condition:</b> the lists contain the same elements.<br>
+     * <b>-Expected result:</b> the removed elements and the lists are equal.<br>
+     */
+    @Test
+    public void randomPositions(){
+        Random r = new Random(42);
+        for(int i = 0; i < 20000; i++) {
+            int op = r.nextInt(10);
+            if(op < 6 || expected.isEmpty()) {
+                int index = r.nextInt(expected.size() + 1);
+                tiered.add(index, Integer.valueOf(i));
+                expected.add(index, Integer.valueOf(i));
+            }
+            else if(op < 9) {
+                int index = r.nextInt(expected.size());
+                assertEquals(expected.remove(index), tiered.remove(index));
+            }
+            else {
+                int index = r.nextInt(expected.size());
+                assertEquals(expected.set(index, Integer.valueOf(-i)), tiered.set(index, Integer.valueOf(-i)));
+            }
+        }
+        assertEquals(expected.size(), tiered.size());
+        assertEquals(expected, tiered);
+        assertArrayEquals(expected.toArray(), tiered.toArray());
+        for(int i = 0; i < expected.size(); i += 97)
+            assertEquals(expected.get(i), tiered.get(i));
+    }
+
+    /***
+     * <b>-Tests</b> the bulk operations and the list iterator on a tiered list.<br>
+     * <b>-Description:</b> elements are appended, inserted with addAll and with the list iterator, and removed with sublists.<br>
+     * <b>-Pre-condition:</b> the lists are empty.<br>
+     * <b>-Post-condition:</b> the lists contain the same elements.<br>
+     * <b>-Expected result:</b> the lists are equal after every operation.<br>
+     */
+    @Test
+    public void bulkAndIterator(){
+        for(int i = 0; i < 3000; i++) {
+            tiered.add(Integer.valueOf(i));
+            expected.add(Integer.valueOf(i));
+        }
+        tiered.addAll(1500, expected.subList(0, 700));
+        expected.addAll(1500, expected.subList(0, 700));
+        assertEquals(expected, tiered);
+        tiered.subList(100, 2100).clear();
+        expected.subList(100, 2100).clear();
+        assertEquals(expected, tiered);
+        HListIterator it = tiered.listIterator(10);
+        HListIterator ex = expected.listIterator(10);
+        for(int i = 0; i < 500; i++) {
+            it.next();
+            ex.next();
+            it.add(Integer.valueOf(-i));
+            ex.add(Integer.valueOf(-i));
+        }
+        assertEquals(expected, tiered);
+        tiered.removeAll(expected.subList(0, 300));
+        expected.removeAll(expected.subList(0, 300));
+        assertEquals(expected, tiered);
+        tiered.clear();
+        assertTrue(tiered.isEmpty());
+        tiered.add(Integer.valueOf(1));
+        assertEquals(Integer.valueOf(1), tiered.get(0));
+    }
+
+    /***
+     * <b>-Tests</b> the storage with a large initial capacity.<br>
+     * <b>-Description:</b> a TieredAdaptee is created with room for 100000 components and filled from the head.<br>
+     * <b>-Pre-condition:</b> the storage is empty.<br>
+     * <b>-Post-condition:</b> the storage contains the elements in reverse order.<br>
+     * <b>-Expected result:</b> the capacity is not changed and the elements are in reverse order.<br>
+     */
+    @Test
+    public void initialCapacity(){
+        TieredAdaptee storage = new TieredAdaptee(100000);
+        int capacity = storage.capacity();
+        assertTrue(capacity >= 100000);
+        ListAdapter l = new ListAdapter(storage);
+        for(int i = 0; i < 100000; i++)
+            l.add(0, Integer.valueOf(i));
+        assertEquals(capacity, storage.capacity());
+        assertEquals(Integer.valueOf(99999), l.get(0));
+        assertEquals(Integer.valueOf(0), l.get(99999));
+        try {
+            new TieredAdaptee(-1);
+            fail();
+        }
+        catch (IllegalArgumentException e) {}
+    }
+}
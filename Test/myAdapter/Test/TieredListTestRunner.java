@@ -0,0 +1,19 @@
+package myAdapter.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.junit.runner.notification.Failure;
+
+/***
+ * This class performs TieredListTest class tests. <br>
+ * @see TieredListTest TieredListTest. <br>
+ */
+public class TieredListTestRunner {
+    public static void main(String[] args) {
+        Result result = JUnitCore.runClasses(TieredListTest.class);
+
+        for(Failure fail : result.getFailures())
+            System.out.println(fail.toString());
+
+        System.out.println(result.wasSuccessful());
+    }
+}
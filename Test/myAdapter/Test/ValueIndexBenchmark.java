@@ -0,0 +1,43 @@
+package myAdapter.Test;
+import myAdapter.MapAdapter;
+
+/***
+ * This class compares containsValue() and values().remove() of a MapAdapter without index with the ones of a MapAdapter whose values are
+ * indexed by setValueIndexed(true). Every measure is repeated, the first rounds warm up the JIT.<br>
+ * Usage: java myAdapter.Test.ValueIndexBenchmark [entries] [lookups]<br>
+ * @see MapAdapter#setValueIndexed(boolean) MapAdapter.setValueIndexed. <br>
+ */
+public class ValueIndexBenchmark {
+    public static void main(String[] args) {
+        int entries = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+        int lookups = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+
+        System.out.println("entries = " + entries + ", lookups = " + lookups);
+        for(int round = 0; round < 3; round++) {
+            run("plain", false, entries, lookups);
+            run("indexed", true, entries, lookups);
+        }
+    }
+
+    private static void run(String name, boolean indexed, int entries, int lookups) {
+        MapAdapter map = new MapAdapter();
+        map.setValueIndexed(indexed);
+        long start = System.nanoTime();
+        for(int i = 0; i < entries; i++)
+            map.put(Integer.valueOf(i), "v" + i);
+        long put = System.nanoTime() - start;
+        start = System.nanoTime();
+        int found = 0;
+        for(int i = 0; i < lookups; i++) {
+            if(map.containsValue("v" + (i * 97 % (2 * entries))))
+                found++;
+        }
+        long contains = System.nanoTime() - start;
+        start = System.nanoTime();
+        for(int i = 0; i < lookups; i++)
+            map.values().remove("v" + i);
+        long remove = System.nanoTime() - start;
+        System.out.println(name + ": put " + (put / 1000000) + " ms, containsValue " + (contains / 1000000) + " ms, values().remove "
+                + (remove / 1000000) + " ms (" + found + ", " + map.size() + ")");
+    }
+}
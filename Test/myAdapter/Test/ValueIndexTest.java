@@ -0,0 +1,203 @@
+package myAdapter.Test;
+import myAdapter.HCollection;
+import myAdapter.HIterator;
+import myAdapter.HMap.HEntry;
+import myAdapter.HMapCursor;
+import myAdapter.HashtableAdaptee;
+import myAdapter.MapAdapter;
+import myAdapter.OpenHashAdaptee;
+import org.junit.Test;
+import org.junit.Before;
+import java.util.Random;
+import java.util.function.BiFunction;
+import static org.junit.Assert.*;
+
+/***
+ * Testing a MapAdapter whose values are indexed by setValueIndexed(true), stored in a HashtableAdaptee and in an OpenHashAdaptee.<br>
+ * Every indexed map is compared with a MapAdapter without index, modified in the same way.<br>
+ * Tests of this class are performed by the ValueIndexTestRunner class.<br>
+ * @see ValueIndexTestRunner ValueIndexTestRunner. <br>
+ */
+public class ValueIndexTest {
+
+    /***
+     * instance variables of MapAdapter - an indexed map of each hashtable, and a map without index
+     */
+    private MapAdapter[] maps;
+    private MapAdapter plain;
+
+    /***
+     * <b>-Before : </b> Setup test, this is done before every test.<br>
+     * <b>-Description:</b> This method maps the keys from 0 to 99 to their value modulo 10, in every map, and indexes the values of the first two.<br>
+     * <b>-Pre-condition:</b> the instance variables have been created without being instantiated.<br>
+     * <b>-Post-condition:</b> the instance variables have been instantiated.<br>
+     * <b>-Expected result:</b> the instance variables have been instantiated.<br>
+     */
+    @Before
+    public void setup(){
+        maps = new MapAdapter[] { new MapAdapter(new HashtableAdaptee()), new MapAdapter(new OpenHashAdaptee()) };
+        plain = new MapAdapter();
+        for(int i = 0; i < 100; i++) {
+            plain.put(Integer.valueOf(i), Integer.valueOf(i % 10));
+            maps[0].put(Integer.valueOf(i), Integer.valueOf(i % 10));
+        }
+        maps[0].setValueIndexed(true);
+        maps[1].setValueIndexed(true);
+        for(int i = 0; i < 100; i++)
+            maps[1].put(Integer.valueOf(i), Integer.valueOf(i % 10));
+    }
+
+    /***
+     * Checks that every value from -5 to 20 is contained by map as it is by plain.
+     */
+    private void checkValues(MapAdapter map) {
+        assertEquals(plain, map);
+        for(int v = -5; v <= 20; v++) {
+            Integer value = Integer.valueOf(v);
+            assertEquals(plain.containsValue(value), map.containsValue(value));
+            assertEquals(plain.values().contains(value), map.values().contains(value));
+        }
+    }
+
+    /***
+     * <b>-Tests</b> the index against random updates.<br>
+     * <b>-Description:</b> put(), remove(), merge(), replace(), values().remove() and setValue() of a cursor are called at random.<br>
+     * <b>-Pre-condition:</b> the maps contain the keys from 0 to 99.<br>
+     * <b>-Post-condition:</b> the maps have the same entries.<br>
+     * <b>-Expected result:</b> containsValue() of the indexed maps agrees with the map without index.<br>
+     */
+    @Test
+    public void randomUpdates(){
+        BiFunction SUM = new BiFunction() {
+            public Object apply(Object a, Object b) {
+                return Integer.valueOf(((Integer) a).intValue() + ((Integer) b).intValue());
+            }
+        };
+        for(int m = 0; m < maps.length; m++) {
+            setup();
+            Random r = new Random(m);
+            for(int n = 0; n < 3000; n++) {
+                Integer key = Integer.valueOf(r.nextInt(150));
+                Integer value = Integer.valueOf(r.nextInt(20));
+                switch(r.nextInt(6)) {
+                    case 0:
+                        assertEquals(plain.put(key, value), maps[m].put(key, value));
+                        break;
+                    case 1:
+                        assertEquals(plain.remove(key), maps[m].remove(key));
+                        break;
+                    case 2:
+                        assertEquals(plain.merge(key, value, SUM), maps[m].merge(key, value, SUM));
+                        break;
+                    case 3:
+                        assertEquals(plain.replace(key, value), maps[m].replace(key, value));
+                        break;
+                    case 4:
+                        assertEquals(plain.values().remove(value), maps[m].values().remove(value));
+                        break;
+                    default:
+                        HMapCursor c = maps[m].cursor();
+                        while(c.advance()) {
+                            if(c.key().equals(key)) {
+                                c.setValue(value);
+                                plain.put(key, value);
+                            }
+                        }
+                }
+            }
+            checkValues(maps[m]);
+        }
+    }
+
+    /***
+     * <b>-Tests</b> values().remove() of an indexed map.<br>
+     * <b>-Description:</b> the value 3, held by ten keys, is removed.<br>
+     * <b>-Pre-condition:</b> the maps contain the keys from 0 to 99.<br>
+     * <b>-Post-condition:</b> the maps contain 90 keys.<br>
+     * <b>-Expected result:</b> every key of the value has been removed.<br>
+     */
+    @Test
+    public void removeValue(){
+        for(int m = 0; m < maps.length; m++) {
+            assertTrue(maps[m].values().remove(Integer.valueOf(3)));
+            assertFalse(maps[m].values().remove(Integer.valueOf(3)));
+            assertEquals(90, maps[m].size());
+            assertNull(maps[m].get(Integer.valueOf(13)));
+            assertFalse(maps[m].containsValue(Integer.valueOf(3)));
+        }
+    }
+
+    /***
+     * <b>-Tests</b> values().removeAll() and values().retainAll() of indexed maps and of maps without index.<br>
+     * <b>-Description:</b> the values 1 and 2 are removed, then the values 4 and 5 are retained.<br>
+     * <b>-Pre-condition:</b> the maps contain the keys from 0 to 99.<br>
+     * <b>-Post-condition:</b> the maps contain the keys whose last digit is 4 or 5.<br>
+     * <b>-Expected result:</b> the indexed maps are equal to the map without index.<br>
+     */
+    @Test
+    public void bulkOperations(){
+        MapAdapter some = new MapAdapter();
+        some.put("a", Integer.valueOf(1));
+        some.put("b", Integer.valueOf(2));
+        MapAdapter keep = new MapAdapter(new OpenHashAdaptee());
+        keep.setValueIndexed(true);
+        keep.put("c", Integer.valueOf(4));
+        keep.put("d", Integer.valueOf(5));
+        keep.put("e", Integer.valueOf(50));
+        assertTrue(plain.values().removeAll(some.values()));
+        assertTrue(plain.values().retainAll(keep.values()));
+        assertEquals(20, plain.size());
+        for(int m = 0; m < maps.length; m++) {
+            HCollection values = maps[m].values();
+            assertTrue(values.removeAll(some.values()));
+            assertFalse(values.removeAll(some.values()));
+            assertTrue(values.retainAll(keep.values()));
+            assertFalse(values.retainAll(keep.values()));
+            checkValues(maps[m]);
+        }
+    }
+
+    /***
+     * <b>-Tests</b> that the index follows clear(), keySet().retainAll() and setValue() of an Entry.<br>
+     * <b>-Description:</b> the keys from 0 to 9 are retained, their values are set to 100 through the entries, then the map is cleared.<br>
+     * <b>-Pre-condition:</b> the maps contain the keys from 0 to 99.<br>
+     * <b>-Post-condition:</b> the maps are empty and still indexed.<br>
+     * <b>-Expected result:</b> containsValue() agrees with the content of the map at each step.<br>
+     */
+    @Test
+    public void followsViews(){
+        MapAdapter first = new MapAdapter();
+        for(int i = 0; i < 10; i++)
+            first.put(Integer.valueOf(i), "x");
+        for(int m = 0; m < maps.length; m++) {
+            maps[m].keySet().retainAll(first.keySet());
+            assertTrue(maps[m].isValueIndexed());
+            assertEquals(10, maps[m].size());
+            assertTrue(maps[m].containsValue(Integer.valueOf(9)));
+            HIterator it = maps[m].entrySet().iterator();
+            while(it.hasNext())
+                ((HEntry) it.next()).setValue(Integer.valueOf(100));
+            assertFalse(maps[m].containsValue(Integer.valueOf(9)));
+            assertTrue(maps[m].containsValue(Integer.valueOf(100)));
+            maps[m].clear();
+            assertFalse(maps[m].containsValue(Integer.valueOf(100)));
+            maps[m].put("k", Integer.valueOf(100));
+            assertTrue(maps[m].containsValue(Integer.valueOf(100)));
+            maps[m].setValueIndexed(false);
+            assertFalse(maps[m].isValueIndexed());
+            assertTrue(maps[m].containsValue(Integer.valueOf(100)));
+        }
+    }
+
+    /***
+     * <b>-Tests</b> the wrong functioning of containsValue() on an indexed map.<br>
+     * <b>-Description:</b> a null value is searched.<br>
+     * <b>-Pre-condition:</b> the maps contain the keys from 0 to 99.<br>
+     * <b>-Post-condition:</b> the exception is passed to the calling method, if this is not handled then the program ends.<br>
+     * <b>-Expected result:</b> NullPointerException thrown.<br>
+     */
+    @Test (expected = NullPointerException.class)
+    public void containsNull(){
+        maps[1].containsValue(null);
+    }
+}
@@ -0,0 +1,294 @@
+package myAdapter;
+import java.util.Enumeration;
+import java.util.NoSuchElementException;
+
+/***
+ * The ArrayAdaptee class implements a growable array of objects that owns its own Object[] and size.<br>
+ * The class respects the same HVector interface of VectorAdaptee, but no method takes a monitor: it is meant for lists
+ * that are used by a single thread at a time, which is the common case of ListAdapter.<br>
+ * Like VectorAdaptee, the capacity is always at least as large as the vector size; when the storage is full it grows by
+ * capacityIncrement or, if the increment is zero, it doubles.<br>
+ * <b>Note this : </b> instances must not be shared between threads without an external synchronization,
+ * use VectorAdaptee when a synchronized storage is required.<br>
+ * @see HVector HVector.
+ * @see VectorAdaptee VectorAdaptee.
+ */
+public class ArrayAdaptee implements HVector {
+    /***
+     * The array buffer into which the components of the vector are stored.
+     */
+    Object[] elementData;
+
+    /***
+     * The number of valid components in this vector.
+     */
+    int elementCount;
+
+    /***
+     * The amount by which the capacity of the vector is increased when its size becomes greater than its capacity.
+     */
+    int capacityIncrement;
+
+    /***
+     * Constructs an empty vector so that its internal data array has size 10 and its standard capacity increment is zero.
+     */
+    public ArrayAdaptee() {
+        this(10);
+    }
+
+    /***
+     * Constructs an empty vector with the specified initial capacity and with its capacity increment equal to zero.
+     * @param initialCapacity - the initial capacity.
+     * @throws IllegalArgumentException - if the specified initial capacity is negative.
+     */
+    public ArrayAdaptee(int initialCapacity) {
+        this(initialCapacity, 0);
+    }
+
+    /***
+     * Constructs an empty vector with the specified initial capacity and capacity increment.
+     * @param initialCapacity - the initial capacity of the vector.
+     * @param capacityIncrement - the amount by which the capacity is increased when the vector overflows.
+     * @throws IllegalArgumentException - if the specified initial capacity is negative.
+     */
+    public ArrayAdaptee(int initialCapacity, int capacityIncrement) {
+        if(initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        elementData = new Object[initialCapacity];
+        this.capacityIncrement = capacityIncrement;
+    }
+
+    @Override
+    public void copyInto(Object[] anArray) {
+        System.arraycopy(elementData, 0, anArray, 0, elementCount);
+    }
+
+    @Override
+    public void trimToSize() {
+        if(elementCount < elementData.length) {
+            Object[] newData = new Object[elementCount];
+            System.arraycopy(elementData, 0, newData, 0, elementCount);
+            elementData = newData;
+        }
+    }
+
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        if(minCapacity > elementData.length)
+            grow(minCapacity);
+    }
+
+    /***
+     * Grows the internal array so that it can hold at least minCapacity components.
+     * @param minCapacity - the desired minimum capacity.
+     */
+    private void grow(int minCapacity) {
+        int newCapacity = (capacityIncrement > 0) ? elementData.length + capacityIncrement : elementData.length * 2;
+        if(newCapacity < minCapacity)
+            newCapacity = minCapacity;
+        Object[] newData = new Object[newCapacity];
+        System.arraycopy(elementData, 0, newData, 0, elementCount);
+        elementData = newData;
+    }
+
+    @Override
+    public void setSize(int newSize) {
+        if(newSize < 0)
+            throw new ArrayIndexOutOfBoundsException(newSize);
+        if(newSize > elementData.length)
+            grow(newSize);
+        for(int i = newSize; i < elementCount; i++)
+            elementData[i] = null;
+        elementCount = newSize;
+    }
+
+    @Override
+    public int capacity() {
+        return elementData.length;
+    }
+
+    @Override
+    public int size() {
+        return elementCount;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return elementCount == 0;
+    }
+
+    @Override
+    public Enumeration elements() {
+        return new Enumeration() {
+            int count = 0;
+
+            public boolean hasMoreElements() {
+                return count < elementCount;
+            }
+
+            public Object nextElement() {
+                if(count < elementCount)
+                    return elementData[count++];
+                throw new NoSuchElementException("ArrayAdaptee Enumeration");
+            }
+        };
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return indexOf(element, 0) >= 0;
+    }
+
+    @Override
+    public int indexOf(Object element) {
+        return indexOf(element, 0);
+    }
+
+    @Override
+    public int indexOf(Object elem, int index) {
+        if(elem == null) {
+            for(int i = index; i < elementCount; i++)
+                if(elementData[i] == null)
+                    return i;
+        }
+        else {
+            for(int i = index; i < elementCount; i++)
+                if(elem.equals(elementData[i]))
+                    return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object elem) {
+        return lastIndexOf(elem, elementCount - 1);
+    }
+
+    @Override
+    public int lastIndexOf(Object elem, int index) {
+        if(index >= elementCount)
+            throw new IndexOutOfBoundsException(index + " >= " + elementCount);
+        if(elem == null) {
+            for(int i = index; i >= 0; i--)
+                if(elementData[i] == null)
+                    return i;
+        }
+        else {
+            for(int i = index; i >= 0; i--)
+                if(elem.equals(elementData[i]))
+                    return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public Object elementAt(int index) {
+        if(index >= elementCount)
+            throw new ArrayIndexOutOfBoundsException(index + " >= " + elementCount);
+        return elementData[index];
+    }
+
+    @Override
+    public Object firstElement() {
+        if(elementCount == 0)
+            throw new NoSuchElementException();
+        return elementData[0];
+    }
+
+    @Override
+    public Object lastElement() {
+        if(elementCount == 0)
+            throw new NoSuchElementException();
+        return elementData[elementCount - 1];
+    }
+
+    @Override
+    public void setElementAt(Object obj, int index) {
+        if(index >= elementCount)
+            throw new ArrayIndexOutOfBoundsException(index + " >= " + elementCount);
+        elementData[index] = obj;
+    }
+
+    @Override
+    public void removeElementAt(int index) {
+        if(index >= elementCount)
+            throw new ArrayIndexOutOfBoundsException(index + " >= " + elementCount);
+        else if(index < 0)
+            throw new ArrayIndexOutOfBoundsException(index);
+        int j = elementCount - index - 1;
+        if(j > 0)
+            System.arraycopy(elementData, index + 1, elementData, index, j);
+        elementData[--elementCount] = null;
+    }
+
+    @Override
+    public void insertElementAt(Object obj, int index) {
+        if(index > elementCount)
+            throw new ArrayIndexOutOfBoundsException(index + " > " + elementCount);
+        if(elementCount == elementData.length)
+            grow(elementCount + 1);
+        System.arraycopy(elementData, index, elementData, index + 1, elementCount - index);
+        elementData[index] = obj;
+        elementCount++;
+    }
+
+    @Override
+    public void insertElementsAt(Object[] elements, int index) {
+        if(index < 0 || index > elementCount)
+            throw new ArrayIndexOutOfBoundsException(index + " > " + elementCount);
+        int numNew = elements.length;
+        if(elementCount + numNew > elementData.length)
+            grow(elementCount + numNew);
+        System.arraycopy(elementData, index, elementData, index + numNew, elementCount - index);
+        System.arraycopy(elements, 0, elementData, index, numNew);
+        elementCount += numNew;
+    }
+
+    @Override
+    public void addElement(Object obj) {
+        if(elementCount == elementData.length)
+            grow(elementCount + 1);
+        elementData[elementCount++] = obj;
+    }
+
+    @Override
+    public boolean removeElement(Object obj) {
+        int i = indexOf(obj, 0);
+        if(i >= 0) {
+            removeElementAt(i);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void removeAllElements() {
+        for(int i = 0; i < elementCount; i++)
+            elementData[i] = null;
+        elementCount = 0;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if(fromIndex < 0 || toIndex > elementCount || fromIndex > toIndex)
+            throw new ArrayIndexOutOfBoundsException("fromIndex = " + fromIndex + ", toIndex = " + toIndex);
+        System.arraycopy(elementData, toIndex, elementData, fromIndex, elementCount - toIndex);
+        int newCount = elementCount - (toIndex - fromIndex);
+        for(int i = newCount; i < elementCount; i++)
+            elementData[i] = null;
+        elementCount = newCount;
+    }
+
+    @java.lang.Override
+    public String toString() {
+        StringBuffer buf = new StringBuffer();
+        buf.append("[");
+        for(int i = 0; i < elementCount; i++) {
+            if(i > 0)
+                buf.append(", ");
+            buf.append(String.valueOf(elementData[i]));
+        }
+        buf.append("]");
+        return buf.toString();
+    }
+}
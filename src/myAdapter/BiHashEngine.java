@@ -0,0 +1,574 @@
+package myAdapter;
+import java.util.ConcurrentModificationException;
+import java.util.Enumeration;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/***
+ * The BiHashEngine class is the hashtable of a BiMapAdapter and of its inverse.<br>
+ * Every entry is a single Node, that is chained in two tables of buckets: one indexed by the hash code of the key, the other
+ * by the hash code of the value. The forward engine looks keys up in the first table and the inverse engine in the second one,
+ * so that the two directions share the nodes: an entry costs one node of four references and two buckets, where two separate
+ * hashtables would cost two nodes.<br>
+ * Every update checks the value in the table of the values before changing anything, so it is applied to both directions or to none.<br>
+ * The class is not synchronized.
+ * @see BiMapAdapter BiMapAdapter.
+ */
+final class BiHashEngine extends HashEngine {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /***
+     * An entry of the bimap, chained in the bucket of its key and in the bucket of its value.
+     */
+    private static final class Node {
+        Object key, value;
+        Node nextKey, nextValue;
+    }
+
+    /***
+     * The state shared by a BiHashEngine and its inverse.
+     */
+    private static final class Tables {
+        Node[] byKey, byValue;
+        int count, threshold;
+
+        /***
+         * The number of changes to the chains of byKey and of byValue, checked by the cursors that walk them.
+         */
+        int keyMods, valueMods;
+
+        /***
+         * The forward engine, that keeps the hashSum of both directions.
+         */
+        BiHashEngine forward;
+    }
+
+    private final Tables t;
+
+    /***
+     * false for the forward engine, whose keys are the keys of the nodes; true for the inverse one, whose keys are the values of the nodes.
+     */
+    private final boolean inverse;
+
+    private final BiHashEngine other;
+
+    /***
+     * Constructs a new, empty forward engine, together with its inverse.
+     * @param initialCapacity the number of entries that the hashtable can hold without growing.
+     * @throws IllegalArgumentException if the initial capacity is less than zero.
+     */
+    BiHashEngine(int initialCapacity) {
+        if(initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        long n = (long) initialCapacity * 4 / 3 + 1;
+        int c = MIN_CAPACITY;
+        while(c < n && c < MAX_CAPACITY)
+            c <<= 1;
+        t = new Tables();
+        t.byKey = new Node[c];
+        t.byValue = new Node[c];
+        t.threshold = c / 4 * 3;
+        t.forward = this;
+        inverse = false;
+        other = new BiHashEngine(this);
+    }
+
+    private BiHashEngine(BiHashEngine forward) {
+        t = forward.t;
+        inverse = true;
+        other = forward;
+    }
+
+    /***
+     * Returns the engine of the other direction.
+     * @return the inverse engine.
+     */
+    BiHashEngine inverse() {
+        return other;
+    }
+
+    private static int hash(Object o) {
+        int h = o.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static Object side(Node n, boolean values) {
+        return values ? n.value : n.key;
+    }
+
+    private Object keyOf(Node n) {
+        return side(n, inverse);
+    }
+
+    private Object valueOf(Node n) {
+        return side(n, !inverse);
+    }
+
+    /***
+     * Returns the node whose key, or whose value, is equal to the specified object.
+     * @param o the key or the value, not null.
+     * @param values true to search the table of the values, false to search the one of the keys.
+     * @return the node, or null if there is none.
+     */
+    private Node find(Object o, boolean values) {
+        Node[] b = values ? t.byValue : t.byKey;
+        Node n = b[hash(o) & (b.length - 1)];
+        while(n != null) {
+            Object x = side(n, values);
+            if(x == o || x.equals(o))
+                return n;
+            n = values ? n.nextValue : n.nextKey;
+        }
+        return null;
+    }
+
+    private void link(Node n, boolean values) {
+        Node[] b = values ? t.byValue : t.byKey;
+        int i = hash(side(n, values)) & (b.length - 1);
+        if(values)
+            n.nextValue = b[i];
+        else
+            n.nextKey = b[i];
+        b[i] = n;
+    }
+
+    private void unlink(Node n, boolean values) {
+        Node[] b = values ? t.byValue : t.byKey;
+        int i = hash(side(n, values)) & (b.length - 1);
+        Node prev = null;
+        for(Node x = b[i]; x != null; x = values ? x.nextValue : x.nextKey) {
+            if(x == n) {
+                Node next = values ? n.nextValue : n.nextKey;
+                if(prev == null)
+                    b[i] = next;
+                else if(values)
+                    prev.nextValue = next;
+                else
+                    prev.nextKey = next;
+                return;
+            }
+            prev = x;
+        }
+    }
+
+    private void changed(boolean values) {
+        if(values)
+            t.valueMods++;
+        else
+            t.keyMods++;
+    }
+
+    private int mods(boolean values) {
+        return values ? t.valueMods : t.keyMods;
+    }
+
+    /***
+     * Maps a key of this engine to a value, checking first that the value is not mapped by another key.
+     * @param n the node of the key, or null if the key is absent.
+     * @param key the key, not null.
+     * @param value the value, not null.
+     * @param force true to remove the entry of the other key that maps the value, false to throw IllegalArgumentException.
+     * @return the previous value of the key, or null.
+     */
+    private Object store(Node n, Object key, Object value, boolean force) {
+        if(value == null)
+            throw new NullPointerException("null value is not allowed");
+        Node holder = find(value, !inverse);
+        if(holder != null && holder != n) {
+            if(!force)
+                throw new IllegalArgumentException("value already present: " + value);
+            removeNode(holder);
+        }
+        if(n == null) {
+            n = new Node();
+            if(inverse) {
+                n.key = value;
+                n.value = key;
+            }
+            else {
+                n.key = key;
+                n.value = value;
+            }
+            link(n, false);
+            link(n, true);
+            t.count++;
+            t.keyMods++;
+            t.valueMods++;
+            t.forward.entryChanged(n.key, null, n.value);
+            if(t.count > t.threshold)
+                resize();
+            return null;
+        }
+        Object oldKey = n.key;
+        Object oldValue = n.value;
+        if(holder != n) {
+            unlink(n, !inverse);
+            changed(!inverse);
+        }
+        if(inverse)
+            n.key = value;
+        else
+            n.value = value;
+        if(holder != n)
+            link(n, !inverse);
+        t.forward.entryChanged(oldKey, oldValue, null);
+        t.forward.entryChanged(n.key, null, n.value);
+        return inverse ? oldKey : oldValue;
+    }
+
+    private void removeNode(Node n) {
+        unlink(n, false);
+        unlink(n, true);
+        t.count--;
+        t.keyMods++;
+        t.valueMods++;
+        t.forward.entryChanged(n.key, n.value, null);
+    }
+
+    /***
+     * Doubles the two tables of buckets and chains every node again.
+     */
+    private void resize() {
+        Node[] old = t.byKey;
+        if(old.length >= MAX_CAPACITY)
+            return;
+        t.byKey = new Node[old.length * 2];
+        t.byValue = new Node[old.length * 2];
+        t.threshold = t.byKey.length / 4 * 3;
+        for(int i = 0; i < old.length; i++) {
+            Node n = old[i];
+            while(n != null) {
+                Node next = n.nextKey;
+                link(n, false);
+                link(n, true);
+                n = next;
+            }
+        }
+    }
+
+    /***
+     * Maps the key to the value, removing first the entry of another key that maps the value, if any.
+     * @param key the key, not null.
+     * @param value the value, not null.
+     * @return the previous value of the key, or null.
+     */
+    Object forcePut(Object key, Object value) {
+        return store(find(key, inverse), key, value, true);
+    }
+
+    @Override
+    int hashSum() {
+        return t.forward.hashSum;
+    }
+
+    @Override
+    public int size() {
+        return t.count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return t.count == 0;
+    }
+
+    @Override
+    public Enumeration keys() {
+        return new CursorEnumeration(true);
+    }
+
+    @Override
+    public Enumeration elements() {
+        return new CursorEnumeration(false);
+    }
+
+    @Override
+    public boolean contains(Object value) {
+        if(value == null)
+            throw new NullPointerException("null value is not allowed");
+        return find(value, !inverse) != null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return find(key, inverse) != null;
+    }
+
+    @Override
+    public Object get(Object key) {
+        Node n = find(key, inverse);
+        return n == null ? null : valueOf(n);
+    }
+
+    @Override
+    public Object put(Object key, Object value) {
+        return store(find(key, inverse), key, value, false);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        Node n = find(key, inverse);
+        if(n == null)
+            return null;
+        removeNode(n);
+        return valueOf(n);
+    }
+
+    @Override
+    public void clear() {
+        for(int i = 0; i < t.byKey.length; i++) {
+            t.byKey[i] = null;
+            t.byValue[i] = null;
+        }
+        t.count = 0;
+        t.keyMods++;
+        t.valueMods++;
+        t.forward.cleared();
+    }
+
+    @Override
+    Object replace(Object key, Object value) {
+        Node n = find(key, inverse);
+        if(n == null) {
+            if(value == null)
+                throw new NullPointerException("null value is not allowed");
+            return null;
+        }
+        return store(n, key, value, false);
+    }
+
+    @Override
+    Object putIfAbsent(Object key, Object value) {
+        Node n = find(key, inverse);
+        if(n != null)
+            return valueOf(n);
+        return store(null, key, value, false);
+    }
+
+    @Override
+    Object computeIfAbsent(Object key, Function function) {
+        Node n = find(key, inverse);
+        if(n != null)
+            return valueOf(n);
+        int mods = mods(inverse);
+        Object value = function.apply(key);
+        if(mods(inverse) != mods)
+            throw new ConcurrentModificationException();
+        if(value != null)
+            store(null, key, value, false);
+        return value;
+    }
+
+    @Override
+    Object compute(Object key, BiFunction function) {
+        Node n = find(key, inverse);
+        Object old = n == null ? null : valueOf(n);
+        return update(n, key, old, function.apply(key, old));
+    }
+
+    @Override
+    Object merge(Object key, Object value, BiFunction function) {
+        if(value == null)
+            throw new NullPointerException("null value is not allowed");
+        Node n = find(key, inverse);
+        if(n == null) {
+            store(null, key, value, false);
+            return value;
+        }
+        Object old = valueOf(n);
+        return update(n, key, old, function.apply(old, value));
+    }
+
+    /***
+     * Stores the result of compute() or merge(): a null value removes the entry.
+     * Throws ConcurrentModificationException if the function has changed the entry of the key.
+     */
+    private Object update(Node n, Object key, Object old, Object value) {
+        if(find(key, inverse) != n || (n != null && valueOf(n) != old))
+            throw new ConcurrentModificationException();
+        if(value == null) {
+            if(n != null)
+                removeNode(n);
+        }
+        else
+            store(n, key, value, false);
+        return value;
+    }
+
+    @Override
+    Cursor cursor() {
+        return new ChainCursor();
+    }
+
+    @Override
+    Spliterator spliterator(BiFunction element, int characteristics) {
+        Node[] b = inverse ? t.byValue : t.byKey;
+        return new ChainSpliterator(b, element, 0, b.length, t.count, true, characteristics);
+    }
+
+    @java.lang.Override
+    public String toString() {
+        StringBuffer buf = new StringBuffer();
+        buf.append("{");
+        ChainCursor c = new ChainCursor();
+        boolean first = true;
+        while(c.advance()) {
+            if(!first)
+                buf.append(", ");
+            buf.append(String.valueOf(c.key())).append("=").append(String.valueOf(c.value()));
+            first = false;
+        }
+        buf.append("}");
+        return buf.toString();
+    }
+
+    /***
+     * Cursor over the nodes, in the order of the chains of the keys of this engine. It is fail-fast: it throws ConcurrentModificationException
+     * if those chains are changed, except by the cursor itself. setValue() moves the node only in the chains of the values,
+     * so it can be called, also through the inverse engine, while the nodes are walked.
+     */
+    private class ChainCursor extends Cursor {
+        private final Node[] b = inverse ? t.byValue : t.byKey;
+        private int expected = mods(inverse);
+        private int bucket;
+        private Node next;
+        private Node current;
+
+        private ChainCursor() {
+            while(next == null && bucket < b.length)
+                next = b[bucket++];
+        }
+
+        private Node node() {
+            if(current == null)
+                throw new IllegalStateException("the cursor is not on an entry");
+            if(mods(inverse) != expected)
+                throw new ConcurrentModificationException();
+            return current;
+        }
+
+        @Override
+        boolean hasMore() {
+            return next != null;
+        }
+
+        @Override
+        public boolean advance() {
+            if(mods(inverse) != expected)
+                throw new ConcurrentModificationException();
+            current = next;
+            if(current == null)
+                return false;
+            next = inverse ? current.nextValue : current.nextKey;
+            while(next == null && bucket < b.length)
+                next = b[bucket++];
+            return true;
+        }
+
+        @Override
+        public Object key() {
+            return keyOf(node());
+        }
+
+        @Override
+        public Object value() {
+            return valueOf(node());
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            Node n = node();
+            return store(n, keyOf(n), value, false);
+        }
+
+        @Override
+        public void remove() {
+            removeNode(node());
+            expected = mods(inverse);
+            current = null;
+        }
+    }
+
+    /***
+     * Spliterator over a range of the buckets of the keys of this engine, that walks the chain of every bucket.
+     * Like ChainCursor it is fail-fast: it throws ConcurrentModificationException if those chains are changed during the traversal.
+     */
+    private final class ChainSpliterator extends SlotSpliterator {
+        private final Node[] b;
+        private final int expected = mods(inverse);
+        private Node next;
+
+        private ChainSpliterator(Node[] b, BiFunction element, int from, int to, long est, boolean exact, int characteristics) {
+            super(element, from, to, est, exact, characteristics);
+            this.b = b;
+        }
+
+        private void checkForComodification() {
+            if(mods(inverse) != expected)
+                throw new ConcurrentModificationException();
+        }
+
+        @Override
+        SlotSpliterator split(int from, int to, long est) {
+            return new ChainSpliterator(b, element, from, to, est, false, characteristics);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer action) {
+            if(action == null)
+                throw new NullPointerException("null action is not allowed");
+            while(next == null && index < fence)
+                next = b[index++];
+            if(next == null)
+                return false;
+            Node n = next;
+            next = inverse ? n.nextValue : n.nextKey;
+            action.accept(element.apply(keyOf(n), valueOf(n)));
+            checkForComodification();
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer action) {
+            if(action == null)
+                throw new NullPointerException("null action is not allowed");
+            Node n = next;
+            next = null;
+            while(true) {
+                while(n == null && index < fence)
+                    n = b[index++];
+                if(n == null)
+                    break;
+                action.accept(element.apply(keyOf(n), valueOf(n)));
+                checkForComodification();
+                n = inverse ? n.nextValue : n.nextKey;
+            }
+        }
+    }
+
+    /***
+     * Enumeration of the keys, or of the values, of this engine, walked by a ChainCursor.
+     */
+    private class CursorEnumeration implements Enumeration {
+        private final ChainCursor cursor = new ChainCursor();
+        private final boolean enumKeys;
+
+        private CursorEnumeration(boolean enumKeys) {
+            this.enumKeys = enumKeys;
+        }
+
+        public boolean hasMoreElements() {
+            return cursor.hasMore();
+        }
+
+        public Object nextElement() {
+            if(!cursor.advance())
+                throw new NoSuchElementException("BiHashEngine Enumeration");
+            return enumKeys ? cursor.key() : cursor.value();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package myAdapter;
+
+/***
+ * public class BiMapAdapter. <br><b> extends : </b> MapAdapter <br><b> implements : </b> <br>
+ * @see HBiMap HBiMap <br>
+ * @see MapAdapter MapAdapter <br>
+ * Public class BiMapAdapter, a MapAdapter whose values are unique, so that it can be looked up by value through inverse().<br>
+ * The entries are stored in a BiHashEngine, that chains every entry both in a table of the keys and in a table of the values:
+ * the bimap and its inverse share the entries, so they cost about half the memory of two MapAdapters kept in sync, and an update can
+ * never be applied to one direction only. put() checks the value before changing anything and throws IllegalArgumentException if
+ * another key maps it; forcePut() removes that key instead.<br>
+ * The views, the iterators and the single-lookup updates of MapAdapter work on a bimap too, and enforce the uniqueness of the values
+ * in the same way. Like OpenHashAdaptee, the class is not synchronized.<br>
+ */
+public class BiMapAdapter extends MapAdapter implements HBiMap {
+
+    private final BiHashEngine engine;
+    private final BiMapAdapter inverse;
+
+    /***
+     * Constructs a new, empty BiMapAdapter with room for 11 entries.
+     */
+    public BiMapAdapter() {
+        this(11);
+    }
+
+    /***
+     * Constructs a new, empty BiMapAdapter with room for the specified number of entries, before it has to grow.
+     * @param initialCapacity the number of entries that the bimap can hold without growing.
+     * @throws IllegalArgumentException if the initial capacity is less than zero.
+     */
+    public BiMapAdapter(int initialCapacity) {
+        this(new BiHashEngine(initialCapacity));
+    }
+
+    private BiMapAdapter(BiHashEngine engine) {
+        super(engine);
+        this.engine = engine;
+        inverse = new BiMapAdapter(engine.inverse(), this);
+    }
+
+    private BiMapAdapter(BiHashEngine engine, BiMapAdapter inverse) {
+        super(engine);
+        this.engine = engine;
+        this.inverse = inverse;
+    }
+
+    @Override
+    public Object forcePut(Object key, Object value) {
+        if(key == null || value == null)
+            throw new NullPointerException("null key/value is not allowed");
+        return engine.forcePut(key, value);
+    }
+
+    /***
+     * Returns the inverse view of this bimap. The view is created with the bimap, so this method takes constant time
+     * and always returns the same object.
+     * @return the inverse view of this bimap.
+     */
+    @Override
+    public HBiMap inverse() {
+        return inverse;
+    }
+
+    /***
+     * Returns the values of this bimap, that are the keys of its inverse: the result is the keySet() of inverse(), whose contains()
+     * and remove() look the value up in the table of the values.
+     * @return a set view of the values contained in this bimap.
+     */
+    @Override
+    public HCollection values() {
+        return inverse.keySet();
+    }
+
+    /***
+     * Does nothing: the values of a bimap are always indexed by the table of its inverse.
+     * @param indexed ignored.
+     */
+    @Override
+    public void setValueIndexed(boolean indexed) {
+    }
+
+    /***
+     * Returns true: the values of a bimap are always indexed by the table of its inverse.
+     * @return true.
+     */
+    @Override
+    public boolean isValueIndexed() {
+        return true;
+    }
+}
@@ -0,0 +1,652 @@
+package myAdapter;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+/***
+ * public class CopyOnWriteListAdapter <br> implements
+ * @see HList HList. <br>
+ * A thread-safe HList for lists that are read by many threads and changed rarely.<br>
+ * The elements are kept in an array that is never modified: the reads take the current array from a volatile field
+ * and need no lock, while every change copies the array, modifies the copy and publishes it, holding a single writer lock.
+ * A change costs O(n), a read costs as much as an array access.<br>
+ * The iterators work on the array that was current when they were created: they never see a later change and never throw
+ * ConcurrentModificationException; they do not support remove, set and add.
+ * A sublist reads the array that was current when it was created, or when it was last changed through the sublist itself,
+ * and never throws ConcurrentModificationException while it is read. A change made through a sublist is applied to the list
+ * under the writer lock; once the list has been changed except through the sublist, the changes of the sublist throw
+ * ConcurrentModificationException, so that they are never applied at stale positions.<br>
+ * Like ListAdapter, the list does not allow null elements.<br>
+ * @see ListAdapter ListAdapter.
+ */
+public class CopyOnWriteListAdapter implements HList {
+
+    /***
+     * The lock taken by every change of the list.
+     */
+    private final Object lock = new Object();
+
+    /***
+     * The current elements, never modified after publication.
+     */
+    private volatile Object[] array;
+
+    /***
+     * Creates a new empty list.
+     */
+    public CopyOnWriteListAdapter() {
+        array = new Object[0];
+    }
+
+    /***
+     * Creates a new list that contains the elements of the specified collection, in the order of its iterator.
+     * @param c the collection whose elements are placed into this list.
+     * @throws NullPointerException if the collection is null or contains a null element.
+     */
+    public CopyOnWriteListAdapter(HCollection c) {
+        array = ListAdapter.toCheckedArray(c);
+    }
+
+    private static void checkElement(Object o) {
+        if(o == null)
+            throw new NullPointerException("null Object is not allowed");
+    }
+
+    private static Object[] insert(Object[] a, int index, Object[] elements) {
+        Object[] b = new Object[a.length + elements.length];
+        System.arraycopy(a, 0, b, 0, index);
+        System.arraycopy(elements, 0, b, index, elements.length);
+        System.arraycopy(a, index, b, index + elements.length, a.length - index);
+        return b;
+    }
+
+    private static Object[] delete(Object[] a, int from, int to) {
+        Object[] b = new Object[a.length - (to - from)];
+        System.arraycopy(a, 0, b, 0, from);
+        System.arraycopy(a, to, b, from, a.length - to);
+        return b;
+    }
+
+    private static int indexOf(Object[] a, Object o, int from, int to) {
+        for(int i = from; i < to; i++)
+            if(o.equals(a[i]))
+                return i;
+        return -1;
+    }
+
+    private static int lastIndexOf(Object[] a, Object o, int from, int to) {
+        for(int i = to - 1; i >= from; i--)
+            if(o.equals(a[i]))
+                return i;
+        return -1;
+    }
+
+    /***
+     * Wraps the specified array in an ArrayAdaptee, to use the bulk helpers of ListAdapter.
+     */
+    private static ArrayAdaptee wrap(Object[] a) {
+        ArrayAdaptee w = new ArrayAdaptee(0);
+        w.elementData = a;
+        w.elementCount = a.length;
+        return w;
+    }
+
+    /***
+     * Removes, from the elements of the current array between from and to, the ones that are (retain == false)
+     * or are not (retain == true) in the specified array. It must be called holding the lock.
+     * @return the number of removed elements.
+     */
+    private int filter(int from, int to, Object[] a, boolean retain) {
+        Object[] current = array;
+        Object[] copy = new Object[current.length];
+        System.arraycopy(current, 0, copy, 0, current.length);
+        ArrayAdaptee w = wrap(copy);
+        int removed = ListAdapter.filterRange(w, from, to, a, retain);
+        if(removed > 0) {
+            Object[] b = new Object[w.elementCount];
+            System.arraycopy(copy, 0, b, 0, w.elementCount);
+            array = b;
+        }
+        return removed;
+    }
+
+    @Override
+    public void add(int index, Object element) {
+        checkElement(element);
+        synchronized(lock) {
+            Object[] a = array;
+            if(index < 0 || index > a.length)
+                throw new IndexOutOfBoundsException("you can do better");
+            array = insert(a, index, new Object[] { element });
+        }
+    }
+
+    @Override
+    public boolean add(Object o) {
+        checkElement(o);
+        synchronized(lock) {
+            Object[] a = array;
+            array = insert(a, a.length, new Object[] { o });
+        }
+        return true;
+    }
+
+    @Override
+    public boolean addAll(HCollection c) {
+        if(c == null)
+            throw new NullPointerException("null Collection is not allowed");
+        Object[] elements = ListAdapter.toCheckedArray(c);
+        if(elements.length == 0)
+            return false;
+        synchronized(lock) {
+            Object[] a = array;
+            array = insert(a, a.length, elements);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean addAll(int index, HCollection c) {
+        if(c == null)
+            throw new NullPointerException("null Collection is not allowed");
+        Object[] elements = ListAdapter.toCheckedArray(c);
+        synchronized(lock) {
+            Object[] a = array;
+            if(index < 0 || index > a.length)
+                throw new IndexOutOfBoundsException("select a different index to add the elements");
+            if(elements.length == 0)
+                return false;
+            array = insert(a, index, elements);
+        }
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        synchronized(lock) {
+            array = new Object[0];
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        checkElement(o);
+        Object[] a = array;
+        return indexOf(a, o, 0, a.length) >= 0;
+    }
+
+    @Override
+    public boolean containsAll(HCollection c) {
+        if(c == null)
+            throw new NullPointerException("null Collection is not allowed");
+        Object[] a = array;
+        return ListAdapter.containsAllRange(wrap(a), 0, a.length, ListAdapter.toCheckedArray(c));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(o == this)
+            return true;
+        if(!(o instanceof HList))
+            return false;
+        Object[] a = array;
+        return equalElements(a, 0, a.length, (HList) o);
+    }
+
+    /***
+     * Tests if the specified list contains, in the same order, the elements of the array between from and to.
+     */
+    static boolean equalElements(Object[] a, int from, int to, HList list) {
+        if(list.size() != to - from)
+            return false;
+        HIterator h = list.iterator();
+        for(int i = from; i < to; i++) {
+            if(!h.hasNext() || !a[i].equals(h.next()))
+                return false;
+        }
+        return !h.hasNext();
+    }
+
+    @Override
+    public Object get(int index) {
+        Object[] a = array;
+        if(index < 0 || index >= a.length)
+            throw new IndexOutOfBoundsException("It was introduced an invalid index");
+        return a[index];
+    }
+
+    @Override
+    public int hashCode() {
+        Object[] a = array;
+        return hashCode(a, 0, a.length);
+    }
+
+    private static int hashCode(Object[] a, int from, int to) {
+        int hashCode = 1;
+        for(int i = from; i < to; i++)
+            hashCode = 31 * hashCode + a[i].hashCode();
+        return hashCode;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        checkElement(o);
+        Object[] a = array;
+        return indexOf(a, o, 0, a.length);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return array.length == 0;
+    }
+
+    @Override
+    public HIterator iterator() {
+        Object[] a = array;
+        return new SnapshotIterator(a, 0, a.length, 0);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        checkElement(o);
+        Object[] a = array;
+        return lastIndexOf(a, o, 0, a.length);
+    }
+
+    @Override
+    public HListIterator listIterator() {
+        Object[] a = array;
+        return new SnapshotIterator(a, 0, a.length, 0);
+    }
+
+    @Override
+    public HListIterator listIterator(int index) {
+        Object[] a = array;
+        if(index < 0 || index > a.length)
+            throw new IndexOutOfBoundsException("It was introduced an invalid index");
+        return new SnapshotIterator(a, 0, a.length, index);
+    }
+
+    @Override
+    public Object remove(int index) {
+        synchronized(lock) {
+            Object[] a = array;
+            if(index < 0 || index >= a.length)
+                throw new IndexOutOfBoundsException("It was introduced an invalid index");
+            Object old = a[index];
+            array = delete(a, index, index + 1);
+            return old;
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        checkElement(o);
+        synchronized(lock) {
+            Object[] a = array;
+            int i = indexOf(a, o, 0, a.length);
+            if(i < 0)
+                return false;
+            array = delete(a, i, i + 1);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean removeAll(HCollection c) {
+        if(c == null)
+            throw new NullPointerException("null Collection is not allowed");
+        Object[] elements = ListAdapter.toCheckedArray(c);
+        synchronized(lock) {
+            return filter(0, array.length, elements, false) > 0;
+        }
+    }
+
+    @Override
+    public boolean retainAll(HCollection c) {
+        if(c == null)
+            throw new NullPointerException("null Collection is not allowed");
+        Object[] elements = ListAdapter.toCheckedArray(c);
+        if(elements.length == 0)
+            return false;
+        synchronized(lock) {
+            return filter(0, array.length, elements, true) > 0;
+        }
+    }
+
+    @Override
+    public Object set(int index, Object element) {
+        checkElement(element);
+        synchronized(lock) {
+            Object[] a = array;
+            if(index < 0 || index >= a.length)
+                throw new IndexOutOfBoundsException("It was introduced an invalid index");
+            Object[] b = new Object[a.length];
+            System.arraycopy(a, 0, b, 0, a.length);
+            Object old = b[index];
+            b[index] = element;
+            array = b;
+            return old;
+        }
+    }
+
+    @Override
+    public int size() {
+        return array.length;
+    }
+
+    @Override
+    public HList subList(int fromIndex, int toIndex) {
+        Object[] a = array;
+        if(fromIndex < 0)
+            throw new IndexOutOfBoundsException("fromIndex = " + fromIndex);
+        if(toIndex > a.length)
+            throw new IndexOutOfBoundsException("toIndex = " + toIndex);
+        if(fromIndex > toIndex)
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        return new SnapshotSubList(a, fromIndex, toIndex - fromIndex);
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] a = array;
+        Object[] b = new Object[a.length];
+        System.arraycopy(a, 0, b, 0, a.length);
+        return b;
+    }
+
+    @Override
+    public Object[] toArray(Object[] a) {
+        Object[] b = array;
+        return toArray(b, 0, b.length, a);
+    }
+
+    private static Object[] toArray(Object[] src, int from, int to, Object[] a) {
+        if(a == null)
+            throw new NullPointerException("null array is not allowed");
+        if(a.length < to - from)
+            a = new Object[to - from];
+        System.arraycopy(src, from, a, 0, to - from);
+        for(int i = to - from; i < a.length; i++)
+            a[i] = null;
+        return a;
+    }
+
+    /***
+     * A list iterator over an array that is never modified. It does not support remove, set and add.
+     */
+    private static class SnapshotIterator implements HListIterator {
+        private Object[] snapshot;
+        private int offset;
+        private int size;
+        private int place;
+
+        private SnapshotIterator(Object[] snapshot, int offset, int size, int index) {
+            this.snapshot = snapshot;
+            this.offset = offset;
+            this.size = size;
+            place = index;
+        }
+
+        public boolean hasNext() {
+            return place < size;
+        }
+
+        public Object next() {
+            if(place >= size)
+                throw new NoSuchElementException("Iterator come to the end");
+            return snapshot[offset + place++];
+        }
+
+        public boolean hasPrevious() {
+            return place > 0;
+        }
+
+        public Object previous() {
+            if(place <= 0)
+                throw new NoSuchElementException("Iterator has no previous element");
+            return snapshot[offset + --place];
+        }
+
+        public int nextIndex() {
+            return place;
+        }
+
+        public int previousIndex() {
+            return place - 1;
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException("the iterator of a copy-on-write list can not change the list");
+        }
+
+        public void set(Object o) {
+            throw new UnsupportedOperationException("the iterator of a copy-on-write list can not change the list");
+        }
+
+        public void add(Object o) {
+            throw new UnsupportedOperationException("the iterator of a copy-on-write list can not change the list");
+        }
+    }
+
+    /***
+     * A view of a range of the list. The reads use the array that was current when the view was created or last changed
+     * through it; a change is applied only while that array is still the current array of the list, holding its lock.
+     */
+    private class SnapshotSubList implements HList {
+        private Object[] snapshot;
+        private int offset;
+        private int size;
+
+        private SnapshotSubList(Object[] snapshot, int offset, int size) {
+            this.snapshot = snapshot;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        /***
+         * Returns the snapshot of this view, checking that it is still the current array of the list.
+         * It must be called holding the lock, by the methods that change the list.
+         */
+        private Object[] current() {
+            Object[] a = snapshot;
+            if(array != a)
+                throw new ConcurrentModificationException("the list has been modified out of the sublist");
+            return a;
+        }
+
+        /***
+         * Publishes a new array of the list and takes it as the snapshot of this view.
+         */
+        private void publish(Object[] a, int delta) {
+            array = a;
+            snapshot = a;
+            size += delta;
+        }
+
+        public void add(int index, Object element) {
+            checkElement(element);
+            synchronized(lock) {
+                Object[] a = current();
+                if(index < 0 || index > size)
+                    throw new IndexOutOfBoundsException("select a lower index");
+                publish(insert(a, offset + index, new Object[] { element }), 1);
+            }
+        }
+
+        public boolean add(Object o) {
+            add(size, o);
+            return true;
+        }
+
+        public boolean addAll(HCollection c) {
+            return addAll(size, c);
+        }
+
+        public boolean addAll(int index, HCollection c) {
+            if(c == null)
+                throw new NullPointerException("null Collection is not allowed");
+            Object[] elements = ListAdapter.toCheckedArray(c);
+            synchronized(lock) {
+                Object[] a = current();
+                if(index < 0 || index > size)
+                    throw new IndexOutOfBoundsException("select a different index to add the elements");
+                if(elements.length == 0)
+                    return false;
+                publish(insert(a, offset + index, elements), elements.length);
+            }
+            return true;
+        }
+
+        public void clear() {
+            synchronized(lock) {
+                Object[] a = current();
+                publish(delete(a, offset, offset + size), -size);
+            }
+        }
+
+        public boolean contains(Object o) {
+            checkElement(o);
+            return CopyOnWriteListAdapter.indexOf(snapshot, o, offset, offset + size) >= 0;
+        }
+
+        public boolean containsAll(HCollection c) {
+            if(c == null)
+                throw new NullPointerException("null Collection is not allowed");
+            return ListAdapter.containsAllRange(wrap(snapshot), offset, offset + size, ListAdapter.toCheckedArray(c));
+        }
+
+        public boolean equals(Object o) {
+            if(!(o instanceof HList))
+                return false;
+            return equalElements(snapshot, offset, offset + size, (HList) o);
+        }
+
+        public Object get(int index) {
+            if(index < 0 || index >= size)
+                throw new IndexOutOfBoundsException("select a lower index");
+            return snapshot[offset + index];
+        }
+
+        public int hashCode() {
+            return CopyOnWriteListAdapter.hashCode(snapshot, offset, offset + size);
+        }
+
+        public int indexOf(Object o) {
+            checkElement(o);
+            int i = CopyOnWriteListAdapter.indexOf(snapshot, o, offset, offset + size);
+            return i < 0 ? -1 : i - offset;
+        }
+
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        public HIterator iterator() {
+            return new SnapshotIterator(snapshot, offset, size, 0);
+        }
+
+        public int lastIndexOf(Object o) {
+            checkElement(o);
+            int i = CopyOnWriteListAdapter.lastIndexOf(snapshot, o, offset, offset + size);
+            return i < 0 ? -1 : i - offset;
+        }
+
+        public HListIterator listIterator() {
+            return new SnapshotIterator(snapshot, offset, size, 0);
+        }
+
+        public HListIterator listIterator(int index) {
+            if(index < 0 || index > size)
+                throw new IndexOutOfBoundsException("It was introduced an invalid index");
+            return new SnapshotIterator(snapshot, offset, size, index);
+        }
+
+        public Object remove(int index) {
+            synchronized(lock) {
+                Object[] a = current();
+                if(index < 0 || index >= size)
+                    throw new IndexOutOfBoundsException("It was introduced an invalid index");
+                Object old = a[offset + index];
+                publish(delete(a, offset + index, offset + index + 1), -1);
+                return old;
+            }
+        }
+
+        public boolean remove(Object o) {
+            checkElement(o);
+            synchronized(lock) {
+                Object[] a = current();
+                int i = CopyOnWriteListAdapter.indexOf(a, o, offset, offset + size);
+                if(i < 0)
+                    return false;
+                publish(delete(a, i, i + 1), -1);
+                return true;
+            }
+        }
+
+        public boolean removeAll(HCollection c) {
+            if(c == null)
+                throw new NullPointerException("null Collection is not allowed");
+            Object[] elements = ListAdapter.toCheckedArray(c);
+            synchronized(lock) {
+                current();
+                int removed = filter(offset, offset + size, elements, false);
+                publish(array, -removed);
+                return removed > 0;
+            }
+        }
+
+        public boolean retainAll(HCollection c) {
+            if(c == null)
+                throw new NullPointerException("null Collection is not allowed");
+            Object[] elements = ListAdapter.toCheckedArray(c);
+            if(elements.length == 0)
+                return false;
+            synchronized(lock) {
+                current();
+                int removed = filter(offset, offset + size, elements, true);
+                publish(array, -removed);
+                return removed > 0;
+            }
+        }
+
+        public Object set(int index, Object element) {
+            checkElement(element);
+            synchronized(lock) {
+                Object[] a = current();
+                if(index < 0 || index >= size)
+                    throw new IndexOutOfBoundsException("select a lower index");
+                Object[] b = new Object[a.length];
+                System.arraycopy(a, 0, b, 0, a.length);
+                Object old = b[offset + index];
+                b[offset + index] = element;
+                publish(b, 0);
+                return old;
+            }
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public HList subList(int fromIndex, int toIndex) {
+            if(fromIndex < 0)
+                throw new IndexOutOfBoundsException("fromIndex = " + fromIndex);
+            if(toIndex > size)
+                throw new IndexOutOfBoundsException("toIndex = " + toIndex);
+            if(fromIndex > toIndex)
+                throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+            return new SnapshotSubList(snapshot, offset + fromIndex, toIndex - fromIndex);
+        }
+
+        public Object[] toArray() {
+            Object[] b = new Object[size];
+            System.arraycopy(snapshot, offset, b, 0, size);
+            return b;
+        }
+
+        public Object[] toArray(Object[] a) {
+            return CopyOnWriteListAdapter.toArray(snapshot, offset, offset + size, a);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package myAdapter;
+import java.util.NoSuchElementException;
+
+/***
+ * public class DequeListAdapter <br> extends
+ * @see ListAdapter ListAdapter. <br>
+ * A ListAdapter stored in a RingAdaptee, a circular buffer: adding or removing an element at either end of the list costs O(1),
+ * and get(int) and set(int, Object) translate the index with a single mask.<br>
+ * The list can be used as a queue or as a stack through the HList methods, add(Object) and remove(0) do not shift the elements,
+ * or through the methods addFirst, addLast, getFirst, getLast, removeFirst and removeLast.
+ * The iterators and the sublists are the ones of ListAdapter, so they are fail-fast and the sublists are views of this list.<br>
+ * @see RingAdaptee RingAdaptee.
+ */
+public class DequeListAdapter extends ListAdapter {
+    private RingAdaptee ring;
+
+    /***
+     * Creates a new empty deque.
+     */
+    public DequeListAdapter() {
+        this(new RingAdaptee());
+    }
+
+    /***
+     * Creates a new empty deque with at least the specified initial capacity.
+     * @param rows the initial capacity of the deque.
+     * @throws IllegalArgumentException if the initial capacity is negative.
+     */
+    public DequeListAdapter(int rows) {
+        this(new RingAdaptee(rows));
+    }
+
+    private DequeListAdapter(RingAdaptee storage) {
+        super(storage);
+        ring = storage;
+    }
+
+    /***
+     * Inserts the specified element at the beginning of this list.
+     * @param o the element to add.
+     * @throws NullPointerException if the element is null.
+     */
+    public void addFirst(Object o) {
+        add(0, o);
+    }
+
+    /***
+     * Appends the specified element to the end of this list.
+     * @param o the element to add.
+     * @throws NullPointerException if the element is null.
+     */
+    public void addLast(Object o) {
+        add(o);
+    }
+
+    /***
+     * Returns the first element of this list.
+     * @return the first element.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public Object getFirst() {
+        return ring.firstElement();
+    }
+
+    /***
+     * Returns the last element of this list.
+     * @return the last element.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public Object getLast() {
+        return ring.lastElement();
+    }
+
+    /***
+     * Removes and returns the first element of this list.
+     * @return the element removed.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public Object removeFirst() {
+        if(ring.isEmpty())
+            throw new NoSuchElementException("the list is empty");
+        return remove(0);
+    }
+
+    /***
+     * Removes and returns the last element of this list.
+     * @return the element removed.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public Object removeLast() {
+        if(ring.isEmpty())
+            throw new NoSuchElementException("the list is empty");
+        return remove(ring.size() - 1);
+    }
+}
@@ -0,0 +1,208 @@
+package myAdapter;
+
+/***
+ * The DoubleArrayAdaptee class implements a growable array of double values.<br>
+ * The components are stored in a double[] without boxing, so a list of millions of numbers costs 8 bytes per element
+ * instead of a reference plus a Double object.<br>
+ * The class respects the HVector interface, so it can be used as the storage of a ListAdapter: the Object methods box and unbox
+ * the values, and only Double objects can be stored (any other object, or null, throws ClassCastException).
+ * The methods that end with Double work directly on the primitive values.<br>
+ * Like ArrayAdaptee, the class is not synchronized.<br>
+ * <b>Note this : </b> setSize() fills the new components with 0.0, because a double component cannot be null.<br>
+ * @see PrimitiveArrayAdaptee PrimitiveArrayAdaptee.
+ * @see DoubleListAdapter DoubleListAdapter.
+ */
+public class DoubleArrayAdaptee extends PrimitiveArrayAdaptee {
+    /***
+     * The array buffer into which the components of the vector are stored.
+     */
+    double[] elementData;
+
+    /***
+     * Constructs an empty vector so that its internal data array has size 10.
+     */
+    public DoubleArrayAdaptee() {
+        this(10);
+    }
+
+    /***
+     * Constructs an empty vector with the specified initial capacity.
+     * @param initialCapacity - the initial capacity.
+     * @throws IllegalArgumentException - if the specified initial capacity is negative.
+     */
+    public DoubleArrayAdaptee(int initialCapacity) {
+        super(initialCapacity);
+        elementData = new double[initialCapacity];
+    }
+
+    /***
+     * Returns the value of the specified object as a double.
+     * @param obj - a Double.
+     * @return the double value of the object.
+     * @throws ClassCastException - if the object is not a Double.
+     */
+    private static double unbox(Object obj) {
+        if(!(obj instanceof Double))
+            throw new ClassCastException("only Double elements can be stored");
+        return ((Double) obj).doubleValue();
+    }
+
+    @Override
+    Object array() {
+        return elementData;
+    }
+
+    @Override
+    void setArray(Object a) {
+        elementData = (double[]) a;
+    }
+
+    @Override
+    Object newArray(int length) {
+        return new double[length];
+    }
+
+    @Override
+    Object box(int index) {
+        return Double.valueOf(elementData[index]);
+    }
+
+    @Override
+    Object toValues(Object[] elements) {
+        double[] values = new double[elements.length];
+        for(int i = 0; i < elements.length; i++)
+            values[i] = unbox(elements[i]);
+        return values;
+    }
+
+    /***
+     * Returns the component at the specified index, without boxing it.
+     * @param index - an index into this vector.
+     * @return the component at the specified index.
+     * @throws ArrayIndexOutOfBoundsException - if an invalid index was given.
+     */
+    public double getDouble(int index) {
+        checkIndex(index);
+        return elementData[index];
+    }
+
+    /***
+     * Sets the component at the specified index of this vector to be the specified value.
+     * @param value - what the component is to be set to.
+     * @param index - the specified index.
+     * @return the previous component at that position.
+     * @throws ArrayIndexOutOfBoundsException - if the index was invalid.
+     */
+    public double setDoubleAt(double value, int index) {
+        checkIndex(index);
+        double old = elementData[index];
+        elementData[index] = value;
+        return old;
+    }
+
+    /***
+     * Adds the specified value to the end of this vector, increasing its size by one.
+     * @param value - the component to be added.
+     */
+    public void addDouble(double value) {
+        int index = append();
+        elementData[index] = value;
+    }
+
+    /***
+     * Inserts the specified value as a component in this vector at the specified index.
+     * @param value - the component to insert.
+     * @param index - where to insert the new component.
+     * @throws ArrayIndexOutOfBoundsException - if the index was invalid.
+     */
+    public void insertDoubleAt(double value, int index) {
+        openGap(index, 1);
+        elementData[index] = value;
+        elementCount++;
+    }
+
+    /***
+     * Deletes the component at the specified index and returns it.
+     * @param index - the index of the component to remove.
+     * @return the removed component.
+     * @throws ArrayIndexOutOfBoundsException - if the index was invalid.
+     */
+    public double removeDoubleAt(int index) {
+        checkIndex(index);
+        double old = elementData[index];
+        delete(index);
+        return old;
+    }
+
+    /***
+     * Searches for the first occurrence of the given value, beginning the search at index.
+     * @param value - the value to search.
+     * @param index - the index to start searching from.
+     * @return the index of the first occurrence of the value at position index or later; returns -1 if the value is not found.
+     */
+    public int indexOfDouble(double value, int index) {
+        for(int i = index; i < elementCount; i++)
+            if(Double.doubleToLongBits(elementData[i]) == Double.doubleToLongBits(value))
+                return i;
+        return -1;
+    }
+
+    /***
+     * Searches backwards for the given value, starting from the specified index.
+     * @param value - the value to search.
+     * @param index - the index to start searching from.
+     * @return the index of the last occurrence of the value at position index or earlier; returns -1 if the value is not found.
+     */
+    public int lastIndexOfDouble(double value, int index) {
+        checkSearchIndex(index);
+        for(int i = index; i >= 0; i--)
+            if(Double.doubleToLongBits(elementData[i]) == Double.doubleToLongBits(value))
+                return i;
+        return -1;
+    }
+
+    /***
+     * Copies the components of this vector into a new double array.
+     * @return a double array with the components of this vector.
+     */
+    public double[] toDoubleArray() {
+        double[] a = new double[elementCount];
+        System.arraycopy(elementData, 0, a, 0, elementCount);
+        return a;
+    }
+
+    @Override
+    public int capacity() {
+        return elementData.length;
+    }
+
+    @Override
+    public int indexOf(Object elem, int index) {
+        if(!(elem instanceof Double))
+            return -1;
+        return indexOfDouble(((Double) elem).doubleValue(), index);
+    }
+
+    @Override
+    public int lastIndexOf(Object elem, int index) {
+        checkSearchIndex(index);
+        if(!(elem instanceof Double))
+            return -1;
+        return lastIndexOfDouble(((Double) elem).doubleValue(), index);
+    }
+
+    @Override
+    public void setElementAt(Object obj, int index) {
+        setDoubleAt(unbox(obj), index);
+    }
+
+    @Override
+    public void insertElementAt(Object obj, int index) {
+        insertDoubleAt(unbox(obj), index);
+    }
+
+    @Override
+    public void addElement(Object obj) {
+        addDouble(unbox(obj));
+    }
+}
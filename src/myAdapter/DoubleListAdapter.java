@@ -0,0 +1,188 @@
+package myAdapter;
+
+/***
+ * public class DoubleListAdapter <br> extends
+ * @see PrimitiveListAdapter PrimitiveListAdapter. <br>
+ * A ListAdapter of double values, stored in a DoubleArrayAdaptee without boxing.<br>
+ * The list respects the HList interface with Double elements, so it can be passed to any code that uses a ListAdapter;
+ * the methods that end with Double read and write the values as double and never create a Double.<br>
+ * Only Double elements can be inserted through the HList methods, any other object throws ClassCastException.<br>
+ * @see DoubleArrayAdaptee DoubleArrayAdaptee.
+ */
+public class DoubleListAdapter extends PrimitiveListAdapter {
+    private DoubleArrayAdaptee values;
+
+    /***
+     * Creates a new empty list of double values.
+     */
+    public DoubleListAdapter() {
+        this(new DoubleArrayAdaptee());
+    }
+
+    /***
+     * Creates a new empty list of double values with the specified initial capacity.
+     * @param rows the initial capacity of the list.
+     * @throws IllegalArgumentException if the initial capacity is negative.
+     */
+    public DoubleListAdapter(int rows) {
+        this(new DoubleArrayAdaptee(rows));
+    }
+
+    private DoubleListAdapter(DoubleArrayAdaptee storage) {
+        super(storage);
+        values = storage;
+    }
+
+    /***
+     * Returns the value at the specified position in this list.
+     * @param index index of the value to return.
+     * @return the value at the specified position.
+     * @throws IndexOutOfBoundsException if the index is out of range (index &lt; 0 || index &gt;= size()).
+     */
+    public double getDouble(int index) {
+        return values.getDouble(index);
+    }
+
+    /***
+     * Replaces the value at the specified position in this list with the specified value.
+     * @param index index of the value to replace.
+     * @param value value to be stored at the specified position.
+     * @return the value previously at the specified position.
+     * @throws IndexOutOfBoundsException if the index is out of range (index &lt; 0 || index &gt;= size()).
+     */
+    public double setDouble(int index, double value) {
+        double old = values.setDoubleAt(value, index);
+        contentChanged();
+        return old;
+    }
+
+    /***
+     * Appends the specified value to the end of this list.
+     * @param value value to be appended.
+     * @return true.
+     */
+    public boolean addDouble(double value) {
+        values.addDouble(value);
+        modCount++;
+        return true;
+    }
+
+    /***
+     * Inserts the specified value at the specified position in this list.
+     * @param index index at which the value is to be inserted.
+     * @param value value to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range (index &lt; 0 || index &gt; size()).
+     */
+    public void addDouble(int index, double value) {
+        values.insertDoubleAt(value, index);
+        modCount++;
+    }
+
+    /***
+     * Removes the value at the specified position in this list.
+     * @param index the index of the value to be removed.
+     * @return the value previously at the specified position.
+     * @throws IndexOutOfBoundsException if the index is out of range (index &lt; 0 || index &gt;= size()).
+     */
+    public double removeDoubleAt(int index) {
+        double old = values.removeDoubleAt(index);
+        modCount++;
+        return old;
+    }
+
+    /***
+     * Returns the index in this list of the first occurrence of the specified value, or -1 if this list does not contain it.
+     * @param value value to search for.
+     * @return the index of the first occurrence of the value, or -1.
+     */
+    public int indexOfDouble(double value) {
+        return values.indexOfDouble(value, 0);
+    }
+
+    /***
+     * Returns the index in this list of the last occurrence of the specified value, or -1 if this list does not contain it.
+     * @param value value to search for.
+     * @return the index of the last occurrence of the value, or -1.
+     */
+    public int lastIndexOfDouble(double value) {
+        return values.lastIndexOfDouble(value, values.size() - 1);
+    }
+
+    /***
+     * Returns true if this list contains the specified value.
+     * @param value value whose presence in this list is to be tested.
+     * @return true if this list contains the specified value.
+     */
+    public boolean containsDouble(double value) {
+        return values.indexOfDouble(value, 0) >= 0;
+    }
+
+    /***
+     * Returns a double array containing all of the values in this list in proper sequence.
+     * @return a new array with the values of this list.
+     */
+    public double[] toDoubleArray() {
+        return values.toDoubleArray();
+    }
+
+    /***
+     * Returns a cursor over the values of this list, starting at the beginning of the list.
+     * @return a DoubleCursor positioned before the first value.
+     */
+    public DoubleCursor doubleCursor() {
+        return new DoubleCursor(0);
+    }
+
+    /***
+     * Returns a cursor over the values of this list, starting at the specified position.
+     * @param index index of the first value to be returned by nextDouble().
+     * @return a DoubleCursor positioned before the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (index &lt; 0 || index &gt; size()).
+     */
+    public DoubleCursor doubleCursor(int index) {
+        checkCursorIndex(index);
+        return new DoubleCursor(index);
+    }
+
+    /***
+     * A list iterator over the double values of a DoubleListAdapter, that moves in both directions without boxing.<br>
+     * Like the iterators of ListAdapter, the cursor is fail-fast: if the list is structurally modified after its creation
+     * it throws ConcurrentModificationException.
+     */
+    public class DoubleCursor extends Cursor {
+
+        private DoubleCursor(int index) {
+            super(index);
+        }
+
+        /***
+         * Returns the next value in the list.
+         * @return the next value in the list.
+         * @throws java.util.NoSuchElementException if the cursor is at the end of the list.
+         */
+        public double nextDouble() {
+            int i = advance();
+            return values.elementData[i];
+        }
+
+        /***
+         * Returns the previous value in the list.
+         * @return the previous value in the list.
+         * @throws java.util.NoSuchElementException if the cursor is at the beginning of the list.
+         */
+        public double previousDouble() {
+            int i = retreat();
+            return values.elementData[i];
+        }
+
+        /***
+         * Replaces the last value returned by nextDouble() or previousDouble() with the specified value.
+         * @param value the new value.
+         * @throws IllegalStateException if neither nextDouble() nor previousDouble() have been called.
+         */
+        public void setDouble(double value) {
+            values.elementData[lastReturned()] = value;
+            contentChanged();
+        }
+    }
+}
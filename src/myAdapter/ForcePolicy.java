@@ -0,0 +1,77 @@
+package myAdapter;
+
+/***
+ * The policies that decide when the changes of a MappedListAdapter are forced to the storage device.<br>
+ * The changes written in a mapped file are seen at once by every process that maps the same file, and the operating system
+ * writes them to the disk sooner or later; forcing them costs a system call and a wait for the device, but after force()
+ * returns the changes survive a crash of the machine.<br>
+ * <ul>
+ * <li>NEVER: the changes are forced only by an explicit call to force(). This is the fastest policy.</li>
+ * <li>ON_CLOSE: the changes are forced by close().</li>
+ * <li>ALWAYS: the changes are forced after every modification of the list. This is the safest and slowest policy.</li>
+ * <li>every(n): the changes are forced after every n modifications and by close().</li>
+ * </ul>
+ * @see MappedListAdapter MappedListAdapter
+ */
+public final class ForcePolicy {
+
+    /***
+     * The changes are forced only by force().
+     */
+    public static final ForcePolicy NEVER = new ForcePolicy("NEVER", 0, false);
+
+    /***
+     * The changes are forced by close().
+     */
+    public static final ForcePolicy ON_CLOSE = new ForcePolicy("ON_CLOSE", 0, true);
+
+    /***
+     * The changes are forced after every modification.
+     */
+    public static final ForcePolicy ALWAYS = new ForcePolicy("ALWAYS", 1, true);
+
+    private String name;
+    private int interval;
+    private boolean onClose;
+
+    private ForcePolicy(String name, int interval, boolean onClose) {
+        this.name = name;
+        this.interval = interval;
+        this.onClose = onClose;
+    }
+
+    /***
+     * Returns a policy that forces the changes after every n modifications and when the list is closed.
+     * @param n the number of modifications between two forces.
+     * @return the policy.
+     * @throws IllegalArgumentException if n is not positive.
+     */
+    public static ForcePolicy every(int n) {
+        if(n <= 0)
+            throw new IllegalArgumentException("Illegal interval: " + n);
+        if(n == 1)
+            return ALWAYS;
+        return new ForcePolicy("every(" + n + ")", n, true);
+    }
+
+    /***
+     * Returns the number of modifications after which the changes are forced, or 0 if they are never forced by a modification.
+     * @return the interval of this policy.
+     */
+    int interval() {
+        return interval;
+    }
+
+    /***
+     * Tests if the changes are forced when the list is closed.
+     * @return true if close() forces the changes.
+     */
+    boolean onClose() {
+        return onClose;
+    }
+
+    @java.lang.Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,39 @@
+package myAdapter;
+
+/***
+ * public interface HBiMap. <br><b> extends : </b> <br>
+ * @see HMap HMap <br>
+ * A bimap is a map whose values are unique, as well as its keys: every value is mapped by one key only.
+ * This makes it possible to look a key up by its value, through the inverse view returned by inverse(), which is the bimap
+ * of the same entries with keys and values swapped.<br>
+ * The bimap and its inverse are backed by the same entries: a change of one of them is seen by the other one, and a change
+ * of an entry is applied to both directions at once, or to none if it fails.<br>
+ */
+public interface HBiMap extends HMap {
+
+    /***
+     * Associates the specified value with the specified key in this bimap. If the key was already mapped, its old value is replaced.
+     * @param key key with which the specified value is to be associated.
+     * @param value value to be associated with the specified key.
+     * @return previous value associated with specified key, or null if there was no mapping for key.
+     * @throws IllegalArgumentException if the value is already mapped by another key of this bimap; the bimap is left unchanged.
+     * @throws NullPointerException if the key or the value is null.
+     */
+    Object put(Object key, Object value);
+
+    /***
+     * Associates the specified value with the specified key in this bimap, removing first the entry of another key that maps the value, if any.
+     * @param key key with which the specified value is to be associated.
+     * @param value value to be associated with the specified key.
+     * @return previous value associated with specified key, or null if there was no mapping for key.
+     * @throws NullPointerException if the key or the value is null.
+     */
+    Object forcePut(Object key, Object value);
+
+    /***
+     * Returns the inverse view of this bimap, that maps every value of this bimap to its key.
+     * The view is backed by this bimap, and its inverse is this bimap.
+     * @return the inverse view of this bimap.
+     */
+    HBiMap inverse();
+}
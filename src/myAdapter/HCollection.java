@@ -181,4 +181,31 @@ public interface HCollection {
      * @throws NullPointerException - if the specified array is null.
      */
     Object[] toArray(Object[] a);
+
+    /**
+     * Creates a Spliterator over the elements in this collection.
+     * The default implementation traverses a copy of the elements taken with toArray() when this method is called,
+     * and splits it by index range. Implementations can override it to traverse their storage directly and to report more characteristics.
+     * @return a Spliterator over the elements in this collection, that reports at least SIZED and SUBSIZED.
+     */
+    default java.util.Spliterator spliterator() {
+        return RangeSpliterator.snapshot(toArray(), 0);
+    }
+
+    /**
+     * Returns a sequential Stream with this collection as its source.
+     * @return a sequential Stream over the elements in this collection.
+     */
+    default java.util.stream.Stream stream() {
+        return java.util.stream.StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel Stream with this collection as its source.
+     * The work is divided by the trySplit() method of the spliterator.
+     * @return a possibly parallel Stream over the elements in this collection.
+     */
+    default java.util.stream.Stream parallelStream() {
+        return java.util.stream.StreamSupport.stream(spliterator(), true);
+    }
 }
@@ -0,0 +1,19 @@
+package myAdapter;
+
+/***
+ * public interface HListBatch.<br>
+ * <br>
+ * A group of operations on a list, that are executed holding the lock of the list only once.
+ * It is used by StampedListAdapter.readBatch and StampedListAdapter.writeBatch: the list passed to run() is a view
+ * that takes no lock, so every call costs as much as a call on a ListAdapter. The view passed by readBatch is read-only.<br>
+ * The view must not be used after run() returns.<br>
+ * @see StampedListAdapter StampedListAdapter
+ */
+public interface HListBatch {
+
+    /***
+     * Executes the operations of the batch.
+     * @param list the list, that can be used without locks until this method returns.
+     */
+    void run(HList list);
+}
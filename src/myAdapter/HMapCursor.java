@@ -0,0 +1,51 @@
+package myAdapter;
+
+/***
+ * public interface HMapCursor.<br>
+ * <br>
+ * A cursor over the entries of a MapAdapter, returned by MapAdapter.cursor(). Unlike the iterator of entrySet(), it creates
+ * no object per entry: advance() moves it to the next entry, whose key and value are then read from the same slot of the hashtable,
+ * without a second lookup. The same cursor object is used for the whole traversal.<br>
+ * key(), value(), setValue() and remove() refer to the entry reached by the last advance(); they throw IllegalStateException
+ * if advance() has not been called yet, if it has returned false, or if the entry has been removed by remove().<br>
+ * Like the iterators of the views, a cursor over a HashtableAdaptee is fail-fast: it throws ConcurrentModificationException if the map
+ * is structurally modified except through the cursor itself.<br>
+ * @see MapAdapter MapAdapter
+ */
+public interface HMapCursor {
+
+    /***
+     * Moves the cursor to the next entry of the map.
+     * @return true if the cursor is on an entry, false if there are no more entries.
+     */
+    boolean advance();
+
+    /***
+     * Returns the key of the current entry.
+     * @return the key of the current entry.
+     * @throws IllegalStateException if the cursor is not on an entry.
+     */
+    Object key();
+
+    /***
+     * Returns the value of the current entry.
+     * @return the value of the current entry.
+     * @throws IllegalStateException if the cursor is not on an entry.
+     */
+    Object value();
+
+    /***
+     * Replaces the value of the current entry, writing through to the map.
+     * @param value the new value, not null.
+     * @return the previous value of the entry.
+     * @throws NullPointerException if the value is null.
+     * @throws IllegalStateException if the cursor is not on an entry.
+     */
+    Object setValue(Object value);
+
+    /***
+     * Removes the current entry from the map; the cursor can then be moved to the next entry by advance().
+     * @throws IllegalStateException if the cursor is not on an entry.
+     */
+    void remove();
+}
@@ -0,0 +1,42 @@
+package myAdapter;
+import java.nio.ByteBuffer;
+
+/***
+ * public interface HRecordCodec.<br>
+ * <br>
+ * A codec translates the elements of a list to fixed-width records of bytes and back. It is used by the lists that keep their
+ * elements outside of the Java heap, like OffHeapListAdapter: every element occupies exactly width() bytes, so the record of the
+ * element at position i starts at the byte i * width().<br>
+ * <br>
+ * A codec must be stateless: the same codec can be shared by many lists.<br>
+ * @see PrimitiveRecordCodec PrimitiveRecordCodec
+ * @see OffHeapListAdapter OffHeapListAdapter
+ */
+public interface HRecordCodec {
+
+    /***
+     * Returns the number of bytes of every record.
+     * @return the number of bytes of every record, greater than zero.
+     */
+    int width();
+
+    /***
+     * Writes the record of the specified element in the buffer, starting at the specified byte.
+     * The position and the limit of the buffer must not be changed, and the codec must not write outside of the record.
+     * @param buffer the buffer that holds the records.
+     * @param offset index of the first byte of the record.
+     * @param element the element to be written.
+     * @throws ClassCastException if the class of the element can not be written by this codec.
+     * @throws NullPointerException if the element is null.
+     */
+    void write(ByteBuffer buffer, int offset, Object element);
+
+    /***
+     * Reads the element whose record starts at the specified byte of the buffer.
+     * The position and the limit of the buffer must not be changed.
+     * @param buffer the buffer that holds the records.
+     * @param offset index of the first byte of the record.
+     * @return a new object equal to the element that was written in the record.
+     */
+    Object read(ByteBuffer buffer, int offset);
+}
@@ -155,6 +155,16 @@ public interface HVector {
      */
     void insertElementAt(Object obj, int index);
 
+    /***
+     * Inserts all the components of the specified array in this vector, starting at the specified index.
+     * The capacity is increased at most once, the components with an index greater or equal to the specified index are shifted
+     * upward with a single copy, then the array is copied in the free slots.
+     * @param elements - the components to insert.
+     * @param index - where to insert the first component.
+     * @throws ArrayIndexOutOfBoundsException - if the index was invalid.
+     */
+    void insertElementsAt(Object[] elements, int index);
+
     /**
      * Adds the specified component to the end of this vector, increasing its size by one. The capacity of
      * this vector is increased if its size becomes greater than its capacity.
@@ -176,6 +186,15 @@ public interface HVector {
      */
     void removeAllElements();
 
+    /***
+     * Removes from this vector all of the components whose index is between fromIndex, inclusive, and toIndex, exclusive.
+     * The components that follow are shifted downward only once, with a single copy, and the freed slots are set to null.
+     * @param fromIndex - index of the first component to be removed.
+     * @param toIndex - index after the last component to be removed.
+     * @throws ArrayIndexOutOfBoundsException - if fromIndex or toIndex are out of range (fromIndex &lt; 0 || toIndex &gt; size() || fromIndex &gt; toIndex).
+     */
+    void removeRange(int fromIndex, int toIndex);
+
     /***
      * Returns a string representation of this vector.
      * @return a string representation of this vector.
@@ -0,0 +1,246 @@
+package myAdapter;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/***
+ * The HashEngine class is the common base of the hashtables that can store the entries of a MapAdapter:
+ * HashtableAdaptee, that wraps java.util.Hashtable, and OpenHashAdaptee, that uses open addressing.<br>
+ * Besides the HHashtable interface, an engine keeps the sum of key.hashCode() + value.hashCode() over its entries,
+ * which is the hash code of the map, and optionally a ValueIndex of its values. Every subclass must call entryChanged() when it puts
+ * or removes an entry, and cleared() in clear().
+ * @see MapAdapter MapAdapter.
+ */
+abstract class HashEngine implements HHashtable {
+
+    /***
+     * The sum of key.hashCode() + value.hashCode() over the entries, kept up to date by put, remove and clear.
+     */
+    int hashSum;
+
+    /***
+     * The reverse index of the values, or null if the values are not indexed.
+     */
+    ValueIndex index;
+
+    /***
+     * Returns the sum of key.hashCode() + value.hashCode() over the entries of the hashtable, that is the hash code of a map
+     * with the same entries, without traversing them.<br>
+     * The sum is updated when an entry is put or removed, so it stays right only if the hash codes of the keys and of the values
+     * do not change while they are in the hashtable.
+     * @return the sum of the hash codes of the entries.
+     */
+    int hashSum() {
+        return hashSum;
+    }
+
+    /***
+     * Replaces the value of a key only if the key is in the hashtable, with a single lookup.
+     * @param key the key, not null.
+     * @param value the new value, not null.
+     * @return the previous value of the key, or null if the key is not in the hashtable, that is left unchanged.
+     * @throws NullPointerException if the key or the value is null.
+     */
+    abstract Object replace(Object key, Object value);
+
+    /***
+     * Maps the key to the value only if the key is not in the hashtable, with a single lookup.
+     * @param key the key, not null.
+     * @param value the value, not null.
+     * @return the current value of the key, or null if the key was absent and has been added.
+     */
+    abstract Object putIfAbsent(Object key, Object value);
+
+    /***
+     * If the key is not in the hashtable, maps it to the value computed by the function, unless the value is null.
+     * The key is looked up once.
+     * @param key the key, not null.
+     * @param function the function that computes the value from the key.
+     * @return the current value of the key, or null if it is absent.
+     * @throws java.util.ConcurrentModificationException if the function modifies the hashtable.
+     */
+    abstract Object computeIfAbsent(Object key, Function function);
+
+    /***
+     * Maps the key to the value computed by the function from the key and its current value, null if the key is absent;
+     * if the computed value is null the key is removed. The key is looked up once.
+     * @param key the key, not null.
+     * @param function the function that computes the new value.
+     * @return the new value of the key, or null if it is absent.
+     * @throws java.util.ConcurrentModificationException if the function modifies the hashtable.
+     */
+    abstract Object compute(Object key, BiFunction function);
+
+    /***
+     * Maps the key to the value if it is absent, otherwise to the value computed by the function from its current value and the value;
+     * if the computed value is null the key is removed. The key is looked up once.
+     * @param key the key, not null.
+     * @param value the value, not null.
+     * @param function the function that merges the current value with the value.
+     * @return the new value of the key, or null if it is absent.
+     * @throws java.util.ConcurrentModificationException if the function modifies the hashtable.
+     */
+    abstract Object merge(Object key, Object value, BiFunction function);
+
+    /***
+     * Returns a new cursor over the entries of the hashtable, positioned before the first one.
+     * @return a new cursor.
+     */
+    abstract Cursor cursor();
+
+    /***
+     * Returns a spliterator over the entries of the hashtable, that passes to the action the element computed by the function
+     * from the key and the value of every entry; it is used by the views of MapAdapter.<br>
+     * By default the elements are copied with a cursor and the copy is split by index, as an engine that does not expose its table
+     * must do. OpenHashAdaptee and BiHashEngine override it with a SlotSpliterator, that splits the table itself by ranges of slots.
+     * @param element the function that computes the element of an entry from its key and its value.
+     * @param characteristics the characteristics of the elements.
+     * @return a spliterator over the elements of the entries.
+     */
+    Spliterator spliterator(BiFunction element, int characteristics) {
+        Object[] a = new Object[size()];
+        Cursor c = cursor();
+        int i = 0;
+        while(c.advance())
+            a[i++] = element.apply(c.key(), c.value());
+        return RangeSpliterator.snapshot(a, characteristics);
+    }
+
+    /***
+     * Starts or stops keeping a ValueIndex of the values. The index is built from the current entries, in linear time.
+     * @param enabled true to index the values, false to drop the index.
+     */
+    final void indexValues(boolean enabled) {
+        if(!enabled) {
+            index = null;
+            return;
+        }
+        if(index != null)
+            return;
+        ValueIndex vi = new ValueIndex();
+        Cursor c = cursor();
+        while(c.advance())
+            vi.add(c.value(), c.key());
+        index = vi;
+    }
+
+    /***
+     * Returns true if at least one key is mapped to the value; it takes constant time when the values are indexed,
+     * otherwise it scans the hashtable by contains().
+     * @param value the value, not null.
+     * @return true if the value is in the hashtable.
+     * @throws NullPointerException if the value is null.
+     */
+    final boolean containsValue(Object value) {
+        if(index == null)
+            return contains(value);
+        if(value == null)
+            throw new NullPointerException("null value is not allowed");
+        return index.contains(value);
+    }
+
+    /***
+     * Updates hashSum and the ValueIndex after a clear of the hashtable.
+     */
+    final void cleared() {
+        hashSum = 0;
+        if(index != null)
+            index.clear();
+    }
+
+    /***
+     * Updates hashSum, and the ValueIndex if any, after the value of key has changed from old to value; a null old value means that the key was absent,
+     * a null value that it has been removed.
+     * @param key the key of the entry.
+     * @param old the previous value of the key, or null.
+     * @param value the new value of the key, or null.
+     */
+    final void entryChanged(Object key, Object old, Object value) {
+        if(old != null) {
+            hashSum -= key.hashCode() + old.hashCode();
+            if(index != null)
+                index.remove(old, key);
+        }
+        if(value != null) {
+            hashSum += key.hashCode() + value.hashCode();
+            if(index != null)
+                index.add(value, key);
+        }
+    }
+
+    /***
+     * A cursor of an engine. Besides HMapCursor, it tells whether advance() would find another entry, without moving,
+     * as the hasNext() of the iterators of MapAdapter needs.
+     */
+    abstract static class Cursor implements HMapCursor {
+
+        /***
+         * Returns true if advance() would move the cursor to another entry.
+         * @return true if there are more entries.
+         */
+        abstract boolean hasMore();
+    }
+
+    /***
+     * A spliterator over a range of the slots of the table of an engine, from index, inclusive, to fence, exclusive.
+     * trySplit() gives away the first half of the remaining slots, so a parallel stream divides the table without copying the entries.
+     * The estimate of the size is halved by every split; it is exact, and the spliterator reports SIZED, only before the first split.
+     */
+    abstract static class SlotSpliterator implements Spliterator {
+        final BiFunction element;
+        final int characteristics;
+        int index;
+        final int fence;
+        private long est;
+        private boolean exact;
+
+        /***
+         * Creates a spliterator on the slots between from, inclusive, and to, exclusive.
+         * @param element the function that computes the element of an entry from its key and its value.
+         * @param from the first slot.
+         * @param to the slot after the last one.
+         * @param est the estimate of the number of entries in the range.
+         * @param exact true if the estimate is the exact number of entries.
+         * @param characteristics the characteristics of the elements.
+         */
+        SlotSpliterator(BiFunction element, int from, int to, long est, boolean exact, int characteristics) {
+            this.element = element;
+            this.index = from;
+            this.fence = to;
+            this.est = est;
+            this.exact = exact;
+            this.characteristics = characteristics;
+        }
+
+        /***
+         * Creates a spliterator of the same table on the slots between from, inclusive, and to, exclusive.
+         * @param from the first slot.
+         * @param to the slot after the last one.
+         * @param est the estimate of the number of entries in the range.
+         * @return the new spliterator.
+         */
+        abstract SlotSpliterator split(int from, int to, long est);
+
+        @Override
+        public Spliterator trySplit() {
+            int lo = index;
+            int mid = (lo + fence) >>> 1;
+            if(lo >= mid)
+                return null;
+            index = mid;
+            est >>>= 1;
+            exact = false;
+            return split(lo, mid, est);
+        }
+
+        @Override
+        public long estimateSize() {
+            return est;
+        }
+
+        @Override
+        public int characteristics() {
+            return exact ? characteristics | SIZED : characteristics;
+        }
+    }
+}
@@ -2,6 +2,10 @@ package myAdapter;
 
 import java.util.Enumeration;
 import java.util.Hashtable;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /***
  * This class implements a hashtable of Java cldc 1.1, which maps keys to values. Any non-null object can be used as a key or as a value.<br>
@@ -10,7 +14,7 @@ import java.util.Hashtable;
  * @see HHashtable HHashtable
  */
 
-public class HashtableAdaptee implements HHashtable {
+public class HashtableAdaptee extends HashEngine {
 
     Hashtable hash;
     /***
@@ -69,21 +73,146 @@ public class HashtableAdaptee implements HHashtable {
 
     @Override
     public Object put(Object key, Object value) {
-        return hash.put(key, value);
+        Object old = hash.put(key, value);
+        entryChanged(key, old, value);
+        return old;
     }
 
     @Override
     public Object remove(Object key) {
-        return hash.remove(key);
+        Object old = hash.remove(key);
+        if(old != null)
+            entryChanged(key, old, null);
+        return old;
     }
 
     @Override
     public void clear() {
         hash.clear();
+        cleared();
+    }
+
+    @Override
+    Object replace(Object key, Object value) {
+        Object old = hash.replace(key, value);
+        if(old != null)
+            entryChanged(key, old, value);
+        return old;
+    }
+
+    @Override
+    Object putIfAbsent(Object key, Object value) {
+        Object old = hash.putIfAbsent(key, value);
+        if(old == null)
+            entryChanged(key, null, value);
+        return old;
+    }
+
+    @Override
+    Object computeIfAbsent(Object key, Function function) {
+        int size = hash.size();
+        Object value = hash.computeIfAbsent(key, function);
+        if(hash.size() != size)
+            entryChanged(key, null, value);
+        return value;
+    }
+
+    @Override
+    Object compute(Object key, BiFunction function) {
+        Remap remap = new Remap(function, false);
+        Object value = hash.compute(key, remap);
+        entryChanged(key, remap.old, value);
+        return value;
+    }
+
+    @Override
+    Object merge(Object key, Object value, BiFunction function) {
+        Remap remap = new Remap(function, true);
+        Object result = hash.merge(key, value, remap);
+        entryChanged(key, remap.old, result);
+        return result;
+    }
+
+    @Override
+    Cursor cursor() {
+        return new NodeCursor();
     }
 
     @java.lang.Override
     public String toString() {
         return hash.toString();
     }
+
+    /***
+     * Cursor over the nodes of the java.util.Hashtable, walked by the iterator of its entry set: the key and the value are read
+     * from the same node, and setValue() writes into the node. The iterator is fail-fast.
+     */
+    private class NodeCursor extends Cursor {
+        private final Iterator it = hash.entrySet().iterator();
+        private Map.Entry node;
+
+        private Map.Entry node() {
+            if(node == null)
+                throw new IllegalStateException("the cursor is not on an entry");
+            return node;
+        }
+
+        @Override
+        boolean hasMore() {
+            return it.hasNext();
+        }
+
+        @Override
+        public boolean advance() {
+            node = it.hasNext() ? (Map.Entry) it.next() : null;
+            return node != null;
+        }
+
+        @Override
+        public Object key() {
+            return node().getKey();
+        }
+
+        @Override
+        public Object value() {
+            return node().getValue();
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            Map.Entry e = node();
+            Object old = e.setValue(value);
+            entryChanged(e.getKey(), old, value);
+            return old;
+        }
+
+        @Override
+        public void remove() {
+            Map.Entry e = node();
+            it.remove();
+            entryChanged(e.getKey(), e.getValue(), null);
+            node = null;
+        }
+    }
+
+    /***
+     * Function passed to Hashtable.compute and Hashtable.merge, that records the value of the key before the update,
+     * so that hashSum can be updated after it.
+     */
+    private static class Remap implements BiFunction {
+        private final BiFunction function;
+        private final boolean merge;
+        private Object old;
+
+        private Remap(BiFunction function, boolean merge) {
+            this.function = function;
+            this.merge = merge;
+        }
+
+        @Override
+        public Object apply(Object a, Object b) {
+            old = merge ? a : b;
+            return function.apply(a, b);
+        }
+    }
 }
@@ -0,0 +1,208 @@
+package myAdapter;
+
+/***
+ * The IntArrayAdaptee class implements a growable array of int values.<br>
+ * The components are stored in an int[] without boxing, so a list of millions of numbers costs 4 bytes per element
+ * instead of a reference plus an Integer object.<br>
+ * The class respects the HVector interface, so it can be used as the storage of a ListAdapter: the Object methods box and unbox
+ * the values, and only Integer objects can be stored (any other object, or null, throws ClassCastException).
+ * The methods that end with Int work directly on the primitive values.<br>
+ * Like ArrayAdaptee, the class is not synchronized.<br>
+ * <b>Note this : </b> setSize() fills the new components with 0, because an int component cannot be null.<br>
+ * @see PrimitiveArrayAdaptee PrimitiveArrayAdaptee.
+ * @see IntListAdapter IntListAdapter.
+ */
+public class IntArrayAdaptee extends PrimitiveArrayAdaptee {
+    /***
+     * The array buffer into which the components of the vector are stored.
+     */
+    int[] elementData;
+
+    /***
+     * Constructs an empty vector so that its internal data array has size 10.
+     */
+    public IntArrayAdaptee() {
+        this(10);
+    }
+
+    /***
+     * Constructs an empty vector with the specified initial capacity.
+     * @param initialCapacity - the initial capacity.
+     * @throws IllegalArgumentException - if the specified initial capacity is negative.
+     */
+    public IntArrayAdaptee(int initialCapacity) {
+        super(initialCapacity);
+        elementData = new int[initialCapacity];
+    }
+
+    /***
+     * Returns the value of the specified object as an int.
+     * @param obj - an Integer.
+     * @return the int value of the object.
+     * @throws ClassCastException - if the object is not an Integer.
+     */
+    private static int unbox(Object obj) {
+        if(!(obj instanceof Integer))
+            throw new ClassCastException("only Integer elements can be stored");
+        return ((Integer) obj).intValue();
+    }
+
+    @Override
+    Object array() {
+        return elementData;
+    }
+
+    @Override
+    void setArray(Object a) {
+        elementData = (int[]) a;
+    }
+
+    @Override
+    Object newArray(int length) {
+        return new int[length];
+    }
+
+    @Override
+    Object box(int index) {
+        return Integer.valueOf(elementData[index]);
+    }
+
+    @Override
+    Object toValues(Object[] elements) {
+        int[] values = new int[elements.length];
+        for(int i = 0; i < elements.length; i++)
+            values[i] = unbox(elements[i]);
+        return values;
+    }
+
+    /***
+     * Returns the component at the specified index, without boxing it.
+     * @param index - an index into this vector.
+     * @return the component at the specified index.
+     * @throws ArrayIndexOutOfBoundsException - if an invalid index was given.
+     */
+    public int getInt(int index) {
+        checkIndex(index);
+        return elementData[index];
+    }
+
+    /***
+     * Sets the component at the specified index of this vector to be the specified value.
+     * @param value - what the component is to be set to.
+     * @param index - the specified index.
+     * @return the previous component at that position.
+     * @throws ArrayIndexOutOfBoundsException - if the index was invalid.
+     */
+    public int setIntAt(int value, int index) {
+        checkIndex(index);
+        int old = elementData[index];
+        elementData[index] = value;
+        return old;
+    }
+
+    /***
+     * Adds the specified value to the end of this vector, increasing its size by one.
+     * @param value - the component to be added.
+     */
+    public void addInt(int value) {
+        int index = append();
+        elementData[index] = value;
+    }
+
+    /***
+     * Inserts the specified value as a component in this vector at the specified index.
+     * @param value - the component to insert.
+     * @param index - where to insert the new component.
+     * @throws ArrayIndexOutOfBoundsException - if the index was invalid.
+     */
+    public void insertIntAt(int value, int index) {
+        openGap(index, 1);
+        elementData[index] = value;
+        elementCount++;
+    }
+
+    /***
+     * Deletes the component at the specified index and returns it.
+     * @param index - the index of the component to remove.
+     * @return the removed component.
+     * @throws ArrayIndexOutOfBoundsException - if the index was invalid.
+     */
+    public int removeIntAt(int index) {
+        checkIndex(index);
+        int old = elementData[index];
+        delete(index);
+        return old;
+    }
+
+    /***
+     * Searches for the first occurrence of the given value, beginning the search at index.
+     * @param value - the value to search.
+     * @param index - the index to start searching from.
+     * @return the index of the first occurrence of the value at position index or later; returns -1 if the value is not found.
+     */
+    public int indexOfInt(int value, int index) {
+        for(int i = index; i < elementCount; i++)
+            if(elementData[i] == value)
+                return i;
+        return -1;
+    }
+
+    /***
+     * Searches backwards for the given value, starting from the specified index.
+     * @param value - the value to search.
+     * @param index - the index to start searching from.
+     * @return the index of the last occurrence of the value at position index or earlier; returns -1 if the value is not found.
+     */
+    public int lastIndexOfInt(int value, int index) {
+        checkSearchIndex(index);
+        for(int i = index; i >= 0; i--)
+            if(elementData[i] == value)
+                return i;
+        return -1;
+    }
+
+    /***
+     * Copies the components of this vector into a new int array.
+     * @return an int array with the components of this vector.
+     */
+    public int[] toIntArray() {
+        int[] a = new int[elementCount];
+        System.arraycopy(elementData, 0, a, 0, elementCount);
+        return a;
+    }
+
+    @Override
+    public int capacity() {
+        return elementData.length;
+    }
+
+    @Override
+    public int indexOf(Object elem, int index) {
+        if(!(elem instanceof Integer))
+            return -1;
+        return indexOfInt(((Integer) elem).intValue(), index);
+    }
+
+    @Override
+    public int lastIndexOf(Object elem, int index) {
+        checkSearchIndex(index);
+        if(!(elem instanceof Integer))
+            return -1;
+        return lastIndexOfInt(((Integer) elem).intValue(), index);
+    }
+
+    @Override
+    public void setElementAt(Object obj, int index) {
+        setIntAt(unbox(obj), index);
+    }
+
+    @Override
+    public void insertElementAt(Object obj, int index) {
+        insertIntAt(unbox(obj), index);
+    }
+
+    @Override
+    public void addElement(Object obj) {
+        addInt(unbox(obj));
+    }
+}
@@ -0,0 +1,188 @@
+package myAdapter;
+
+/***
+ * public class IntListAdapter <br> extends
+ * @see PrimitiveListAdapter PrimitiveListAdapter. <br>
+ * A ListAdapter of int values, stored in an IntArrayAdaptee without boxing.<br>
+ * The list respects the HList interface with Integer elements, so it can be passed to any code that uses a ListAdapter;
+ * the methods that end with Int read and write the values as int and never create an Integer.<br>
+ * Only Integer elements can be inserted through the HList methods, any other object throws ClassCastException.<br>
+ * @see IntArrayAdaptee IntArrayAdaptee.
+ */
+public class IntListAdapter extends PrimitiveListAdapter {
+    private IntArrayAdaptee values;
+
+    /***
+     * Creates a new empty list of int values.
+     */
+    public IntListAdapter() {
+        this(new IntArrayAdaptee());
+    }
+
+    /***
+     * Creates a new empty list of int values with the specified initial capacity.
+     * @param rows the initial capacity of the list.
+     * @throws IllegalArgumentException if the initial capacity is negative.
+     */
+    public IntListAdapter(int rows) {
+        this(new IntArrayAdaptee(rows));
+    }
+
+    private IntListAdapter(IntArrayAdaptee storage) {
+        super(storage);
+        values = storage;
+    }
+
+    /***
+     * Returns the value at the specified position in this list.
+     * @param index index of the value to return.
+     * @return the value at the specified position.
+     * @throws IndexOutOfBoundsException if the index is out of range (index &lt; 0 || index &gt;= size()).
+     */
+    public int getInt(int index) {
+        return values.getInt(index);
+    }
+
+    /***
+     * Replaces the value at the specified position in this list with the specified value.
+     * @param index index of the value to replace.
+     * @param value value to be stored at the specified position.
+     * @return the value previously at the specified position.
+     * @throws IndexOutOfBoundsException if the index is out of range (index &lt; 0 || index &gt;= size()).
+     */
+    public int setInt(int index, int value) {
+        int old = values.setIntAt(value, index);
+        contentChanged();
+        return old;
+    }
+
+    /***
+     * Appends the specified value to the end of this list.
+     * @param value value to be appended.
+     * @return true.
+     */
+    public boolean addInt(int value) {
+        values.addInt(value);
+        modCount++;
+        return true;
+    }
+
+    /***
+     * Inserts the specified value at the specified position in this list.
+     * @param index index at which the value is to be inserted.
+     * @param value value to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range (index &lt; 0 || index &gt; size()).
+     */
+    public void addInt(int index, int value) {
+        values.insertIntAt(value, index);
+        modCount++;
+    }
+
+    /***
+     * Removes the value at the specified position in this list.
+     * @param index the index of the value to be removed.
+     * @return the value previously at the specified position.
+     * @throws IndexOutOfBoundsException if the index is out of range (index &lt; 0 || index &gt;= size()).
+     */
+    public int removeIntAt(int index) {
+        int old = values.removeIntAt(index);
+        modCount++;
+        return old;
+    }
+
+    /***
+     * Returns the index in this list of the first occurrence of the specified value, or -1 if this list does not contain it.
+     * @param value value to search for.
+     * @return the index of the first occurrence of the value, or -1.
+     */
+    public int indexOfInt(int value) {
+        return values.indexOfInt(value, 0);
+    }
+
+    /***
+     * Returns the index in this list of the last occurrence of the specified value, or -1 if this list does not contain it.
+     * @param value value to search for.
+     * @return the index of the last occurrence of the value, or -1.
+     */
+    public int lastIndexOfInt(int value) {
+        return values.lastIndexOfInt(value, values.size() - 1);
+    }
+
+    /***
+     * Returns true if this list contains the specified value.
+     * @param value value whose presence in this list is to be tested.
+     * @return true if this list contains the specified value.
+     */
+    public boolean containsInt(int value) {
+        return values.indexOfInt(value, 0) >= 0;
+    }
+
+    /***
+     * Returns an int array containing all of the values in this list in proper sequence.
+     * @return a new array with the values of this list.
+     */
+    public int[] toIntArray() {
+        return values.toIntArray();
+    }
+
+    /***
+     * Returns a cursor over the values of this list, starting at the beginning of the list.
+     * @return an IntCursor positioned before the first value.
+     */
+    public IntCursor intCursor() {
+        return new IntCursor(0);
+    }
+
+    /***
+     * Returns a cursor over the values of this list, starting at the specified position.
+     * @param index index of the first value to be returned by nextInt().
+     * @return an IntCursor positioned before the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (index &lt; 0 || index &gt; size()).
+     */
+    public IntCursor intCursor(int index) {
+        checkCursorIndex(index);
+        return new IntCursor(index);
+    }
+
+    /***
+     * A list iterator over the int values of an IntListAdapter, that moves in both directions without boxing.<br>
+     * Like the iterators of ListAdapter, the cursor is fail-fast: if the list is structurally modified after its creation
+     * it throws ConcurrentModificationException.
+     */
+    public class IntCursor extends Cursor {
+
+        private IntCursor(int index) {
+            super(index);
+        }
+
+        /***
+         * Returns the next value in the list.
+         * @return the next value in the list.
+         * @throws java.util.NoSuchElementException if the cursor is at the end of the list.
+         */
+        public int nextInt() {
+            int i = advance();
+            return values.elementData[i];
+        }
+
+        /***
+         * Returns the previous value in the list.
+         * @return the previous value in the list.
+         * @throws java.util.NoSuchElementException if the cursor is at the beginning of the list.
+         */
+        public int previousInt() {
+            int i = retreat();
+            return values.elementData[i];
+        }
+
+        /***
+         * Replaces the last value returned by nextInt() or previousInt() with the specified value.
+         * @param value the new value.
+         * @throws IllegalStateException if neither nextInt() nor previousInt() have been called.
+         */
+        public void setInt(int value) {
+            values.elementData[lastReturned()] = value;
+            contentChanged();
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package myAdapter;
-import java.util.Enumeration;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /***
  * public class List <br> implements
@@ -10,18 +15,35 @@ import java.util.NoSuchElementException;
  * Public class ListAdapter, which realizes the List interface Java library 1.4.2.<br>
  * The class was implemented with the Vectoradaptee that mimics the vector behavior of the version of java cldc 1.1. <br>
  * The structure of Listadapter is based on a vector, but maintains the behavior of a list. consequently the class respects the Hlist interface. <br>
- * <b>Note this : </b> if the list change the size when an iterator is initialized on it, the iterator will restart from the beginning of the list.<br>
+ * By default the list is stored in an ArrayAdaptee, an unsynchronized array that the list owns, so a single thread pays no lock on each call.
+ * A list that is really shared between threads can be built on a VectorAdaptee with the ListAdapter(HVector) constructor.<br>
+ * <b>Note this : </b> the iterators and the sublists are fail-fast: every structural modification (a change of the size) increments the modCount of the list,
+ * and an iterator or a sublist that finds a modCount different from the one it expects, because the list was changed by someone else,
+ * throws ConcurrentModificationException instead of going on with wrong positions.<br>
  *
  */
 
 public class ListAdapter implements HList {
-    private VectorAdaptee v;
+    private HVector v;
+
+    /***
+     * The number of times this list has been structurally modified, that is the number of changes of its size.
+     * Iterators and sublists compare it with the value they expect to detect a concurrent modification.
+     */
+    int modCount = 0;
+
+    /***
+     * The hash code of the list computed by the last call of hashCode(). It is valid while hashModCount is equal to modCount:
+     * a structural modification makes it stale by itself, any other change of the elements calls contentChanged().
+     */
+    private int hash;
+    private int hashModCount = -1;
 
     /***
      * Creates a new scrolling list.
      */
     public ListAdapter() {
-        v = new VectorAdaptee();
+        v = new ArrayAdaptee();
     }
 
     /***
@@ -29,7 +51,37 @@ public class ListAdapter implements HList {
      * @param rows the number of items to show.
      */
     public ListAdapter(int rows) {
-        v = new VectorAdaptee(rows);
+        v = new ArrayAdaptee(rows);
+    }
+
+    /***
+     * Creates a new scrolling list stored in the specified vector.<br>
+     * Use <code>new ListAdapter(new VectorAdaptee())</code> to obtain the synchronized mode, where every call takes the monitor of the vector.
+     * @param storage the empty vector that will hold the elements of the list.
+     * @throws NullPointerException if the specified vector is null.
+     * @throws IllegalArgumentException if the specified vector is not empty.
+     */
+    public ListAdapter(HVector storage) {
+        if(storage == null)
+            throw new NullPointerException("null storage is not allowed");
+        if(!storage.isEmpty())
+            throw new IllegalArgumentException("the storage of a new list must be empty");
+        v = storage;
+    }
+
+    /***
+     * Creates a new list over the specified storage, that may already contain elements: the elements of the storage
+     * become the elements of the list. It is used by the lists that reopen a persistent storage.
+     * @param storage the storage of the list.
+     * @param adopt true, to accept a storage that is not empty.
+     * @throws NullPointerException if the storage is null.
+     */
+    ListAdapter(HVector storage, boolean adopt) {
+        if(storage == null)
+            throw new NullPointerException("null storage is not allowed");
+        if(!adopt && !storage.isEmpty())
+            throw new IllegalArgumentException("the storage of a new list must be empty");
+        v = storage;
     }
 
 
@@ -40,6 +92,7 @@ public class ListAdapter implements HList {
         if(index < 0 || index > size())
             throw  new IndexOutOfBoundsException("you can do better");
         v.insertElementAt(element,index);
+        modCount++;
     }
 
     @Override
@@ -48,30 +101,14 @@ public class ListAdapter implements HList {
             throw new NullPointerException("null Object is not allowed");
         else {
             v.addElement(o);
+            modCount++;
             return true;
         }
     }
 
     @Override
     public boolean addAll(HCollection c) {
-        if(c.equals(null))
-            throw new NullPointerException("null Collection is not allowed");
-        if(!(c instanceof ListAdapter))
-            throw new ClassCastException("Different HCollection that are not implemented by ListAdapter are not allowed");
-        HIterator h = c.iterator();
-
-        if(!h.hasNext())
-            return false;
-        else {
-            while (h.hasNext()) {
-                Object obj = h.next();
-                if(obj.equals(null))
-                    throw new NullPointerException("null element is not allowed");
-                else
-                    v.addElement(obj);
-            }
-            return true;
-        }
+        return addAll(size(), c);
     }
 
     @Override
@@ -80,28 +117,99 @@ public class ListAdapter implements HList {
             throw new IndexOutOfBoundsException("select a different index to add the elements");
         if(c.equals(null))
             throw new NullPointerException("null Collection is not allowed");
-        if(!(c instanceof ListAdapter))
-            throw new ClassCastException("Different HCollection that are not implemented by ListAdapter are not allowed");
-        HIterator h = c.iterator();
-        if(!h.hasNext())
+        return insertArray(index, toCheckedArray(c));
+    }
+
+    /***
+     * Inserts the elements of the array at the specified index. It is addAll() after the collection has been copied by toCheckedArray(),
+     * so that StampedListAdapter can copy the collection before taking its lock, and insert the copy holding it.
+     * @param index index at which to insert the first element.
+     * @param a the elements to be inserted, none of them is null.
+     * @return true if the list has changed.
+     * @throws IndexOutOfBoundsException if the index is out of range (index &lt; 0 || index &gt; size()).
+     */
+    boolean insertArray(int index, Object[] a) {
+        if(index < 0 || index > size())
+            throw new IndexOutOfBoundsException("select a different index to add the elements");
+        if(a.length == 0)
+            return false;
+        v.insertElementsAt(a, index);
+        modCount++;
+        return true;
+    }
+
+    /***
+     * Removes the elements that are in the array, or the ones that are not in it. It is removeAll() or retainAll() after the collection
+     * has been copied by toCheckedArray().
+     * @param a the elements of the collection, none of them is null.
+     * @param retain true to keep only the elements in the array, false to remove them.
+     * @return true if the list has changed.
+     */
+    boolean filterArray(Object[] a, boolean retain) {
+        if(a.length == 0)
+            return false;
+        if(filterRange(v, 0, size(), a, retain) == 0)
             return false;
+        modCount++;
+        return true;
+    }
+
+    /***
+     * Returns the elements of the specified collection in an array, checking that none of them is null.
+     * The array is taken before the list is modified, so a collection can be safely added to itself.<br>
+     * A ListAdapter, or one of its sublists, a CopyOnWriteListAdapter and a StampedListAdapter give their elements with toArray(), which is a copy of their storage;
+     * any other HCollection is read through its HIterator into an array presized with size().
+     * @param c the collection to be copied.
+     * @return an array with the elements of the collection.
+     * @throws NullPointerException if the collection contains a null element.
+     */
+    static Object[] toCheckedArray(HCollection c) {
+        Object[] a;
+        if(c instanceof ListAdapter || c instanceof CopyOnWriteListAdapter || c instanceof StampedListAdapter)
+            a = c.toArray();
         else {
-            while( h.hasNext() ) {
-                Object obj = h.next();
-                if(obj.equals(null))
-                    throw new NullPointerException("null element is not allowed");
-                else
-                    v.insertElementAt(obj,index++);
+            a = new Object[c.size()];
+            int n = 0;
+            HIterator h = c.iterator();
+            while(h.hasNext()) {
+                if(n == a.length) {
+                    Object[] b = new Object[a.length * 2 + 1];
+                    System.arraycopy(a, 0, b, 0, n);
+                    a = b;
+                }
+                a[n++] = h.next();
             }
-            return true;
+            if(n < a.length) {
+                Object[] b = new Object[n];
+                System.arraycopy(a, 0, b, 0, n);
+                a = b;
+            }
+        }
+        for(int i = 0; i < a.length; i++) {
+            if(a[i] == null)
+                throw new NullPointerException("null element is not allowed");
         }
+        return a;
     }
 
     @Override
     public void clear() {
-        while(!v.isEmpty()) {
-            v.removeElementAt(0);
-        }
+        removeRange(0, size());
+    }
+
+    /***
+     * Removes from this list all of the elements whose index is between fromIndex, inclusive, and toIndex, exclusive.
+     * Shifts any succeeding elements to the left (reduces their index) with a single copy, so the cost is linear in the size of the list.
+     * If toIndex==fromIndex, this operation has no effect.
+     * @param fromIndex index of first element to be removed.
+     * @param toIndex index after last element to be removed.
+     * @throws IndexOutOfBoundsException if the range is not valid (fromIndex &lt; 0 || toIndex &gt; size() || fromIndex &gt; toIndex).
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        if(fromIndex < 0 || toIndex > size() || fromIndex > toIndex)
+            throw new IndexOutOfBoundsException("fromIndex = " + fromIndex + ", toIndex = " + toIndex);
+        v.removeRange(fromIndex, toIndex);
+        modCount++;
     }
 
     @Override
@@ -121,39 +229,19 @@ public class ListAdapter implements HList {
     public boolean containsAll(HCollection c) {
         if(c.equals(null))
             throw new NullPointerException("null HCollection is not allowed");
-        if(c.size() > size())
-            return false;
-
-        int coincidence = 0;
-        HIterator h = c.iterator();
-        while (h.hasNext()) {
-            Object obj = h.next();
-            if (obj.equals(null))
-                throw new NullPointerException("null HCollection is not allowed");
-            else if (contains(obj))
-                coincidence++;
-            }
-        return coincidence == c.size();
+        return containsAllRange(v, 0, size(), toCheckedArray(c));
     }
 
     @Override
     public boolean equals(Object o){
-        if(!(o instanceof ListAdapter))
-            return false;
-        ListIteratorr h1 = listIterator();
-        ListIteratorr h2 = new ListIteratorr((ListAdapter) o);
-        while(h1.hasNext() && h2.hasNext()) {
-            Object obj1 = h1.next();
-            Object obj2 = h2.next();
-            if(obj1.equals(obj2)) {
-            }
-            else
+        if(o == this)
+            return true;
+        if(o instanceof ListAdapter) {
+            ListAdapter l = (ListAdapter) o;
+            if(hashModCount == modCount && l.hashModCount == l.modCount && hash != l.hash)
                 return false;
         }
-        if(h1.hasNext() || h2.hasNext())
-            return false;
-        else
-            return true;
+        return equalsRange(v, 0, size(), o);
     }
 
     @Override
@@ -161,15 +249,27 @@ public class ListAdapter implements HList {
         return v.elementAt(index);
     }
 
+    /***
+     * Returns the hash code of this list, as defined by HList.hashCode(). The value is cached: it is computed again only after the list
+     * has been changed, so a list used as a key of a map is traversed once and not at every lookup.<br>
+     * Like the hash code of any key, the cached value becomes wrong if an element of the list is changed from outside the list.
+     * @return the hash code of this list.
+     */
     @Override
     public int hashCode() {
-        int hashCode = 1;
-        HIterator i = iterator();
-        while (i.hasNext()) {
-            Object obj = i.next();
-            hashCode = 31*hashCode + (obj==null ? 0 : obj.hashCode());
+        if(hashModCount != modCount) {
+            hash = hashRange(v, 0, size());
+            hashModCount = modCount;
         }
-        return hashCode;
+        return hash;
+    }
+
+    /***
+     * Discards the cached hash code. It is called by every method that changes the elements of the list without changing its size,
+     * the structural modifications already do it by incrementing modCount.
+     */
+    void contentChanged() {
+        hashModCount = modCount - 1;
     }
 
     @Override
@@ -186,7 +286,7 @@ public class ListAdapter implements HList {
 
     @Override
     public HIterator iterator() {
-        return new Iteratorr(this.v);
+        return new Iteratorr(this, this, v, 0);
     }
 
     @Override
@@ -198,7 +298,7 @@ public class ListAdapter implements HList {
 
     @Override
     public ListIteratorr listIterator() {
-        return new ListIteratorr();
+        return new ListIteratorr(this, this, v, 0, 0);
     }
 
     @Override
@@ -206,7 +306,7 @@ public class ListAdapter implements HList {
         if(index < 0 || index >= size())
             throw new IndexOutOfBoundsException("It was introduced an invalid index");
 
-        return new ListIteratorr(index);
+        return new ListIteratorr(this, this, v, 0, index);
     }
 
     @Override
@@ -215,6 +315,7 @@ public class ListAdapter implements HList {
             throw new IndexOutOfBoundsException("It was introduced an invalid index");
         Object give = v.elementAt(index);
         v.removeElementAt(index);
+        modCount++;
         return give;
     }
 
@@ -222,53 +323,118 @@ public class ListAdapter implements HList {
     public boolean remove(Object o) {
         if(o.equals(null))
             throw  new NullPointerException("Null object is not allowed");
-        return v.removeElement(o);
+        if(!v.removeElement(o))
+            return false;
+        modCount++;
+        return true;
     }
 
     @Override
     public boolean removeAll(HCollection c) {
         if(c.equals(null))
             throw new NullPointerException("null HCollection is not allowed");
-        HIterator h = c.iterator();
-        if( !h.hasNext() )
-            return false;
-        else {
-            boolean set = false;
-            while( h.hasNext() ){
-                Object obj = h.next();
-                if(obj.equals(null))
-                    throw new NullPointerException("null element detected in the HCollection");
-                else if( v.removeElement(obj) ) {
-                    set = true;
-                }
-            }
-            return set;
-        }
+        return filterArray(toCheckedArray(c), false);
     }
 
     @Override
     public boolean retainAll(HCollection c) {
         if(c.equals(null))
             throw new NullPointerException("null HCollection is not allowed");
-        HIterator h = c.iterator();
-        if( !h.hasNext() )
-            return false;
-        else {
-            boolean set = false;
-            VectorAdaptee w = new VectorAdaptee();
-            while(h.hasNext()) {
-                Object obj = h.next();
-                if(obj.equals(null))
-                    throw new NullPointerException("null element detected in the HCollection");
-                else if(v.contains(obj)) {
-                    w.addElement(obj);
-                    set = true;
+        return filterArray(toCheckedArray(c), true);
+    }
+
+    /***
+     * Maximum value of (elements of the list) * (elements of the collection) for which the bulk operations
+     * compare the elements one by one. Above this value a temporary hash index is built, so that the cost becomes linear.
+     */
+    static final int LINEAR_THRESHOLD = 256;
+
+    /***
+     * Tests if the components of w between from, inclusive, and to, exclusive, contain all the elements of the array.
+     * @param w the vector to be checked.
+     * @param from index of the first component of the range.
+     * @param to index after the last component of the range.
+     * @param a the elements to be found, none of them is null.
+     * @return true if every element of the array is in the range.
+     */
+    static boolean containsAllRange(HVector w, int from, int to, Object[] a) {
+        if((long) (to - from) * a.length <= LINEAR_THRESHOLD) {
+            for(int i = 0; i < a.length; i++) {
+                if(indexOfRange(w, a[i], from, to) < 0)
+                    return false;
+            }
+            return true;
+        }
+        if(a.length <= to - from) {
+            HashtableAdaptee missing = new HashtableAdaptee(a.length);
+            for(int i = 0; i < a.length; i++)
+                missing.put(a[i], a[i]);
+            for(int i = from; i < to && !missing.isEmpty(); i++)
+                missing.remove(w.elementAt(i));
+            return missing.isEmpty();
+        }
+        HashtableAdaptee present = new HashtableAdaptee(to - from);
+        for(int i = from; i < to; i++)
+            present.put(w.elementAt(i), Boolean.TRUE);
+        for(int i = 0; i < a.length; i++) {
+            if(!present.containsKey(a[i]))
+                return false;
+        }
+        return true;
+    }
+
+    /***
+     * Keeps, among the components of w between from, inclusive, and to, exclusive, only the ones that are (retain == true)
+     * or are not (retain == false) in the array. The kept components are compacted in a single pass and the tail is removed
+     * with one removeRange.<br>
+     * The membership test scans the array when the product of the sizes is under LINEAR_THRESHOLD, otherwise it uses a
+     * temporary hash index built on the smaller side.
+     * @param w the vector to be filtered.
+     * @param from index of the first component of the range.
+     * @param to index after the last component of the range.
+     * @param a the elements of the collection, none of them is null.
+     * @param retain true to keep the components that are in the array, false to keep the ones that are not.
+     * @return the number of removed components.
+     */
+    static int filterRange(HVector w, int from, int to, Object[] a, boolean retain) {
+        HashtableAdaptee index = null;
+        if((long) (to - from) * a.length > LINEAR_THRESHOLD) {
+            if(a.length <= to - from) {
+                index = new HashtableAdaptee(a.length);
+                for(int i = 0; i < a.length; i++)
+                    index.put(a[i], Boolean.TRUE);
+            }
+            else {
+                HashtableAdaptee own = new HashtableAdaptee(to - from);
+                for(int i = from; i < to; i++)
+                    own.put(w.elementAt(i), Boolean.TRUE);
+                index = new HashtableAdaptee(to - from);
+                for(int i = 0; i < a.length; i++) {
+                    if(own.containsKey(a[i]))
+                        index.put(a[i], Boolean.TRUE);
                 }
             }
-            if(set)
-                v = w;
-            return set;
         }
+        int k = from;
+        for(int i = from; i < to; i++) {
+            Object obj = w.elementAt(i);
+            boolean found;
+            if(index != null)
+                found = index.containsKey(obj);
+            else {
+                found = false;
+                for(int j = 0; j < a.length && !found; j++)
+                    found = obj.equals(a[j]);
+            }
+            if(found == retain) {
+                if(k != i)
+                    w.setElementAt(obj, k);
+                k++;
+            }
+        }
+        if(k < to)
+            w.removeRange(k, to);
+        return to - k;
     }
 
     @Override
@@ -280,6 +446,7 @@ public class ListAdapter implements HList {
 
         Object give = v.elementAt(index);
         v.setElementAt(element,index);
+        contentChanged();
         return give;
     }
 
@@ -291,14 +458,7 @@ public class ListAdapter implements HList {
     @Override
     public Object[] toArray() {
         Object[] a = new Object[size()];
-        if(isEmpty()) { }
-        else {
-            ListIteratorr h = listIterator();
-            int ia = 0;
-            while(h.hasNext()){
-                a[ia++] = h.next();
-            }
-        }
+        copyRange(v, 0, a, a.length);
         return a;
     }
 
@@ -308,22 +468,379 @@ public class ListAdapter implements HList {
             throw new NullPointerException("null array is not allowed");
         if (!(a instanceof Object))
             throw new ArrayStoreException("invalid supertype of array");
-        if(a.length < size())
-            a = new Object[size()];
-        ListIteratorr h = listIterator();
-        int ia = 0;
-        while(h.hasNext()) {
-            a[ia++] = h.next();
-        }
-        while(ia < a.length)
-            a[ia++] = null;
+        int n = size();
+        if(a.length < n)
+            a = new Object[n];
+        copyRange(v, 0, a, n);
+        for(int i = n; i < a.length; i++)
+            a[i] = null;
         return a;
     }
 
+    /***
+     * Returns the vector that holds the elements of this list. The elements of a sublist start at storageOffset() in the vector.
+     * @return the storage of this list.
+     */
+    HVector storage() {
+        return v;
+    }
+
+    /***
+     * Returns the index of the first element of this list in storage().
+     * @return 0 for a list, the offset of the range for a sublist.
+     */
+    int storageOffset() {
+        return 0;
+    }
+
+    /***
+     * Copies the first n components of w starting at from into the array, from its index 0.
+     * An ArrayAdaptee is copied with a single System.arraycopy, a whole vector with a single copyInto().
+     * @param w the vector to be copied.
+     * @param from index of the first component to be copied.
+     * @param a the destination array, at least n long.
+     * @param n the number of components to be copied.
+     */
+    static void copyRange(HVector w, int from, Object[] a, int n) {
+        if(w instanceof ArrayAdaptee)
+            System.arraycopy(((ArrayAdaptee) w).elementData, from, a, 0, n);
+        else if(from == 0 && n == w.size())
+            w.copyInto(a);
+        else {
+            for(int i = 0; i < n; i++)
+                a[i] = w.elementAt(from + i);
+        }
+    }
+
+    /***
+     * Returns the hash code, as defined by HList.hashCode(), of the components of w between from, inclusive, and to, exclusive.
+     * @param w the vector of the elements.
+     * @param from index of the first component of the range.
+     * @param to index after the last component of the range.
+     * @return the hash code of the range.
+     */
+    static int hashRange(HVector w, int from, int to) {
+        int hashCode = 1;
+        if(w instanceof ArrayAdaptee) {
+            Object[] a = ((ArrayAdaptee) w).elementData;
+            for(int i = from; i < to; i++)
+                hashCode = 31*hashCode + a[i].hashCode();
+        }
+        else {
+            for(int i = from; i < to; i++)
+                hashCode = 31*hashCode + w.elementAt(i).hashCode();
+        }
+        return hashCode;
+    }
+
+    /***
+     * Returns the index of the first component of w between from, inclusive, and to, exclusive, equal to the specified object.
+     * Unlike w.indexOf(o, from), the search stops at to.
+     * @param w the vector to be searched.
+     * @param o the element to be found, not null.
+     * @param from index of the first component of the range.
+     * @param to index after the last component of the range.
+     * @return the index in w of the first occurrence, or -1 if the object is not in the range.
+     */
+    static int indexOfRange(HVector w, Object o, int from, int to) {
+        if(w instanceof ArrayAdaptee) {
+            Object[] a = ((ArrayAdaptee) w).elementData;
+            for(int i = from; i < to; i++) {
+                if(o.equals(a[i]))
+                    return i;
+            }
+        }
+        else {
+            for(int i = from; i < to; i++) {
+                if(o.equals(w.elementAt(i)))
+                    return i;
+            }
+        }
+        return -1;
+    }
+
+    /***
+     * Returns the index of the last component of w between from, inclusive, and to, exclusive, equal to the specified object.
+     * Unlike w.lastIndexOf(o, to - 1), the search stops at from.
+     * @param w the vector to be searched.
+     * @param o the element to be found, not null.
+     * @param from index of the first component of the range.
+     * @param to index after the last component of the range.
+     * @return the index in w of the last occurrence, or -1 if the object is not in the range.
+     */
+    static int lastIndexOfRange(HVector w, Object o, int from, int to) {
+        if(w instanceof ArrayAdaptee) {
+            Object[] a = ((ArrayAdaptee) w).elementData;
+            for(int i = to - 1; i >= from; i--) {
+                if(o.equals(a[i]))
+                    return i;
+            }
+        }
+        else {
+            for(int i = to - 1; i >= from; i--) {
+                if(o.equals(w.elementAt(i)))
+                    return i;
+            }
+        }
+        return -1;
+    }
+
+    /***
+     * Compares the components of w between from, inclusive, and from + n, exclusive, with the specified object.
+     * The sizes are compared first; a ListAdapter, or one of its sublists, is then compared range against range on the two storages,
+     * any other HList through its iterator.
+     * @param w the vector of the elements.
+     * @param from index of the first component of the range.
+     * @param n the number of components of the range.
+     * @param o the object to be compared.
+     * @return true if the object is an HList with the same elements in the same order.
+     */
+    static boolean equalsRange(HVector w, int from, int n, Object o) {
+        if(!(o instanceof HList))
+            return false;
+        HList l = (HList) o;
+        if(l.size() != n)
+            return false;
+        if(o instanceof ListAdapter) {
+            ListAdapter other = (ListAdapter) o;
+            HVector x = other.storage();
+            int j = other.storageOffset();
+            if(w instanceof ArrayAdaptee && x instanceof ArrayAdaptee) {
+                Object[] a = ((ArrayAdaptee) w).elementData;
+                Object[] b = ((ArrayAdaptee) x).elementData;
+                for(int i = 0; i < n; i++) {
+                    if(!a[from + i].equals(b[j + i]))
+                        return false;
+                }
+            }
+            else {
+                for(int i = 0; i < n; i++) {
+                    if(!w.elementAt(from + i).equals(x.elementAt(j + i)))
+                        return false;
+                }
+            }
+            return true;
+        }
+        HIterator h = l.iterator();
+        for(int i = 0; i < n; i++) {
+            if(!w.elementAt(from + i).equals(h.next()))
+                return false;
+        }
+        return true;
+    }
+
+    /***
+     * Sorts this list according to the order induced by the specified comparator. The sort is stable and works in place
+     * on the storage of the list: an ArrayAdaptee is sorted directly in its array, any other storage is copied into an array
+     * and written back.<br>
+     * The sublists of a ListAdapter are ListAdapters too, so <code>((ListAdapter) list.subList(from, to)).sort(c)</code>
+     * sorts only that range of the list.
+     * @param c the comparator, or null to use the natural ordering of the elements.
+     * @throws ClassCastException if the comparator is null and the elements are not mutually Comparable.
+     */
+    public void sort(Comparator c) {
+        try {
+            sortRange(v, 0, size(), c, false);
+        }
+        finally {
+            contentChanged();
+        }
+    }
+
+    /***
+     * Sorts this list like sort(Comparator), but a list longer than a threshold is sorted by a fork/join merge sort
+     * that splits the work among the threads of the common pool.
+     * @param c the comparator, or null to use the natural ordering of the elements.
+     * @throws ClassCastException if the comparator is null and the elements are not mutually Comparable.
+     */
+    public void parallelSort(Comparator c) {
+        try {
+            sortRange(v, 0, size(), c, true);
+        }
+        finally {
+            contentChanged();
+        }
+    }
+
+    /***
+     * Searches the specified element with the binary search algorithm. The list must be sorted according to the comparator,
+     * for example by sort(c), otherwise the result is undefined.
+     * @param key the element to be searched.
+     * @param c the comparator by which the list is sorted, or null for the natural ordering.
+     * @return the index of the element, if it is in the list; otherwise (-(insertion point) - 1), where the insertion point is
+     * the index at which the element would be inserted to keep the list sorted.
+     * @throws NullPointerException if the element is null.
+     */
+    public int binarySearch(Object key, Comparator c) {
+        if(key == null)
+            throw new NullPointerException("null element is not allowed");
+        return MergeSort.binarySearch(v, 0, size(), key, c);
+    }
+
+    /***
+     * Performs the given action for each element of this list, in order, with a single loop over the storage:
+     * no iterator is created.
+     * @param action the action to be performed for each element.
+     * @throws NullPointerException if the action is null.
+     * @throws ConcurrentModificationException if the action changes the size of the list.
+     */
+    public void forEach(Consumer action) {
+        forEachRange(this, v, 0, size(), action);
+    }
+
+    /***
+     * Removes all of the elements of this list that satisfy the given predicate. The predicate is tested on every element
+     * before the list is changed, then the remaining elements are compacted in a single pass and the modCount is incremented once.
+     * @param filter the predicate that returns true for the elements to be removed.
+     * @return true if any element was removed.
+     * @throws NullPointerException if the predicate is null.
+     * @throws ConcurrentModificationException if the predicate changes the size of the list.
+     */
+    public boolean removeIf(Predicate filter) {
+        int removed = removeIfRange(this, v, 0, size(), filter);
+        if(removed == 0)
+            return false;
+        modCount++;
+        return true;
+    }
+
+    /***
+     * Replaces each element of this list with the result of applying the operator to that element, with a single loop over the storage.
+     * @param operator the operator to apply to each element.
+     * @throws NullPointerException if the operator is null or it returns null.
+     * @throws ConcurrentModificationException if the operator changes the size of the list.
+     */
+    public void replaceAll(UnaryOperator operator) {
+        try {
+            replaceAllRange(this, v, 0, size(), operator);
+        }
+        finally {
+            contentChanged();
+        }
+    }
+
+    /***
+     * Performs the action for each component of w between from, inclusive, and to, exclusive.
+     * @param root the list whose modCount is checked.
+     * @param w the vector to be traversed.
+     * @param from index of the first component of the range.
+     * @param to index after the last component of the range.
+     * @param action the action to be performed.
+     */
+    static void forEachRange(ListAdapter root, HVector w, int from, int to, Consumer action) {
+        if(action == null)
+            throw new NullPointerException("null action is not allowed");
+        int expectedModCount = root.modCount;
+        if(w instanceof ArrayAdaptee) {
+            Object[] a = ((ArrayAdaptee) w).elementData;
+            for(int i = from; i < to && root.modCount == expectedModCount; i++)
+                action.accept(a[i]);
+        }
+        else {
+            for(int i = from; i < to && root.modCount == expectedModCount; i++)
+                action.accept(w.elementAt(i));
+        }
+        if(root.modCount != expectedModCount)
+            throw new ConcurrentModificationException("the list has been modified during forEach");
+    }
+
+    /***
+     * Removes the components of w between from, inclusive, and to, exclusive, that satisfy the predicate.
+     * The predicate is tested on all the components first, so if it throws an exception the vector is unchanged;
+     * then the kept components are compacted and the tail is removed with one removeRange.
+     * @param root the list whose modCount is checked.
+     * @param w the vector to be filtered.
+     * @param from index of the first component of the range.
+     * @param to index after the last component of the range.
+     * @param filter the predicate of the components to be removed.
+     * @return the number of removed components.
+     */
+    static int removeIfRange(ListAdapter root, HVector w, int from, int to, Predicate filter) {
+        if(filter == null)
+            throw new NullPointerException("null predicate is not allowed");
+        int expectedModCount = root.modCount;
+        int first = from;
+        while(first < to && !filter.test(w.elementAt(first)))
+            first++;
+        if(root.modCount != expectedModCount)
+            throw new ConcurrentModificationException("the list has been modified during removeIf");
+        if(first == to)
+            return 0;
+        long[] dead = new long[((to - first) >> 6) + 1];
+        dead[0] = 1L;
+        for(int i = first + 1; i < to && root.modCount == expectedModCount; i++) {
+            if(filter.test(w.elementAt(i)))
+                dead[(i - first) >> 6] |= 1L << (i - first);
+        }
+        if(root.modCount != expectedModCount)
+            throw new ConcurrentModificationException("the list has been modified during removeIf");
+        int k = first;
+        for(int i = first + 1; i < to; i++) {
+            if((dead[(i - first) >> 6] & (1L << (i - first))) == 0)
+                w.setElementAt(w.elementAt(i), k++);
+        }
+        w.removeRange(k, to);
+        return to - k;
+    }
+
+    /***
+     * Replaces each component of w between from, inclusive, and to, exclusive, with the result of the operator.
+     * @param root the list whose modCount is checked.
+     * @param w the vector to be changed.
+     * @param from index of the first component of the range.
+     * @param to index after the last component of the range.
+     * @param operator the operator to apply to each component.
+     */
+    static void replaceAllRange(ListAdapter root, HVector w, int from, int to, UnaryOperator operator) {
+        if(operator == null)
+            throw new NullPointerException("null operator is not allowed");
+        int expectedModCount = root.modCount;
+        for(int i = from; i < to && root.modCount == expectedModCount; i++) {
+            Object obj = operator.apply(w.elementAt(i));
+            if(obj == null)
+                throw new NullPointerException("null element is not allowed");
+            w.setElementAt(obj, i);
+        }
+        if(root.modCount != expectedModCount)
+            throw new ConcurrentModificationException("the list has been modified during replaceAll");
+    }
+
+    /***
+     * Creates a Spliterator over the elements of this list, that reports SIZED, SUBSIZED, ORDERED and NONNULL
+     * and splits by index range, so stream() and parallelStream() divide the list without copying it.<br>
+     * The spliterator is fail-fast: if the list is structurally modified during the traversal, ConcurrentModificationException is thrown.
+     * @return a Spliterator over the elements of this list.
+     */
+    @Override
+    public Spliterator spliterator() {
+        return new RangeSpliterator(this, v, 0, size(), Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /***
+     * Sorts the components of w between from, inclusive, and to, exclusive.
+     * @param w the vector to be sorted.
+     * @param from index of the first component of the range.
+     * @param to index after the last component of the range.
+     * @param c the comparator, or null for the natural ordering.
+     * @param parallel true to use the fork/join merge sort.
+     */
+    static void sortRange(HVector w, int from, int to, Comparator c, boolean parallel) {
+        if(w instanceof ArrayAdaptee) {
+            MergeSort.sort(((ArrayAdaptee) w).elementData, from, to, c, parallel);
+            return;
+        }
+        Object[] a = new Object[to - from];
+        for(int i = 0; i < a.length; i++)
+            a[i] = w.elementAt(from + i);
+        MergeSort.sort(a, 0, a.length, c, parallel);
+        for(int i = 0; i < a.length; i++)
+            w.setElementAt(a[i], from + i);
+    }
+
     @Override
     public HList subList(int fromIndex, int toIndex) {
         subListRangeCheck(fromIndex, toIndex, this.size());
-        return new SmallerList(this.v, fromIndex, toIndex);
+        return new SmallerList(this, null, fromIndex, toIndex - fromIndex);
     }
 
     private static void subListRangeCheck(int fromIndex, int toIndex, int size) {
@@ -338,430 +855,416 @@ public class ListAdapter implements HList {
 
 
     /***
-     * Private internal class that support sublist
+     * Private internal class that support sublist.<br>
+     * The sublist is a view of offset and size over the storage of the root list: it holds no storage of its own, and every
+     * bulk operation (indexOf, contains, toArray, clear, removeAll, retainAll, addAll, hashCode, equals) is a single operation
+     * on the range [offset, offset + size) of that storage.
+     * A sublist of a sublist is built directly on the root with the offsets added, so reading through it costs no extra indirection;
+     * it only keeps a reference to its parent to update the size of the enclosing views after a structural change.<br>
+     * The sublist remembers the modCount of the root list: every method checks it, so a structural change made through the list,
+     * or through a sublist that does not enclose this one, is detected.
      */
     private class SmallerList extends ListAdapter {
 
-        VectorAdaptee w;
-        int startPosition = 0;
-        int endPosition = 0;
+        ListAdapter root;
+        /***
+         * The sublist from which this view was taken, or null if it was taken from the root list.
+         */
+        SmallerList parent;
+        HVector w;
+        int offset;
+        int size;
+        int expectedModCount;
+
+        private SmallerList(ListAdapter root, SmallerList parent, int offset, int size){
+            super(root.v, true);
+            this.root = root;
+            this.parent = parent;
+            w = root.v;
+            this.offset = offset;
+            this.size = size;
+            expectedModCount = root.modCount;
+        }
 
-        private SmallerList(VectorAdaptee x, int startPosition, int endPosition){
-            w = x;
-            this.startPosition = startPosition;
-            this.endPosition = endPosition-1;
+        /***
+         * Throws ConcurrentModificationException if the list has been structurally modified
+         * without passing through this sublist.
+         */
+        private void checkForComodification() {
+            if(root.modCount != expectedModCount)
+                throw new ConcurrentModificationException("the list has been modified outside of the sublist");
+        }
+
+        /***
+         * Records a structural modification made through this sublist, updating the size of this view and of the views that enclose it.
+         * @param delta the change of the size of the sublist.
+         */
+        private void structuralChange(int delta) {
+            root.modCount++;
+            for(SmallerList s = this; s != null; s = s.parent) {
+                s.size += delta;
+                s.expectedModCount = root.modCount;
+            }
         }
 
         public void add(int index, Object object){
-            if(index < 0 || index  > size())
+            checkForComodification();
+            if(index < 0 || index  > size)
                 throw new IndexOutOfBoundsException("select a lower index");
             if(object.equals(null))
                 throw new NullPointerException("null object is not allowed");
-            w.insertElementAt(object,index+startPosition);
-            endPosition++;
+            w.insertElementAt(object, offset + index);
+            structuralChange(1);
         }
 
         public boolean add(Object o) {
-            if(o.equals(null))
-                throw new NullPointerException("null Object is not allowed");
-            w.insertElementAt(o,endPosition++);
+            add(size(), o);
             return true;
         }
 
         public boolean addAll(HCollection c) {
-            if(c.equals(null))
-                throw new NullPointerException("null Collection is not allowed");
-            if(!(c instanceof ListAdapter))
-                throw new ClassCastException("Different HCollection that are not implemented by ListAdapter are not allowed");
-            HIterator h = c.iterator();
-
-            if(!h.hasNext())
-                return false;
-            else {
-                while (h.hasNext()) {
-                    Object obj = h.next();
-                    if(obj.equals(null))
-                        throw new NullPointerException("null element is not allowed");
-                    else {
-                        add(obj);
-                    }
-                }
-                return true;
-            }
+            return addAll(size(), c);
         }
 
         public boolean addAll(int index, HCollection c) {
-            if(index < 0 || index > size())
+            checkForComodification();
+            if(index < 0 || index > size)
                 throw new IndexOutOfBoundsException("select a different index to add the elements");
             if(c.equals(null))
                 throw new NullPointerException("null Collection is not allowed");
-            if(!(c instanceof ListAdapter))
-                throw new ClassCastException("Different HCollection that are not implemented by ListAdapter are not allowed");
-            HIterator h = c.iterator();
-            if(!h.hasNext())
+            return insertArray(index, toCheckedArray(c));
+        }
+
+        boolean insertArray(int index, Object[] a) {
+            checkForComodification();
+            if(index < 0 || index > size)
+                throw new IndexOutOfBoundsException("select a different index to add the elements");
+            if(a.length == 0)
                 return false;
-            else {
-                while( h.hasNext() ) {
-                    Object obj = h.next();
-                    if(obj.equals(null))
-                        throw new NullPointerException("null element is not allowed");
-                    else {
-                        add(index++, obj);
-                    }
-                }
-                return true;
-            }
+            w.insertElementsAt(a, offset + index);
+            structuralChange(a.length);
+            return true;
+        }
+
+        boolean filterArray(Object[] a, boolean retain) {
+            checkForComodification();
+            if(a.length == 0)
+                return false;
+            int removed = filterRange(w, offset, offset + size, a, retain);
+            if(removed == 0)
+                return false;
+            structuralChange(-removed);
+            return true;
         }
 
         public void clear() {
-            for(int i = startPosition; i <= endPosition; i++) {
-                w.removeElementAt(startPosition);
-            }
+            removeRange(0, size());
+        }
+
+        public void removeRange(int fromIndex, int toIndex) {
+            checkForComodification();
+            if(fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+                throw new IndexOutOfBoundsException("fromIndex = " + fromIndex + ", toIndex = " + toIndex);
+            w.removeRange(offset + fromIndex, offset + toIndex);
+            structuralChange(fromIndex - toIndex);
         }
 
         public boolean contains (Object object){
-            if(object.equals(null))
-                throw new NullPointerException("null object is not allowed");
-            for (int i = startPosition; i <= endPosition ; i++){
-                if (w.elementAt(i).equals(object)){
-                    return true;
-                }
-            }
-            return false;
+            return indexOf(object) >= 0;
         }
 
         public boolean containsAll(HCollection c) {
+            checkForComodification();
             if(c.equals(null))
                 throw new NullPointerException("null HCollection is not allowed");
-            if(!(c instanceof ListAdapter))
-                throw new ClassCastException("ListAdapter object is required");
-            if(c.size() > size())
-                return false;
-
-            HIterator h = c.iterator();
-            while (h.hasNext()) {
-                Object obj = h.next();
-                if (obj.equals(null))
-                    throw new NullPointerException("null HCollection is not allowed");
-                else if (!contains(obj))
-                    return false;
-            }
-            return true;
+            return containsAllRange(w, offset, offset + size, toCheckedArray(c));
         }
 
         public boolean equals(Object o){
-            if(!(o instanceof ListAdapter))
-                return false;
-            if(o == null)
-                return false;
-            SmallerList s = (SmallerList)o;
-            IteratorSub h1 = iterator();
-            IteratorSub h2 = s.iterator();
-            while(h1.hasNext() && h2.hasNext()) {
-                    Object obj1 = h1.next();
-                    Object obj2 = h2.next();
-                    if(!obj1.equals(obj2))
-                        return false;
-                }
-            if(h1.hasNext() || h2.hasNext())
-                return false;
-            else
+            checkForComodification();
+            if(o == this)
                 return true;
+            return equalsRange(w, offset, size, o);
         }
 
         public Object get(int index) {
-            if(index < 0 || index > size())
+            checkForComodification();
+            if(index < 0 || index >= size)
                 throw new IndexOutOfBoundsException("select a lower index");
-            return w.elementAt(startPosition + index);
+            return w.elementAt(offset + index);
         }
 
-        public IteratorSub iterator() {
-            return new IteratorSub(w,startPosition,endPosition);
+        public HIterator iterator() {
+            checkForComodification();
+            return new Iteratorr(root, this, w, offset);
         }
 
         public ListIteratorr listIterator() {
-            return new ListIteratorr(w,startPosition,endPosition);
+            checkForComodification();
+            return new ListIteratorr(root, this, w, offset, 0);
         }
 
         public ListIteratorr listIterator(int index) {
-            if(index < 0 || index >= size())
+            checkForComodification();
+            if(index < 0 || index >= size)
                 throw new IndexOutOfBoundsException("It was introduced an invalid index");
 
-            return new ListIteratorr(w,index,startPosition,endPosition);
+            return new ListIteratorr(root, this, w, offset, index);
         }
 
         public int hashCode() {
-            int hashCode = 1;
-            HIterator i = iterator();
-            while (i.hasNext()) {
-                Object obj = i.next();
-                hashCode = 31*hashCode + (obj==null ? 0 : obj.hashCode());
-            }
-            return hashCode;
+            checkForComodification();
+            return hashRange(w, offset, offset + size);
         }
 
         public int indexOf(Object o) {
+            checkForComodification();
             if(o.equals(null))
                 throw new NullPointerException("null object is not allowed");
-            int i = w.indexOf(o,startPosition);
-            if( i <endPosition)
-                return  i - startPosition;
-            else
-                return -1;
+            int i = indexOfRange(w, o, offset, offset + size);
+            return i < 0 ? -1 : i - offset;
         }
 
         public boolean isEmpty() {
-            return startPosition > endPosition  ;
+            checkForComodification();
+            return size == 0;
         }
 
         public int lastIndexOf(Object o) {
+            checkForComodification();
             if(o.equals(null))
                 throw new NullPointerException("null element is not allowed");
-            int i = w.lastIndexOf(o,startPosition);
-            if( i < endPosition)
-                return i - startPosition;
-            else
-                return -1;
+            int i = lastIndexOfRange(w, o, offset, offset + size);
+            return i < 0 ? -1 : i - offset;
         }
 
         public Object remove(int index) {
-            if(index < 0 || index >= size())
+            checkForComodification();
+            if(index < 0 || index >= size)
                 throw new IndexOutOfBoundsException("It was introduced an invalid index");
-            Object give = w.elementAt(index + startPosition);
-            w.removeElementAt(index);
-            endPosition--;
+            Object give = w.elementAt(offset + index);
+            w.removeElementAt(offset + index);
+            structuralChange(-1);
             return give;
         }
 
         public boolean remove(Object o) {
-            if(o.equals(null))
-                throw  new NullPointerException("Null object is not allowed");
-            if( w.indexOf(o) < 0  )
+            int i = indexOf(o);
+            if(i < 0)
                 return false;
-            boolean set = false;
-            if(w.indexOf(o) > startPosition && w.indexOf(o) <= endPosition) {
-                w.removeElement(o);
-                set = true;
-                endPosition--;
-            }
-            return set;
+            w.removeElementAt(offset + i);
+            structuralChange(-1);
+            return true;
         }
 
         public boolean removeAll(HCollection c) {
+            checkForComodification();
             if(c.equals(null))
                 throw new NullPointerException("null HCollection is not allowed");
-            if(! (c instanceof ListAdapter))
-                throw new ClassCastException("ListAdapter object is required");
-            HIterator h = c.iterator();
-            if( !h.hasNext() )
-                return false;
-            else {
-                boolean set = false;
-                while( h.hasNext() ){
-                    Object obj = h.next();
-                    if(obj.equals(null))
-                        throw new NullPointerException("null element detected in the HCollection");
-                    else if( remove(obj) )
-                        set = true;
-                }
-                return set;
-            }
+            return filterArray(toCheckedArray(c), false);
         }
 
         public boolean retainAll(HCollection c) {
+            checkForComodification();
             if(c.equals(null))
                 throw new NullPointerException("null HCollection is not allowed");
-            if(!(c instanceof ListAdapter))
-                throw new ClassCastException("ListAdapter object is required");
-            HIterator h;
-            boolean set = false;
-            if(c.size() > size()) {
-                h = (IteratorSub) c.iterator();
-                if (!h.hasNext())
-                    return false;
-                else {
-                    while (h.hasNext()) {
-                        Object obj = h.next();
-                        if (obj.equals(null))
-                            throw new NullPointerException("null element detected in the HCollection");
-                        else if (!contains(obj)) {
-                            remove(obj);
-                            set = true;
-                        }
-                    }
-                }
-            }
-            else {
-                h = (IteratorSub) iterator();
-                if (!h.hasNext())
-                    return false;
-                else {
-                    while (h.hasNext()) {
-                        Object obj = h.next();
-                        if (!c.contains(obj)) {
-                            remove(obj);
-                            set = true;
-                        }
-                    }
-                }
-            }
-                return set;
+            return filterArray(toCheckedArray(c), true);
         }
 
 
         public Object set(int index, Object element) {
-            if(index < 0 || index > size() )
+            checkForComodification();
+            if(index < 0 || index >= size)
                 throw new IndexOutOfBoundsException("index not valid");
             if(element.equals(null))
                 throw new NullPointerException("null element is not allowed");
 
-            Object give = w.elementAt(index + startPosition);
-            w.setElementAt(element,index + startPosition);
+            Object give = w.elementAt(offset + index);
+            w.setElementAt(element, offset + index);
+            root.contentChanged();
             return give;
         }
 
         public int size(){
-            return (endPosition + 1) -startPosition;
+            checkForComodification();
+            return size;
         }
 
+        HVector storage() {
+            return w;
+        }
 
-        public Object[] toArray() {
-            Object[] a = new Object[size()];
-            if (!isEmpty()) {
-                IteratorSub h = iterator();
-                int ia = 0;
-                while (h.hasNext()) {
-                    a[ia++] = h.next();
-                }
+        int storageOffset() {
+            checkForComodification();
+            return offset;
+        }
+
+        public HList subList(int fromIndex, int toIndex) {
+            checkForComodification();
+            subListRangeCheck(fromIndex, toIndex, size);
+            return new SmallerList(root, this, offset + fromIndex, toIndex - fromIndex);
+        }
+
+        public void sort(Comparator c) {
+            checkForComodification();
+            try {
+                sortRange(w, offset, offset + size, c, false);
+            }
+            finally {
+                root.contentChanged();
             }
-            return a;
         }
 
-        public Object[] toArray(Object[] a) {
-            if(a.equals(null))
-                throw new NullPointerException("null array is not allowed");
-            if(a.length < size())
-                a = new Object[size()];
-            IteratorSub h = iterator();
-            int ia = 0;
-            while(h.hasNext()) {
-                a[ia++] = h.next();
+        public void parallelSort(Comparator c) {
+            checkForComodification();
+            try {
+                sortRange(w, offset, offset + size, c, true);
+            }
+            finally {
+                root.contentChanged();
             }
-            while(ia < a.length)
-                a[ia++] = null;
-            return a;
         }
 
-        private class IteratorSub implements HIterator {
-            private int place;
-            private int to;
-            private int oldSize;
-            private VectorAdaptee w;
-            private boolean ok;
+        public int binarySearch(Object key, Comparator c) {
+            checkForComodification();
+            if(key == null)
+                throw new NullPointerException("null element is not allowed");
+            return MergeSort.binarySearch(w, offset, offset + size, key, c);
+        }
 
+        public void forEach(Consumer action) {
+            checkForComodification();
+            forEachRange(root, w, offset, offset + size, action);
+        }
 
-            private IteratorSub( VectorAdaptee x, int from, int to) {
-                place = from;
-                this.to = to;
-                oldSize = to;
-                w = x;
-            }
+        public boolean removeIf(Predicate filter) {
+            checkForComodification();
+            int removed = removeIfRange(root, w, offset, offset + size, filter);
+            if(removed == 0)
+                return false;
+            structuralChange(-removed);
+            return true;
+        }
 
-            @Override
-            public boolean hasNext() {
-                if(oldSize != endPosition ) {
-                    place = startPosition;
-                    to = endPosition ;
-                }
-                if( place <= to ){
-                    ok = true;
-                    return true;
-                }
-                else
-                    return false;
+        public void replaceAll(UnaryOperator operator) {
+            checkForComodification();
+            try {
+                replaceAllRange(root, w, offset, offset + size, operator);
             }
-
-            @Override
-            public Object next() {
-                if(hasNext()) {
-                    Object give = w.elementAt(place);
-                    place++;
-                    return give;
-                }
-                else
-                    throw new NoSuchElementException("Iterator come to the end");
+            finally {
+                root.contentChanged();
             }
+        }
 
-            @Override
-            public void remove() {
-                if(ok) {
-                    ok = false;
-                    w.removeElementAt(place);
-                }
-                else
-                    throw new IllegalArgumentException("  \"Has next\"  wasn't call");
-            }
+        public Spliterator spliterator() {
+            checkForComodification();
+            return new RangeSpliterator(root, w, offset, offset + size, Spliterator.ORDERED | Spliterator.NONNULL);
+        }
+
+        public Object[] toArray() {
+            checkForComodification();
+            Object[] a = new Object[size];
+            copyRange(w, offset, a, size);
+            return a;
+        }
+
+        public Object[] toArray(Object[] a) {
+            if(a.equals(null))
+                throw new NullPointerException("null array is not allowed");
+            checkForComodification();
+            if(a.length < size)
+                a = new Object[size];
+            copyRange(w, offset, a, size);
+            for(int i = size; i < a.length; i++)
+                a[i] = null;
+            return a;
         }
 
     }
 
 
+
     /***
-     * Internal Class that implements HListIterator
+     * internal class that implements HIterator.<br>
+     * The iterator works on a list or on a sublist, reading the storage from the position offset.
+     * It keeps its own copy of the size of the list and the modCount it expects to find in the root list,
+     * so every step only compares one int instead of asking the size to the storage.
      */
-    private class ListIteratorr implements HListIterator {
-        private int place;
-        private int start;
-        private int to;
-        private VectorAdaptee w;
-        private boolean next;
-        private boolean prev;
-        private boolean stopset = true;
+    private class Iteratorr implements HIterator {
+        /***
+         * The list that owns the modCount.
+         */
+        ListAdapter root;
+        /***
+         * The list, or sublist, on which the iterator works: the modifications made by the iterator pass through it.
+         */
+        ListAdapter list;
+        HVector w;
+        int offset;
+        int size;
+        int place;
+        int lastRet = -1;
+        int expectedModCount;
+
+        private Iteratorr(ListAdapter root, ListAdapter list, HVector x, int offset) {
+            this.root = root;
+            this.list = list;
+            w = x;
+            this.offset = offset;
+            expectedModCount = root.modCount;
+            size = list.size();
+        }
 
-        private ListIteratorr() {
-            place = start = 0;
-            to = v.size();
-            next = false;
-            prev = false;
-            w = v;
+        /***
+         * Throws ConcurrentModificationException if the list has been structurally modified
+         * without passing through this iterator.
+         */
+        final void checkForComodification() {
+            if(root.modCount != expectedModCount)
+                throw new ConcurrentModificationException("the list has been modified outside of the iterator");
         }
 
-        private ListIteratorr( ListAdapter l ) {
-            place = start = 0;
-            to = l.size();
-            next = false;
-            prev = false;
-            w = l.v;
+        /*
+        if the list was modified by someone else, hasNext answers true so that next() can throw the exception
+         */
+        @Override
+        public boolean hasNext() {
+            return place < size || root.modCount != expectedModCount;
         }
 
-        private ListIteratorr( int index) {
-            place = index;
-            start = 0;
-            to = v.size();
-            next = false;
-            prev = false;
-            w = v;
+        @Override
+        public Object next() {
+            checkForComodification();
+            if(place >= size)
+                throw new NoSuchElementException("Iterator come to the end");
+            lastRet = place;
+            return w.elementAt(offset + place++);
         }
 
-        /*
-        This is the constructor for an iterator of sublist
-         */
-        private ListIteratorr( VectorAdaptee x, int from, int to) {
-            place = from;
-            start = from;
-            this.to = to;
-            next = false;
-            prev = false;
-            w = x;
+        @Override
+        public void remove() {
+            if(lastRet < 0)
+                throw new IllegalArgumentException("Iterator didn't call next or previous");
+            checkForComodification();
+            list.remove(lastRet);
+            if(lastRet < place)
+                place--;
+            lastRet = -1;
+            size--;
+            expectedModCount = root.modCount;
         }
+    }
 
-        private ListIteratorr( VectorAdaptee x,int index, int from, int to) {
-            place = index + from;
-            start = from;
-            this.to = to;
-            next = false;
-            prev = false;
-            w = x;
+
+
+    /***
+     * Internal Class that implements HListIterator
+     */
+    private class ListIteratorr extends Iteratorr implements HListIterator {
+
+        private ListIteratorr(ListAdapter root, ListAdapter list, HVector x, int offset, int index) {
+            super(root, list, x, offset);
+            place = index;
         }
 
 
@@ -770,26 +1273,11 @@ public class ListAdapter implements HList {
          */
         @Override
         public void add(Object o) {
-            if(o.equals(null))
-                throw new NullPointerException("Null value is not accepted");
-            w.insertElementAt(o, place);
-            stopset = true;
-        }
-
-        /*
-        deve dirmi correttamente se ha un elemento successivo
-         */
-        @Override
-        public boolean hasNext() {
-            if(to != size()) {
-                to = w.size();
-                place = start;
-            }
-            if(place < to) {
-                return true;
-            }
-            else
-                return false;
+            checkForComodification();
+            list.add(place, o);
+            lastRet = -1;
+            size++;
+            expectedModCount = root.modCount;
         }
 
         /*
@@ -797,30 +1285,7 @@ public class ListAdapter implements HList {
          */
         @Override
         public boolean hasPrevious() {
-            if(to != size()) {
-                to = w.size();
-                place = start;
-            }
-            if(place > start) {
-                return true;
-            }
-            else
-                return false;
-        }
-
-        /*
-           deve restituirmi l'elemento successivo
-         */
-        @Override
-        public Object next() {
-            if (hasNext()) {
-                next = true;
-                prev = false;
-                stopset = false;
-                return w.elementAt(place++);
-            }
-            else
-                throw new NoSuchElementException("Iterator come to the end");
+            return place > 0;
         }
 
         /*
@@ -828,10 +1293,6 @@ public class ListAdapter implements HList {
          */
         @Override
         public int nextIndex() {
-            if(to != size()) {
-                to = w.size();
-                place = start;
-            }
             return place;
         }
 
@@ -840,14 +1301,11 @@ public class ListAdapter implements HList {
          */
         @Override
         public Object previous() {
-            if (hasPrevious()) {
-                next = false;
-                prev = true;
-                stopset = false;
-                return w.elementAt(--place);
-            }
-            else
+            checkForComodification();
+            if(place <= 0)
                 throw  new NoSuchElementException("Iterator has no previous element");
+            lastRet = --place;
+            return w.elementAt(offset + place);
         }
 
         /*
@@ -855,33 +1313,7 @@ public class ListAdapter implements HList {
          */
         @Override
         public int previousIndex() {
-            if(to != size()) {
-                to = w.size();
-                place = start;
-            }
-            if(place > start)
-                return (place - 1);
-            else
-                return -1;
-        }
-
-        /*
-        deve eliminare l'ultimo elemento chiamato da next o prev
-         */
-        @Override
-        public void remove() {
-            if(place > start && place < to) {
-                if(next) {
-                    stopset = true;
-                    w.removeElementAt(--place);
-                }
-                else if(prev) {
-                    stopset = true;
-                    w.removeElementAt(place);
-                }
-            }
-            else
-                throw new IllegalArgumentException("Iterator didn't call next or previous");
+            return place - 1;
         }
 
         /*
@@ -889,65 +1321,14 @@ public class ListAdapter implements HList {
          */
         @Override
         public void set(Object o) {
-            if(stopset)
+            if(lastRet < 0)
                 throw  new IllegalStateException("next() or previous() was not called");
-            if(place >= start && place <= to) {
-                if (next)
-                    w.setElementAt(o, place - 1);
-                else if (prev)
-                    w.setElementAt(o, place);
-            }
-            else
-                throw new IllegalArgumentException("Iterator didn't call next or previous");
+            checkForComodification();
+            list.set(lastRet, o);
         }
 
     }
 
 
 
-
-    /***
-     * internal class that implements HIterator
-     */
-
-    private class Iteratorr implements HIterator {
-        private VectorAdaptee w;
-        private boolean ok;
-        public Enumeration enumer;
-        public Object lastElement;
-
-        public Iteratorr(VectorAdaptee x) {
-            w = x;
-            enumer = w.elements();
-        }
-
-
-        @Override
-        public boolean hasNext() {
-            if(enumer.hasMoreElements())
-                return ok = true;
-            else
-                return false;
-        }
-
-        @Override
-        public Object next() {
-            if(!enumer.hasMoreElements())
-                throw new NoSuchElementException("no more elements");
-            return enumer.nextElement();
-        }
-
-        @Override
-        public void remove() {
-            if(ok) {
-                ok = false;
-                w.removeElement(lastElement);
-            }
-            else
-                throw new IllegalArgumentException("  \"Has next\"  wasn't call");
-        }
-    }
-
-
-
-}
\ No newline at end of file
+}
@@ -0,0 +1,208 @@
+package myAdapter;
+
+/***
+ * The LongArrayAdaptee class implements a growable array of long values.<br>
+ * The components are stored in a long[] without boxing, so a list of millions of numbers costs 8 bytes per element
+ * instead of a reference plus a Long object.<br>
+ * The class respects the HVector interface, so it can be used as the storage of a ListAdapter: the Object methods box and unbox
+ * the values, and only Long objects can be stored (any other object, or null, throws ClassCastException).
+ * The methods that end with Long work directly on the primitive values.<br>
+ * Like ArrayAdaptee, the class is not synchronized.<br>
+ * <b>Note this : </b> setSize() fills the new components with 0L, because a long component cannot be null.<br>
+ * @see PrimitiveArrayAdaptee PrimitiveArrayAdaptee.
+ * @see LongListAdapter LongListAdapter.
+ */
+public class LongArrayAdaptee extends PrimitiveArrayAdaptee {
+    /***
+     * The array buffer into which the components of the vector are stored.
+     */
+    long[] elementData;
+
+    /***
+     * Constructs an empty vector so that its internal data array has size 10.
+     */
+    public LongArrayAdaptee() {
+        this(10);
+    }
+
+    /***
+     * Constructs an empty vector with the specified initial capacity.
+     * @param initialCapacity - the initial capacity.
+     * @throws IllegalArgumentException - if the specified initial capacity is negative.
+     */
+    public LongArrayAdaptee(int initialCapacity) {
+        super(initialCapacity);
+        elementData = new long[initialCapacity];
+    }
+
+    /***
+     * Returns the value of the specified object as a long.
+     * @param obj - a Long.
+     * @return the long value of the object.
+     * @throws ClassCastException - if the object is not a Long.
+     */
+    private static long unbox(Object obj) {
+        if(!(obj instanceof Long))
+            throw new ClassCastException("only Long elements can be stored");
+        return ((Long) obj).longValue();
+    }
+
+    @Override
+    Object array() {
+        return elementData;
+    }
+
+    @Override
+    void setArray(Object a) {
+        elementData = (long[]) a;
+    }
+
+    @Override
+    Object newArray(int length) {
+        return new long[length];
+    }
+
+    @Override
+    Object box(int index) {
+        return Long.valueOf(elementData[index]);
+    }
+
+    @Override
+    Object toValues(Object[] elements) {
+        long[] values = new long[elements.length];
+        for(int i = 0; i < elements.length; i++)
+            values[i] = unbox(elements[i]);
+        return values;
+    }
+
+    /***
+     * Returns the component at the specified index, without boxing it.
+     * @param index - an index into this vector.
+     * @return the component at the specified index.
+     * @throws ArrayIndexOutOfBoundsException - if an invalid index was given.
+     */
+    public long getLong(int index) {
+        checkIndex(index);
+        return elementData[index];
+    }
+
+    /***
+     * Sets the component at the specified index of this vector to be the specified value.
+     * @param value - what the component is to be set to.
+     * @param index - the specified index.
+     * @return the previous component at that position.
+     * @throws ArrayIndexOutOfBoundsException - if the index was invalid.
+     */
+    public long setLongAt(long value, int index) {
+        checkIndex(index);
+        long old = elementData[index];
+        elementData[index] = value;
+        return old;
+    }
+
+    /***
+     * Adds the specified value to the end of this vector, increasing its size by one.
+     * @param value - the component to be added.
+     */
+    public void addLong(long value) {
+        int index = append();
+        elementData[index] = value;
+    }
+
+    /***
+     * Inserts the specified value as a component in this vector at the specified index.
+     * @param value - the component to insert.
+     * @param index - where to insert the new component.
+     * @throws ArrayIndexOutOfBoundsException - if the index was invalid.
+     */
+    public void insertLongAt(long value, int index) {
+        openGap(index, 1);
+        elementData[index] = value;
+        elementCount++;
+    }
+
+    /***
+     * Deletes the component at the specified index and returns it.
+     * @param index - the index of the component to remove.
+     * @return the removed component.
+     * @throws ArrayIndexOutOfBoundsException - if the index was invalid.
+     */
+    public long removeLongAt(int index) {
+        checkIndex(index);
+        long old = elementData[index];
+        delete(index);
+        return old;
+    }
+
+    /***
+     * Searches for the first occurrence of the given value, beginning the search at index.
+     * @param value - the value to search.
+     * @param index - the index to start searching from.
+     * @return the index of the first occurrence of the value at position index or later; returns -1 if the value is not found.
+     */
+    public int indexOfLong(long value, int index) {
+        for(int i = index; i < elementCount; i++)
+            if(elementData[i] == value)
+                return i;
+        return -1;
+    }
+
+    /***
+     * Searches backwards for the given value, starting from the specified index.
+     * @param value - the value to search.
+     * @param index - the index to start searching from.
+     * @return the index of the last occurrence of the value at position index or earlier; returns -1 if the value is not found.
+     */
+    public int lastIndexOfLong(long value, int index) {
+        checkSearchIndex(index);
+        for(int i = index; i >= 0; i--)
+            if(elementData[i] == value)
+                return i;
+        return -1;
+    }
+
+    /***
+     * Copies the components of this vector into a new long array.
+     * @return a long array with the components of this vector.
+     */
+    public long[] toLongArray() {
+        long[] a = new long[elementCount];
+        System.arraycopy(elementData, 0, a, 0, elementCount);
+        return a;
+    }
+
+    @Override
+    public int capacity() {
+        return elementData.length;
+    }
+
+    @Override
+    public int indexOf(Object elem, int index) {
+        if(!(elem instanceof Long))
+            return -1;
+        return indexOfLong(((Long) elem).longValue(), index);
+    }
+
+    @Override
+    public int lastIndexOf(Object elem, int index) {
+        checkSearchIndex(index);
+        if(!(elem instanceof Long))
+            return -1;
+        return lastIndexOfLong(((Long) elem).longValue(), index);
+    }
+
+    @Override
+    public void setElementAt(Object obj, int index) {
+        setLongAt(unbox(obj), index);
+    }
+
+    @Override
+    public void insertElementAt(Object obj, int index) {
+        insertLongAt(unbox(obj), index);
+    }
+
+    @Override
+    public void addElement(Object obj) {
+        addLong(unbox(obj));
+    }
+}
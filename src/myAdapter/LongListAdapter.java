@@ -0,0 +1,188 @@
+package myAdapter;
+
+/***
+ * public class LongListAdapter <br> extends
+ * @see PrimitiveListAdapter PrimitiveListAdapter. <br>
+ * A ListAdapter of long values, stored in a LongArrayAdaptee without boxing.<br>
+ * The list respects the HList interface with Long elements, so it can be passed to any code that uses a ListAdapter;
+ * the methods that end with Long read and write the values as long and never create a Long.<br>
+ * Only Long elements can be inserted through the HList methods, any other object throws ClassCastException.<br>
+ * @see LongArrayAdaptee LongArrayAdaptee.
+ */
+public class LongListAdapter extends PrimitiveListAdapter {
+    private LongArrayAdaptee values;
+
+    /***
+     * Creates a new empty list of long values.
+     */
+    public LongListAdapter() {
+        this(new LongArrayAdaptee());
+    }
+
+    /***
+     * Creates a new empty list of long values with the specified initial capacity.
+     * @param rows the initial capacity of the list.
+     * @throws IllegalArgumentException if the initial capacity is negative.
+     */
+    public LongListAdapter(int rows) {
+        this(new LongArrayAdaptee(rows));
+    }
+
+    private LongListAdapter(LongArrayAdaptee storage) {
+        super(storage);
+        values = storage;
+    }
+
+    /***
+     * Returns the value at the specified position in this list.
+     * @param index index of the value to return.
+     * @return the value at the specified position.
+     * @throws IndexOutOfBoundsException if the index is out of range (index &lt; 0 || index &gt;= size()).
+     */
+    public long getLong(int index) {
+        return values.getLong(index);
+    }
+
+    /***
+     * Replaces the value at the specified position in this list with the specified value.
+     * @param index index of the value to replace.
+     * @param value value to be stored at the specified position.
+     * @return the value previously at the specified position.
+     * @throws IndexOutOfBoundsException if the index is out of range (index &lt; 0 || index &gt;= size()).
+     */
+    public long setLong(int index, long value) {
+        long old = values.setLongAt(value, index);
+        contentChanged();
+        return old;
+    }
+
+    /***
+     * Appends the specified value to the end of this list.
+     * @param value value to be appended.
+     * @return true.
+     */
+    public boolean addLong(long value) {
+        values.addLong(value);
+        modCount++;
+        return true;
+    }
+
+    /***
+     * Inserts the specified value at the specified position in this list.
+     * @param index index at which the value is to be inserted.
+     * @param value value to be inserted.
+     * @throws IndexOutOfBoundsException if the index is out of range (index &lt; 0 || index &gt; size()).
+     */
+    public void addLong(int index, long value) {
+        values.insertLongAt(value, index);
+        modCount++;
+    }
+
+    /***
+     * Removes the value at the specified position in this list.
+     * @param index the index of the value to be removed.
+     * @return the value previously at the specified position.
+     * @throws IndexOutOfBoundsException if the index is out of range (index &lt; 0 || index &gt;= size()).
+     */
+    public long removeLongAt(int index) {
+        long old = values.removeLongAt(index);
+        modCount++;
+        return old;
+    }
+
+    /***
+     * Returns the index in this list of the first occurrence of the specified value, or -1 if this list does not contain it.
+     * @param value value to search for.
+     * @return the index of the first occurrence of the value, or -1.
+     */
+    public int indexOfLong(long value) {
+        return values.indexOfLong(value, 0);
+    }
+
+    /***
+     * Returns the index in this list of the last occurrence of the specified value, or -1 if this list does not contain it.
+     * @param value value to search for.
+     * @return the index of the last occurrence of the value, or -1.
+     */
+    public int lastIndexOfLong(long value) {
+        return values.lastIndexOfLong(value, values.size() - 1);
+    }
+
+    /***
+     * Returns true if this list contains the specified value.
+     * @param value value whose presence in this list is to be tested.
+     * @return true if this list contains the specified value.
+     */
+    public boolean containsLong(long value) {
+        return values.indexOfLong(value, 0) >= 0;
+    }
+
+    /***
+     * Returns a long array containing all of the values in this list in proper sequence.
+     * @return a new array with the values of this list.
+     */
+    public long[] toLongArray() {
+        return values.toLongArray();
+    }
+
+    /***
+     * Returns a cursor over the values of this list, starting at the beginning of the list.
+     * @return a LongCursor positioned before the first value.
+     */
+    public LongCursor longCursor() {
+        return new LongCursor(0);
+    }
+
+    /***
+     * Returns a cursor over the values of this list, starting at the specified position.
+     * @param index index of the first value to be returned by nextLong().
+     * @return a LongCursor positioned before the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (index &lt; 0 || index &gt; size()).
+     */
+    public LongCursor longCursor(int index) {
+        checkCursorIndex(index);
+        return new LongCursor(index);
+    }
+
+    /***
+     * A list iterator over the long values of a LongListAdapter, that moves in both directions without boxing.<br>
+     * Like the iterators of ListAdapter, the cursor is fail-fast: if the list is structurally modified after its creation
+     * it throws ConcurrentModificationException.
+     */
+    public class LongCursor extends Cursor {
+
+        private LongCursor(int index) {
+            super(index);
+        }
+
+        /***
+         * Returns the next value in the list.
+         * @return the next value in the list.
+         * @throws java.util.NoSuchElementException if the cursor is at the end of the list.
+         */
+        public long nextLong() {
+            int i = advance();
+            return values.elementData[i];
+        }
+
+        /***
+         * Returns the previous value in the list.
+         * @return the previous value in the list.
+         * @throws java.util.NoSuchElementException if the cursor is at the beginning of the list.
+         */
+        public long previousLong() {
+            int i = retreat();
+            return values.elementData[i];
+        }
+
+        /***
+         * Replaces the last value returned by nextLong() or previousLong() with the specified value.
+         * @param value the new value.
+         * @throws IllegalStateException if neither nextLong() nor previousLong() have been called.
+         */
+        public void setLong(long value) {
+            values.elementData[lastReturned()] = value;
+            contentChanged();
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package myAdapter;
 import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /***
  * public class MapAdapter. <br><b> implements : </b> <br>
@@ -10,10 +14,29 @@ import java.util.NoSuchElementException;
  * Public class MapAdapter, which realizes the Map interface Java library 1.4.2.<br>
  * This class has been implemented with the hashtableAdaptee class of the version of java cldc 1.1 <br>
  * the structure of MapAdapter is based on a hashtable, but maintains the behavior of a map. consequently the class respects the HMap interface. <br>
+ * By default the entries are stored in a HashtableAdaptee; the MapAdapter(HHashtable) constructor accepts an OpenHashAdaptee,
+ * that keeps keys and values in two flat arrays with open addressing. The views and their iterators work in the same way on both.<br>
+ * The iterators of the views read the key and the value of an entry from the same slot of the hashtable, and the entries returned by
+ * the iterator of entrySet() write their setValue() through to the map; cursor() walks the entries without creating any object per entry.<br>
+ * setValueIndexed(true) makes the map keep a reverse index of its values, for maps whose values are looked up often.<br>
  */
 public class MapAdapter implements HMap {
 
-    private HashtableAdaptee table;
+    /***
+     * The functions that give the key and the value of an entry to the spliterators of keySet() and values().
+     */
+    private static final BiFunction KEY = new BiFunction() {
+        public Object apply(Object key, Object value) {
+            return key;
+        }
+    };
+    private static final BiFunction VALUE = new BiFunction() {
+        public Object apply(Object key, Object value) {
+            return value;
+        }
+    };
+
+    private HashEngine table;
 
     /***
      * Constructs a new, empty MapAdapter with a default initial capacity and load factor.
@@ -32,6 +55,24 @@ public class MapAdapter implements HMap {
         table = new HashtableAdaptee(initialCapacity);
     }
 
+    /***
+     * Constructs a new, empty MapAdapter stored in the specified hashtable.<br>
+     * Use <code>new MapAdapter(new OpenHashAdaptee())</code> to store the entries in flat arrays with open addressing, instead of the
+     * synchronized java.util.Hashtable of HashtableAdaptee: the map creates no object per entry and is not synchronized.
+     * @param storage the empty hashtable that will hold the entries of the map, a HashtableAdaptee or an OpenHashAdaptee.
+     * @throws NullPointerException if the specified hashtable is null.
+     * @throws IllegalArgumentException if the specified hashtable is not empty, or it is not one of the hashtables of this package.
+     */
+    public MapAdapter(HHashtable storage) {
+        if(storage == null)
+            throw new NullPointerException("null storage is not allowed");
+        if(!(storage instanceof HashEngine))
+            throw new IllegalArgumentException("the storage must be a HashtableAdaptee or an OpenHashAdaptee");
+        if(!storage.isEmpty())
+            throw new IllegalArgumentException("the storage of a new map must be empty");
+        table = (HashEngine) storage;
+    }
+
     @Override
     public void clear() { table.clear(); }
 
@@ -43,7 +84,40 @@ public class MapAdapter implements HMap {
     }
 
     @Override
-    public boolean containsValue(Object value) { return table.contains(value); }
+    public boolean containsValue(Object value) { return table.containsValue(value); }
+
+    /***
+     * Starts or stops keeping a reverse index of the values of this map, from every value to the number of keys mapped to it and to those keys.<br>
+     * With the index, containsValue() and values().contains() take constant time, values().remove() takes time proportional to the
+     * number of keys of the value, and values().removeAll() and values().retainAll() need no scan of the map per element.
+     * Without it they scan the hashtable. The index costs about one node of a java.util.HashMap per distinct value, and every put and remove
+     * updates it.<br>
+     * The index is built from the current entries, in linear time; it is kept until it is disabled.
+     * @param indexed true to index the values, false to drop the index.
+     */
+    public void setValueIndexed(boolean indexed) {
+        table.indexValues(indexed);
+    }
+
+    /***
+     * Returns true if this map keeps a reverse index of its values.
+     * @return true if the values are indexed.
+     * @see #setValueIndexed(boolean) setValueIndexed.
+     */
+    public boolean isValueIndexed() {
+        return table.index != null;
+    }
+
+    /***
+     * Returns a new cursor over the entries of this map. The cursor creates no object per entry: after advance(), key() and value()
+     * read the entry from its slot of the hashtable, and setValue() and remove() change it in place.<br>
+     * For example, <code>HMapCursor c = map.cursor(); while(c.advance()) sum += ((Integer) c.value()).intValue();</code>
+     * @return a new cursor, positioned before the first entry.
+     * @see HMapCursor HMapCursor
+     */
+    public HMapCursor cursor() {
+        return table.cursor();
+    }
 
     @Override
     public HSet entrySet() { return new EntrySet(table); }
@@ -55,6 +129,8 @@ public class MapAdapter implements HMap {
         MapAdapter m = (MapAdapter) o;
         if(this.size() > m.size())
             return false;
+        if(table.hashSum() != m.table.hashSum())
+            return false;
         EntrySet e1 = (EntrySet) this.entrySet();
         EntrySet e2 = (EntrySet) m.entrySet();
         return e1.equals(e2);
@@ -67,17 +143,16 @@ public class MapAdapter implements HMap {
         return table.get(key);
     }
 
+    /***
+     * Returns the hash code of this map, the sum of key.hashCode() + value.hashCode() over its entries.
+     * The sum is kept up to date by every put and remove, also through the views, so this method takes constant time
+     * instead of traversing the map.<br>
+     * Like for any key of a hashtable, the value becomes wrong if the hash code of a key or of a value changes while it is in the map.
+     * @return the hash code of this map.
+     */
     @Override
     public int hashCode(){
-        int ia = 0, ib = 0, ic = 0;
-        Enumeration k = table.keys();
-        Enumeration v = table.elements();
-        while(k.hasMoreElements()) {
-            ib = k.nextElement().hashCode();
-            ic = v.nextElement().hashCode();
-            ia += ib + ic;
-        }
-        return ia;
+        return table.hashSum();
     }
 
     @Override
@@ -88,8 +163,99 @@ public class MapAdapter implements HMap {
 
     @Override
     public Object put(Object key, Object value) {
-        Entry e = new Entry(key,value);
-        return table.put(e.getKey(),e.getValue());
+        if(key == null || value == null)
+            throw new NullPointerException("null key/value is not allowed");
+        return table.put(key, value);
+    }
+
+    /***
+     * Returns the value to which the specified key is mapped, or defaultValue if this map contains no mapping for the key.
+     * @param key the key whose associated value is to be returned.
+     * @param defaultValue the default mapping of the key.
+     * @return the value of the key, or defaultValue.
+     * @throws NullPointerException if the key is null.
+     */
+    public Object getOrDefault(Object key, Object defaultValue) {
+        if(key == null)
+            throw new NullPointerException("null key is not allowed");
+        Object value = table.get(key);
+        return value == null ? defaultValue : value;
+    }
+
+    /***
+     * Associates the specified value with the specified key only if the key is not already in this map.
+     * The key is looked up once.
+     * @param key key with which the specified value is to be associated.
+     * @param value value to be associated with the specified key.
+     * @return the current value of the key, or null if the key was absent and the value has been put.
+     * @throws NullPointerException if the key or the value is null.
+     */
+    public Object putIfAbsent(Object key, Object value) {
+        if(key == null || value == null)
+            throw new NullPointerException("null key/value is not allowed");
+        return table.putIfAbsent(key, value);
+    }
+
+    /***
+     * Replaces the value of the specified key only if the key is in this map. The key is looked up once.
+     * @param key key with which the specified value is associated.
+     * @param value value to be associated with the specified key.
+     * @return the previous value of the key, or null if the key is not in this map.
+     * @throws NullPointerException if the key or the value is null.
+     */
+    public Object replace(Object key, Object value) {
+        if(key == null || value == null)
+            throw new NullPointerException("null key/value is not allowed");
+        return table.replace(key, value);
+    }
+
+    /***
+     * If the specified key is not in this map, computes its value with the given function and puts it, unless it is null.
+     * The key is looked up once.
+     * @param key key with which the computed value is to be associated.
+     * @param mappingFunction the function that computes the value from the key.
+     * @return the current or the computed value of the key, or null if the key is absent.
+     * @throws NullPointerException if the key or the function is null.
+     * @throws java.util.ConcurrentModificationException if the function modifies this map.
+     */
+    public Object computeIfAbsent(Object key, Function mappingFunction) {
+        if(key == null || mappingFunction == null)
+            throw new NullPointerException("null key/function is not allowed");
+        return table.computeIfAbsent(key, mappingFunction);
+    }
+
+    /***
+     * Computes the new value of the specified key from the key and its current value, that is null if the key is absent.
+     * If the new value is null the key is removed. The key is looked up once.<br>
+     * For example, <code>map.compute(word, count)</code> counts the words with a function that returns 1 for a null value,
+     * the value plus one otherwise.
+     * @param key key with which the computed value is to be associated.
+     * @param remappingFunction the function that computes the new value.
+     * @return the new value of the key, or null if the key is absent.
+     * @throws NullPointerException if the key or the function is null.
+     * @throws java.util.ConcurrentModificationException if the function modifies this map.
+     */
+    public Object compute(Object key, BiFunction remappingFunction) {
+        if(key == null || remappingFunction == null)
+            throw new NullPointerException("null key/function is not allowed");
+        return table.compute(key, remappingFunction);
+    }
+
+    /***
+     * Associates the specified value with the specified key if the key is absent; otherwise replaces the current value with
+     * the result of the given function, applied to the current value and the specified value, or removes the key if the result is null.
+     * The key is looked up once.
+     * @param key key with which the resulting value is to be associated.
+     * @param value the value to be merged with the current value of the key.
+     * @param remappingFunction the function that merges the two values.
+     * @return the new value of the key, or null if the key is absent.
+     * @throws NullPointerException if the key, the value or the function is null.
+     * @throws java.util.ConcurrentModificationException if the function modifies this map.
+     */
+    public Object merge(Object key, Object value, BiFunction remappingFunction) {
+        if(key == null || value == null || remappingFunction == null)
+            throw new NullPointerException("null key/value/function is not allowed");
+        return table.merge(key, value, remappingFunction);
     }
 
     @Override
@@ -99,12 +265,9 @@ public class MapAdapter implements HMap {
         if(!(t instanceof HMap))
             throw new ClassCastException("incompatible type");
         MapAdapter m = (MapAdapter) t;
-        Enumeration e = m.table.keys();
-        Object obj;
-        while(e.hasMoreElements()) {
-            obj = e.nextElement();
-            this.put(obj,m.table.get(obj));
-        }
+        HMapCursor c = m.table.cursor();
+        while(c.advance())
+            table.put(c.key(), c.value());
     }
 
     @Override
@@ -176,15 +339,36 @@ public class MapAdapter implements HMap {
         }
     }
 
+    /***
+     * private static class that extends Entry.
+     * It is the Entry returned by the iterator of EntrySet: setValue() also replaces the value of the key in the hashtable,
+     * if the key is still there. The hashtable is changed first, so the Entry keeps its value if the hashtable refuses the new one.
+     */
+    private static class ViewEntry extends Entry {
+
+        private HashEngine tab;
+
+        private ViewEntry(HashEngine tab, Object key, Object value) {
+            super(key, value);
+            this.tab = tab;
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            tab.replace(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+
     /***
      * Private internal class that implements HSet.
      * Used to Generate a HSet of Entry, HCollection is extended by HSet, HSet is implemented by EntrySet
      */
     private class EntrySet implements HSet {
 
-        private HashtableAdaptee tab;
+        private HashEngine tab;
 
-        public EntrySet(HashtableAdaptee x) {
+        public EntrySet(HashEngine x) {
             tab = x;
         }
 
@@ -249,15 +433,7 @@ public class MapAdapter implements HMap {
 
         @Override
         public int hashCode(){
-            int ia = 0, ib = 0, ic = 0;
-            Enumeration k = tab.keys();
-            Enumeration v = tab.elements();
-            while(k.hasMoreElements()) {
-                ib = k.nextElement().hashCode();
-                ic = v.nextElement().hashCode();
-                ia += ib + ic;
-            }
-            return ia;
+            return tab.hashSum();
         }
 
         @Override
@@ -290,6 +466,8 @@ public class MapAdapter implements HMap {
             if(! (c instanceof EntrySet))
                 throw new ClassCastException("incompatible type");
             EntrySet es = (EntrySet) c;
+            if(es.tab == tab)
+                return clearAll(tab);
             IterE itere = (IterE) es.iterator();
             boolean set = false;
             while(itere.hasNext()){
@@ -314,7 +492,7 @@ public class MapAdapter implements HMap {
             while(itere.hasNext()){
                 Entry obj = (Entry) itere.next();
                 if(!es.contains(obj)) {
-                    remove(obj);
+                    itere.remove();
                     set = true;
                 }
             }
@@ -326,6 +504,15 @@ public class MapAdapter implements HMap {
             return tab.size();
         }
 
+        @Override
+        public Spliterator spliterator() {
+            return tab.spliterator(new BiFunction() {
+                public Object apply(Object key, Object value) {
+                    return new ViewEntry(tab, key, value);
+                }
+            }, Spliterator.DISTINCT | Spliterator.NONNULL);
+        }
+
         @Override
         public Object[] toArray() {
             Entry[] array = new Entry[tab.size()];
@@ -372,9 +559,9 @@ public class MapAdapter implements HMap {
      */
     private class SetKey implements HSet {
 
-        private HashtableAdaptee tabk;
+        private HashEngine tabk;
 
-        public SetKey(HashtableAdaptee x) {
+        public SetKey(HashEngine x) {
             tabk = x;
         }
 
@@ -452,6 +639,8 @@ public class MapAdapter implements HMap {
             if(! (c instanceof SetKey))
                 throw new ClassCastException("incompatible type");
             SetKey es = (SetKey) c;
+            if(es.tabk == tabk)
+                return clearAll(tabk);
             Iterk iterk = (Iterk) es.iterator();
             boolean set = false;
             while(iterk.hasNext()){
@@ -471,23 +660,25 @@ public class MapAdapter implements HMap {
             if(c.isEmpty())
                 return false;
             SetKey es = (SetKey) c;
-            Iterk iterk = (Iterk) es.iterator();
             boolean set = false;
-            HashtableAdaptee newTAb = new HashtableAdaptee(c.size());
-            while(iterk.hasNext()){
-                Object obj = iterk.next();
-                if(contains(obj))
-                    newTAb.put(obj,tabk.get(obj));
-                set = true;
+            HashEngine.Cursor cursor = tabk.cursor();
+            while(cursor.advance()) {
+                if(!es.contains(cursor.key())) {
+                    cursor.remove();
+                    set = true;
+                }
             }
-            tabk = newTAb;
-            table = tabk;
             return set;
         }
 
         @Override
         public int size() { return tabk.size(); }
 
+        @Override
+        public Spliterator spliterator() {
+            return tabk.spliterator(KEY, Spliterator.DISTINCT | Spliterator.NONNULL);
+        }
+
         @Override
         public Object[] toArray() {
             Object[] array = new Object[tabk.size()];
@@ -525,9 +716,9 @@ public class MapAdapter implements HMap {
      * Used to generate a HCollection of values, HCollection is extended by HSet, HSet is implemented by SetValue
      */
     private class SetValue implements HSet {
-        private HashtableAdaptee tabv;
+        private HashEngine tabv;
 
-        public SetValue(HashtableAdaptee x) {
+        public SetValue(HashEngine x) {
             tabv = x;
         }
 
@@ -548,7 +739,7 @@ public class MapAdapter implements HMap {
         public boolean contains(Object o) {
             if(o == null)
                 throw new NullPointerException("null value is not allowed");
-            return tabv.contains(o);
+            return tabv.containsValue(o);
         }
         @Override
         public boolean containsAll(HCollection c) {
@@ -593,16 +784,47 @@ public class MapAdapter implements HMap {
         public boolean remove(Object o) {
             if(o == null)
                 throw new NullPointerException("null element is not allowed");
-            boolean set = contains(o);
-            if(set) {
-                Iterv iter = (Iterv) iterator();
-                Object obj;
-                while (iter.hasNext()) {
-                    obj = iter.next();
-                    if (obj.equals(o)) {
-                        iter.remove();
-                        set = true;
-                    }
+            if(tabv.index != null) {
+                Object[] keys = tabv.index.keysOf(o);
+                for(int i = 0; i < keys.length; i++)
+                    tabv.remove(keys[i]);
+                return keys.length > 0;
+            }
+            boolean set = false;
+            HashEngine.Cursor cursor = tabv.cursor();
+            while(cursor.advance()) {
+                if(cursor.value().equals(o)) {
+                    cursor.remove();
+                    set = true;
+                }
+            }
+            return set;
+        }
+
+        /***
+         * Removes in one pass the entries whose value is in the specified collection, or the ones whose value is not in it.
+         * The collection is looked up by its ValueIndex if it has one, otherwise by a java.util.HashSet of its values.
+         * @param sv the values of the other map.
+         * @param retain true to remove the entries whose value is not in sv, false to remove the ones whose value is in it.
+         * @return true if this collection has been modified.
+         */
+        private boolean removeValues(SetValue sv, boolean retain) {
+            ValueIndex other = sv.tabv.index;
+            HashSet copy = null;
+            if(other == null) {
+                copy = new HashSet(sv.size() * 4 / 3 + 1);
+                HashEngine.Cursor c = sv.tabv.cursor();
+                while(c.advance())
+                    copy.add(c.value());
+            }
+            boolean set = false;
+            HashEngine.Cursor cursor = tabv.cursor();
+            while(cursor.advance()) {
+                Object value = cursor.value();
+                boolean found = other != null ? other.contains(value) : copy.contains(value);
+                if(found != retain) {
+                    cursor.remove();
+                    set = true;
                 }
             }
             return set;
@@ -617,6 +839,10 @@ public class MapAdapter implements HMap {
             if(c.isEmpty())
                 return false;
             SetValue es = (SetValue) c;
+            if(es.tabv == tabv)
+                return clearAll(tabv);
+            if(tabv.index == null || es.size() > size())
+                return removeValues(es, false);
             Iterv iterv = (Iterv) es.iterator();
             boolean set = false;
             while(iterv.hasNext()){
@@ -636,21 +862,19 @@ public class MapAdapter implements HMap {
             if(c.isEmpty())
                 return false;
             SetValue sv = (SetValue) c;
-            Iterv iter = (Iterv) sv.iterator();
-            boolean set = false;
-            while(iter.hasNext()){
-                Object val = iter.next();
-                if(!contains(val)) {
-                    remove(val);
-                    set = true;
-                }
-            }
-            return set;
+            if(sv.tabv == tabv)
+                return false;
+            return removeValues(sv, true);
         }
 
         @Override
         public int size() { return tabv.size();}
 
+        @Override
+        public Spliterator spliterator() {
+            return tabv.spliterator(VALUE, Spliterator.NONNULL);
+        }
+
         @Override
         public Object[] toArray() {
             Object[] array = new Object[tabv.size()];
@@ -687,26 +911,39 @@ public class MapAdapter implements HMap {
 
 
 
+    /***
+     * Empties the hashtable, as removeAll() does when its argument is a view of the same map:
+     * removing the entries one by one would modify the hashtable under the iterator of the argument.
+     * @return true if the hashtable was not empty.
+     */
+    private static boolean clearAll(HashEngine tab) {
+        boolean set = !tab.isEmpty();
+        tab.clear();
+        return set;
+    }
+
+
+
     /***
      * private internal class that implements HIterator.
      * It is used to give back by the iterator of the class EntrySet an Object of Entry type.
+     * The key and the value are read by a cursor of the hashtable from the same slot, and the returned Entry writes through to the map.
      */
     private class IterE implements HIterator {
 
-        private Enumeration enumerk;
+        private HashEngine.Cursor cursor;
         private boolean hasIterate = false;
-        private HashtableAdaptee tab;
-        private Object lastKey,lastValue;
+        private HashEngine tab;
 
-        private IterE(HashtableAdaptee h) {
+        private IterE(HashEngine h) {
             tab = h;
-            enumerk = tab.keys();
+            cursor = tab.cursor();
         }
 
 
         @Override
         public boolean hasNext() {
-            return enumerk.hasMoreElements();
+            return cursor.hasMore();
         }
 
         /***
@@ -715,13 +952,11 @@ public class MapAdapter implements HMap {
          */
         @Override
         public Object next() {
-            if (!enumerk.hasMoreElements()) {
+            if (!cursor.advance()) {
                 throw new NoSuchElementException("no more elements");
             }
             hasIterate = true;
-            lastKey = enumerk.nextElement();
-            lastValue = tab.get(lastKey);
-            return new Entry(lastKey,lastValue);
+            return new ViewEntry(tab, cursor.key(), cursor.value());
         }
 
         @Override
@@ -729,7 +964,7 @@ public class MapAdapter implements HMap {
             if (!hasIterate) {
                 throw new IllegalStateException();
             }
-            tab.remove(lastKey);
+            cursor.remove();
         }
     }
 
@@ -740,20 +975,17 @@ public class MapAdapter implements HMap {
      */
     private class Iterk implements HIterator {
 
-        private Enumeration enumer;
-        private Object lastKey;
+        private HashEngine.Cursor cursor;
         private boolean hasIterate = false;
-        private HashtableAdaptee tab;
 
-        private Iterk(HashtableAdaptee h) {
-            tab = h;
-            enumer = tab.keys();
+        private Iterk(HashEngine h) {
+            cursor = h.cursor();
         }
 
 
         @Override
         public boolean hasNext() {
-            return enumer.hasMoreElements();
+            return cursor.hasMore();
         }
 
         /***
@@ -762,12 +994,11 @@ public class MapAdapter implements HMap {
          */
         @Override
         public Object next() {
-            if (!enumer.hasMoreElements()) {
+            if (!cursor.advance()) {
                 throw new NoSuchElementException();
             }
             hasIterate = true;
-            lastKey = enumer.nextElement();
-            return lastKey;
+            return cursor.key();
         }
 
         @Override
@@ -775,7 +1006,7 @@ public class MapAdapter implements HMap {
             if (!hasIterate) {
                 throw new IllegalStateException();
             }
-            tab.remove(lastKey);
+            cursor.remove();
         }
     }
 
@@ -783,22 +1014,19 @@ public class MapAdapter implements HMap {
 
     /***
      * This iterator implements HIterator
+     * The value is read by a cursor of the hashtable, without looking up its key.
      */
     private class Iterv implements HIterator {
-        private Enumeration enumer;
+        private HashEngine.Cursor cursor;
         private boolean hasIterate = false;
-        private Object lastValue;
-        private Object lastkey;
-        private HashtableAdaptee tabv;
 
-        private Iterv(HashtableAdaptee h) {
-            tabv = h;
-            enumer = h.keys();
+        private Iterv(HashEngine h) {
+            cursor = h.cursor();
         }
 
         @Override
         public boolean hasNext() {
-            return enumer.hasMoreElements();
+            return cursor.hasMore();
         }
 
         /***
@@ -807,13 +1035,11 @@ public class MapAdapter implements HMap {
          */
         @Override
         public Object next(){
-            if (!enumer.hasMoreElements()) {
+            if (!cursor.advance()) {
                 throw new NoSuchElementException();
             }
             hasIterate = true;
-            lastkey = enumer.nextElement();
-            lastValue = tabv.get(lastkey);
-            return lastValue;
+            return cursor.value();
         }
 
         @Override
@@ -821,7 +1047,7 @@ public class MapAdapter implements HMap {
             if (!hasIterate) {
                 throw new IllegalStateException();
             }
-            tabv.remove(lastkey);
+            cursor.remove();
         }
     }
-}
\ No newline at end of file
+}
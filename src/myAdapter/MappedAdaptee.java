@@ -0,0 +1,264 @@
+package myAdapter;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/***
+ * The MappedAdaptee class implements a growable array of fixed-width records stored in a memory-mapped file.<br>
+ * The file starts with a header of HEADER bytes, that holds the width of the records, the number of records of a segment
+ * and the number of records of the vector; then it contains a sequence of segments, each one mapped with FileChannel.map.
+ * When the last segment is full, the file is extended and a new segment is mapped: the records already written never move.<br>
+ * Reads and writes go straight to the mappings, and the size in the header is updated by every change:
+ * reopening an existing file maps its segments and the vector is ready, without reading the records.<br>
+ * The records are written in little-endian order, so a file can be moved between machines.
+ * When the changes are forced to the device is decided by a ForcePolicy.<br>
+ * Like ArrayAdaptee, the class is not synchronized, and a file must not be opened by two vectors at the same time.<br>
+ * @see RecordAdaptee RecordAdaptee.
+ * @see ForcePolicy ForcePolicy.
+ * @see MappedListAdapter MappedListAdapter.
+ */
+public class MappedAdaptee extends RecordAdaptee {
+
+    /***
+     * The number of bytes of the header of the file.
+     */
+    static final int HEADER = 16;
+
+    /***
+     * The first int of every file.
+     */
+    static final int MAGIC = 0x484c5354;
+
+    private RandomAccessFile file;
+    private FileChannel channel;
+    private MappedByteBuffer header;
+    private MappedByteBuffer[] segments;
+    private int segmentCount;
+    private int segmentRecords;
+    private ForcePolicy policy;
+    private int changes;
+
+    /***
+     * The range of the segments written since the last force(), from dirtyFrom, inclusive, to dirtyTo, exclusive.
+     */
+    private int dirtyFrom = Integer.MAX_VALUE;
+    private int dirtyTo;
+
+    /***
+     * Opens the specified file as a vector of records written by the specified codec. If the file does not exist or is empty,
+     * it is initialized with segments of segmentRecords records; otherwise the size of the segments is read from the file.
+     * @param f - the file of the records.
+     * @param codec - the codec of the records.
+     * @param segmentRecords - the number of records of every segment of a new file.
+     * @param policy - the policy that decides when the changes are forced.
+     * @throws IOException - if the file can not be opened or mapped.
+     * @throws IllegalArgumentException - if the file was not written by a MappedAdaptee, or its records have a different width,
+     * or segmentRecords is not positive.
+     * @throws NullPointerException - if the codec or the policy is null.
+     */
+    public MappedAdaptee(File f, HRecordCodec codec, int segmentRecords, ForcePolicy policy) throws IOException {
+        super(codec);
+        if(policy == null)
+            throw new NullPointerException("null policy is not allowed");
+        if(segmentRecords <= 0 || (long) segmentRecords * width > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Illegal segment size: " + segmentRecords);
+        this.policy = policy;
+        file = new RandomAccessFile(f, "rw");
+        try {
+            channel = file.getChannel();
+            boolean existing = channel.size() > 0;
+            header = map(0, HEADER);
+            if(existing) {
+                if(header.getInt(0) != MAGIC)
+                    throw new IllegalArgumentException(f + " is not a file of records");
+                if(header.getInt(4) != width)
+                    throw new IllegalArgumentException(f + " contains records of " + header.getInt(4) + " bytes, not " + width);
+                this.segmentRecords = header.getInt(8);
+                elementCount = header.getInt(12);
+            }
+            else {
+                this.segmentRecords = segmentRecords;
+                header.putInt(0, MAGIC);
+                header.putInt(4, width);
+                header.putInt(8, segmentRecords);
+                header.putInt(12, 0);
+            }
+            long stored = (channel.size() - HEADER) / segmentBytes();
+            segments = new MappedByteBuffer[(int) Math.max(stored, 4)];
+            while(segmentCount < stored)
+                addSegment();
+            if(elementCount > capacity())
+                throw new IllegalArgumentException(f + " is truncated");
+        }
+        catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    private long segmentBytes() {
+        return (long) segmentRecords * width;
+    }
+
+    private MappedByteBuffer map(long position, long size) throws IOException {
+        MappedByteBuffer b = channel.map(FileChannel.MapMode.READ_WRITE, position, size);
+        b.order(ByteOrder.LITTLE_ENDIAN);
+        return b;
+    }
+
+    /***
+     * Maps the next segment of the file, extending the file if needed.
+     */
+    private void addSegment() throws IOException {
+        if(segmentCount == segments.length) {
+            MappedByteBuffer[] s = new MappedByteBuffer[segmentCount * 2];
+            System.arraycopy(segments, 0, s, 0, segmentCount);
+            segments = s;
+        }
+        segments[segmentCount] = map(HEADER + segmentCount * segmentBytes(), segmentBytes());
+        segmentCount++;
+    }
+
+    @Override
+    ByteBuffer block(int index) {
+        if(segments == null)
+            throw new IllegalStateException("the mapped storage has been closed");
+        return segments[index / segmentRecords];
+    }
+
+    @Override
+    int offset(int index) {
+        return (index % segmentRecords) * width;
+    }
+
+    @Override
+    int blockRecords() {
+        return segmentRecords;
+    }
+
+    @Override
+    void grow(int minCapacity) {
+        if(segments == null)
+            throw new IllegalStateException("the mapped storage has been closed");
+        try {
+            while(capacity() < minCapacity)
+                addSegment();
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    void modified(int from, int to) {
+        header.putInt(12, elementCount);
+        if(from < to) {
+            dirtyFrom = Math.min(dirtyFrom, from / segmentRecords);
+            dirtyTo = Math.max(dirtyTo, (to - 1) / segmentRecords + 1);
+        }
+        if(policy.interval() > 0 && ++changes >= policy.interval())
+            force();
+    }
+
+    /***
+     * Forces the changes of the records and of the size to the storage device.
+     * Only the segments written since the last force are forced, with the header.
+     * @throws IllegalStateException - if the vector has been closed.
+     */
+    public void force() {
+        if(segments == null)
+            throw new IllegalStateException("the mapped storage has been closed");
+        for(int i = dirtyFrom; i < dirtyTo && i < segmentCount; i++)
+            segments[i].force();
+        header.force();
+        dirtyFrom = Integer.MAX_VALUE;
+        dirtyTo = 0;
+        changes = 0;
+    }
+
+    /***
+     * Returns the policy that decides when the changes are forced.
+     * @return the force policy.
+     */
+    public ForcePolicy policy() {
+        return policy;
+    }
+
+    @Override
+    public void close() {
+        if(file == null)
+            return;
+        if(segments != null && policy.onClose())
+            force();
+        // every mapping is released even if one of them fails, the first failure is reported
+        RuntimeException failure = null;
+        for(int i = 0; i < segmentCount; i++)
+            failure = release(segments[i], failure);
+        if(header != null)
+            failure = release(header, failure);
+        segments = null;
+        header = null;
+        segmentCount = 0;
+        try {
+            file.close();
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        finally {
+            file = null;
+        }
+        if(failure != null)
+            throw failure;
+    }
+
+    /***
+     * Frees the buffer, returning the first failure between the previous one and the failure of this buffer.
+     */
+    private static RuntimeException release(ByteBuffer b, RuntimeException failure) {
+        try {
+            free(b);
+        }
+        catch (RuntimeException e) {
+            if(failure == null)
+                failure = e;
+        }
+        return failure;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return file == null;
+    }
+
+    @Override
+    public void trimToSize() {
+        if(segments == null)
+            throw new IllegalStateException("the mapped storage has been closed");
+        int needed = (elementCount + segmentRecords - 1) / segmentRecords;
+        if(needed == segmentCount)
+            return;
+        // unmaps the empty segments before shortening the file
+        while(segmentCount > needed) {
+            segmentCount--;
+            free(segments[segmentCount]);
+            segments[segmentCount] = null;
+        }
+        try {
+            channel.truncate(HEADER + segmentCount * segmentBytes());
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public int capacity() {
+        return segmentCount * segmentRecords;
+    }
+}
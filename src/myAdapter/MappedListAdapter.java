@@ -0,0 +1,91 @@
+package myAdapter;
+import java.io.File;
+import java.io.IOException;
+
+/***
+ * public class MappedListAdapter <br> extends
+ * @see OffHeapListAdapter OffHeapListAdapter. <br>
+ * A list whose elements are fixed-width records of a memory-mapped file, kept in a MappedAdaptee.<br>
+ * Creating a MappedListAdapter on an existing file maps its segments and the elements are available at once: there is no
+ * deserialization pass, so a large list can be reopened at every start of a process in constant time.
+ * Appends and reads go straight to the mapping, and the primitive methods and the cursor of OffHeapListAdapter work without boxing.<br>
+ * The changes reach the file through the operating system; a ForcePolicy decides when they are forced to the device,
+ * trading durability for throughput. close() unmaps the file; the file can then be reopened by another list.<br>
+ * <b>Note this : </b> the file must be reopened with a codec of the same width; only one list at a time may use a file.<br>
+ * @see MappedAdaptee MappedAdaptee.
+ * @see ForcePolicy ForcePolicy.
+ */
+public class MappedListAdapter extends OffHeapListAdapter {
+
+    /***
+     * The number of records of every segment of a new file, if it is not specified.
+     */
+    public static final int DEFAULT_SEGMENT_RECORDS = 1 << 16;
+
+    private MappedAdaptee mapped;
+
+    /***
+     * Opens a list on the specified file, that is created if it does not exist. The changes are forced by close().
+     * @param file the file of the elements.
+     * @param codec the codec of the elements.
+     * @throws IOException if the file can not be opened or mapped.
+     * @throws IllegalArgumentException if the file contains records of a different width.
+     */
+    public MappedListAdapter(File file, HRecordCodec codec) throws IOException {
+        this(file, codec, DEFAULT_SEGMENT_RECORDS, ForcePolicy.ON_CLOSE);
+    }
+
+    /***
+     * Opens a list on the specified file, that is created if it does not exist.
+     * @param file the file of the elements.
+     * @param codec the codec of the elements.
+     * @param policy the policy that decides when the changes are forced.
+     * @throws IOException if the file can not be opened or mapped.
+     * @throws IllegalArgumentException if the file contains records of a different width.
+     */
+    public MappedListAdapter(File file, HRecordCodec codec, ForcePolicy policy) throws IOException {
+        this(file, codec, DEFAULT_SEGMENT_RECORDS, policy);
+    }
+
+    /***
+     * Opens a list on the specified file, that is created if it does not exist.
+     * @param file the file of the elements.
+     * @param codec the codec of the elements.
+     * @param segmentRecords the number of elements of every segment, used only when the file is created.
+     * @param policy the policy that decides when the changes are forced.
+     * @throws IOException if the file can not be opened or mapped.
+     * @throws IllegalArgumentException if the file contains records of a different width, or segmentRecords is not positive.
+     */
+    public MappedListAdapter(File file, HRecordCodec codec, int segmentRecords, ForcePolicy policy) throws IOException {
+        this(new MappedAdaptee(file, codec, segmentRecords, policy));
+    }
+
+    private MappedListAdapter(MappedAdaptee storage) {
+        super(storage);
+        mapped = storage;
+    }
+
+    /***
+     * Forces the changes of the elements and of the size of this list to the storage device.
+     * @throws IllegalStateException if the list has been closed.
+     */
+    public void force() {
+        mapped.force();
+    }
+
+    /***
+     * Unmaps the segments of the file that contain no element and shortens the file.
+     * @throws IllegalStateException if the list has been closed.
+     */
+    public void trimToSize() {
+        mapped.trimToSize();
+    }
+
+    /***
+     * Returns the policy that decides when the changes are forced.
+     * @return the force policy.
+     */
+    public ForcePolicy policy() {
+        return mapped.policy();
+    }
+}
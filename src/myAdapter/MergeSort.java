@@ -0,0 +1,176 @@
+package myAdapter;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/***
+ * The MergeSort class sorts a range of an array of objects with a stable merge sort.<br>
+ * The short runs are sorted by insertion, then they are merged through a buffer of the same length of the range,
+ * that is allocated once for the whole sort.
+ * The parallel sort splits the range in halves with the fork/join framework: the halves are sorted by the tasks of the common pool
+ * and merged by the task that forked them. A range shorter than PARALLEL_THRESHOLD is sorted by the calling thread,
+ * because the cost of the tasks would be greater than the gain.<br>
+ * A null comparator means the natural ordering of the elements, which must be Comparable.
+ * @see ListAdapter ListAdapter.
+ */
+final class MergeSort {
+
+    /***
+     * The length under which a run is sorted by insertion.
+     */
+    static final int INSERTION_THRESHOLD = 32;
+
+    /***
+     * The length under which a range is not split among the threads of the pool.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    private MergeSort() {
+    }
+
+    /***
+     * Sorts the elements of the array between from, inclusive, and to, exclusive.
+     * @param a the array to be sorted.
+     * @param from index of the first element of the range.
+     * @param to index after the last element of the range.
+     * @param c the comparator, or null for the natural ordering.
+     * @param parallel true to split the range among the threads of the common fork/join pool.
+     * @throws ClassCastException if the comparator is null and the elements are not mutually Comparable.
+     */
+    static void sort(Object[] a, int from, int to, Comparator c, boolean parallel) {
+        int n = to - from;
+        if(n < 2)
+            return;
+        if(c == null)
+            c = NATURAL;
+        if(n <= INSERTION_THRESHOLD) {
+            insertionSort(a, from, to, c);
+            return;
+        }
+        Object[] buffer = new Object[n];
+        if(parallel && n > PARALLEL_THRESHOLD)
+            ForkJoinPool.commonPool().invoke(new SortTask(a, buffer, from, to, from, c));
+        else
+            mergeSort(a, buffer, from, to, from, c);
+    }
+
+    /***
+     * Returns the position of the key in the elements of the vector between from, inclusive, and to, exclusive,
+     * that must be sorted by the comparator.
+     * @param w the vector to be searched.
+     * @param from index of the first component of the range.
+     * @param to index after the last component of the range.
+     * @param key the element to be found.
+     * @param c the comparator, or null for the natural ordering.
+     * @return the index of the key relative to from, if it is in the range; otherwise (-(insertion point) - 1),
+     * where the insertion point, relative to from, is the index at which the key would be inserted to keep the range sorted.
+     */
+    static int binarySearch(HVector w, int from, int to, Object key, Comparator c) {
+        if(c == null)
+            c = NATURAL;
+        int low = from;
+        int high = to - 1;
+        while(low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = c.compare(w.elementAt(mid), key);
+            if(cmp < 0)
+                low = mid + 1;
+            else if(cmp > 0)
+                high = mid - 1;
+            else
+                return mid - from;
+        }
+        return -(low - from) - 1;
+    }
+
+    private static final Comparator NATURAL = new Comparator() {
+        public int compare(Object o1, Object o2) {
+            return ((Comparable) o1).compareTo(o2);
+        }
+    };
+
+    private static void insertionSort(Object[] a, int from, int to, Comparator c) {
+        for(int i = from + 1; i < to; i++) {
+            Object x = a[i];
+            int j = i - 1;
+            while(j >= from && c.compare(a[j], x) > 0) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = x;
+        }
+    }
+
+    /***
+     * Sorts a[from, to) using buffer[from - base, to - base) as temporary space.
+     */
+    private static void mergeSort(Object[] a, Object[] buffer, int from, int to, int base, Comparator c) {
+        if(to - from <= INSERTION_THRESHOLD) {
+            insertionSort(a, from, to, c);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(a, buffer, from, mid, base, c);
+        mergeSort(a, buffer, mid, to, base, c);
+        merge(a, buffer, from, mid, to, base, c);
+    }
+
+    /***
+     * Merges the sorted runs a[from, mid) and a[mid, to). The left run is copied into the buffer, so the merge is stable
+     * and writes the result back in a without overwriting the elements that are still to be read.
+     */
+    private static void merge(Object[] a, Object[] buffer, int from, int mid, int to, int base, Comparator c) {
+        if(c.compare(a[mid - 1], a[mid]) <= 0)
+            return;
+        int left = mid - from;
+        System.arraycopy(a, from, buffer, from - base, left);
+        int i = from - base;
+        int iEnd = i + left;
+        int j = mid;
+        int k = from;
+        while(i < iEnd && j < to) {
+            if(c.compare(a[j], buffer[i]) < 0)
+                a[k++] = a[j++];
+            else
+                a[k++] = buffer[i++];
+        }
+        if(i < iEnd)
+            System.arraycopy(buffer, i, a, k, iEnd - i);
+    }
+
+    /***
+     * The task that sorts a range in parallel: it forks the left half, sorts the right half itself and merges them.
+     */
+    private static final class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final Object[] a;
+        private final Object[] buffer;
+        private final int from;
+        private final int to;
+        private final int base;
+        private final Comparator c;
+
+        SortTask(Object[] a, Object[] buffer, int from, int to, int base, Comparator c) {
+            this.a = a;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.base = base;
+            this.c = c;
+        }
+
+        @Override
+        protected void compute() {
+            if(to - from <= PARALLEL_THRESHOLD) {
+                mergeSort(a, buffer, from, to, base, c);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            SortTask left = new SortTask(a, buffer, from, mid, base, c);
+            left.fork();
+            new SortTask(a, buffer, mid, to, base, c).compute();
+            left.join();
+            merge(a, buffer, from, mid, to, base, c);
+        }
+    }
+}
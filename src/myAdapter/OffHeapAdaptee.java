@@ -0,0 +1,134 @@
+package myAdapter;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/***
+ * The OffHeapAdaptee class implements a growable array of fixed-width records stored in a direct ByteBuffer,
+ * that is in memory outside of the Java heap.<br>
+ * The elements are translated to records by an HRecordCodec: the garbage collector never sees the elements,
+ * only the buffer, so a vector of millions of elements does not make the collections longer.<br>
+ * When the buffer is full, a new buffer of double capacity is allocated, the records are copied and the old buffer is freed at once.
+ * The memory of the last buffer is freed by close(); after that every method throws IllegalStateException.<br>
+ * Like ArrayAdaptee, the class is not synchronized.<br>
+ * @see RecordAdaptee RecordAdaptee.
+ * @see HRecordCodec HRecordCodec.
+ * @see OffHeapListAdapter OffHeapListAdapter.
+ */
+public class OffHeapAdaptee extends RecordAdaptee {
+
+    /***
+     * The direct buffer that holds the records, null after close().
+     */
+    ByteBuffer buffer;
+
+    /***
+     * The number of records that the buffer can hold.
+     */
+    int capacity;
+
+    /***
+     * Constructs an empty vector of records written by the specified codec, with an initial capacity of 10 records.
+     * @param codec - the codec of the records.
+     */
+    public OffHeapAdaptee(HRecordCodec codec) {
+        this(codec, 10);
+    }
+
+    /***
+     * Constructs an empty vector of records written by the specified codec, with the specified initial capacity.
+     * @param codec - the codec of the records.
+     * @param initialCapacity - the initial number of records.
+     * @throws IllegalArgumentException - if the specified initial capacity is negative or the width of the codec is not positive.
+     * @throws NullPointerException - if the codec is null.
+     */
+    public OffHeapAdaptee(HRecordCodec codec, int initialCapacity) {
+        super(codec);
+        if(initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        buffer = allocate(initialCapacity);
+        capacity = initialCapacity;
+    }
+
+    private ByteBuffer allocate(int records) {
+        if((long) records * width > Integer.MAX_VALUE)
+            throw new OutOfMemoryError("too many records for a direct buffer");
+        return ByteBuffer.allocateDirect(records * width).order(ByteOrder.nativeOrder());
+    }
+
+    /***
+     * Returns the buffer of the records.
+     * @return the buffer of the records.
+     * @throws IllegalStateException - if the vector has been closed.
+     */
+    ByteBuffer buffer() {
+        if(buffer == null)
+            throw new IllegalStateException("the off-heap storage has been closed");
+        return buffer;
+    }
+
+    @Override
+    ByteBuffer block(int index) {
+        return buffer();
+    }
+
+    @Override
+    int offset(int index) {
+        return index * width;
+    }
+
+    @Override
+    int blockRecords() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void close() {
+        if(buffer != null) {
+            ByteBuffer b = buffer;
+            buffer = null;
+            capacity = 0;
+            free(b);
+        }
+    }
+
+    @Override
+    public boolean isClosed() {
+        return buffer == null;
+    }
+
+    /***
+     * Replaces the buffer with a new one that can hold the specified number of records.
+     * @param newCapacity - the number of records of the new buffer, not less than the size.
+     */
+    private void reallocate(int newCapacity) {
+        ByteBuffer old = buffer();
+        ByteBuffer b = allocate(newCapacity);
+        ByteBuffer src = old.duplicate();
+        src.position(0);
+        src.limit(elementCount * width);
+        b.put(src);
+        b.clear();
+        buffer = b;
+        capacity = newCapacity;
+        free(old);
+    }
+
+    @Override
+    void grow(int minCapacity) {
+        int newCapacity = capacity * 2;
+        if(newCapacity < minCapacity)
+            newCapacity = minCapacity;
+        reallocate(newCapacity);
+    }
+
+    @Override
+    public void trimToSize() {
+        if(elementCount < capacity)
+            reallocate(elementCount);
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+}
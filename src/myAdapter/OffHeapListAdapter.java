@@ -0,0 +1,298 @@
+package myAdapter;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+/***
+ * public class OffHeapListAdapter <br> extends
+ * @see ListAdapter ListAdapter. <br>
+ * A ListAdapter whose elements live outside of the Java heap, in a RecordAdaptee: every element is written by an HRecordCodec
+ * in a fixed-width record of a direct buffer (or of a mapped file, for MappedListAdapter), so a list of millions of elements adds nothing to the work of the garbage collector.<br>
+ * The HList methods box and unbox the elements through the codec. When the codec is one of the PrimitiveRecordCodec constants,
+ * the methods that end with Int, Long or Double and the PrimitiveCursor read and write the records without creating any object.<br>
+ * <b>Note this : </b> the memory is not freed by the garbage collector at a predictable time: call close() when the list is no longer used.
+ * After close() every method that reads or writes the elements throws IllegalStateException.<br>
+ * @see OffHeapAdaptee OffHeapAdaptee.
+ * @see MappedListAdapter MappedListAdapter.
+ * @see HRecordCodec HRecordCodec.
+ */
+public class OffHeapListAdapter extends ListAdapter {
+    private RecordAdaptee records;
+
+    /***
+     * Creates a new empty list of elements written by the specified codec.
+     * @param codec the codec of the elements.
+     * @throws NullPointerException if the codec is null.
+     */
+    public OffHeapListAdapter(HRecordCodec codec) {
+        this(new OffHeapAdaptee(codec));
+    }
+
+    /***
+     * Creates a new empty list of elements written by the specified codec, with room for the specified number of elements.
+     * @param codec the codec of the elements.
+     * @param rows the initial capacity of the list.
+     * @throws IllegalArgumentException if the initial capacity is negative.
+     * @throws NullPointerException if the codec is null.
+     */
+    public OffHeapListAdapter(HRecordCodec codec, int rows) {
+        this(new OffHeapAdaptee(codec, rows));
+    }
+
+    /***
+     * Creates a new list over the specified storage of records; the records already in the storage become the elements of the list.
+     * @param storage the storage of the records.
+     */
+    OffHeapListAdapter(RecordAdaptee storage) {
+        super(storage, true);
+        records = storage;
+    }
+
+    /***
+     * Returns the codec of the elements of this list.
+     * @return the codec of the elements.
+     */
+    public HRecordCodec codec() {
+        return records.codec();
+    }
+
+    /***
+     * Frees the off-heap memory of this list. The list can not be used any more; calling close() again has no effect.
+     */
+    public void close() {
+        records.close();
+        modCount++;
+    }
+
+    /***
+     * Tests if this list has been closed.
+     * @return true if close() has been called.
+     */
+    public boolean isClosed() {
+        return records.isClosed();
+    }
+
+    private void checkIndex(int index) {
+        if(index < 0 || index >= records.size())
+            throw new IndexOutOfBoundsException("It was introduced an invalid index");
+    }
+
+    /***
+     * Returns the int value at the specified position in this list.
+     * @param index index of the value to return.
+     * @return the value at the specified position.
+     * @throws ClassCastException if the codec of the list is not PrimitiveRecordCodec.INT.
+     * @throws IndexOutOfBoundsException if the index is out of range (index &lt; 0 || index &gt;= size()).
+     */
+    public int getInt(int index) {
+        records.checkCodec(PrimitiveRecordCodec.INT);
+        checkIndex(index);
+        return records.getInt(index);
+    }
+
+    /***
+     * Replaces the int value at the specified position in this list.
+     * @param index index of the value to replace.
+     * @param value value to be stored at the specified position.
+     * @return the value previously at the specified position.
+     * @throws ClassCastException if the codec of the list is not PrimitiveRecordCodec.INT.
+     * @throws IndexOutOfBoundsException if the index is out of range (index &lt; 0 || index &gt;= size()).
+     */
+    public int setInt(int index, int value) {
+        records.checkCodec(PrimitiveRecordCodec.INT);
+        checkIndex(index);
+        int old = records.getInt(index);
+        records.putInt(index, value);
+        contentChanged();
+        return old;
+    }
+
+    /***
+     * Appends the specified int value to the end of this list.
+     * @param value value to be appended.
+     * @return true.
+     * @throws ClassCastException if the codec of the list is not PrimitiveRecordCodec.INT.
+     */
+    public boolean addInt(int value) {
+        records.checkCodec(PrimitiveRecordCodec.INT);
+        records.putInt(records.appendRecord(), value);
+        modCount++;
+        return true;
+    }
+
+    /***
+     * Returns the long value at the specified position in this list.
+     * @param index index of the value to return.
+     * @return the value at the specified position.
+     * @throws ClassCastException if the codec of the list is not PrimitiveRecordCodec.LONG.
+     * @throws IndexOutOfBoundsException if the index is out of range (index &lt; 0 || index &gt;= size()).
+     */
+    public long getLong(int index) {
+        records.checkCodec(PrimitiveRecordCodec.LONG);
+        checkIndex(index);
+        return records.getLong(index);
+    }
+
+    /***
+     * Replaces the long value at the specified position in this list.
+     * @param index index of the value to replace.
+     * @param value value to be stored at the specified position.
+     * @return the value previously at the specified position.
+     * @throws ClassCastException if the codec of the list is not PrimitiveRecordCodec.LONG.
+     * @throws IndexOutOfBoundsException if the index is out of range (index &lt; 0 || index &gt;= size()).
+     */
+    public long setLong(int index, long value) {
+        records.checkCodec(PrimitiveRecordCodec.LONG);
+        checkIndex(index);
+        long old = records.getLong(index);
+        records.putLong(index, value);
+        contentChanged();
+        return old;
+    }
+
+    /***
+     * Appends the specified long value to the end of this list.
+     * @param value value to be appended.
+     * @return true.
+     * @throws ClassCastException if the codec of the list is not PrimitiveRecordCodec.LONG.
+     */
+    public boolean addLong(long value) {
+        records.checkCodec(PrimitiveRecordCodec.LONG);
+        records.putLong(records.appendRecord(), value);
+        modCount++;
+        return true;
+    }
+
+    /***
+     * Returns the double value at the specified position in this list.
+     * @param index index of the value to return.
+     * @return the value at the specified position.
+     * @throws ClassCastException if the codec of the list is not PrimitiveRecordCodec.DOUBLE.
+     * @throws IndexOutOfBoundsException if the index is out of range (index &lt; 0 || index &gt;= size()).
+     */
+    public double getDouble(int index) {
+        records.checkCodec(PrimitiveRecordCodec.DOUBLE);
+        checkIndex(index);
+        return records.getDouble(index);
+    }
+
+    /***
+     * Replaces the double value at the specified position in this list.
+     * @param index index of the value to replace.
+     * @param value value to be stored at the specified position.
+     * @return the value previously at the specified position.
+     * @throws ClassCastException if the codec of the list is not PrimitiveRecordCodec.DOUBLE.
+     * @throws IndexOutOfBoundsException if the index is out of range (index &lt; 0 || index &gt;= size()).
+     */
+    public double setDouble(int index, double value) {
+        records.checkCodec(PrimitiveRecordCodec.DOUBLE);
+        checkIndex(index);
+        double old = records.getDouble(index);
+        records.putDouble(index, value);
+        contentChanged();
+        return old;
+    }
+
+    /***
+     * Appends the specified double value to the end of this list.
+     * @param value value to be appended.
+     * @return true.
+     * @throws ClassCastException if the codec of the list is not PrimitiveRecordCodec.DOUBLE.
+     */
+    public boolean addDouble(double value) {
+        records.checkCodec(PrimitiveRecordCodec.DOUBLE);
+        records.putDouble(records.appendRecord(), value);
+        modCount++;
+        return true;
+    }
+
+    /***
+     * Returns a cursor over the records of this list, starting at the beginning of the list.
+     * @return a PrimitiveCursor positioned before the first record.
+     */
+    public PrimitiveCursor cursor() {
+        return new PrimitiveCursor(0);
+    }
+
+    /***
+     * Returns a cursor over the records of this list, starting at the specified position.
+     * @param index index of the first record to be read by the cursor.
+     * @return a PrimitiveCursor positioned before the specified index.
+     * @throws IndexOutOfBoundsException if the index is out of range (index &lt; 0 || index &gt; size()).
+     */
+    public PrimitiveCursor cursor(int index) {
+        if(index < 0 || index > size())
+            throw new IndexOutOfBoundsException("It was introduced an invalid index");
+        return new PrimitiveCursor(index);
+    }
+
+    /***
+     * A forward iterator over the records of an OffHeapListAdapter, that reads the primitive values without boxing.
+     * The cursor must be used with the next method of the codec of the list: nextInt() for PrimitiveRecordCodec.INT,
+     * nextLong() for LONG and nextDouble() for DOUBLE, otherwise it throws ClassCastException.<br>
+     * Like the iterators of ListAdapter, the cursor is fail-fast: if the list is structurally modified after its creation
+     * it throws ConcurrentModificationException.
+     */
+    public class PrimitiveCursor {
+        private int place;
+        private int expectedModCount;
+
+        private PrimitiveCursor(int index) {
+            place = index;
+            expectedModCount = modCount;
+        }
+
+        private void advance(PrimitiveRecordCodec codec) {
+            if(modCount != expectedModCount)
+                throw new ConcurrentModificationException("the list has been modified outside of the cursor");
+            records.checkCodec(codec);
+            if(place >= records.elementCount)
+                throw new NoSuchElementException("Cursor come to the end");
+        }
+
+        /***
+         * Returns true if the cursor has more records.
+         * @return true if a next method would return a value.
+         */
+        public boolean hasNext() {
+            return place < records.elementCount || modCount != expectedModCount;
+        }
+
+        /***
+         * Returns the next record as an int.
+         * @return the next value in the list.
+         * @throws NoSuchElementException if the cursor is at the end of the list.
+         */
+        public int nextInt() {
+            advance(PrimitiveRecordCodec.INT);
+            return records.getInt(place++);
+        }
+
+        /***
+         * Returns the next record as a long.
+         * @return the next value in the list.
+         * @throws NoSuchElementException if the cursor is at the end of the list.
+         */
+        public long nextLong() {
+            advance(PrimitiveRecordCodec.LONG);
+            return records.getLong(place++);
+        }
+
+        /***
+         * Returns the next record as a double.
+         * @return the next value in the list.
+         * @throws NoSuchElementException if the cursor is at the end of the list.
+         */
+        public double nextDouble() {
+            advance(PrimitiveRecordCodec.DOUBLE);
+            return records.getDouble(place++);
+        }
+
+        /***
+         * Returns the index of the record that would be read by a subsequent call to a next method.
+         * @return the index of the next record, or the size of the list if the cursor is at the end.
+         */
+        public int nextIndex() {
+            return place;
+        }
+    }
+}
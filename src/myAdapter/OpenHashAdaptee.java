@@ -0,0 +1,559 @@
+package myAdapter;
+import java.util.ConcurrentModificationException;
+import java.util.Enumeration;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/***
+ * The OpenHashAdaptee class implements a hashtable with open addressing and linear probing, which maps keys to values.
+ * Any non-null object can be used as a key or as a value.<br>
+ * The keys and the values are stored in two parallel arrays, whose length is a power of two: an entry costs two references
+ * and no node object, and a lookup reads consecutive slots of the same array instead of following a chain of nodes.
+ * The slot of a key is chosen by Fibonacci hashing of its hashCode(), so that keys with close hash codes are spread over the table.<br>
+ * A removed key leaves a tombstone in its slot, so that the other entries never move: the Enumerations returned by keys() and elements()
+ * can go on while entries are removed, as the iterators of the views of MapAdapter do. The tombstones are reused by the next insertions
+ * and are dropped when the table is rebuilt, which happens when the entries and the tombstones fill more than three quarters of the slots.<br>
+ * Like ArrayAdaptee, and unlike HashtableAdaptee, the class is not synchronized.
+ * @see HHashtable HHashtable.
+ * @see HashtableAdaptee HashtableAdaptee.
+ * @see MapAdapter MapAdapter.
+ */
+public class OpenHashAdaptee extends HashEngine {
+
+    /***
+     * The key left in the slot of a removed entry.
+     */
+    static final Object TOMBSTONE = new Object();
+
+    private static final int MIN_CAPACITY = 8;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /***
+     * The keys of the entries, null for an empty slot and TOMBSTONE for a removed entry.
+     */
+    Object[] keys;
+
+    /***
+     * The values of the entries, in the same slot of their key.
+     */
+    Object[] values;
+
+    /***
+     * The number of entries.
+     */
+    int count;
+
+    /***
+     * The number of slots that contain an entry or a tombstone.
+     */
+    int used;
+
+    private int threshold;
+    private int shift;
+
+    /***
+     * Constructs a new, empty hashtable with room for 11 entries.
+     */
+    public OpenHashAdaptee() {
+        this(11);
+    }
+
+    /***
+     * Constructs a new, empty hashtable with room for the specified number of entries, before it has to grow.
+     * @param initialCapacity the number of entries that the hashtable can hold without growing.
+     * @throws IllegalArgumentException if the initial capacity is less than zero.
+     */
+    public OpenHashAdaptee(int initialCapacity) {
+        if(initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        allocate(tableSizeFor(initialCapacity));
+    }
+
+    /***
+     * Returns the smallest power of two whose three quarters are at least the specified number of entries.
+     */
+    private static int tableSizeFor(int entries) {
+        long n = (long) entries * 4 / 3 + 1;
+        int c = MIN_CAPACITY;
+        while(c < n && c < MAX_CAPACITY)
+            c <<= 1;
+        return c;
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        threshold = capacity / 4 * 3;
+        shift = 32 - Integer.numberOfTrailingZeros(capacity);
+        used = count;
+    }
+
+    /***
+     * Returns the first slot where the specified key is searched.
+     * @param key the key.
+     * @return the home slot of the key.
+     */
+    final int slotOf(Object key) {
+        return (key.hashCode() * 0x9E3779B9) >>> shift;
+    }
+
+    /***
+     * Returns the slot that contains the specified key.
+     * @param key the key, not null.
+     * @return the slot of the key, or -1 if the key is not in the hashtable.
+     */
+    final int find(Object key) {
+        Object[] k = keys;
+        int mask = k.length - 1;
+        for(int i = slotOf(key); ; i = (i + 1) & mask) {
+            Object x = k[i];
+            if(x == null)
+                return -1;
+            if(x != TOMBSTONE && (x == key || x.equals(key)))
+                return i;
+        }
+    }
+
+    /***
+     * Returns the slot where the specified key is, or where it would be inserted.
+     * When the key is absent the result is (-slot - 1), and the slot is the first tombstone found on the way, if any,
+     * otherwise the empty slot that ended the search.
+     * @param key the key, not null.
+     * @return the slot of the key, or (-slot - 1) if the key is not in the hashtable.
+     */
+    final int probe(Object key) {
+        Object[] k = keys;
+        int mask = k.length - 1;
+        int free = -1;
+        for(int i = slotOf(key); ; i = (i + 1) & mask) {
+            Object x = k[i];
+            if(x == null)
+                return -(free >= 0 ? free : i) - 1;
+            if(x == TOMBSTONE) {
+                if(free < 0)
+                    free = i;
+            }
+            else if(x == key || x.equals(key))
+                return i;
+        }
+    }
+
+    /***
+     * Stores a new entry in the slot returned by probe(); the table may be rebuilt, so any slot known before is not valid any more.
+     * @param slot the free slot, as returned by probe() for a missing key.
+     * @param key the key, not null.
+     * @param value the value, not null.
+     */
+    final void insertAt(int slot, Object key, Object value) {
+        if(keys[slot] == null)
+            used++;
+        keys[slot] = key;
+        values[slot] = value;
+        count++;
+        entryChanged(key, null, value);
+        if(used > threshold)
+            rehash();
+    }
+
+    /***
+     * Removes the entry of the specified slot, leaving a tombstone.
+     * @param slot the slot of an entry.
+     * @return the value of the removed entry.
+     */
+    final Object removeAt(int slot) {
+        Object key = keys[slot];
+        Object old = values[slot];
+        keys[slot] = TOMBSTONE;
+        values[slot] = null;
+        count--;
+        entryChanged(key, old, null);
+        return old;
+    }
+
+    /***
+     * Rebuilds the table without tombstones, doubling it if the entries alone fill more than half of it.
+     */
+    private void rehash() {
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        int capacity = oldKeys.length;
+        if(count > capacity / 2 && capacity < MAX_CAPACITY)
+            capacity <<= 1;
+        else if(count >= threshold)
+            throw new IllegalStateException("the hashtable is full");
+        allocate(capacity);
+        int mask = capacity - 1;
+        for(int j = 0; j < oldKeys.length; j++) {
+            Object x = oldKeys[j];
+            if(x != null && x != TOMBSTONE) {
+                int i = slotOf(x);
+                while(keys[i] != null)
+                    i = (i + 1) & mask;
+                keys[i] = x;
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public Enumeration keys() {
+        return new SlotEnumeration(true);
+    }
+
+    @Override
+    public Enumeration elements() {
+        return new SlotEnumeration(false);
+    }
+
+    @Override
+    public boolean contains(Object value) {
+        if(value == null)
+            throw new NullPointerException("null value is not allowed");
+        Object[] v = values;
+        for(int i = 0; i < v.length; i++) {
+            if(v[i] != null && v[i].equals(value))
+                return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return find(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int i = find(key);
+        return i < 0 ? null : values[i];
+    }
+
+    @Override
+    public Object put(Object key, Object value) {
+        if(value == null)
+            throw new NullPointerException("null value is not allowed");
+        int i = probe(key);
+        if(i >= 0) {
+            Object old = values[i];
+            values[i] = value;
+            entryChanged(key, old, value);
+            return old;
+        }
+        insertAt(-i - 1, key, value);
+        return null;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        int i = find(key);
+        if(i < 0)
+            return null;
+        return removeAt(i);
+    }
+
+    @Override
+    public void clear() {
+        for(int i = 0; i < keys.length; i++) {
+            keys[i] = null;
+            values[i] = null;
+        }
+        count = 0;
+        used = 0;
+        cleared();
+    }
+
+    @Override
+    Object replace(Object key, Object value) {
+        if(value == null)
+            throw new NullPointerException("null value is not allowed");
+        int i = find(key);
+        if(i < 0)
+            return null;
+        Object old = values[i];
+        values[i] = value;
+        entryChanged(key, old, value);
+        return old;
+    }
+
+    @Override
+    Object putIfAbsent(Object key, Object value) {
+        if(value == null)
+            throw new NullPointerException("null value is not allowed");
+        int i = probe(key);
+        if(i >= 0)
+            return values[i];
+        insertAt(-i - 1, key, value);
+        return null;
+    }
+
+    @Override
+    Object computeIfAbsent(Object key, Function function) {
+        int i = probe(key);
+        if(i >= 0)
+            return values[i];
+        Object[] k = keys;
+        Object x = k[-i - 1];
+        Object value = function.apply(key);
+        checkSlot(k, -i - 1, x, null);
+        if(value != null)
+            insertAt(-i - 1, key, value);
+        return value;
+    }
+
+    @Override
+    Object compute(Object key, BiFunction function) {
+        int i = probe(key);
+        int slot = i >= 0 ? i : -i - 1;
+        Object[] k = keys;
+        Object x = k[slot];
+        Object old = i >= 0 ? values[i] : null;
+        Object value = function.apply(key, old);
+        checkSlot(k, slot, x, old);
+        return update(i, key, old, value);
+    }
+
+    @Override
+    Object merge(Object key, Object value, BiFunction function) {
+        if(value == null)
+            throw new NullPointerException("null value is not allowed");
+        int i = probe(key);
+        if(i < 0) {
+            insertAt(-i - 1, key, value);
+            return value;
+        }
+        Object[] k = keys;
+        Object x = k[i];
+        Object old = values[i];
+        Object result = function.apply(old, value);
+        checkSlot(k, i, x, old);
+        return update(i, key, old, result);
+    }
+
+    /***
+     * Throws ConcurrentModificationException if the slot found by probe() has been changed while a function was computing the new value.
+     * @param k the keys array at the time of the probe.
+     * @param slot the slot.
+     * @param x the content of the slot at the time of the probe.
+     * @param old the value of the slot at the time of the probe.
+     */
+    private void checkSlot(Object[] k, int slot, Object x, Object old) {
+        if(keys != k || k[slot] != x || values[slot] != old)
+            throw new ConcurrentModificationException();
+    }
+
+    /***
+     * Stores the result of compute() or merge() in the slot returned by probe(): a null value removes the entry.
+     */
+    private Object update(int i, Object key, Object old, Object value) {
+        if(value == null) {
+            if(i >= 0)
+                removeAt(i);
+        }
+        else if(i >= 0) {
+            values[i] = value;
+            entryChanged(key, old, value);
+        }
+        else
+            insertAt(-i - 1, key, value);
+        return value;
+    }
+
+    @Override
+    Cursor cursor() {
+        return new SlotCursor();
+    }
+
+    @Override
+    Spliterator spliterator(BiFunction element, int characteristics) {
+        return new SlotSplitter(keys, values, element, 0, keys.length, count, true, characteristics);
+    }
+
+    @java.lang.Override
+    public String toString() {
+        StringBuffer buf = new StringBuffer();
+        buf.append("{");
+        boolean first = true;
+        for(int i = 0; i < keys.length; i++) {
+            Object x = keys[i];
+            if(x != null && x != TOMBSTONE) {
+                if(!first)
+                    buf.append(", ");
+                buf.append(String.valueOf(x)).append("=").append(String.valueOf(values[i]));
+                first = false;
+            }
+        }
+        buf.append("}");
+        return buf.toString();
+    }
+
+    /***
+     * Enumeration of the keys, or of the values, in the order of the slots.<br>
+     * It keeps the arrays of the table at the time it was created: a removal leaves a tombstone and does not move the other entries,
+     * so it does not disturb the enumeration; after a rebuild of the table the enumeration goes on over the old arrays.
+     */
+    private class SlotEnumeration implements Enumeration {
+        private final Object[] k = keys;
+        private final Object[] v = values;
+        private final boolean enumKeys;
+        private int next;
+
+        private SlotEnumeration(boolean enumKeys) {
+            this.enumKeys = enumKeys;
+            advance();
+        }
+
+        private void advance() {
+            while(next < k.length && (k[next] == null || k[next] == TOMBSTONE))
+                next++;
+        }
+
+        public boolean hasMoreElements() {
+            advance();
+            return next < k.length;
+        }
+
+        public Object nextElement() {
+            advance();
+            if(next >= k.length)
+                throw new NoSuchElementException("OpenHashAdaptee Enumeration");
+            Object obj = enumKeys ? k[next] : v[next];
+            next++;
+            return obj;
+        }
+    }
+
+    /***
+     * Spliterator over a range of the slots of the table. Like SlotEnumeration it keeps the arrays of the table at the time it was created,
+     * so it never throws ConcurrentModificationException: a removal does not disturb it, and after a rebuild of the table it goes on over the old arrays.
+     */
+    private static final class SlotSplitter extends SlotSpliterator {
+        private final Object[] k;
+        private final Object[] v;
+
+        private SlotSplitter(Object[] k, Object[] v, BiFunction element, int from, int to, long est, boolean exact, int characteristics) {
+            super(element, from, to, est, exact, characteristics);
+            this.k = k;
+            this.v = v;
+        }
+
+        @Override
+        SlotSpliterator split(int from, int to, long est) {
+            return new SlotSplitter(k, v, element, from, to, est, false, characteristics);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer action) {
+            if(action == null)
+                throw new NullPointerException("null action is not allowed");
+            while(index < fence) {
+                int i = index++;
+                Object x = k[i];
+                if(x != null && x != TOMBSTONE) {
+                    action.accept(element.apply(x, v[i]));
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer action) {
+            if(action == null)
+                throw new NullPointerException("null action is not allowed");
+            int i = index;
+            index = fence;
+            for(; i < fence; i++) {
+                Object x = k[i];
+                if(x != null && x != TOMBSTONE)
+                    action.accept(element.apply(x, v[i]));
+            }
+        }
+    }
+
+    /***
+     * Cursor over the slots of the table. Like SlotEnumeration it keeps the arrays of the table at the time it was created, so the
+     * removal of an entry does not disturb it. While the table has not been rebuilt the cursor reads and writes the current slot directly;
+     * after a rebuild it goes on over the old arrays, and value(), setValue() and remove() look the key up in the new table.
+     */
+    private class SlotCursor extends Cursor {
+        private final Object[] k = keys;
+        private final Object[] v = values;
+        private int next;
+        private int slot = -1;
+
+        private void skip() {
+            while(next < k.length && (k[next] == null || k[next] == TOMBSTONE))
+                next++;
+        }
+
+        private int slot() {
+            if(slot < 0 || k[slot] == TOMBSTONE)
+                throw new IllegalStateException("the cursor is not on an entry");
+            return slot;
+        }
+
+        @Override
+        boolean hasMore() {
+            skip();
+            return next < k.length;
+        }
+
+        @Override
+        public boolean advance() {
+            skip();
+            if(next >= k.length) {
+                slot = -1;
+                return false;
+            }
+            slot = next++;
+            return true;
+        }
+
+        @Override
+        public Object key() {
+            return k[slot()];
+        }
+
+        @Override
+        public Object value() {
+            int i = slot();
+            return k == keys ? v[i] : get(k[i]);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            int i = slot();
+            if(value == null)
+                throw new NullPointerException("null value is not allowed");
+            if(k != keys)
+                return replace(k[i], value);
+            Object old = v[i];
+            v[i] = value;
+            entryChanged(k[i], old, value);
+            return old;
+        }
+
+        @Override
+        public void remove() {
+            int i = slot();
+            if(k == keys)
+                removeAt(i);
+            else
+                OpenHashAdaptee.this.remove(k[i]);
+            slot = -1;
+        }
+    }
+}
@@ -0,0 +1,784 @@
+package myAdapter;
+import java.util.NoSuchElementException;
+
+/***
+ * public class PersistentListAdapter <br> implements
+ * @see HList HList. <br>
+ * An immutable HList that is never copied to make a new version: a bit-partitioned vector trie, like the vectors of
+ * Clojure and Scala.<br>
+ * The elements are in the leaves of a tree whose nodes have 32 children, plus a tail array with the last 1..32 elements.
+ * The element at index i is found by taking 5 bits of i at every level, so get(int) reads at most 7 arrays for any size.
+ * plus(Object), with(int, Object) and minus() return a new list that shares with this one every node that is not on the path
+ * of the change: they cost O(log32 n), that is effectively constant, and this list is never modified.
+ * A list can therefore be given to other components, or kept as a snapshot, without any copy.<br>
+ * The HList methods that change the list throw UnsupportedOperationException. To build a large list without creating a version
+ * for every element, use a Builder, that changes its own nodes in place until build() is called.<br>
+ * Like ListAdapter, the list does not allow null elements.<br>
+ * @see ListAdapter ListAdapter.
+ */
+public final class PersistentListAdapter implements HList {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    /***
+     * A node of the tree. The nodes created by a Builder remember it, so the builder can change them in place;
+     * the nodes of a list are never changed after the list has been published.
+     */
+    private static final class Node {
+        final Edit edit;
+        final Object[] array;
+
+        Node(Edit edit, Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+
+        Node(Edit edit) {
+            this(edit, new Object[WIDTH]);
+        }
+    }
+
+    /***
+     * The owner of the nodes of a Builder; it is deactivated by build().
+     */
+    private static final class Edit {
+        volatile boolean active = true;
+    }
+
+    private static final Edit NO_EDIT = new Edit();
+    private static final Node EMPTY_NODE = new Node(NO_EDIT);
+
+    /***
+     * The empty list.
+     */
+    public static final PersistentListAdapter EMPTY = new PersistentListAdapter(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int count;
+    private final int shift;
+    private final Node root;
+    private final Object[] tail;
+
+    private PersistentListAdapter(int count, int shift, Node root, Object[] tail) {
+        this.count = count;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /***
+     * Returns a list with the elements of the specified collection, in the order of its iterator.
+     * @param c the collection whose elements are placed into the list.
+     * @return a new list, or c itself if it is a PersistentListAdapter.
+     * @throws NullPointerException if the collection is null or contains a null element.
+     */
+    public static PersistentListAdapter of(HCollection c) {
+        if(c instanceof PersistentListAdapter)
+            return (PersistentListAdapter) c;
+        Object[] a = ListAdapter.toCheckedArray(c);
+        Builder b = new Builder();
+        for(int i = 0; i < a.length; i++)
+            b.add(a[i]);
+        return b.build();
+    }
+
+    /***
+     * Returns a builder that starts from the elements of this list. This list is not changed by the builder.
+     * @return a new builder.
+     */
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    private int tailOffset() {
+        if(count < WIDTH)
+            return 0;
+        return ((count - 1) >>> BITS) << BITS;
+    }
+
+    /***
+     * Returns the leaf, or the tail, that contains the element at the specified index.
+     */
+    private Object[] arrayFor(int index) {
+        if(index >= tailOffset())
+            return tail;
+        Node node = root;
+        for(int level = shift; level > 0; level -= BITS)
+            node = (Node) node.array[(index >>> level) & MASK];
+        return node.array;
+    }
+
+    private static void checkElement(Object o) {
+        if(o == null)
+            throw new NullPointerException("null Object is not allowed");
+    }
+
+    private static Node newPath(Edit edit, int level, Node node) {
+        if(level == 0)
+            return node;
+        Node ret = new Node(edit);
+        ret.array[0] = newPath(edit, level - BITS, node);
+        return ret;
+    }
+
+    /***
+     * Returns a list with the elements of this list followed by the specified element.
+     * @param o the element to be appended.
+     * @return the new version of the list.
+     * @throws NullPointerException if the element is null.
+     */
+    public PersistentListAdapter plus(Object o) {
+        checkElement(o);
+        if(count - tailOffset() < WIDTH) {
+            Object[] newTail = new Object[tail.length + 1];
+            System.arraycopy(tail, 0, newTail, 0, tail.length);
+            newTail[tail.length] = o;
+            return new PersistentListAdapter(count + 1, shift, root, newTail);
+        }
+        Node tailNode = new Node(NO_EDIT, tail);
+        Node newRoot;
+        int newShift = shift;
+        if((count >>> BITS) > (1 << shift)) {
+            newRoot = new Node(NO_EDIT);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(NO_EDIT, shift, tailNode);
+            newShift += BITS;
+        }
+        else
+            newRoot = pushTail(count, NO_EDIT, shift, root, tailNode);
+        return new PersistentListAdapter(count + 1, newShift, newRoot, new Object[] { o });
+    }
+
+    /***
+     * Returns a copy of the parent, or the parent itself if it belongs to the edit, with the tail node added below it.
+     */
+    private static Node pushTail(int count, Edit edit, int level, Node parent, Node tailNode) {
+        int subidx = ((count - 1) >>> level) & MASK;
+        Node ret = editable(edit, parent);
+        Node nodeToInsert;
+        if(level == BITS)
+            nodeToInsert = tailNode;
+        else {
+            Node child = (Node) parent.array[subidx];
+            nodeToInsert = (child != null) ? pushTail(count, edit, level - BITS, child, tailNode)
+                    : newPath(edit, level - BITS, tailNode);
+        }
+        ret.array[subidx] = nodeToInsert;
+        return ret;
+    }
+
+    /***
+     * Returns the node itself if it belongs to the edit of a builder, otherwise a copy that belongs to it.
+     */
+    private static Node editable(Edit edit, Node node) {
+        if(edit != NO_EDIT && node.edit == edit)
+            return node;
+        Object[] a = new Object[WIDTH];
+        System.arraycopy(node.array, 0, a, 0, node.array.length);
+        return new Node(edit, a);
+    }
+
+    /***
+     * Returns a list equal to this one, except for the element at the specified index.
+     * @param index index of the element to replace, or size() to append.
+     * @param o the new element.
+     * @return the new version of the list.
+     * @throws IndexOutOfBoundsException if the index is out of range (index &lt; 0 || index &gt; size()).
+     * @throws NullPointerException if the element is null.
+     */
+    public PersistentListAdapter with(int index, Object o) {
+        checkElement(o);
+        if(index == count)
+            return plus(o);
+        if(index < 0 || index > count)
+            throw new IndexOutOfBoundsException("It was introduced an invalid index");
+        if(index >= tailOffset()) {
+            Object[] newTail = new Object[tail.length];
+            System.arraycopy(tail, 0, newTail, 0, tail.length);
+            newTail[index & MASK] = o;
+            return new PersistentListAdapter(count, shift, root, newTail);
+        }
+        return new PersistentListAdapter(count, shift, assoc(NO_EDIT, shift, root, index, o), tail);
+    }
+
+    private static Node assoc(Edit edit, int level, Node node, int index, Object o) {
+        Node ret = editable(edit, node);
+        if(level == 0)
+            ret.array[index & MASK] = o;
+        else {
+            int subidx = (index >>> level) & MASK;
+            ret.array[subidx] = assoc(edit, level - BITS, (Node) node.array[subidx], index, o);
+        }
+        return ret;
+    }
+
+    /***
+     * Returns a list with the elements of this list except the last one.
+     * @return the new version of the list.
+     * @throws NoSuchElementException if this list is empty.
+     */
+    public PersistentListAdapter minus() {
+        if(count == 0)
+            throw new NoSuchElementException("the list is empty");
+        if(count == 1)
+            return EMPTY;
+        if(count - tailOffset() > 1) {
+            Object[] newTail = new Object[tail.length - 1];
+            System.arraycopy(tail, 0, newTail, 0, newTail.length);
+            return new PersistentListAdapter(count - 1, shift, root, newTail);
+        }
+        Object[] newTail = arrayFor(count - 2);
+        Node newRoot = popTail(count, shift, root);
+        int newShift = shift;
+        if(newRoot == null)
+            newRoot = EMPTY_NODE;
+        if(shift > BITS && newRoot.array[1] == null) {
+            newRoot = (Node) newRoot.array[0];
+            newShift -= BITS;
+        }
+        return new PersistentListAdapter(count - 1, newShift, newRoot, newTail);
+    }
+
+    private static Node popTail(int count, int level, Node node) {
+        int subidx = ((count - 2) >>> level) & MASK;
+        if(level > BITS) {
+            Node newChild = popTail(count, level - BITS, (Node) node.array[subidx]);
+            if(newChild == null && subidx == 0)
+                return null;
+            Node ret = editable(NO_EDIT, node);
+            ret.array[subidx] = newChild;
+            return ret;
+        }
+        if(subidx == 0)
+            return null;
+        Node ret = editable(NO_EDIT, node);
+        ret.array[subidx] = null;
+        return ret;
+    }
+
+    @Override
+    public Object get(int index) {
+        if(index < 0 || index >= count)
+            throw new IndexOutOfBoundsException("It was introduced an invalid index");
+        return arrayFor(index)[index & MASK];
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public boolean containsAll(HCollection c) {
+        return containsAll(0, count, c);
+    }
+
+    /***
+     * Tests if the elements between from and to contain all the elements of the collection.
+     */
+    private boolean containsAll(int from, int to, HCollection c) {
+        if(c == null)
+            throw new NullPointerException("null Collection is not allowed");
+        Object[] a = ListAdapter.toCheckedArray(c);
+        if(a.length == 0)
+            return true;
+        HashtableAdaptee present = new HashtableAdaptee(to - from + 1);
+        for(int i = from; i < to; i++)
+            present.put(arrayFor(i)[i & MASK], Boolean.TRUE);
+        for(int i = 0; i < a.length; i++)
+            if(!present.containsKey(a[i]))
+                return false;
+        return true;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return indexOf(o, 0, count);
+    }
+
+    private int indexOf(Object o, int from, int to) {
+        checkElement(o);
+        for(int i = from; i < to; ) {
+            Object[] a = arrayFor(i);
+            int end = Math.min(to, (i | MASK) + 1);
+            for(; i < end; i++)
+                if(o.equals(a[i & MASK]))
+                    return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return lastIndexOf(o, 0, count);
+    }
+
+    private int lastIndexOf(Object o, int from, int to) {
+        checkElement(o);
+        for(int i = to - 1; i >= from; i--)
+            if(o.equals(arrayFor(i)[i & MASK]))
+                return i;
+        return -1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(o == this)
+            return true;
+        if(!(o instanceof HList))
+            return false;
+        return equals(0, count, (HList) o);
+    }
+
+    private boolean equals(int from, int to, HList list) {
+        if(list.size() != to - from)
+            return false;
+        HIterator h = list.iterator();
+        for(int i = from; i < to; i++)
+            if(!h.hasNext() || !arrayFor(i)[i & MASK].equals(h.next()))
+                return false;
+        return !h.hasNext();
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode(0, count);
+    }
+
+    private int hashCode(int from, int to) {
+        int hashCode = 1;
+        for(int i = from; i < to; i++)
+            hashCode = 31 * hashCode + arrayFor(i)[i & MASK].hashCode();
+        return hashCode;
+    }
+
+    @Override
+    public HIterator iterator() {
+        return new VectorIterator(0, count, 0);
+    }
+
+    @Override
+    public HListIterator listIterator() {
+        return new VectorIterator(0, count, 0);
+    }
+
+    @Override
+    public HListIterator listIterator(int index) {
+        if(index < 0 || index > count)
+            throw new IndexOutOfBoundsException("It was introduced an invalid index");
+        return new VectorIterator(0, count, index);
+    }
+
+    @Override
+    public HList subList(int fromIndex, int toIndex) {
+        return subList(0, count, fromIndex, toIndex);
+    }
+
+    private HList subList(int from, int to, int fromIndex, int toIndex) {
+        if(fromIndex < 0)
+            throw new IndexOutOfBoundsException("fromIndex = " + fromIndex);
+        if(toIndex > to - from)
+            throw new IndexOutOfBoundsException("toIndex = " + toIndex);
+        if(fromIndex > toIndex)
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        return new SubVector(from + fromIndex, from + toIndex);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return toArray(0, count, new Object[count]);
+    }
+
+    @Override
+    public Object[] toArray(Object[] a) {
+        if(a == null)
+            throw new NullPointerException("null array is not allowed");
+        return toArray(0, count, a);
+    }
+
+    /***
+     * Copies the elements between from and to in the array, a leaf at a time.
+     */
+    private Object[] toArray(int from, int to, Object[] a) {
+        if(a.length < to - from)
+            a = new Object[to - from];
+        for(int i = from; i < to; ) {
+            Object[] leaf = arrayFor(i);
+            int len = Math.min(to, (i | MASK) + 1) - i;
+            System.arraycopy(leaf, i & MASK, a, i - from, len);
+            i += len;
+        }
+        for(int i = to - from; i < a.length; i++)
+            a[i] = null;
+        return a;
+    }
+
+    private static UnsupportedOperationException immutable() {
+        return new UnsupportedOperationException("the list is immutable, use plus, with and minus");
+    }
+
+    @Override
+    public void add(int index, Object element) {
+        throw immutable();
+    }
+
+    @Override
+    public boolean add(Object o) {
+        throw immutable();
+    }
+
+    @Override
+    public boolean addAll(HCollection c) {
+        throw immutable();
+    }
+
+    @Override
+    public boolean addAll(int index, HCollection c) {
+        throw immutable();
+    }
+
+    @Override
+    public void clear() {
+        throw immutable();
+    }
+
+    @Override
+    public Object remove(int index) {
+        throw immutable();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw immutable();
+    }
+
+    @Override
+    public boolean removeAll(HCollection c) {
+        throw immutable();
+    }
+
+    @Override
+    public boolean retainAll(HCollection c) {
+        throw immutable();
+    }
+
+    @Override
+    public Object set(int index, Object element) {
+        throw immutable();
+    }
+
+    /***
+     * A list iterator over the elements between from and to, that reads a leaf at a time. It does not support remove, set and add.
+     */
+    private class VectorIterator implements HListIterator {
+        private int from;
+        private int to;
+        private int place;
+        private Object[] leaf;
+        private int base = -1;
+
+        private VectorIterator(int from, int to, int index) {
+            this.from = from;
+            this.to = to;
+            place = from + index;
+        }
+
+        private Object at(int i) {
+            if((i & ~MASK) != base) {
+                leaf = arrayFor(i);
+                base = i & ~MASK;
+            }
+            return leaf[i & MASK];
+        }
+
+        public boolean hasNext() {
+            return place < to;
+        }
+
+        public Object next() {
+            if(place >= to)
+                throw new NoSuchElementException("Iterator come to the end");
+            return at(place++);
+        }
+
+        public boolean hasPrevious() {
+            return place > from;
+        }
+
+        public Object previous() {
+            if(place <= from)
+                throw new NoSuchElementException("Iterator has no previous element");
+            return at(--place);
+        }
+
+        public int nextIndex() {
+            return place - from;
+        }
+
+        public int previousIndex() {
+            return place - from - 1;
+        }
+
+        public void remove() {
+            throw immutable();
+        }
+
+        public void set(Object o) {
+            throw immutable();
+        }
+
+        public void add(Object o) {
+            throw immutable();
+        }
+    }
+
+    /***
+     * An immutable view of the elements between from and to.
+     */
+    private class SubVector implements HList {
+        private int from;
+        private int to;
+
+        private SubVector(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        public Object get(int index) {
+            if(index < 0 || index >= to - from)
+                throw new IndexOutOfBoundsException("select a lower index");
+            return PersistentListAdapter.this.get(from + index);
+        }
+
+        public int size() {
+            return to - from;
+        }
+
+        public boolean isEmpty() {
+            return to == from;
+        }
+
+        public boolean contains(Object o) {
+            return indexOf(o) >= 0;
+        }
+
+        public boolean containsAll(HCollection c) {
+            return PersistentListAdapter.this.containsAll(from, to, c);
+        }
+
+        public int indexOf(Object o) {
+            int i = PersistentListAdapter.this.indexOf(o, from, to);
+            return i < 0 ? -1 : i - from;
+        }
+
+        public int lastIndexOf(Object o) {
+            int i = PersistentListAdapter.this.lastIndexOf(o, from, to);
+            return i < 0 ? -1 : i - from;
+        }
+
+        public boolean equals(Object o) {
+            if(!(o instanceof HList))
+                return false;
+            return PersistentListAdapter.this.equals(from, to, (HList) o);
+        }
+
+        public int hashCode() {
+            return PersistentListAdapter.this.hashCode(from, to);
+        }
+
+        public HIterator iterator() {
+            return new VectorIterator(from, to, 0);
+        }
+
+        public HListIterator listIterator() {
+            return new VectorIterator(from, to, 0);
+        }
+
+        public HListIterator listIterator(int index) {
+            if(index < 0 || index > to - from)
+                throw new IndexOutOfBoundsException("It was introduced an invalid index");
+            return new VectorIterator(from, to, index);
+        }
+
+        public HList subList(int fromIndex, int toIndex) {
+            return PersistentListAdapter.this.subList(from, to, fromIndex, toIndex);
+        }
+
+        public Object[] toArray() {
+            return PersistentListAdapter.this.toArray(from, to, new Object[to - from]);
+        }
+
+        public Object[] toArray(Object[] a) {
+            if(a == null)
+                throw new NullPointerException("null array is not allowed");
+            return PersistentListAdapter.this.toArray(from, to, a);
+        }
+
+        public void add(int index, Object element) {
+            throw immutable();
+        }
+
+        public boolean add(Object o) {
+            throw immutable();
+        }
+
+        public boolean addAll(HCollection c) {
+            throw immutable();
+        }
+
+        public boolean addAll(int index, HCollection c) {
+            throw immutable();
+        }
+
+        public void clear() {
+            throw immutable();
+        }
+
+        public Object remove(int index) {
+            throw immutable();
+        }
+
+        public boolean remove(Object o) {
+            throw immutable();
+        }
+
+        public boolean removeAll(HCollection c) {
+            throw immutable();
+        }
+
+        public boolean retainAll(HCollection c) {
+            throw immutable();
+        }
+
+        public Object set(int index, Object element) {
+            throw immutable();
+        }
+    }
+
+    /***
+     * A transient version of a PersistentListAdapter, to build a list without creating a version for every change.<br>
+     * The builder owns the nodes it creates and changes them in place; the nodes it shares with the list it started from are
+     * copied the first time they are changed. build() returns the list and ends the builder: after it, every method throws
+     * IllegalStateException. A builder must be used by one thread at a time.
+     */
+    public static final class Builder {
+        private Edit edit;
+        private int count;
+        private int shift;
+        private Node root;
+        private Object[] tail;
+
+        /***
+         * Creates a builder of an empty list.
+         */
+        public Builder() {
+            this(EMPTY);
+        }
+
+        private Builder(PersistentListAdapter list) {
+            edit = new Edit();
+            count = list.count;
+            shift = list.shift;
+            root = editable(edit, list.root);
+            tail = new Object[WIDTH];
+            System.arraycopy(list.tail, 0, tail, 0, list.tail.length);
+        }
+
+        private void checkActive() {
+            if(!edit.active)
+                throw new IllegalStateException("build() has already been called");
+        }
+
+        private int tailOffset() {
+            if(count < WIDTH)
+                return 0;
+            return ((count - 1) >>> BITS) << BITS;
+        }
+
+        /***
+         * Returns the number of elements added so far.
+         * @return the size of the list being built.
+         */
+        public int size() {
+            checkActive();
+            return count;
+        }
+
+        /***
+         * Appends the specified element.
+         * @param o the element to be appended.
+         * @return this builder.
+         * @throws NullPointerException if the element is null.
+         */
+        public Builder add(Object o) {
+            checkActive();
+            checkElement(o);
+            int i = count;
+            if(i - tailOffset() < WIDTH) {
+                tail[i & MASK] = o;
+                count++;
+                return this;
+            }
+            Node tailNode = new Node(edit, tail);
+            tail = new Object[WIDTH];
+            tail[0] = o;
+            if((count >>> BITS) > (1 << shift)) {
+                Node newRoot = new Node(edit);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(edit, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            }
+            else
+                root = pushTail(count, edit, shift, root, tailNode);
+            count++;
+            return this;
+        }
+
+        /***
+         * Replaces the element at the specified index.
+         * @param index index of the element to replace.
+         * @param o the new element.
+         * @return this builder.
+         * @throws IndexOutOfBoundsException if the index is out of range (index &lt; 0 || index &gt;= size()).
+         * @throws NullPointerException if the element is null.
+         */
+        public Builder set(int index, Object o) {
+            checkActive();
+            checkElement(o);
+            if(index < 0 || index >= count)
+                throw new IndexOutOfBoundsException("It was introduced an invalid index");
+            if(index >= tailOffset())
+                tail[index & MASK] = o;
+            else
+                root = assoc(edit, shift, root, index, o);
+            return this;
+        }
+
+        /***
+         * Returns the list with the elements of this builder and ends the builder.
+         * @return the new list.
+         */
+        public PersistentListAdapter build() {
+            checkActive();
+            edit.active = false;
+            if(count == 0)
+                return EMPTY;
+            int tailLength = count - tailOffset();
+            Object[] t = new Object[tailLength];
+            System.arraycopy(tail, 0, t, 0, tailLength);
+            return new PersistentListAdapter(count, shift, root, t);
+        }
+    }
+}
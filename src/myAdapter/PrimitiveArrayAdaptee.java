@@ -0,0 +1,285 @@
+package myAdapter;
+import java.util.Enumeration;
+import java.util.NoSuchElementException;
+
+/***
+ * The PrimitiveArrayAdaptee class is the common part of the growable arrays of primitive values, IntArrayAdaptee, LongArrayAdaptee
+ * and DoubleArrayAdaptee.<br>
+ * Every subclass keeps its values in an array of its primitive type, that this class reaches through array(), and moves with System.arraycopy:
+ * the bounds checks, the growth of the array, the shifts of the components and the HVector methods that do not depend on the type
+ * are written here once. The subclasses add the methods that read and write the primitive values, and box and unbox them.<br>
+ * Like ArrayAdaptee, the class is not synchronized.<br>
+ * @see HVector HVector.
+ * @see IntArrayAdaptee IntArrayAdaptee.
+ * @see LongArrayAdaptee LongArrayAdaptee.
+ * @see DoubleArrayAdaptee DoubleArrayAdaptee.
+ */
+public abstract class PrimitiveArrayAdaptee implements HVector {
+
+    /***
+     * The number of valid components in this vector.
+     */
+    int elementCount;
+
+    /***
+     * Checks the initial capacity of a new vector; the subclass then allocates its array.
+     * @param initialCapacity - the initial capacity.
+     * @throws IllegalArgumentException - if the specified initial capacity is negative.
+     */
+    PrimitiveArrayAdaptee(int initialCapacity) {
+        if(initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+    }
+
+    /***
+     * Returns the array of the values.
+     * @return the array buffer of the subclass.
+     */
+    abstract Object array();
+
+    /***
+     * Replaces the array of the values.
+     * @param a - an array returned by newArray().
+     */
+    abstract void setArray(Object a);
+
+    /***
+     * Allocates an array of the primitive type of the subclass, filled with 0.
+     * @param length - the length of the array.
+     * @return the new array.
+     */
+    abstract Object newArray(int length);
+
+    /***
+     * Returns the component at the specified index as an object, without checking the index.
+     * @param index - the index of a component.
+     * @return the boxed value.
+     */
+    abstract Object box(int index);
+
+    /***
+     * Converts the specified objects to an array of the primitive type of the subclass.
+     * @param elements - the objects to be converted.
+     * @return a new array with the values of the objects.
+     * @throws ClassCastException - if an object is not of the boxed type of the subclass.
+     */
+    abstract Object toValues(Object[] elements);
+
+    /***
+     * Grows the internal array so that it can hold at least minCapacity components.
+     * @param minCapacity - the desired minimum capacity.
+     */
+    private void grow(int minCapacity) {
+        int newCapacity = capacity() * 2;
+        if(newCapacity < minCapacity)
+            newCapacity = minCapacity;
+        resize(newCapacity);
+    }
+
+    private void resize(int newCapacity) {
+        Object newData = newArray(newCapacity);
+        System.arraycopy(array(), 0, newData, 0, elementCount);
+        setArray(newData);
+    }
+
+    /***
+     * Checks that index is the position of a component.
+     * @param index - the index to be checked.
+     * @throws ArrayIndexOutOfBoundsException - if the index is invalid.
+     */
+    void checkIndex(int index) {
+        if(index < 0 || index >= elementCount)
+            throw new ArrayIndexOutOfBoundsException(index + " >= " + elementCount);
+    }
+
+    /***
+     * Checks the index from which a backward search starts.
+     * @param index - the index to be checked.
+     * @throws IndexOutOfBoundsException - if the index is not lower than the size.
+     */
+    void checkSearchIndex(int index) {
+        if(index >= elementCount)
+            throw new IndexOutOfBoundsException(index + " >= " + elementCount);
+    }
+
+    /***
+     * Adds a component at the end of this vector, growing the array if needed, and returns its index.
+     * The subclass then writes the value of the component.
+     * @return the index of the new component.
+     */
+    int append() {
+        if(elementCount == capacity())
+            grow(elementCount + 1);
+        return elementCount++;
+    }
+
+    /***
+     * Opens a gap of count components at the specified index, growing the array if needed. The size is not changed.
+     * @param index - where the gap is opened.
+     * @param count - the number of components of the gap.
+     * @throws ArrayIndexOutOfBoundsException - if the index was invalid.
+     */
+    void openGap(int index, int count) {
+        if(index < 0 || index > elementCount)
+            throw new ArrayIndexOutOfBoundsException(index + " > " + elementCount);
+        if(elementCount + count > capacity())
+            grow(elementCount + count);
+        Object a = array();
+        System.arraycopy(a, index, a, index + count, elementCount - index);
+    }
+
+    /***
+     * Deletes the component at the specified index, that has already been checked.
+     * @param index - the index of the component to remove.
+     */
+    void delete(int index) {
+        Object a = array();
+        System.arraycopy(a, index + 1, a, index, elementCount - index - 1);
+        elementCount--;
+    }
+
+    @Override
+    public void copyInto(Object[] anArray) {
+        for(int i = 0; i < elementCount; i++)
+            anArray[i] = box(i);
+    }
+
+    @Override
+    public void trimToSize() {
+        if(elementCount < capacity())
+            resize(elementCount);
+    }
+
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        if(minCapacity > capacity())
+            grow(minCapacity);
+    }
+
+    @Override
+    public void setSize(int newSize) {
+        if(newSize < 0)
+            throw new ArrayIndexOutOfBoundsException(newSize);
+        if(newSize > capacity())
+            grow(newSize);
+        // the components beyond the size may hold removed values, they are overwritten with the zeros of a new array
+        if(newSize > elementCount)
+            System.arraycopy(newArray(newSize - elementCount), 0, array(), elementCount, newSize - elementCount);
+        elementCount = newSize;
+    }
+
+    @Override
+    public int size() {
+        return elementCount;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return elementCount == 0;
+    }
+
+    @Override
+    public Enumeration elements() {
+        return new Enumeration() {
+            int count = 0;
+
+            public boolean hasMoreElements() {
+                return count < elementCount;
+            }
+
+            public Object nextElement() {
+                if(count < elementCount)
+                    return box(count++);
+                throw new NoSuchElementException(PrimitiveArrayAdaptee.this.getClass().getSimpleName() + " Enumeration");
+            }
+        };
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return indexOf(element, 0) >= 0;
+    }
+
+    @Override
+    public int indexOf(Object element) {
+        return indexOf(element, 0);
+    }
+
+    @Override
+    public int lastIndexOf(Object elem) {
+        return lastIndexOf(elem, elementCount - 1);
+    }
+
+    @Override
+    public Object elementAt(int index) {
+        checkIndex(index);
+        return box(index);
+    }
+
+    @Override
+    public Object firstElement() {
+        if(elementCount == 0)
+            throw new NoSuchElementException();
+        return box(0);
+    }
+
+    @Override
+    public Object lastElement() {
+        if(elementCount == 0)
+            throw new NoSuchElementException();
+        return box(elementCount - 1);
+    }
+
+    @Override
+    public void removeElementAt(int index) {
+        checkIndex(index);
+        delete(index);
+    }
+
+    @Override
+    public void insertElementsAt(Object[] elements, int index) {
+        if(index < 0 || index > elementCount)
+            throw new ArrayIndexOutOfBoundsException(index + " > " + elementCount);
+        Object values = toValues(elements);
+        openGap(index, elements.length);
+        System.arraycopy(values, 0, array(), index, elements.length);
+        elementCount += elements.length;
+    }
+
+    @Override
+    public boolean removeElement(Object obj) {
+        int i = indexOf(obj, 0);
+        if(i >= 0) {
+            delete(i);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void removeAllElements() {
+        elementCount = 0;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if(fromIndex < 0 || toIndex > elementCount || fromIndex > toIndex)
+            throw new ArrayIndexOutOfBoundsException("fromIndex = " + fromIndex + ", toIndex = " + toIndex);
+        Object a = array();
+        System.arraycopy(a, toIndex, a, fromIndex, elementCount - toIndex);
+        elementCount -= toIndex - fromIndex;
+    }
+
+    @java.lang.Override
+    public String toString() {
+        StringBuffer buf = new StringBuffer();
+        buf.append("[");
+        for(int i = 0; i < elementCount; i++) {
+            if(i > 0)
+                buf.append(", ");
+            buf.append(box(i));
+        }
+        buf.append("]");
+        return buf.toString();
+    }
+}
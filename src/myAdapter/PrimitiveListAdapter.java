@@ -0,0 +1,125 @@
+package myAdapter;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+/***
+ * public abstract class PrimitiveListAdapter <br> extends
+ * @see ListAdapter ListAdapter. <br>
+ * The common part of the lists of primitive values, IntListAdapter, LongListAdapter and DoubleListAdapter, stored in a PrimitiveArrayAdaptee.<br>
+ * It keeps the storage and the bookkeeping of the cursors over the primitive values; the subclasses add the methods that read and
+ * write the values of their type.<br>
+ * @see PrimitiveArrayAdaptee PrimitiveArrayAdaptee.
+ */
+public abstract class PrimitiveListAdapter extends ListAdapter {
+    private PrimitiveArrayAdaptee storage;
+
+    /***
+     * Creates a new list on the specified empty storage.
+     * @param storage the storage of the values.
+     */
+    PrimitiveListAdapter(PrimitiveArrayAdaptee storage) {
+        super(storage);
+        this.storage = storage;
+    }
+
+    /***
+     * Checks the index at which a cursor starts.
+     * @param index the index of the first value to be returned by the cursor.
+     * @throws IndexOutOfBoundsException if the index is out of range (index &lt; 0 || index &gt; size()).
+     */
+    void checkCursorIndex(int index) {
+        if(index < 0 || index > size())
+            throw new IndexOutOfBoundsException("It was introduced an invalid index");
+    }
+
+    /***
+     * The common part of the cursors over the primitive values of the list, that move in both directions without boxing.<br>
+     * Like the iterators of ListAdapter, the cursor is fail-fast: if the list is structurally modified after its creation
+     * it throws ConcurrentModificationException.
+     */
+    public abstract class Cursor {
+        private int place;
+        private int lastRet = -1;
+        private int expectedModCount;
+
+        Cursor(int index) {
+            place = index;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if(modCount != expectedModCount)
+                throw new ConcurrentModificationException("the list has been modified outside of the cursor");
+        }
+
+        /***
+         * Moves the cursor forward and returns the index of the value it has passed.
+         * @return the index of the next value.
+         * @throws NoSuchElementException if the cursor is at the end of the list.
+         */
+        int advance() {
+            checkForComodification();
+            if(place >= storage.elementCount)
+                throw new NoSuchElementException("Cursor come to the end");
+            lastRet = place;
+            return place++;
+        }
+
+        /***
+         * Moves the cursor backward and returns the index of the value it has passed.
+         * @return the index of the previous value.
+         * @throws NoSuchElementException if the cursor is at the beginning of the list.
+         */
+        int retreat() {
+            checkForComodification();
+            if(place <= 0)
+                throw new NoSuchElementException("Cursor has no previous element");
+            lastRet = --place;
+            return place;
+        }
+
+        /***
+         * Returns the index of the value last returned by the cursor, to be replaced.
+         * @return the index of the last value returned.
+         * @throws IllegalStateException if the cursor has not returned any value.
+         */
+        int lastReturned() {
+            if(lastRet < 0)
+                throw new IllegalStateException("next() or previous() was not called");
+            checkForComodification();
+            return lastRet;
+        }
+
+        /***
+         * Returns true if the cursor has more values when traversing the list in the forward direction.
+         * @return true if the next value can be read.
+         */
+        public boolean hasNext() {
+            return place < storage.elementCount || modCount != expectedModCount;
+        }
+
+        /***
+         * Returns true if the cursor has more values when traversing the list in the reverse direction.
+         * @return true if the previous value can be read.
+         */
+        public boolean hasPrevious() {
+            return place > 0;
+        }
+
+        /***
+         * Returns the index of the value that would be returned by a subsequent call to the next method of the cursor.
+         * @return the index of the next value, or the size of the list if the cursor is at the end.
+         */
+        public int nextIndex() {
+            return place;
+        }
+
+        /***
+         * Returns the index of the value that would be returned by a subsequent call to the previous method of the cursor.
+         * @return the index of the previous value, or -1 if the cursor is at the beginning.
+         */
+        public int previousIndex() {
+            return place - 1;
+        }
+    }
+}
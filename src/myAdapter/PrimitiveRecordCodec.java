@@ -0,0 +1,68 @@
+package myAdapter;
+import java.nio.ByteBuffer;
+
+/***
+ * The codecs of the primitive types int, long and double.<br>
+ * The elements are Integer, Long or Double objects, written in records of 4, 8 and 8 bytes.
+ * The lists that use one of these codecs, like OffHeapListAdapter, can also read and write the values as primitives,
+ * without creating any object.<br>
+ * The class can not be instantiated: use the constants INT, LONG and DOUBLE.<br>
+ * @see HRecordCodec HRecordCodec
+ */
+public final class PrimitiveRecordCodec implements HRecordCodec {
+
+    /***
+     * Codec of Integer elements, 4 bytes for every record.
+     */
+    public static final PrimitiveRecordCodec INT = new PrimitiveRecordCodec("int", 4);
+
+    /***
+     * Codec of Long elements, 8 bytes for every record.
+     */
+    public static final PrimitiveRecordCodec LONG = new PrimitiveRecordCodec("long", 8);
+
+    /***
+     * Codec of Double elements, 8 bytes for every record.
+     */
+    public static final PrimitiveRecordCodec DOUBLE = new PrimitiveRecordCodec("double", 8);
+
+    private String name;
+    private int width;
+
+    private PrimitiveRecordCodec(String name, int width) {
+        this.name = name;
+        this.width = width;
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public void write(ByteBuffer buffer, int offset, Object element) {
+        if(element == null)
+            throw new NullPointerException("null element is not allowed");
+        if(this == INT)
+            buffer.putInt(offset, ((Integer) element).intValue());
+        else if(this == LONG)
+            buffer.putLong(offset, ((Long) element).longValue());
+        else
+            buffer.putDouble(offset, ((Double) element).doubleValue());
+    }
+
+    @Override
+    public Object read(ByteBuffer buffer, int offset) {
+        if(this == INT)
+            return Integer.valueOf(buffer.getInt(offset));
+        else if(this == LONG)
+            return Long.valueOf(buffer.getLong(offset));
+        else
+            return Double.valueOf(buffer.getDouble(offset));
+    }
+
+    @java.lang.Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,113 @@
+package myAdapter;
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/***
+ * The RangeSpliterator class traverses and splits the components of an HVector between two indexes.<br>
+ * It is the bridge between the lists of this package and java.util.stream: trySplit() gives away the first half of the
+ * remaining range, so a parallel stream divides the work by index ranges without copying the elements.
+ * When the vector is an ArrayAdaptee, forEachRemaining() reads its array directly.<br>
+ * The spliterator of a ListAdapter is fail-fast: it remembers the modCount of the list when it is created and throws
+ * ConcurrentModificationException after the traversal if the list has been structurally modified in the meantime.
+ * A spliterator built on a snapshot, like the ones of the views of MapAdapter, has no list to check.
+ * @see ListAdapter ListAdapter.
+ */
+final class RangeSpliterator implements Spliterator {
+
+    private final ListAdapter root;
+    private final HVector w;
+    private int index;
+    private final int fence;
+    private final int expectedModCount;
+    private final int characteristics;
+
+    /***
+     * Creates a spliterator on the components of w between from, inclusive, and to, exclusive.
+     * @param root the list whose modCount is checked, or null if the vector cannot be modified.
+     * @param w the vector to be traversed.
+     * @param from index of the first component of the range.
+     * @param to index after the last component of the range.
+     * @param characteristics the characteristics of the elements, SIZED and SUBSIZED are always added.
+     */
+    RangeSpliterator(ListAdapter root, HVector w, int from, int to, int characteristics) {
+        this(root, w, from, to, root == null ? 0 : root.modCount, characteristics | SIZED | SUBSIZED);
+    }
+
+    private RangeSpliterator(ListAdapter root, HVector w, int from, int to, int expectedModCount, int characteristics) {
+        this.root = root;
+        this.w = w;
+        this.index = from;
+        this.fence = to;
+        this.expectedModCount = expectedModCount;
+        this.characteristics = characteristics;
+    }
+
+    /***
+     * Creates a spliterator on a copy of the elements of a collection, that is never modified.
+     * @param a the elements.
+     * @param characteristics the characteristics of the elements.
+     * @return a spliterator on the elements of the array.
+     */
+    static RangeSpliterator snapshot(Object[] a, int characteristics) {
+        ArrayAdaptee w = new ArrayAdaptee(0);
+        w.elementData = a;
+        w.elementCount = a.length;
+        return new RangeSpliterator(null, w, 0, a.length, characteristics);
+    }
+
+    private void checkForComodification() {
+        if(root != null && root.modCount != expectedModCount)
+            throw new ConcurrentModificationException("the list has been modified during the traversal");
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer action) {
+        if(action == null)
+            throw new NullPointerException("null action is not allowed");
+        if(index >= fence)
+            return false;
+        Object obj = w.elementAt(index++);
+        action.accept(obj);
+        checkForComodification();
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer action) {
+        if(action == null)
+            throw new NullPointerException("null action is not allowed");
+        int i = index;
+        index = fence;
+        if(w instanceof ArrayAdaptee) {
+            Object[] a = ((ArrayAdaptee) w).elementData;
+            for(; i < fence; i++)
+                action.accept(a[i]);
+        }
+        else {
+            for(; i < fence; i++)
+                action.accept(w.elementAt(i));
+        }
+        checkForComodification();
+    }
+
+    @Override
+    public Spliterator trySplit() {
+        int lo = index;
+        int mid = (lo + fence) >>> 1;
+        if(lo >= mid)
+            return null;
+        index = mid;
+        return new RangeSpliterator(root, w, lo, mid, expectedModCount, characteristics);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+}
@@ -0,0 +1,500 @@
+package myAdapter;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.Enumeration;
+import java.util.NoSuchElementException;
+
+/***
+ * The RecordAdaptee class is the common part of the vectors that keep their elements as fixed-width records of bytes
+ * outside of the Java heap.<br>
+ * The elements are translated to records by an HRecordCodec. The record of the element at position i is found by block(i),
+ * the buffer that holds it, and offset(i), the index of its first byte in that buffer: the subclasses decide how the buffers
+ * are allocated, OffHeapAdaptee uses a single direct buffer and MappedAdaptee a sequence of segments of a mapped file.<br>
+ * Every method that changes the records calls modified() with the range of the records it has written, so that a subclass can persist
+ * the size or force the changes.<br>
+ * Like ArrayAdaptee, the class is not synchronized.<br>
+ * @see HVector HVector.
+ * @see OffHeapAdaptee OffHeapAdaptee.
+ * @see MappedAdaptee MappedAdaptee.
+ */
+public abstract class RecordAdaptee implements HVector {
+
+    /***
+     * The codec of the records.
+     */
+    HRecordCodec codec;
+
+    /***
+     * The number of bytes of every record.
+     */
+    int width;
+
+    /***
+     * The number of valid records in this vector.
+     */
+    int elementCount;
+
+    /***
+     * Creates a vector of records written by the specified codec.
+     * @param codec - the codec of the records.
+     * @throws IllegalArgumentException - if the width of the codec is not positive.
+     * @throws NullPointerException - if the codec is null.
+     */
+    RecordAdaptee(HRecordCodec codec) {
+        if(codec.width() <= 0)
+            throw new IllegalArgumentException("Illegal record width: " + codec.width());
+        this.codec = codec;
+        width = codec.width();
+    }
+
+    /***
+     * Returns the buffer that holds the record at the specified index.
+     * @param index - an index lower than the capacity.
+     * @return the buffer of the record.
+     * @throws IllegalStateException - if the vector has been closed.
+     */
+    abstract ByteBuffer block(int index);
+
+    /***
+     * Returns the index of the first byte of the record at the specified index, in the buffer returned by block(index).
+     * @param index - an index lower than the capacity.
+     * @return the offset of the record.
+     */
+    abstract int offset(int index);
+
+    /***
+     * Returns the number of records of every buffer returned by block(): the records from k * blockRecords(), inclusive,
+     * to (k + 1) * blockRecords(), exclusive, are in the same buffer, one after the other.
+     * @return the number of records of a buffer, Integer.MAX_VALUE if all the records are in a single buffer.
+     */
+    abstract int blockRecords();
+
+    /***
+     * Increases the capacity so that the vector can hold at least the specified number of records.
+     * @param minCapacity - the desired minimum capacity, greater than the current capacity.
+     * @throws IllegalStateException - if the vector has been closed.
+     */
+    abstract void grow(int minCapacity);
+
+    /***
+     * Called after every change of the records or of the size. It does nothing by default.
+     * @param from - index of the first record written, inclusive.
+     * @param to - index after the last record written; equal to from if only the size has changed.
+     */
+    void modified(int from, int to) {
+    }
+
+    /***
+     * Frees the memory of the records. The vector can not be used any more.
+     * Calling close() on a closed vector has no effect.
+     */
+    public abstract void close();
+
+    /***
+     * Tests if this vector has been closed.
+     * @return true if close() has been called.
+     */
+    public abstract boolean isClosed();
+
+    /***
+     * Returns the codec of the records.
+     * @return the codec of the records.
+     */
+    public HRecordCodec codec() {
+        return codec;
+    }
+
+    private static Object unsafe;
+
+    /***
+     * The method sun.misc.Unsafe.invokeCleaner, or null if the platform does not provide it. It is looked up once and never changed.
+     */
+    private static final Method invokeCleaner = lookupCleaner();
+
+    private static Method lookupCleaner() {
+        try {
+            Class c = Class.forName("sun.misc.Unsafe");
+            Field f = c.getDeclaredField("theUnsafe");
+            f.setAccessible(true);
+            unsafe = f.get(null);
+            return c.getMethod("invokeCleaner", new Class[] { ByteBuffer.class });
+        }
+        catch (Exception e) {
+            return null;
+        }
+    }
+
+    /***
+     * Frees the memory of a direct or mapped buffer at once. On a platform without sun.misc.Unsafe.invokeCleaner
+     * the memory is freed by the garbage collector, when the buffer is no longer referenced.
+     * @param b - a buffer that is no longer used.
+     * @throws IllegalStateException - if the platform failed to free the buffer; the failure does not affect the next calls.
+     */
+    static void free(ByteBuffer b) {
+        if(invokeCleaner == null)
+            return;
+        try {
+            invokeCleaner.invoke(unsafe, new Object[] { b });
+        }
+        catch (InvocationTargetException e) {
+            throw new IllegalStateException("the buffer could not be freed", e.getCause());
+        }
+        catch (IllegalAccessException e) {
+            throw new IllegalStateException("the buffer could not be freed", e);
+        }
+    }
+
+    /***
+     * Checks that the records are written by the specified primitive codec.
+     * @param expected - the codec needed by a primitive method.
+     * @throws ClassCastException - if the codec of the vector is different.
+     */
+    void checkCodec(PrimitiveRecordCodec expected) {
+        if(codec != expected)
+            throw new ClassCastException("the records are written by the codec " + codec + ", not " + expected);
+    }
+
+    private void checkIndex(int index) {
+        if(index < 0 || index >= elementCount)
+            throw new ArrayIndexOutOfBoundsException(index + " >= " + elementCount);
+    }
+
+    /***
+     * Copies n records, that are in a single buffer, to n records of a single buffer, with one bulk copy.
+     * The copy is correct also when the two ranges overlap in the same buffer.
+     */
+    private void copyRecords(int from, int to, int n) {
+        block(to).put(offset(to), block(from), offset(from), n * width);
+    }
+
+    /***
+     * Moves count records from the position from to the position to, also when the two ranges overlap.
+     * The records are copied in runs that do not cross the end of a buffer, each run with a single bulk copy;
+     * when the records move towards the end, the runs are copied from the last one.
+     */
+    private void move(int from, int to, int count) {
+        int b = blockRecords();
+        if(to < from) {
+            for(int i = 0; i < count;) {
+                int n = Math.min(count - i, Math.min(b - (from + i) % b, b - (to + i) % b));
+                copyRecords(from + i, to + i, n);
+                i += n;
+            }
+        }
+        else if(to > from) {
+            for(int i = count; i > 0;) {
+                int n = Math.min(i, Math.min((from + i - 1) % b + 1, (to + i - 1) % b + 1));
+                i -= n;
+                copyRecords(from + i, to + i, n);
+            }
+        }
+    }
+
+    /***
+     * Opens a gap of count records at the specified index, growing the storage if needed.
+     */
+    private void openGap(int index, int count) {
+        if(index < 0 || index > elementCount)
+            throw new ArrayIndexOutOfBoundsException(index + " > " + elementCount);
+        if(elementCount + count > capacity())
+            grow(elementCount + count);
+        move(index, index + count, elementCount - index);
+    }
+
+    /***
+     * Returns the record at the specified index, read as an int.
+     * @param index - an index into this vector.
+     * @return the int value of the record.
+     */
+    int getInt(int index) {
+        checkIndex(index);
+        return block(index).getInt(offset(index));
+    }
+
+    /***
+     * Returns the record at the specified index, read as a long.
+     * @param index - an index into this vector.
+     * @return the long value of the record.
+     */
+    long getLong(int index) {
+        checkIndex(index);
+        return block(index).getLong(offset(index));
+    }
+
+    /***
+     * Returns the record at the specified index, read as a double.
+     * @param index - an index into this vector.
+     * @return the double value of the record.
+     */
+    double getDouble(int index) {
+        checkIndex(index);
+        return block(index).getDouble(offset(index));
+    }
+
+    /***
+     * Writes an int in the record at the specified index.
+     */
+    void putInt(int index, int value) {
+        checkIndex(index);
+        block(index).putInt(offset(index), value);
+        modified(index, index + 1);
+    }
+
+    /***
+     * Writes a long in the record at the specified index.
+     */
+    void putLong(int index, long value) {
+        checkIndex(index);
+        block(index).putLong(offset(index), value);
+        modified(index, index + 1);
+    }
+
+    /***
+     * Writes a double in the record at the specified index.
+     */
+    void putDouble(int index, double value) {
+        checkIndex(index);
+        block(index).putDouble(offset(index), value);
+        modified(index, index + 1);
+    }
+
+    /***
+     * Checks that the vector has not been closed.
+     * @throws IllegalStateException - if the vector has been closed.
+     */
+    void checkOpen() {
+        if(isClosed())
+            throw new IllegalStateException("the off-heap storage has been closed");
+    }
+
+    /***
+     * Adds a new record at the end of the vector and returns its index. The content of the record is undefined
+     * until one of the put methods is called.
+     * @return the index of the new record.
+     * @throws IllegalStateException - if the vector has been closed; the size is left unchanged.
+     */
+    int appendRecord() {
+        checkOpen();
+        if(elementCount == capacity())
+            grow(elementCount + 1);
+        return elementCount++;
+    }
+
+    @Override
+    public void copyInto(Object[] anArray) {
+        for(int i = 0; i < elementCount; i++)
+            anArray[i] = codec.read(block(i), offset(i));
+    }
+
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        if(minCapacity > capacity())
+            grow(minCapacity);
+    }
+
+    @Override
+    public void setSize(int newSize) {
+        if(newSize < 0)
+            throw new ArrayIndexOutOfBoundsException(newSize);
+        if(newSize > capacity())
+            grow(newSize);
+        int from = elementCount;
+        for(int i = elementCount; i < newSize; i++) {
+            ByteBuffer b = block(i);
+            int o = offset(i);
+            for(int j = 0; j < width; j++)
+                b.put(o + j, (byte) 0);
+        }
+        elementCount = newSize;
+        modified(from, Math.max(from, newSize));
+    }
+
+    @Override
+    public int size() {
+        checkOpen();
+        return elementCount;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        checkOpen();
+        return elementCount == 0;
+    }
+
+    @Override
+    public Enumeration elements() {
+        return new Enumeration() {
+            int count = 0;
+
+            public boolean hasMoreElements() {
+                return count < elementCount;
+            }
+
+            public Object nextElement() {
+                if(count < elementCount) {
+                    Object o = codec.read(block(count), offset(count));
+                    count++;
+                    return o;
+                }
+                throw new NoSuchElementException("RecordAdaptee Enumeration");
+            }
+        };
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return indexOf(element, 0) >= 0;
+    }
+
+    @Override
+    public int indexOf(Object element) {
+        return indexOf(element, 0);
+    }
+
+    @Override
+    public int indexOf(Object elem, int index) {
+        if(elem == null)
+            return -1;
+        for(int i = index; i < elementCount; i++)
+            if(elem.equals(codec.read(block(i), offset(i))))
+                return i;
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object elem) {
+        return lastIndexOf(elem, elementCount - 1);
+    }
+
+    @Override
+    public int lastIndexOf(Object elem, int index) {
+        if(index >= elementCount)
+            throw new IndexOutOfBoundsException(index + " >= " + elementCount);
+        if(elem == null)
+            return -1;
+        for(int i = index; i >= 0; i--)
+            if(elem.equals(codec.read(block(i), offset(i))))
+                return i;
+        return -1;
+    }
+
+    @Override
+    public Object elementAt(int index) {
+        checkIndex(index);
+        return codec.read(block(index), offset(index));
+    }
+
+    @Override
+    public Object firstElement() {
+        if(elementCount == 0)
+            throw new NoSuchElementException();
+        return elementAt(0);
+    }
+
+    @Override
+    public Object lastElement() {
+        if(elementCount == 0)
+            throw new NoSuchElementException();
+        return elementAt(elementCount - 1);
+    }
+
+    @Override
+    public void setElementAt(Object obj, int index) {
+        checkIndex(index);
+        codec.write(block(index), offset(index), obj);
+        modified(index, index + 1);
+    }
+
+    @Override
+    public void removeElementAt(int index) {
+        checkIndex(index);
+        move(index + 1, index, elementCount - index - 1);
+        elementCount--;
+        modified(index, elementCount);
+    }
+
+    @Override
+    public void insertElementAt(Object obj, int index) {
+        openGap(index, 1);
+        elementCount++;
+        try {
+            codec.write(block(index), offset(index), obj);
+        }
+        catch (RuntimeException e) {
+            removeElementAt(index);
+            throw e;
+        }
+        modified(index, elementCount);
+    }
+
+    @Override
+    public void insertElementsAt(Object[] elements, int index) {
+        openGap(index, elements.length);
+        elementCount += elements.length;
+        try {
+            for(int i = 0; i < elements.length; i++)
+                codec.write(block(index + i), offset(index + i), elements[i]);
+        }
+        catch (RuntimeException e) {
+            removeRange(index, index + elements.length);
+            throw e;
+        }
+        modified(index, elementCount);
+    }
+
+    @Override
+    public void addElement(Object obj) {
+        int index = appendRecord();
+        try {
+            codec.write(block(index), offset(index), obj);
+        }
+        catch (RuntimeException e) {
+            elementCount--;
+            throw e;
+        }
+        modified(index, index + 1);
+    }
+
+    @Override
+    public boolean removeElement(Object obj) {
+        int i = indexOf(obj, 0);
+        if(i >= 0) {
+            removeElementAt(i);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void removeAllElements() {
+        checkOpen();
+        elementCount = 0;
+        modified(0, 0);
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if(fromIndex < 0 || toIndex > elementCount || fromIndex > toIndex)
+            throw new ArrayIndexOutOfBoundsException("fromIndex = " + fromIndex + ", toIndex = " + toIndex);
+        move(toIndex, fromIndex, elementCount - toIndex);
+        elementCount -= toIndex - fromIndex;
+        modified(fromIndex, elementCount);
+    }
+
+    @java.lang.Override
+    public String toString() {
+        if(isClosed())
+            return "[closed]";
+        StringBuffer buf = new StringBuffer();
+        buf.append("[");
+        for(int i = 0; i < elementCount; i++) {
+            if(i > 0)
+                buf.append(", ");
+            buf.append(String.valueOf(codec.read(block(i), offset(i))));
+        }
+        buf.append("]");
+        return buf.toString();
+    }
+}
@@ -0,0 +1,330 @@
+package myAdapter;
+import java.util.Enumeration;
+import java.util.NoSuchElementException;
+
+/***
+ * The RingAdaptee class implements a growable array of objects as a circular buffer: the components start at the index head
+ * of the internal array and wrap around its end.<br>
+ * The capacity is always a power of two, so the component at index i is found at (head + i) &amp; (capacity - 1), with no
+ * branch and no division. Inserting or removing a component at either end only moves the head or the size, so a list used
+ * as a queue, with add(Object) at the tail and remove(0) at the head, costs O(1) for every operation instead of shifting
+ * the whole array. An insertion or a removal in the middle moves the shorter side.<br>
+ * Like ArrayAdaptee, the class is not synchronized.<br>
+ * @see HVector HVector.
+ * @see DequeListAdapter DequeListAdapter.
+ */
+public class RingAdaptee implements HVector {
+
+    /***
+     * The circular buffer into which the components of the vector are stored; its length is a power of two.
+     */
+    Object[] elementData;
+
+    /***
+     * The index in elementData of the first component.
+     */
+    int head;
+
+    /***
+     * The number of valid components in this vector.
+     */
+    int elementCount;
+
+    /***
+     * Constructs an empty vector with an initial capacity of 16.
+     */
+    public RingAdaptee() {
+        this(16);
+    }
+
+    /***
+     * Constructs an empty vector with at least the specified initial capacity.
+     * @param initialCapacity - the initial capacity, rounded up to a power of two.
+     * @throws IllegalArgumentException - if the specified initial capacity is negative.
+     */
+    public RingAdaptee(int initialCapacity) {
+        if(initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        elementData = new Object[roundUp(initialCapacity)];
+    }
+
+    private static int roundUp(int n) {
+        int c = 1;
+        while(c < n)
+            c <<= 1;
+        return c;
+    }
+
+    /***
+     * Returns the index in elementData of the component at the specified index.
+     */
+    private int slot(int index) {
+        return (head + index) & (elementData.length - 1);
+    }
+
+    /***
+     * Replaces the buffer with a buffer of the specified capacity, with the head at zero.
+     * @param newCapacity - a power of two, not less than the size.
+     */
+    private void reallocate(int newCapacity) {
+        Object[] newData = new Object[newCapacity];
+        copyInto(newData);
+        elementData = newData;
+        head = 0;
+    }
+
+    /***
+     * Copies len components, starting from the specified index, into the specified array.
+     */
+    private void copyOut(int from, Object[] dest, int destPos, int len) {
+        int start = slot(from);
+        int first = Math.min(len, elementData.length - start);
+        System.arraycopy(elementData, start, dest, destPos, first);
+        System.arraycopy(elementData, 0, dest, destPos + first, len - first);
+    }
+
+    @Override
+    public void copyInto(Object[] anArray) {
+        copyOut(0, anArray, 0, elementCount);
+    }
+
+    @Override
+    public void trimToSize() {
+        int c = roundUp(elementCount);
+        if(c < elementData.length)
+            reallocate(c);
+    }
+
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        if(minCapacity > elementData.length) {
+            if(minCapacity > (1 << 30))
+                throw new OutOfMemoryError("too many components for a circular buffer");
+            reallocate(Math.max(roundUp(minCapacity), elementData.length * 2));
+        }
+    }
+
+    @Override
+    public void setSize(int newSize) {
+        if(newSize < 0)
+            throw new ArrayIndexOutOfBoundsException(newSize);
+        ensureCapacity(newSize);
+        for(int i = newSize; i < elementCount; i++)
+            elementData[slot(i)] = null;
+        elementCount = newSize;
+    }
+
+    @Override
+    public int capacity() {
+        return elementData.length;
+    }
+
+    @Override
+    public int size() {
+        return elementCount;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return elementCount == 0;
+    }
+
+    @Override
+    public Enumeration elements() {
+        return new Enumeration() {
+            int count = 0;
+
+            public boolean hasMoreElements() {
+                return count < elementCount;
+            }
+
+            public Object nextElement() {
+                if(count < elementCount)
+                    return elementData[slot(count++)];
+                throw new NoSuchElementException("RingAdaptee Enumeration");
+            }
+        };
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return indexOf(element, 0) >= 0;
+    }
+
+    @Override
+    public int indexOf(Object element) {
+        return indexOf(element, 0);
+    }
+
+    @Override
+    public int indexOf(Object elem, int index) {
+        for(int i = index; i < elementCount; i++) {
+            Object o = elementData[slot(i)];
+            if(elem == null ? o == null : elem.equals(o))
+                return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object elem) {
+        return lastIndexOf(elem, elementCount - 1);
+    }
+
+    @Override
+    public int lastIndexOf(Object elem, int index) {
+        if(index >= elementCount)
+            throw new IndexOutOfBoundsException(index + " >= " + elementCount);
+        for(int i = index; i >= 0; i--) {
+            Object o = elementData[slot(i)];
+            if(elem == null ? o == null : elem.equals(o))
+                return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public Object elementAt(int index) {
+        if(index >= elementCount || index < 0)
+            throw new ArrayIndexOutOfBoundsException(index + " >= " + elementCount);
+        return elementData[slot(index)];
+    }
+
+    @Override
+    public Object firstElement() {
+        if(elementCount == 0)
+            throw new NoSuchElementException();
+        return elementData[head];
+    }
+
+    @Override
+    public Object lastElement() {
+        if(elementCount == 0)
+            throw new NoSuchElementException();
+        return elementData[slot(elementCount - 1)];
+    }
+
+    @Override
+    public void setElementAt(Object obj, int index) {
+        if(index >= elementCount || index < 0)
+            throw new ArrayIndexOutOfBoundsException(index + " >= " + elementCount);
+        elementData[slot(index)] = obj;
+    }
+
+    @Override
+    public void removeElementAt(int index) {
+        if(index >= elementCount || index < 0)
+            throw new ArrayIndexOutOfBoundsException(index + " >= " + elementCount);
+        if(index < elementCount / 2) {
+            for(int i = index; i > 0; i--)
+                elementData[slot(i)] = elementData[slot(i - 1)];
+            elementData[head] = null;
+            head = slot(1);
+        }
+        else {
+            for(int i = index; i < elementCount - 1; i++)
+                elementData[slot(i)] = elementData[slot(i + 1)];
+            elementData[slot(elementCount - 1)] = null;
+        }
+        elementCount--;
+    }
+
+    @Override
+    public void insertElementAt(Object obj, int index) {
+        if(index > elementCount || index < 0)
+            throw new ArrayIndexOutOfBoundsException(index + " > " + elementCount);
+        if(elementCount == elementData.length)
+            ensureCapacity(elementCount + 1);
+        if(index < elementCount / 2) {
+            head = slot(-1);
+            for(int i = 0; i < index; i++)
+                elementData[slot(i)] = elementData[slot(i + 1)];
+        }
+        else {
+            for(int i = elementCount; i > index; i--)
+                elementData[slot(i)] = elementData[slot(i - 1)];
+        }
+        elementData[slot(index)] = obj;
+        elementCount++;
+    }
+
+    @Override
+    public void insertElementsAt(Object[] elements, int index) {
+        if(index < 0 || index > elementCount)
+            throw new ArrayIndexOutOfBoundsException(index + " > " + elementCount);
+        int numNew = elements.length;
+        if(numNew == 0)
+            return;
+        int newCapacity = elementData.length;
+        if(elementCount + numNew > newCapacity)
+            newCapacity = Math.max(roundUp(elementCount + numNew), newCapacity * 2);
+        // the components are copied once, in order, to a new buffer with the head at zero
+        Object[] newData = new Object[newCapacity];
+        copyOut(0, newData, 0, index);
+        System.arraycopy(elements, 0, newData, index, numNew);
+        copyOut(index, newData, index + numNew, elementCount - index);
+        elementData = newData;
+        head = 0;
+        elementCount += numNew;
+    }
+
+    @Override
+    public void addElement(Object obj) {
+        if(elementCount == elementData.length)
+            ensureCapacity(elementCount + 1);
+        elementData[slot(elementCount++)] = obj;
+    }
+
+    @Override
+    public boolean removeElement(Object obj) {
+        int i = indexOf(obj, 0);
+        if(i >= 0) {
+            removeElementAt(i);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void removeAllElements() {
+        for(int i = 0; i < elementCount; i++)
+            elementData[slot(i)] = null;
+        head = 0;
+        elementCount = 0;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if(fromIndex < 0 || toIndex > elementCount || fromIndex > toIndex)
+            throw new ArrayIndexOutOfBoundsException("fromIndex = " + fromIndex + ", toIndex = " + toIndex);
+        int removed = toIndex - fromIndex;
+        if(fromIndex < elementCount - toIndex) {
+            // moves the head part forward
+            for(int i = fromIndex - 1; i >= 0; i--)
+                elementData[slot(i + removed)] = elementData[slot(i)];
+            for(int i = 0; i < removed; i++)
+                elementData[slot(i)] = null;
+            head = slot(removed);
+        }
+        else {
+            for(int i = toIndex; i < elementCount; i++)
+                elementData[slot(i - removed)] = elementData[slot(i)];
+            for(int i = elementCount - removed; i < elementCount; i++)
+                elementData[slot(i)] = null;
+        }
+        elementCount -= removed;
+    }
+
+    @java.lang.Override
+    public String toString() {
+        StringBuffer buf = new StringBuffer();
+        buf.append("[");
+        for(int i = 0; i < elementCount; i++) {
+            if(i > 0)
+                buf.append(", ");
+            buf.append(String.valueOf(elementData[slot(i)]));
+        }
+        buf.append("]");
+        return buf.toString();
+    }
+}
@@ -0,0 +1,877 @@
+package myAdapter;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.StampedLock;
+
+/***
+ * public class StampedListAdapter <br> implements
+ * @see HList HList. <br>
+ * A thread-safe HList for lists that are read and written by many threads.<br>
+ * The elements are kept in an ArrayAdaptee guarded by a StampedLock. get, size, isEmpty, contains, indexOf and lastIndexOf
+ * are optimistic reads: they read the array without taking any lock and then validate the stamp, so the readers do not
+ * block each other and do not write any shared memory; only when a writer intervened the read is repeated holding the read lock.
+ * The other reads hold the read lock, the changes hold the write lock.<br>
+ * readBatch and writeBatch execute many operations holding the lock only once.<br>
+ * The iterators are weakly consistent: every step reads the list through the lock, they never throw ConcurrentModificationException,
+ * and they see the changes made by other threads after their creation.
+ * The sublists work like the ones of a ListAdapter, every call holding the lock: they are fail-fast,
+ * so they are meant to be used while the list is not changed by other threads.<br>
+ * Like ListAdapter, the list does not allow null elements.<br>
+ * @see ListAdapter ListAdapter.
+ * @see HListBatch HListBatch.
+ */
+public class StampedListAdapter implements HList {
+    private final StampedLock lock = new StampedLock();
+    private final ArrayAdaptee v;
+
+    /***
+     * A ListAdapter on the same storage, that takes no lock; every method of this list uses it holding the right lock.
+     */
+    private final ListAdapter unlocked;
+
+    /***
+     * Creates a new empty list.
+     */
+    public StampedListAdapter() {
+        this(10);
+    }
+
+    /***
+     * Creates a new empty list with the specified initial capacity.
+     * @param rows the initial capacity of the list.
+     * @throws IllegalArgumentException if the initial capacity is negative.
+     */
+    public StampedListAdapter(int rows) {
+        v = new ArrayAdaptee(rows);
+        unlocked = new ListAdapter(v);
+    }
+
+    /***
+     * Executes the specified batch holding the read lock once. The list passed to the batch is read-only: its methods that would change
+     * the list throw UnsupportedOperationException, since other batches may be reading the list at the same time.
+     * @param batch the operations to be executed.
+     */
+    public void readBatch(HListBatch batch) {
+        long stamp = lock.readLock();
+        try {
+            batch.run(new ReadView(unlocked));
+        }
+        finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /***
+     * Executes the specified batch holding the write lock once: the other threads see all the changes of the batch or none of them.
+     * @param batch the operations to be executed.
+     */
+    public void writeBatch(HListBatch batch) {
+        long stamp = lock.writeLock();
+        try {
+            batch.run(unlocked);
+        }
+        finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void add(int index, Object element) {
+        long stamp = lock.writeLock();
+        try {
+            unlocked.add(index, element);
+        }
+        finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean add(Object o) {
+        long stamp = lock.writeLock();
+        try {
+            return unlocked.add(o);
+        }
+        finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean addAll(HCollection c) {
+        return insertAll(-1, c);
+    }
+
+    @Override
+    public boolean addAll(int index, HCollection c) {
+        if(index < 0)
+            throw new IndexOutOfBoundsException("select a different index to add the elements");
+        return insertAll(index, c);
+    }
+
+    /***
+     * Inserts the elements of the collection at the specified index, or at the end of the list if the index is -1.
+     */
+    private boolean insertAll(int index, HCollection c) {
+        if(c == null)
+            throw new NullPointerException("null Collection is not allowed");
+        // the elements are read before taking the lock, so the collection can be this list
+        Object[] a = ListAdapter.toCheckedArray(c);
+        long stamp = lock.writeLock();
+        try {
+            if(index == -1)
+                index = v.elementCount;
+            if(index > v.elementCount)
+                throw new IndexOutOfBoundsException("select a different index to add the elements");
+            if(a.length == 0)
+                return false;
+            v.insertElementsAt(a, index);
+            unlocked.modCount++;
+            return true;
+        }
+        finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            unlocked.clear();
+        }
+        finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public boolean containsAll(HCollection c) {
+        if(c == null)
+            throw new NullPointerException("null Collection is not allowed");
+        Object[] a = ListAdapter.toCheckedArray(c);
+        long stamp = lock.readLock();
+        try {
+            return ListAdapter.containsAllRange(v, 0, v.elementCount, a);
+        }
+        finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(o == this)
+            return true;
+        if(!(o instanceof HList))
+            return false;
+        o = snapshot(o);
+        long stamp = lock.readLock();
+        try {
+            return unlocked.equals(o);
+        }
+        finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public Object get(int index) {
+        long stamp = lock.tryOptimisticRead();
+        Object[] a = v.elementData;
+        int n = v.elementCount;
+        Object o = (index >= 0 && index < n && index < a.length) ? a[index] : null;
+        if(!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                n = v.elementCount;
+                o = (index >= 0 && index < n) ? v.elementData[index] : null;
+            }
+            finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        if(index < 0 || index >= n)
+            throw new IndexOutOfBoundsException("It was introduced an invalid index");
+        return o;
+    }
+
+    /***
+     * Returns the element at the specified position, or null if the position is out of range, reading the list atomically.
+     */
+    private Object getOrNull(int index) {
+        long stamp = lock.tryOptimisticRead();
+        Object[] a = v.elementData;
+        int n = v.elementCount;
+        Object o = (index >= 0 && index < n && index < a.length) ? a[index] : null;
+        if(lock.validate(stamp))
+            return o;
+        stamp = lock.readLock();
+        try {
+            return (index >= 0 && index < v.elementCount) ? v.elementData[index] : null;
+        }
+        finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        long stamp = lock.readLock();
+        try {
+            // the cached hash code of the unlocked view would be written by many readers at once
+            return ListAdapter.hashRange(v, 0, v.size());
+        }
+        finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if(o == null)
+            throw new NullPointerException("null object is not allowed");
+        long stamp = lock.tryOptimisticRead();
+        Object[] a = v.elementData;
+        int n = Math.min(v.elementCount, a.length);
+        int found = -1;
+        for(int i = 0; i < n; i++) {
+            if(o.equals(a[i])) {
+                found = i;
+                break;
+            }
+        }
+        if(lock.validate(stamp))
+            return found;
+        stamp = lock.readLock();
+        try {
+            return v.indexOf(o, 0);
+        }
+        finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public HIterator iterator() {
+        return new WeakIterator(0);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        if(o == null)
+            throw new NullPointerException("null object is not allowed");
+        long stamp = lock.tryOptimisticRead();
+        Object[] a = v.elementData;
+        int n = Math.min(v.elementCount, a.length);
+        int found = -1;
+        for(int i = n - 1; i >= 0; i--) {
+            if(o.equals(a[i])) {
+                found = i;
+                break;
+            }
+        }
+        if(lock.validate(stamp))
+            return found;
+        stamp = lock.readLock();
+        try {
+            return v.elementCount == 0 ? -1 : v.lastIndexOf(o, v.elementCount - 1);
+        }
+        finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public HListIterator listIterator() {
+        return new WeakIterator(0);
+    }
+
+    @Override
+    public HListIterator listIterator(int index) {
+        if(index < 0 || index > size())
+            throw new IndexOutOfBoundsException("It was introduced an invalid index");
+        return new WeakIterator(index);
+    }
+
+    @Override
+    public Object remove(int index) {
+        long stamp = lock.writeLock();
+        try {
+            return unlocked.remove(index);
+        }
+        finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        long stamp = lock.writeLock();
+        try {
+            return unlocked.remove(o);
+        }
+        finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean removeAll(HCollection c) {
+        if(c == null)
+            throw new NullPointerException("null Collection is not allowed");
+        Object[] a = ListAdapter.toCheckedArray(c);
+        if(a.length == 0)
+            return false;
+        long stamp = lock.writeLock();
+        try {
+            if(ListAdapter.filterRange(v, 0, v.elementCount, a, false) == 0)
+                return false;
+            unlocked.modCount++;
+            return true;
+        }
+        finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean retainAll(HCollection c) {
+        if(c == null)
+            throw new NullPointerException("null Collection is not allowed");
+        Object[] a = ListAdapter.toCheckedArray(c);
+        if(a.length == 0)
+            return false;
+        long stamp = lock.writeLock();
+        try {
+            if(ListAdapter.filterRange(v, 0, v.elementCount, a, true) == 0)
+                return false;
+            unlocked.modCount++;
+            return true;
+        }
+        finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public Object set(int index, Object element) {
+        long stamp = lock.writeLock();
+        try {
+            return unlocked.set(index, element);
+        }
+        finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int n = v.elementCount;
+        if(lock.validate(stamp))
+            return n;
+        stamp = lock.readLock();
+        try {
+            return v.elementCount;
+        }
+        finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public HList subList(int fromIndex, int toIndex) {
+        long stamp = lock.readLock();
+        try {
+            return new LockedSubList((ListAdapter) unlocked.subList(fromIndex, toIndex));
+        }
+        finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        long stamp = lock.readLock();
+        try {
+            Object[] a = new Object[v.elementCount];
+            v.copyInto(a);
+            return a;
+        }
+        finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public Object[] toArray(Object[] a) {
+        long stamp = lock.readLock();
+        try {
+            return unlocked.toArray(a);
+        }
+        finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /***
+     * A weakly consistent list iterator: every step reads or changes the list through its lock, and the position is
+     * an index of the list, so a change made by another thread can make the iterator skip or repeat an element,
+     * but never throws ConcurrentModificationException.
+     */
+    private class WeakIterator implements HListIterator {
+        private int place;
+        private int lastRet = -1;
+
+        private WeakIterator(int index) {
+            place = index;
+        }
+
+        public boolean hasNext() {
+            return place < size();
+        }
+
+        public Object next() {
+            Object o = getOrNull(place);
+            if(o == null)
+                throw new NoSuchElementException("Iterator come to the end");
+            lastRet = place++;
+            return o;
+        }
+
+        public boolean hasPrevious() {
+            return place > 0;
+        }
+
+        public Object previous() {
+            Object o = getOrNull(place - 1);
+            if(o == null)
+                throw new NoSuchElementException("Iterator has no previous element");
+            lastRet = --place;
+            return o;
+        }
+
+        public int nextIndex() {
+            return place;
+        }
+
+        public int previousIndex() {
+            return place - 1;
+        }
+
+        public void remove() {
+            if(lastRet < 0)
+                throw new IllegalStateException("next() or previous() was not called");
+            StampedListAdapter.this.remove(lastRet);
+            if(lastRet < place)
+                place--;
+            lastRet = -1;
+        }
+
+        public void set(Object o) {
+            if(lastRet < 0)
+                throw new IllegalStateException("next() or previous() was not called");
+            StampedListAdapter.this.set(lastRet, o);
+        }
+
+        public void add(Object o) {
+            StampedListAdapter.this.add(place++, o);
+            lastRet = -1;
+        }
+    }
+
+    /***
+     * Returns a copy of the specified object if it is a list that takes a lock when it is read, that is a StampedListAdapter or one of its sublists,
+     * otherwise the object itself. The copy is taken before the lock of this list, which is not reentrant: the object may be this list or one of its views.
+     */
+    private static Object snapshot(Object o) {
+        if(!(o instanceof StampedListAdapter) && !(o instanceof LockedSubList))
+            return o;
+        Object[] a = ((HList) o).toArray();
+        ArrayAdaptee copy = new ArrayAdaptee(a.length);
+        copy.insertElementsAt(a, 0);
+        return new ListAdapter(copy, true);
+    }
+
+    /***
+     * A sublist of the unlocked list, whose methods hold the lock of this list.
+     * The bulk operations copy their argument before taking the lock, as the ones of this list do, since the argument may be this list or a view of it.
+     */
+    private class LockedSubList implements HList {
+        private ListAdapter inner;
+
+        private LockedSubList(ListAdapter inner) {
+            this.inner = inner;
+        }
+
+        public void add(int index, Object element) {
+            long stamp = lock.writeLock();
+            try { inner.add(index, element); } finally { lock.unlockWrite(stamp); }
+        }
+
+        public boolean add(Object o) {
+            long stamp = lock.writeLock();
+            try { return inner.add(o); } finally { lock.unlockWrite(stamp); }
+        }
+
+        public boolean addAll(HCollection c) {
+            Object[] a = checkedArray(c);
+            long stamp = lock.writeLock();
+            try { return inner.insertArray(inner.size(), a); } finally { lock.unlockWrite(stamp); }
+        }
+
+        public boolean addAll(int index, HCollection c) {
+            Object[] a = checkedArray(c);
+            long stamp = lock.writeLock();
+            try { return inner.insertArray(index, a); } finally { lock.unlockWrite(stamp); }
+        }
+
+        private Object[] checkedArray(HCollection c) {
+            if(c == null)
+                throw new NullPointerException("null Collection is not allowed");
+            return ListAdapter.toCheckedArray(c);
+        }
+
+        public void clear() {
+            long stamp = lock.writeLock();
+            try { inner.clear(); } finally { lock.unlockWrite(stamp); }
+        }
+
+        public boolean contains(Object o) {
+            long stamp = lock.readLock();
+            try { return inner.contains(o); } finally { lock.unlockRead(stamp); }
+        }
+
+        public boolean containsAll(HCollection c) {
+            Object[] a = checkedArray(c);
+            long stamp = lock.readLock();
+            try {
+                int from = inner.storageOffset();
+                return ListAdapter.containsAllRange(inner.storage(), from, from + inner.size(), a);
+            }
+            finally { lock.unlockRead(stamp); }
+        }
+
+        public boolean equals(Object o) {
+            if(o == this)
+                return true;
+            o = snapshot(o);
+            long stamp = lock.readLock();
+            try { return inner.equals(o); } finally { lock.unlockRead(stamp); }
+        }
+
+        public Object get(int index) {
+            long stamp = lock.readLock();
+            try { return inner.get(index); } finally { lock.unlockRead(stamp); }
+        }
+
+        public int hashCode() {
+            long stamp = lock.readLock();
+            try { return inner.hashCode(); } finally { lock.unlockRead(stamp); }
+        }
+
+        public int indexOf(Object o) {
+            long stamp = lock.readLock();
+            try { return inner.indexOf(o); } finally { lock.unlockRead(stamp); }
+        }
+
+        public boolean isEmpty() {
+            return size() == 0;
+        }
+
+        public HIterator iterator() {
+            return listIterator();
+        }
+
+        public int lastIndexOf(Object o) {
+            long stamp = lock.readLock();
+            try { return inner.lastIndexOf(o); } finally { lock.unlockRead(stamp); }
+        }
+
+        public HListIterator listIterator() {
+            long stamp = lock.readLock();
+            try { return new LockedIterator(inner.listIterator()); } finally { lock.unlockRead(stamp); }
+        }
+
+        public HListIterator listIterator(int index) {
+            long stamp = lock.readLock();
+            try { return new LockedIterator(inner.listIterator(index)); } finally { lock.unlockRead(stamp); }
+        }
+
+        public Object remove(int index) {
+            long stamp = lock.writeLock();
+            try { return inner.remove(index); } finally { lock.unlockWrite(stamp); }
+        }
+
+        public boolean remove(Object o) {
+            long stamp = lock.writeLock();
+            try { return inner.remove(o); } finally { lock.unlockWrite(stamp); }
+        }
+
+        public boolean removeAll(HCollection c) {
+            Object[] a = checkedArray(c);
+            long stamp = lock.writeLock();
+            try { return inner.filterArray(a, false); } finally { lock.unlockWrite(stamp); }
+        }
+
+        public boolean retainAll(HCollection c) {
+            Object[] a = checkedArray(c);
+            long stamp = lock.writeLock();
+            try { return inner.filterArray(a, true); } finally { lock.unlockWrite(stamp); }
+        }
+
+        public Object set(int index, Object element) {
+            long stamp = lock.writeLock();
+            try { return inner.set(index, element); } finally { lock.unlockWrite(stamp); }
+        }
+
+        public int size() {
+            long stamp = lock.readLock();
+            try { return inner.size(); } finally { lock.unlockRead(stamp); }
+        }
+
+        public HList subList(int fromIndex, int toIndex) {
+            long stamp = lock.readLock();
+            try { return new LockedSubList((ListAdapter) inner.subList(fromIndex, toIndex)); } finally { lock.unlockRead(stamp); }
+        }
+
+        public Object[] toArray() {
+            long stamp = lock.readLock();
+            try { return inner.toArray(); } finally { lock.unlockRead(stamp); }
+        }
+
+        public Object[] toArray(Object[] a) {
+            long stamp = lock.readLock();
+            try { return inner.toArray(a); } finally { lock.unlockRead(stamp); }
+        }
+    }
+
+    /***
+     * A list iterator of a sublist, whose methods hold the lock of this list.
+     */
+    private class LockedIterator implements HListIterator {
+        private HListIterator inner;
+
+        private LockedIterator(HListIterator inner) {
+            this.inner = inner;
+        }
+
+        public boolean hasNext() {
+            long stamp = lock.readLock();
+            try { return inner.hasNext(); } finally { lock.unlockRead(stamp); }
+        }
+
+        public Object next() {
+            long stamp = lock.readLock();
+            try { return inner.next(); } finally { lock.unlockRead(stamp); }
+        }
+
+        public boolean hasPrevious() {
+            long stamp = lock.readLock();
+            try { return inner.hasPrevious(); } finally { lock.unlockRead(stamp); }
+        }
+
+        public Object previous() {
+            long stamp = lock.readLock();
+            try { return inner.previous(); } finally { lock.unlockRead(stamp); }
+        }
+
+        public int nextIndex() {
+            return inner.nextIndex();
+        }
+
+        public int previousIndex() {
+            return inner.previousIndex();
+        }
+
+        public void remove() {
+            long stamp = lock.writeLock();
+            try { inner.remove(); } finally { lock.unlockWrite(stamp); }
+        }
+
+        public void set(Object o) {
+            long stamp = lock.writeLock();
+            try { inner.set(o); } finally { lock.unlockWrite(stamp); }
+        }
+
+        public void add(Object o) {
+            long stamp = lock.writeLock();
+            try { inner.add(o); } finally { lock.unlockWrite(stamp); }
+        }
+    }
+
+    /***
+     * A read-only view of the unlocked list, or of one of its sublists, passed to the batches of readBatch.
+     * The changes throw UnsupportedOperationException, and hashCode() does not use the hash code cached by ListAdapter,
+     * which would be written by many readers at once.
+     */
+    private static class ReadView implements HList {
+        private final ListAdapter inner;
+
+        private ReadView(ListAdapter inner) {
+            this.inner = inner;
+        }
+
+        private static UnsupportedOperationException readOnly() {
+            return new UnsupportedOperationException("the list of a read batch can not be changed");
+        }
+
+        public void add(int index, Object element) {
+            throw readOnly();
+        }
+
+        public boolean add(Object o) {
+            throw readOnly();
+        }
+
+        public boolean addAll(HCollection c) {
+            throw readOnly();
+        }
+
+        public boolean addAll(int index, HCollection c) {
+            throw readOnly();
+        }
+
+        public void clear() {
+            throw readOnly();
+        }
+
+        public boolean contains(Object o) {
+            return inner.contains(o);
+        }
+
+        public boolean containsAll(HCollection c) {
+            return inner.containsAll(c);
+        }
+
+        public boolean equals(Object o) {
+            return o == this || inner.equals(o);
+        }
+
+        public Object get(int index) {
+            return inner.get(index);
+        }
+
+        public int hashCode() {
+            int from = inner.storageOffset();
+            return ListAdapter.hashRange(inner.storage(), from, from + inner.size());
+        }
+
+        public int indexOf(Object o) {
+            return inner.indexOf(o);
+        }
+
+        public boolean isEmpty() {
+            return inner.isEmpty();
+        }
+
+        public HIterator iterator() {
+            return new ReadIterator(inner.listIterator());
+        }
+
+        public int lastIndexOf(Object o) {
+            return inner.lastIndexOf(o);
+        }
+
+        public HListIterator listIterator() {
+            return new ReadIterator(inner.listIterator());
+        }
+
+        public HListIterator listIterator(int index) {
+            return new ReadIterator(inner.listIterator(index));
+        }
+
+        public Object remove(int index) {
+            throw readOnly();
+        }
+
+        public boolean remove(Object o) {
+            throw readOnly();
+        }
+
+        public boolean removeAll(HCollection c) {
+            throw readOnly();
+        }
+
+        public boolean retainAll(HCollection c) {
+            throw readOnly();
+        }
+
+        public Object set(int index, Object element) {
+            throw readOnly();
+        }
+
+        public int size() {
+            return inner.size();
+        }
+
+        public HList subList(int fromIndex, int toIndex) {
+            return new ReadView((ListAdapter) inner.subList(fromIndex, toIndex));
+        }
+
+        public Object[] toArray() {
+            return inner.toArray();
+        }
+
+        public Object[] toArray(Object[] a) {
+            return inner.toArray(a);
+        }
+    }
+
+    /***
+     * A list iterator of a ReadView, that does not support remove, set and add.
+     */
+    private static class ReadIterator implements HListIterator {
+        private final HListIterator inner;
+
+        private ReadIterator(HListIterator inner) {
+            this.inner = inner;
+        }
+
+        public boolean hasNext() {
+            return inner.hasNext();
+        }
+
+        public Object next() {
+            return inner.next();
+        }
+
+        public boolean hasPrevious() {
+            return inner.hasPrevious();
+        }
+
+        public Object previous() {
+            return inner.previous();
+        }
+
+        public int nextIndex() {
+            return inner.nextIndex();
+        }
+
+        public int previousIndex() {
+            return inner.previousIndex();
+        }
+
+        public void remove() {
+            throw ReadView.readOnly();
+        }
+
+        public void set(Object o) {
+            throw ReadView.readOnly();
+        }
+
+        public void add(Object o) {
+            throw ReadView.readOnly();
+        }
+    }
+}
@@ -0,0 +1,413 @@
+package myAdapter;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.NoSuchElementException;
+
+/***
+ * The TieredAdaptee class implements a growable array of objects as a tiered vector: the components are kept in chunks of
+ * the same size k, a power of two, and every chunk is a circular buffer with its own head.<br>
+ * All the chunks are full except the last one, so the component at index i is in the chunk i / k, at the position
+ * (head + i % k) % k of that chunk: a read costs two array accesses and no search.<br>
+ * An insertion or a removal at an arbitrary index shifts at most k / 2 components inside one chunk, then moves a single
+ * component between every following chunk and the next one, which only changes the heads of the circular buffers.
+ * The cost is O(k + n / k); the chunk size is doubled when the number of chunks becomes greater than 2k, so k stays
+ * close to the square root of the size and an insertion in the middle costs O(sqrt n) instead of the O(n) of an array.<br>
+ * Like ArrayAdaptee, the class is not synchronized.<br>
+ * @see HVector HVector.
+ * @see ArrayAdaptee ArrayAdaptee.
+ */
+public class TieredAdaptee implements HVector {
+
+    /***
+     * The smallest size of a chunk.
+     */
+    static final int MIN_CHUNK = 16;
+
+    /***
+     * The largest size of a chunk.
+     */
+    static final int MAX_CHUNK = 1 << 16;
+
+    /***
+     * The chunks of the vector; only the first chunkCount are allocated.
+     */
+    Object[][] chunks;
+
+    /***
+     * The index of the first component of every chunk.
+     */
+    int[] heads;
+
+    /***
+     * The number of allocated chunks.
+     */
+    int chunkCount;
+
+    /***
+     * The size of a chunk is 1 &lt;&lt; shift.
+     */
+    int shift;
+
+    /***
+     * The size of a chunk minus one.
+     */
+    int mask;
+
+    /***
+     * The number of valid components in this vector.
+     */
+    int elementCount;
+
+    /***
+     * Constructs an empty vector with chunks of the smallest size.
+     */
+    public TieredAdaptee() {
+        this(0);
+    }
+
+    /***
+     * Constructs an empty vector that can hold the specified number of components, with chunks of about the square root
+     * of that number.
+     * @param initialCapacity - the initial capacity.
+     * @throws IllegalArgumentException - if the specified initial capacity is negative.
+     */
+    public TieredAdaptee(int initialCapacity) {
+        if(initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        int k = MIN_CHUNK;
+        while(k < MAX_CHUNK && (long) k * k < initialCapacity)
+            k <<= 1;
+        setChunkSize(k);
+        chunks = new Object[4][];
+        heads = new int[4];
+        ensureCapacity(initialCapacity);
+    }
+
+    private void setChunkSize(int k) {
+        shift = Integer.numberOfTrailingZeros(k);
+        mask = k - 1;
+    }
+
+    /***
+     * Returns the component at the specified index, that must be lower than the capacity.
+     */
+    private Object raw(int index) {
+        int c = index >>> shift;
+        return chunks[c][(heads[c] + index) & mask];
+    }
+
+    /***
+     * Writes the component at the specified index, that must be lower than the capacity.
+     */
+    private void raw(int index, Object obj) {
+        int c = index >>> shift;
+        chunks[c][(heads[c] + index) & mask] = obj;
+    }
+
+    /***
+     * Allocates a new empty chunk at the end of the vector.
+     */
+    private void addChunk() {
+        if(chunkCount == chunks.length) {
+            Object[][] c = new Object[chunkCount * 2][];
+            System.arraycopy(chunks, 0, c, 0, chunkCount);
+            chunks = c;
+            int[] h = new int[chunkCount * 2];
+            System.arraycopy(heads, 0, h, 0, chunkCount);
+            heads = h;
+        }
+        chunks[chunkCount] = new Object[mask + 1];
+        heads[chunkCount] = 0;
+        chunkCount++;
+    }
+
+    /***
+     * Copies the components in chunks of the specified size, with all the heads at zero.
+     * @param k - the new size of a chunk, a power of two.
+     * @param minCapacity - the capacity of the new chunks.
+     */
+    private void rebuild(int k, int minCapacity) {
+        Object[] a = new Object[elementCount];
+        copyInto(a);
+        setChunkSize(k);
+        int n = (minCapacity + k - 1) >>> shift;
+        chunks = new Object[Math.max(n, 4)][];
+        heads = new int[chunks.length];
+        chunkCount = 0;
+        for(int c = 0; c < n; c++) {
+            addChunk();
+            int from = c << shift;
+            if(from < elementCount)
+                System.arraycopy(a, from, chunks[c], 0, Math.min(k, elementCount - from));
+        }
+    }
+
+    @Override
+    public void copyInto(Object[] anArray) {
+        int k = mask + 1;
+        for(int c = 0, from = 0; from < elementCount; c++, from += k) {
+            int len = Math.min(k, elementCount - from);
+            int first = Math.min(len, k - heads[c]);
+            System.arraycopy(chunks[c], heads[c], anArray, from, first);
+            System.arraycopy(chunks[c], 0, anArray, from + first, len - first);
+        }
+    }
+
+    @Override
+    public void trimToSize() {
+        int needed = (elementCount + mask) >>> shift;
+        while(chunkCount > needed)
+            chunks[--chunkCount] = null;
+    }
+
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        if(minCapacity <= capacity())
+            return;
+        int k = mask + 1;
+        while(k < MAX_CHUNK && ((minCapacity + k - 1) >>> Integer.numberOfTrailingZeros(k)) > 2 * k)
+            k <<= 1;
+        if(k != mask + 1)
+            rebuild(k, minCapacity);
+        while(capacity() < minCapacity)
+            addChunk();
+    }
+
+    @Override
+    public void setSize(int newSize) {
+        if(newSize < 0)
+            throw new ArrayIndexOutOfBoundsException(newSize);
+        ensureCapacity(newSize);
+        for(int i = newSize; i < elementCount; i++)
+            raw(i, null);
+        elementCount = newSize;
+    }
+
+    @Override
+    public int capacity() {
+        return chunkCount << shift;
+    }
+
+    @Override
+    public int size() {
+        return elementCount;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return elementCount == 0;
+    }
+
+    @Override
+    public Enumeration elements() {
+        return new Enumeration() {
+            int count = 0;
+
+            public boolean hasMoreElements() {
+                return count < elementCount;
+            }
+
+            public Object nextElement() {
+                if(count < elementCount)
+                    return raw(count++);
+                throw new NoSuchElementException("TieredAdaptee Enumeration");
+            }
+        };
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return indexOf(element, 0) >= 0;
+    }
+
+    @Override
+    public int indexOf(Object element) {
+        return indexOf(element, 0);
+    }
+
+    @Override
+    public int indexOf(Object elem, int index) {
+        for(int i = index; i < elementCount; i++)
+            if(elem == null ? raw(i) == null : elem.equals(raw(i)))
+                return i;
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object elem) {
+        return lastIndexOf(elem, elementCount - 1);
+    }
+
+    @Override
+    public int lastIndexOf(Object elem, int index) {
+        if(index >= elementCount)
+            throw new IndexOutOfBoundsException(index + " >= " + elementCount);
+        for(int i = index; i >= 0; i--)
+            if(elem == null ? raw(i) == null : elem.equals(raw(i)))
+                return i;
+        return -1;
+    }
+
+    @Override
+    public Object elementAt(int index) {
+        if(index >= elementCount || index < 0)
+            throw new ArrayIndexOutOfBoundsException(index + " >= " + elementCount);
+        return raw(index);
+    }
+
+    @Override
+    public Object firstElement() {
+        if(elementCount == 0)
+            throw new NoSuchElementException();
+        return raw(0);
+    }
+
+    @Override
+    public Object lastElement() {
+        if(elementCount == 0)
+            throw new NoSuchElementException();
+        return raw(elementCount - 1);
+    }
+
+    @Override
+    public void setElementAt(Object obj, int index) {
+        if(index >= elementCount || index < 0)
+            throw new ArrayIndexOutOfBoundsException(index + " >= " + elementCount);
+        raw(index, obj);
+    }
+
+    @Override
+    public void removeElementAt(int index) {
+        if(index >= elementCount || index < 0)
+            throw new ArrayIndexOutOfBoundsException(index + " >= " + elementCount);
+        int k = mask + 1;
+        int c = index >>> shift;
+        int last = (elementCount - 1) >>> shift;
+        Object[] chunk = chunks[c];
+        int h = heads[c];
+        int p = index & mask;
+        int s = Math.min(k, elementCount - (c << shift));
+        // closes the gap inside the chunk, moving the shorter side
+        if(p < s / 2) {
+            for(int q = p; q > 0; q--)
+                chunk[(h + q) & mask] = chunk[(h + q - 1) & mask];
+            chunk[h] = null;
+            heads[c] = (h + 1) & mask;
+        }
+        else {
+            for(int q = p; q < s - 1; q++)
+                chunk[(h + q) & mask] = chunk[(h + q + 1) & mask];
+            chunk[(h + s - 1) & mask] = null;
+        }
+        // every following chunk gives its first component to the previous chunk
+        for(int j = c + 1; j <= last; j++) {
+            int hj = heads[j];
+            Object x = chunks[j][hj];
+            chunks[j][hj] = null;
+            heads[j] = (hj + 1) & mask;
+            chunks[j - 1][(heads[j - 1] + mask) & mask] = x;
+        }
+        elementCount--;
+    }
+
+    @Override
+    public void insertElementAt(Object obj, int index) {
+        if(index > elementCount || index < 0)
+            throw new ArrayIndexOutOfBoundsException(index + " > " + elementCount);
+        if(elementCount == capacity())
+            ensureCapacity(elementCount + 1);
+        int c = index >>> shift;
+        int last = elementCount >>> shift;
+        // every chunk from the last one gives its last component to the next chunk
+        for(int j = last; j > c; j--) {
+            int hp = heads[j - 1];
+            int tail = (hp + mask) & mask;
+            Object x = chunks[j - 1][tail];
+            chunks[j - 1][tail] = null;
+            int hj = (heads[j] + mask) & mask;
+            chunks[j][hj] = x;
+            heads[j] = hj;
+        }
+        Object[] chunk = chunks[c];
+        int h = heads[c];
+        int p = index & mask;
+        int s = (c < last) ? mask : elementCount - (c << shift);
+        // opens the gap inside the chunk, moving the shorter side
+        if(p < s / 2) {
+            h = (h + mask) & mask;
+            heads[c] = h;
+            for(int q = 0; q < p; q++)
+                chunk[(h + q) & mask] = chunk[(h + q + 1) & mask];
+        }
+        else {
+            for(int q = s; q > p; q--)
+                chunk[(h + q) & mask] = chunk[(h + q - 1) & mask];
+        }
+        chunk[(h + p) & mask] = obj;
+        elementCount++;
+    }
+
+    @Override
+    public void insertElementsAt(Object[] elements, int index) {
+        if(index < 0 || index > elementCount)
+            throw new ArrayIndexOutOfBoundsException(index + " > " + elementCount);
+        int numNew = elements.length;
+        ensureCapacity(elementCount + numNew);
+        for(int i = elementCount - 1; i >= index; i--)
+            raw(i + numNew, raw(i));
+        for(int i = 0; i < numNew; i++)
+            raw(index + i, elements[i]);
+        elementCount += numNew;
+    }
+
+    @Override
+    public void addElement(Object obj) {
+        if(elementCount == capacity())
+            ensureCapacity(elementCount + 1);
+        raw(elementCount++, obj);
+    }
+
+    @Override
+    public boolean removeElement(Object obj) {
+        int i = indexOf(obj, 0);
+        if(i >= 0) {
+            removeElementAt(i);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void removeAllElements() {
+        for(int c = 0; c < chunkCount; c++) {
+            Arrays.fill(chunks[c], null);
+            heads[c] = 0;
+        }
+        elementCount = 0;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if(fromIndex < 0 || toIndex > elementCount || fromIndex > toIndex)
+            throw new ArrayIndexOutOfBoundsException("fromIndex = " + fromIndex + ", toIndex = " + toIndex);
+        int newCount = elementCount - (toIndex - fromIndex);
+        for(int i = fromIndex; i < newCount; i++)
+            raw(i, raw(i + toIndex - fromIndex));
+        for(int i = newCount; i < elementCount; i++)
+            raw(i, null);
+        elementCount = newCount;
+    }
+
+    @java.lang.Override
+    public String toString() {
+        StringBuffer buf = new StringBuffer();
+        buf.append("[");
+        for(int i = 0; i < elementCount; i++) {
+            if(i > 0)
+                buf.append(", ");
+            buf.append(String.valueOf(raw(i)));
+        }
+        buf.append("]");
+        return buf.toString();
+    }
+}
@@ -0,0 +1,106 @@
+package myAdapter;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+
+/***
+ * The ValueIndex class is the reverse index of a hashtable: a multiset that maps every value to the keys mapped to it.<br>
+ * A value held by one key is mapped to the key itself, and only a value held by several keys is mapped to a set of keys,
+ * so that a map whose values are distinct costs one node of a java.util.HashMap per entry.<br>
+ * The index is kept by HashEngine.entryChanged(), on every put and remove of the hashtable.
+ * @see MapAdapter#setValueIndexed(boolean) MapAdapter.setValueIndexed.
+ */
+final class ValueIndex {
+
+    /***
+     * The set of the keys of a value held by several keys. It is a class of its own, so that it is never confused with a key
+     * that is a HashSet.
+     */
+    private static final class Keys extends HashSet {
+        private static final long serialVersionUID = 1L;
+    }
+
+    private final HashMap index = new HashMap();
+
+    /***
+     * Records that the key is mapped to the value.
+     * @param value the value.
+     * @param key the key.
+     */
+    void add(Object value, Object key) {
+        Object x = index.putIfAbsent(value, key);
+        if(x == null)
+            return;
+        if(x instanceof Keys) {
+            ((Keys) x).add(key);
+            return;
+        }
+        Keys keys = new Keys();
+        keys.add(x);
+        keys.add(key);
+        index.put(value, keys);
+    }
+
+    /***
+     * Records that the key is not mapped to the value any more.
+     * @param value the value.
+     * @param key the key.
+     */
+    void remove(Object value, Object key) {
+        Object x = index.get(value);
+        if(x instanceof Keys) {
+            Keys keys = (Keys) x;
+            keys.remove(key);
+            if(keys.size() == 1)
+                index.put(value, keys.iterator().next());
+        }
+        else if(x != null && x.equals(key))
+            index.remove(value);
+    }
+
+    /***
+     * Returns true if at least one key is mapped to the value.
+     * @param value the value.
+     * @return true if the value is in the hashtable.
+     */
+    boolean contains(Object value) {
+        return index.containsKey(value);
+    }
+
+    /***
+     * Returns the number of keys mapped to the value.
+     * @param value the value.
+     * @return the number of occurrences of the value in the hashtable.
+     */
+    int count(Object value) {
+        Object x = index.get(value);
+        if(x == null)
+            return 0;
+        return x instanceof Keys ? ((Keys) x).size() : 1;
+    }
+
+    /***
+     * Returns a copy of the keys mapped to the value, that can be removed from the hashtable while it is walked.
+     * @param value the value.
+     * @return the keys of the value, an empty array if the value is not in the hashtable.
+     */
+    Object[] keysOf(Object value) {
+        Object x = index.get(value);
+        if(x == null)
+            return new Object[0];
+        if(!(x instanceof Keys))
+            return new Object[] { x };
+        Object[] keys = new Object[((Keys) x).size()];
+        Iterator it = ((Keys) x).iterator();
+        for(int i = 0; i < keys.length; i++)
+            keys[i] = it.next();
+        return keys;
+    }
+
+    /***
+     * Removes all the values.
+     */
+    void clear() {
+        index.clear();
+    }
+}
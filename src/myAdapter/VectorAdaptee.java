@@ -1,4 +1,5 @@
 package myAdapter;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Enumeration;
 import java.util.Vector;
@@ -148,6 +149,13 @@ public class VectorAdaptee implements HVector {
         v.insertElementAt(obj,index);
     }
 
+    @Override
+    public void insertElementsAt(Object[] elements, int index) {
+        if(index < 0 || index > v.size())
+            throw new ArrayIndexOutOfBoundsException(index + " > " + v.size());
+        v.addAll(index, Arrays.asList(elements));
+    }
+
     @Override
     public void addElement(Object obj) {
         v.addElement(obj);
@@ -163,6 +171,13 @@ public class VectorAdaptee implements HVector {
         v.removeAllElements();
     }
 
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if(fromIndex < 0 || toIndex > v.size() || fromIndex > toIndex)
+            throw new ArrayIndexOutOfBoundsException("fromIndex = " + fromIndex + ", toIndex = " + toIndex);
+        v.subList(fromIndex, toIndex).clear();
+    }
+
     @java.lang.Override
     public String toString() { return v.toString(); }
 }